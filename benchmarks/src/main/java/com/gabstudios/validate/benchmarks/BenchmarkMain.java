@@ -0,0 +1,63 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled so that every result
+ * includes the allocation rate. Takes the same arguments as the JMH runner.
+ * 
+ * java -jar benchmarks/target/benchmarks.jar [regexp] [JMH options]
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class BenchmarkMain
+{
+    /*
+     * Private constructor. Only a main method.
+     */
+    private BenchmarkMain()
+    {
+    }
+
+    /**
+     * Runs the benchmarks.
+     * 
+     * @param args
+     *            The JMH command line arguments.
+     * @throws RunnerException
+     *             Thrown if a benchmark fails.
+     * @throws CommandLineOptionException
+     *             Thrown if an argument is not valid.
+     */
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException
+    {
+        final CommandLineOptions options = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+    }
+}
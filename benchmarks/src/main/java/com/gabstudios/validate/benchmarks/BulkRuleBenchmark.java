@@ -0,0 +1,118 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.DoubleRule;
+import com.gabstudios.validate.IntRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the bulk range methods of the rules against a loop that creates
+ * a validator for every element.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkRuleBenchmark
+{
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private IntRule    _intRule;
+    private DoubleRule _doubleRule;
+    private int[]      _intValues;
+    private double[]   _doubleValues;
+
+    @Setup
+    public void setUp()
+    {
+        this._intRule = Validate.defineIntegerRule().testMinValue(0).testMaxValue(1000).build();
+        this._doubleRule = Validate.defineDoubleRule().testMinValue(0d).testMaxValue(1000d).build();
+        this._intValues = new int[this.size];
+        this._doubleValues = new double[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this._intValues[i] = i % 1000;
+            this._doubleValues[i] = i % 1000;
+        }
+        if (!this.valid)
+        {
+            // an invalid value at the end so that the whole array is scanned.
+            this._intValues[this.size - 1] = -1;
+            this._doubleValues[this.size - 1] = -1d;
+        }
+    }
+
+    @Benchmark
+    public int intFirstInvalidIndex()
+    {
+        return (this._intRule.firstInvalidIndex(this._intValues));
+    }
+
+    @Benchmark
+    public BitSet intInvalidIndexes()
+    {
+        return (this._intRule.invalidIndexes(this._intValues));
+    }
+
+    @Benchmark
+    public int intValidatorLoop()
+    {
+        for (int i = 0; i < this._intValues.length; i++)
+        {
+            if (!Validate.defineInteger(this._intValues[i]).testMinValue(0).testMaxValue(1000).validate())
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+
+    @Benchmark
+    public int doubleFirstInvalidIndex()
+    {
+        return (this._doubleRule.firstInvalidIndex(this._doubleValues));
+    }
+}
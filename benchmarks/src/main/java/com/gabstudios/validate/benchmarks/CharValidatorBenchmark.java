@@ -0,0 +1,80 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the CharValidator.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharValidatorBenchmark
+{
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "false", "true" })
+    public boolean throwOnFail;
+
+    private char _value;
+
+    @Setup
+    public void setUp()
+    {
+        this._value = (this.valid ? 'g' : 'G');
+    }
+
+    @Benchmark
+    public boolean rangeAndCase()
+    {
+        return (Modes.validate(
+                Validate.defineChar(this._value).testMinValue('a').testMaxValue('z').testIsLowerCase(),
+                this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean digit()
+    {
+        return (Modes.validate(Validate.defineChar(this._value).testIsDigit(), this.throwOnFail));
+    }
+}
@@ -0,0 +1,118 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.TextFormat;
+
+/**
+ * Benchmarks the TextFormat scanners against the regular expressions that
+ * they are the same as.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark
+{
+    private static final String LABEL = "[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?";
+
+    private static final String ATEXT = "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]";
+
+    @Param({ "UUID", "HEX", "DECIMAL", "IDENTIFIER", "EMAIL" })
+    public TextFormat format;
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private Pattern _pattern;
+    private String  _value;
+
+    @Setup
+    public void setUp()
+    {
+        final String regex;
+        final String validValue;
+        final String invalidValue;
+        switch (this.format)
+        {
+            case UUID:
+                regex = "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+                validValue = "123e4567-e89b-12d3-a456-426614174000";
+                invalidValue = "123e4567-e89b-12d3-a456-42661417400x";
+                break;
+            case HEX:
+                regex = "[0-9a-fA-F]+";
+                validValue = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+                invalidValue = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a0x";
+                break;
+            case DECIMAL:
+                regex = "[+-]?[0-9]+(\\.[0-9]+)?";
+                validValue = "-1234567.891";
+                invalidValue = "-1234567.89x";
+                break;
+            case IDENTIFIER:
+                regex = "[A-Za-z_][A-Za-z0-9_]*";
+                validValue = "customer_account_id2";
+                invalidValue = "customer_account-id2";
+                break;
+            default:
+                regex = ATEXT + "+(\\." + ATEXT + "+)*@" + LABEL + "(\\." + LABEL + ")+";
+                validValue = "first.last+tag@mail.example.com";
+                invalidValue = "first.last+tag@mail.example..com";
+                break;
+        }
+        this._pattern = Pattern.compile(regex);
+        this._value = (this.valid ? validValue : invalidValue);
+    }
+
+    @Benchmark
+    public boolean scanner()
+    {
+        return (this.format.matches(this._value));
+    }
+
+    @Benchmark
+    public boolean pattern()
+    {
+        return (this._pattern.matcher(this._value).matches());
+    }
+}
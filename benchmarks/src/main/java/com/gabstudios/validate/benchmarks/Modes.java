@@ -0,0 +1,84 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import com.gabstudios.validate.ValidateException;
+import com.gabstudios.validate.ValidationRule;
+import com.gabstudios.validate.Validator;
+
+/*
+ * Runs a validator or a rule in the boolean mode or the throw mode. In the
+ * throw mode a failure is caught so that the cost of creating the exception is
+ * part of the result.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class Modes
+{
+    /*
+     * Private constructor. Only static methods.
+     */
+    private Modes()
+    {
+    }
+
+    /*
+     * Validates with a validator.
+     */
+    static boolean validate(final Validator validator, final boolean isThrown)
+    {
+        boolean retVal;
+        if (isThrown)
+        {
+            try
+            {
+                retVal = validator.throwValidationExceptionOnFail().validate();
+            }
+            catch (final ValidateException e)
+            {
+                retVal = false;
+            }
+        }
+        else
+        {
+            retVal = validator.validate();
+        }
+        return (retVal);
+    }
+
+    /*
+     * Validates with a rule. The rule decides if it throws.
+     */
+    static <T> boolean validate(final ValidationRule<T> rule, final T value)
+    {
+        boolean retVal;
+        try
+        {
+            retVal = rule.validate(value);
+        }
+        catch (final ValidateException e)
+        {
+            retVal = false;
+        }
+        return (retVal);
+    }
+}
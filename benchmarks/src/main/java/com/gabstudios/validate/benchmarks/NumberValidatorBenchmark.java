@@ -0,0 +1,114 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the NumberValidator subclasses with a min and max value test.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberValidatorBenchmark
+{
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "false", "true" })
+    public boolean throwOnFail;
+
+    private int _value;
+
+    @Setup
+    public void setUp()
+    {
+        this._value = (this.valid ? 50 : 500);
+    }
+
+    @Benchmark
+    public boolean byteRange()
+    {
+        return (Modes.validate(Validate.defineByte((byte) (this._value / 4)).testMinValue((byte) 0)
+                .testMaxValue((byte) 100), this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean shortRange()
+    {
+        return (Modes.validate(Validate.defineShort((short) this._value).testMinValue((short) 0)
+                .testMaxValue((short) 100), this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean integerRange()
+    {
+        return (Modes.validate(Validate.defineInteger(this._value).testMinValue(0).testMaxValue(100),
+                this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean longRange()
+    {
+        return (Modes.validate(Validate.defineLong(this._value).testMinValue(0L).testMaxValue(100L),
+                this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean floatRange()
+    {
+        return (Modes.validate(Validate.defineFloat(this._value).testMinValue(0f).testMaxValue(100f),
+                this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean doubleRange()
+    {
+        return (Modes.validate(Validate.defineDouble(this._value).testMinValue(0d).testMaxValue(100d),
+                this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean integerPositive()
+    {
+        return (Modes.validate(Validate.defineInteger(this.valid ? 1 : -1).isPositiveValue(), this.throwOnFail));
+    }
+}
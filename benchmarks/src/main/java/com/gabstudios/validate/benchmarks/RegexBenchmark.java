@@ -0,0 +1,100 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.DfaPattern;
+
+/**
+ * Benchmarks the DFA engine against java.util.regex. The "nested" pattern
+ * backtracks on a value that does not match, so its java.util.regex time grows
+ * with the length of the value.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexBenchmark
+{
+    @Param({ "email", "nested" })
+    public String regex;
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private Pattern    _pattern;
+    private DfaPattern _dfa;
+    private String     _value;
+
+    @Setup
+    public void setUp()
+    {
+        final String regex;
+        final String validValue;
+        final String invalidValue;
+        if ("email".equals(this.regex))
+        {
+            regex = "[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,}";
+            validValue = "first.last+tag@mail.example.com";
+            invalidValue = "first.last+tag@mail.example.c0m";
+        }
+        else
+        {
+            regex = "(a|aa)+b";
+            validValue = "a".repeat(24) + "b";
+            invalidValue = "a".repeat(24) + "c";
+        }
+        this._pattern = Pattern.compile(regex);
+        this._dfa = DfaPattern.compile(regex);
+        this._value = (this.valid ? validValue : invalidValue);
+    }
+
+    @Benchmark
+    public boolean dfa()
+    {
+        return (this._dfa.matches(this._value));
+    }
+
+    @Benchmark
+    public boolean pattern()
+    {
+        return (this._pattern.matcher(this._value).matches());
+    }
+}
@@ -0,0 +1,144 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.DoubleRule;
+import com.gabstudios.validate.IntRule;
+import com.gabstudios.validate.LongRule;
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+import com.gabstudios.validate.ValidateException;
+
+/**
+ * Benchmarks the compiled rules. Each rule is built once in the setup.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleBenchmark
+{
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "false", "true" })
+    public boolean throwOnFail;
+
+    private StringRule _stringRule;
+    private IntRule    _intRule;
+    private LongRule   _longRule;
+    private DoubleRule _doubleRule;
+    private String     _stringValue;
+    private int        _intValue;
+
+    @Setup
+    public void setUp()
+    {
+        final StringRule.Builder stringBuilder = Validate.defineStringRule().testNotNullEmpty().testMaxLength(20)
+                .testMatch("[a-z]+");
+        final IntRule.Builder intBuilder = Validate.defineIntegerRule().testMinValue(0).testMaxValue(100);
+        final LongRule.Builder longBuilder = Validate.defineLongRule().testMinValue(0L).testMaxValue(100L);
+        final DoubleRule.Builder doubleBuilder = Validate.defineDoubleRule().testMinValue(0d).testMaxValue(100d);
+        if (this.throwOnFail)
+        {
+            stringBuilder.throwValidationExceptionOnFail();
+            intBuilder.throwValidationExceptionOnFail();
+            longBuilder.throwValidationExceptionOnFail();
+            doubleBuilder.throwValidationExceptionOnFail();
+        }
+        this._stringRule = stringBuilder.build();
+        this._intRule = intBuilder.build();
+        this._longRule = longBuilder.build();
+        this._doubleRule = doubleBuilder.build();
+        this._stringValue = (this.valid ? "helloworld" : "Hello World");
+        this._intValue = (this.valid ? 50 : 500);
+    }
+
+    @Benchmark
+    public boolean stringRule()
+    {
+        return (Modes.validate(this._stringRule, this._stringValue));
+    }
+
+    @Benchmark
+    public boolean intRule()
+    {
+        boolean retVal;
+        try
+        {
+            retVal = this._intRule.validate(this._intValue);
+        }
+        catch (final ValidateException e)
+        {
+            retVal = false;
+        }
+        return (retVal);
+    }
+
+    @Benchmark
+    public boolean longRule()
+    {
+        boolean retVal;
+        try
+        {
+            retVal = this._longRule.validate((long) this._intValue);
+        }
+        catch (final ValidateException e)
+        {
+            retVal = false;
+        }
+        return (retVal);
+    }
+
+    @Benchmark
+    public boolean doubleRule()
+    {
+        boolean retVal;
+        try
+        {
+            retVal = this._doubleRule.validate((double) this._intValue);
+        }
+        catch (final ValidateException e)
+        {
+            retVal = false;
+        }
+        return (retVal);
+    }
+}
@@ -0,0 +1,91 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate.benchmarks;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.HostResolver;
+import com.gabstudios.validate.InMemoryHostResolver;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the URIValidator. The hosts are resolved with an
+ * InMemoryHostResolver so that the network is not part of the result.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URIValidatorBenchmark
+{
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "false", "true" })
+    public boolean throwOnFail;
+
+    private HostResolver _resolver;
+    private URI          _value;
+    private URI          _allowValue;
+
+    @Setup
+    public void setUp() throws URISyntaxException, UnknownHostException
+    {
+        this._resolver = new InMemoryHostResolver().register("www.example.com", "10.0.0.1")
+                .register("www.other.com", "10.0.0.2");
+        this._value = new URI(this.valid ? "https://www.example.com/path" : "http://www.other.com/path");
+        this._allowValue = new URI("https://www.example.com");
+    }
+
+    @Benchmark
+    public boolean protocolAndPort()
+    {
+        return (Modes.validate(Validate.defineURI(this._value).useHostResolver(this._resolver)
+                .allowProtocols("https").allowPorts(443), this.throwOnFail));
+    }
+
+    @Benchmark
+    public boolean allowList() throws UnknownHostException
+    {
+        return (Modes.validate(Validate.defineURI(this._value).useHostResolver(this._resolver)
+                .testMatchAllowDomain(this._allowValue), this.throwOnFail));
+    }
+}
@@ -20,6 +20,10 @@
 package com.gabstudios.validate;
 
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -36,40 +40,43 @@ import java.util.Arrays;
  *
  * If no test method is called, validate() returns a TRUE.
  *
+ * A validator that is created with Validate.defineTrustedArray() does not make
+ * defensive copies. The array that is validated and the array that it is
+ * compared to are used as they are, and getValue() returns the same array.
+ * Use it for large arrays that the caller does not change while they are
+ * being validated.
+ *
  * @author Gregory Brown (sysdevone)
  *
  */
 public final class ArrayValidator extends ObjectValidator<Object[]>
 {
-    
+
     /*
-     * A flag indicating that a max length test will be performed when the
-     * validate() method is called.
+     * The max length to test for. Defaults to 0.
      */
-    private boolean  _isTestMaxLength = false;
+    private int      _maxLength       = 0;
     
     /*
-     * A flag indicating that a min length test will be performed when the
-     * validate() method is called.
+     * The min length to test for. Defaults to 0.
      */
-    private boolean  _isTestMinLength = false;
-    
+    private int      _minLength       = 0;
+
     /*
-     * A flag indicating if an "not empty" test will be performed when the
-     * validate() method is called.
+     * The rule that every element must pass.
      */
-    private boolean  _isTestNotEmpty  = false;
-    
-    
+    private ValidationRule<Object> _elementRule;
+
     /*
-     * The max length to test for. Defaults to 0.
+     * The pool that a large array is split across. Null to validate the
+     * elements on the calling thread.
      */
-    private int      _maxLength       = 0;
-    
+    private ForkJoinPool _pool;
+
     /*
-     * The min length to test for. Defaults to 0.
+     * A flag indicating that the arrays are not copied.
      */
-    private int      _minLength       = 0;
+    private final boolean _isTrusted;
     
     /**
      * Protected constructor. Use Validate static method to create validator.
@@ -79,20 +86,64 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
      *            empty.
      */
     protected ArrayValidator(final Object[] value)
+    {
+        this(value, false);
+    }
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. This value can be null or
+     *            empty.
+     * @param isTrusted
+     *            A flag indicating that the arrays are not copied.
+     */
+    protected ArrayValidator(final Object[] value, final boolean isTrusted)
     {
         super( value );
+        this._isTrusted = isTrusted;
+    }
+
+    /**
+     * Gets if this validator was created in the trusted mode and does not copy
+     * the arrays.
+     * 
+     * @return A boolean value that is true if the arrays are not copied.
+     */
+    public boolean isTrusted()
+    {
+        return (this._isTrusted);
+    }
+
+    /**
+     * Gets a read only view of the value that was used to initialize this
+     * validator. The array is not copied.
+     * 
+     * @return A read only List that is backed by the array, or null if the
+     *         value is null.
+     */
+    public List<Object> getView()
+    {
+        List<Object> retVal = null;
+        if (this._value != null)
+        {
+            retVal = Collections.unmodifiableList(Arrays.asList(this._value));
+        }
+        return (retVal);
     }
     
     /**
-     * Gets the value that was used to initialize this validator.
+     * Gets the value that was used to initialize this validator. A copy is
+     * returned unless this validator is in the trusted mode.
      * 
-     * @return A String value.
+     * @return An Object[] value.
      */
     @Override
     public Object[] getValue()
     {
-        Object[] retVal = null;
-        if (this._value != null)
+        Object[] retVal = this._value;
+        if (retVal != null && !this._isTrusted)
         {
             retVal = Arrays.copyOf(this._value, this._value.length);
         }
@@ -113,16 +164,16 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     public ArrayValidator testEquals(final Object[] equalsValue)
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestEquals = true;
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
         
-        if (equalsValue != null)
+        if (equalsValue != null && !this._isTrusted)
         {
             this._equalsValue = Arrays.copyOf(equalsValue, equalsValue.length);
         }
         else
         {
-            this._equalsValue = null;
+            this._equalsValue = equalsValue;
         }
         
         return (this);
@@ -153,8 +204,8 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
         else
         {
             // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMaxLength = true;
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MAX_LENGTH);
             this._maxLength = maxLength;
         }
         return (this);
@@ -185,13 +236,72 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
         else
         {
             // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMinLength = true;
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MIN_LENGTH);
             this._minLength = minLength;
         }
         return (this);
     }
     
+    /**
+     * A method to mark that every element will be tested with a rule when the
+     * validate() method is called. The validate() method stops at the first
+     * element that fails. The validateAll() method reports every element that
+     * fails, with the index of the element as the expected value.
+     * 
+     * A rule that was built with throwValidationExceptionOnFail() fails the
+     * element, the exception is thrown by this validator.
+     * 
+     * @param rule
+     *            The rule that every element must pass. The rule must accept
+     *            the type of the elements.
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayValidator testEachElement(final ValidationRule<?> rule)
+    {
+        if (rule == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'rule' must not be null."));
+        }
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EACH_ELEMENT);
+        this._elementRule = (ValidationRule<Object>) rule;
+        return (this);
+    }
+
+    /**
+     * Splits a large array across the common ForkJoinPool when the element
+     * rule is tested. The result is the same as a test on one thread.
+     * 
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public ArrayValidator useParallel()
+    {
+        return (useParallel(ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Splits a large array across a ForkJoinPool when the element rule is
+     * tested. The result is the same as a test on one thread.
+     * 
+     * @param pool
+     *            The pool to use. Must not be null.
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public ArrayValidator useParallel(final ForkJoinPool pool)
+    {
+        if (pool == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pool' must not be null."));
+        }
+        this._pool = pool;
+        return (this);
+    }
+
     /**
      * A method to mark that an "not null" test will be performed when the
      * validate() method is called.
@@ -202,7 +312,7 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     @Override
     public ArrayValidator testNotNull()
     {
-        this._isTestNotNull = true;
+        addRule(RuleId.NOT_NULL);
         return (this);
     }
     
@@ -216,27 +326,40 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     public ArrayValidator testNotNullEmpty()
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestNotEmpty = true;
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.NOT_EMPTY);
         return (this);
     }
 
+
     /*
      * (non-Javadoc)
      * 
-     * @see com.gabstudios.gabvalidate.Validator#validate()
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
      */
     @Override
-	public boolean validate() 
+    protected boolean validateRule(final RuleId ruleId)
     {
-        // call ObjectValidator validate method.
-        boolean isValid = super.validate();
-        isValid &= validateNotEmpty();
-        isValid &= validateMinLength();
-        isValid &= validateMaxLength();
-
-        return ( isValid );
-
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateNotEmpty();
+                break;
+            case MIN_LENGTH:
+                isValid = validateMinLength();
+                break;
+            case MAX_LENGTH:
+                isValid = validateMaxLength();
+                break;
+            case EACH_ELEMENT:
+                isValid = validateEachElement();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
     }
 
     /*
@@ -245,16 +368,10 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
      */
     protected boolean validateNotEmpty()
     {
-        boolean isValid = true;
-        if (this._isTestNotEmpty)
+        final boolean isValid = (this._value != null && this._value.length > 0);
+        if (!isValid && isFailureReported())
         {
-            
-            isValid = (this._value != null && this._value.length > 0);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-                ObjectValidator
-                        .throwValidateException("The value must not be empty.");
-            }
+            reportFailure(RuleId.NOT_EMPTY, this._value, null);
         }
         return(isValid);
     }
@@ -265,15 +382,10 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
      */
     protected boolean validateMinLength()
     {
-        boolean isValid = true;
-        if (this._isTestMinLength)
+		final boolean isValid = (this._value != null && this._value.length >= this._minLength);
+        if (!isValid && isFailureReported())
         {
-			isValid = (this._value != null && this._value.length >= this._minLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be greater than or equal to the min value (value = '" + Arrays.toString(this._value) + "' min value = '" + this._minLength + "').");
-            }
+        	reportFailure(RuleId.MIN_LENGTH, this._value, this._minLength);
         }
         return(isValid);
     }
@@ -284,20 +396,47 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
      */
     protected boolean validateMaxLength()
     {
-        boolean isValid = true;
-        if (this._isTestMaxLength)
+		final boolean isValid = (this._value != null && this._value.length <= this._maxLength);
+        if (!isValid && isFailureReported())
         {
-			isValid = (this._value != null && this._value.length <= this._maxLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be less than or equal to the max value (value = '" + Arrays.toString(this._value) + "' min value = '" + this._minLength + "').");
-            }
+        	reportFailure(RuleId.MAX_LENGTH, this._value, this._maxLength);
         }
         return(isValid);
     }
 
 
+    /*
+     * Used as part of the validation process to test every element.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateEachElement()
+    {
+        boolean isValid = false;
+        if (this._value != null)
+        {
+            if (isFailureCollected())
+            {
+                final BitSet invalidIndexes = ElementScanner.invalidIndexes(this._value, this._elementRule,
+                        this._pool);
+                isValid = invalidIndexes.isEmpty();
+                for (int i = invalidIndexes.nextSetBit(0); i >= 0; i = invalidIndexes.nextSetBit(i + 1))
+                {
+                    reportFailure(RuleId.EACH_ELEMENT, this._value[i], i);
+                }
+            }
+            else
+            {
+                final int index = ElementScanner.firstInvalidIndex(this._value, this._elementRule, this._pool);
+                isValid = (index < 0);
+                if (!isValid && isFailureReported())
+                {
+                    reportFailure(RuleId.EACH_ELEMENT, this._value[index], index);
+                }
+            }
+        }
+        return (isValid);
+    }
+
     /*
      * Used as part of the validation process to test to not empty.
      * @return A <code>boolean</code> value of true it is valid or false the validate failed.
@@ -305,15 +444,10 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     @Override
     protected boolean validateEquals()
     {
-        boolean isValid = true;
-        if (this._isTestEquals)
+		final boolean isValid = Arrays.equals(this._value, this._equalsValue);
+        if (!isValid && isFailureReported())
         {
-			isValid = Arrays.equals(this._value, this._equalsValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid )
-            {
-                ObjectValidator
-                        .throwValidateException("The value does not equal the expected value (value = '" + Arrays.toString(this._value) + "' expected value = '" + Arrays.toString(this._equalsValue) + "').");
-            }
+            reportFailure(RuleId.EQUALS, this._value, this._equalsValue);
         }
         return(isValid);
     }
@@ -325,10 +459,9 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
 	@Override
 	public String toString() {
 		return String.format(
-				"ArrayValidator [_isTestMaxLength=%s, _isTestMinLength=%s, _isTestNotEmpty=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxLength, _isTestMinLength, _isTestNotEmpty, _maxLength, _minLength,
-				_isValidationExceptionThrownOnFail, Arrays.toString(_equalsValue), _isTestEquals, _isTestNotNull,
-				Arrays.toString(_value));
+				"ArrayValidator [_maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+				_maxLength, _minLength, _isValidationExceptionThrownOnFail, Arrays.toString(_equalsValue),
+				getRules(), Arrays.toString(_value));
 	}
     
     
@@ -0,0 +1,105 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+
+/*
+ * A CharSequence view of the ASCII bytes of a field in a ByteBuffer. A view is
+ * moved from field to field so that a field can be given to a StringRule
+ * without being copied. Only subSequence() and toString() copy.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class AsciiSequence implements CharSequence
+{
+    /*
+     * The buffer that holds the bytes.
+     */
+    private ByteBuffer _buffer;
+
+    /*
+     * The index of the first byte in the buffer.
+     */
+    private int        _start;
+
+    /*
+     * The number of bytes.
+     */
+    private int        _length;
+
+    /*
+     * Moves the view to other bytes. Every byte must be ASCII.
+     */
+    AsciiSequence reset(final ByteBuffer buffer, final int start, final int length)
+    {
+        this._buffer = buffer;
+        this._start = start;
+        this._length = length;
+        return (this);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.CharSequence#length()
+     */
+    @Override
+    public int length()
+    {
+        return (this._length);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.CharSequence#charAt(int)
+     */
+    @Override
+    public char charAt(final int index)
+    {
+        if (index < 0 || index >= this._length)
+        {
+            throw (new IndexOutOfBoundsException("index " + index + ", length " + this._length));
+        }
+        return ((char) this._buffer.get(this._start + index));
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.CharSequence#subSequence(int, int)
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end)
+    {
+        return (toString().substring(start, end));
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final char[] chars = new char[this._length];
+        for (int i = 0; i < chars.length; i++)
+        {
+            chars[i] = (char) this._buffer.get(this._start + i);
+        }
+        return (new String(chars));
+    }
+}
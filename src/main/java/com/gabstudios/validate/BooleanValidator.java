@@ -39,19 +39,7 @@ package com.gabstudios.validate;
  */
 public final class BooleanValidator extends ObjectValidator<Boolean>
 {
-    
-    /*
-     * A flag indicating if a "false" test will be performed when the validate()
-     * method is called.
-     */
-    private boolean       _isTestFalse  = false;
-    
-    /*
-     * A flag indicating if a "true" test will be performed when the validate()
-     * method is called.
-     */
-    private boolean       _isTestTrue   = false;
-    
+
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -72,7 +60,7 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
      */
     public BooleanValidator testFalse()
     {
-        this._isTestFalse = true;
+        addRule(RuleId.FALSE);
         return (this);
     }
     
@@ -85,24 +73,33 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
      */
     public BooleanValidator testTrue()
     {
-        this._isTestTrue = true;
+        addRule(RuleId.TRUE);
         return (this);
     }
     
+
     /*
      * (non-Javadoc)
      * 
-     * @see com.gabstudios.gabvalidate.Validator#validate()
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
      */
     @Override
-    public boolean validate()
+    protected boolean validateRule(final RuleId ruleId)
     {
-		// call ObjectValidator validate method.
-        boolean isValid = super.validate();
-        isValid &= validateFalse();
-        isValid &= validateTrue();
-
-        return ( isValid );
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case TRUE:
+                isValid = validateTrue();
+                break;
+            case FALSE:
+                isValid = validateFalse();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
     }
 
     /*
@@ -111,16 +108,10 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
      */
     protected boolean validateFalse()
     {
-        boolean isValid = true;
-        if (this._isTestFalse)
+		final boolean isValid = this._value.equals(Boolean.FALSE);
+        if (!isValid && isFailureReported())
         {
-			isValid = this._value.equals(Boolean.FALSE);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value is not false. (value = '"
-                                + this._value + "').");
-            }
+        	reportFailure(RuleId.FALSE, this._value, null);
         }
         return(isValid);
     }
@@ -131,16 +122,10 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
      */
     protected boolean validateTrue()
     {
-        boolean isValid = true;
-        if (this._isTestTrue)
+	    final boolean isValid = this._value.equals(Boolean.TRUE);
+        if (!isValid && isFailureReported())
         {
-		    isValid = this._value.equals(Boolean.TRUE);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value is not true. (value = '"
-                                + this._value + "').");
-            }
+        	reportFailure(RuleId.TRUE, this._value, null);
         }
         return(isValid);
     }
@@ -151,9 +136,8 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
 	@Override
 	public String toString() {
 		return String.format(
-				"BooleanValidator [_isTestFalse=%s, _isTestTrue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestFalse, _isTestTrue, _isValidationExceptionThrownOnFail, _equalsValue, _isTestEquals,
-				_isTestNotNull, _value);
+				"BooleanValidator [_isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+				_isValidationExceptionThrownOnFail, _equalsValue, getRules(), _value);
 	}
     
     
@@ -39,6 +39,26 @@ package com.gabstudios.validate;
  */
 public final class ByteValidator extends NumberValidator<Byte>
 {
+
+    /*
+     * The value that will be tested.
+     */
+    private final byte _byteValue;
+
+    /*
+     * The max value to test for. Defaults to Byte.MAX_VALUE.
+     */
+    private byte _byteMaxValue = Byte.MAX_VALUE;
+
+    /*
+     * The min value to test for. Defaults to Byte.MIN_VALUE.
+     */
+    private byte _byteMinValue = Byte.MIN_VALUE;
+
+    /*
+     * The value to use if the testEquals() method has been called.
+     */
+    private byte _byteEqualsValue;
     
     /**
      * Protected constructor. Use Validate static method to create validator.
@@ -48,25 +68,144 @@ public final class ByteValidator extends NumberValidator<Byte>
      */
     protected ByteValidator(final byte value)
     {
-        super( value, Byte.MIN_VALUE, Byte.MAX_VALUE, returnNullByte());
+        super();
+        this._byteValue = value;
+    }
+
+    /**
+     * Gets the value that was used to initialize this validator.
+     *
+     * @return A Byte value.
+     */
+    @Override
+    public Byte getValue()
+    {
+        return (Byte.valueOf(this._byteValue));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     *
+     * @param value
+     *            The value to perform the equate with.
+     * @return The same ByteValidator instance. This allows for method chaining.
+     */
+    public ByteValidator testEquals(final byte value)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._byteEqualsValue = value;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same ByteValidator instance. This allows for method chaining.
+     */
+    public ByteValidator testMaxValue(final byte maxValue)
+    {
+        addRule(RuleId.MAX_VALUE);
+        this._byteMaxValue = maxValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same ByteValidator instance. This allows for method chaining.
+     */
+    public ByteValidator testMinValue(final byte minValue)
+    {
+        addRule(RuleId.MIN_VALUE);
+        this._byteMinValue = minValue;
+        return (this);
+    }
+
+    @Override
+    protected void assignEqualsValue(final Byte value)
+    {
+        this._byteEqualsValue = value;
+    }
+
+    @Override
+    protected void assignMaxValue(final Byte maxValue)
+    {
+        this._byteMaxValue = maxValue;
+    }
+
+    @Override
+    protected void assignMinValue(final Byte minValue)
+    {
+        this._byteMinValue = minValue;
+    }
+
+    @Override
+    protected Byte getEqualsValue()
+    {
+        return (Byte.valueOf(this._byteEqualsValue));
+    }
+
+    @Override
+    protected Byte getMaxValue()
+    {
+        return (Byte.valueOf(this._byteMaxValue));
+    }
+
+    @Override
+    protected Byte getMinValue()
+    {
+        return (Byte.valueOf(this._byteMinValue));
+    }
+
+    @Override
+    protected Byte getZeroValue()
+    {
+        return (Byte.valueOf((byte) 0));
+    }
+
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (this._byteValue == this._byteEqualsValue);
+    }
+
+    @Override
+    protected boolean isMaxValue()
+    {
+        return (this._byteValue <= this._byteMaxValue);
+    }
+
+    @Override
+    protected boolean isMinValue()
+    {
+        return (this._byteValue >= this._byteMinValue);
+    }
+
+    @Override
+    protected int signum()
+    {
+        return (Integer.signum(this._byteValue));
     }
 
-   private static byte returnNullByte()
-   {
-       // to resolve an boxing issue reported by sonarcloud
-       final Integer intNum = Integer.valueOf(0);
-       return( intNum.byteValue() );
-   }
-  
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"ByteValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"ByteValidator [_byteMaxValue=%s, _byteMinValue=%s, _isValidationExceptionThrownOnFail=%s, _byteEqualsValue=%s, _rules=%s, _byteValue=%s]",
+				_byteMaxValue, _byteMinValue, _isValidationExceptionThrownOnFail, _byteEqualsValue, getRules(),
+				_byteValue);
 	}
     
     
@@ -0,0 +1,283 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A HostResolver that caches the lookups of another resolver. A host that
+ * resolves is cached for the positive time to live and a host that does not
+ * resolve is cached for the negative time to live. When the cache is full, the
+ * least recently used hosts are evicted.
+ * 
+ * Threads that look up the same host at the same time share one lookup - only
+ * the first thread calls the wrapped resolver and the other threads wait for
+ * its answer.
+ * 
+ *      HostResolver resolver = new CachingHostResolver(HostResolver.system(),
+ *          Duration.ofMinutes(5), Duration.ofSeconds(10), 10000);
+ *
+ * The default values match the JVM resolver cache: 30 seconds for a host that
+ * resolves and 10 seconds for a host that does not.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CachingHostResolver implements HostResolver
+{
+
+    /**
+     * The default time to live of a host that resolves.
+     */
+    public static final Duration DEFAULT_POSITIVE_TTL = Duration.ofSeconds(30);
+
+    /**
+     * The default time to live of a host that does not resolve.
+     */
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    /**
+     * The default max number of hosts.
+     */
+    public static final int      DEFAULT_MAX_SIZE     = 10000;
+
+    /*
+     * The resolver that does the lookups.
+     */
+    private final HostResolver                                   _delegate;
+
+    /*
+     * The time to live in nanoseconds.
+     */
+    private final long                                           _positiveTtlNanos;
+    private final long                                           _negativeTtlNanos;
+
+    /*
+     * The cached lookups keyed by host.
+     */
+    private final ConcurrentLruCache<String, Lookup>             _cache;
+
+    /*
+     * The lookups that are running keyed by host.
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<Lookup>> _inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor that uses the default time to live values and max size.
+     * 
+     * @param delegate
+     *            The resolver that does the lookups.
+     */
+    public CachingHostResolver(final HostResolver delegate)
+    {
+        this(delegate, DEFAULT_POSITIVE_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param delegate
+     *            The resolver that does the lookups.
+     * @param positiveTtl
+     *            How long a host that resolves is cached.
+     * @param negativeTtl
+     *            How long a host that does not resolve is cached. A zero
+     *            duration turns off negative caching.
+     * @param maxSize
+     *            The max number of hosts that are cached.
+     */
+    public CachingHostResolver(final HostResolver delegate, final Duration positiveTtl, final Duration negativeTtl,
+            final int maxSize)
+    {
+        if (delegate == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'delegate' must not be null."));
+        }
+        else if (positiveTtl == null || positiveTtl.isNegative())
+        {
+            throw (new IllegalArgumentException("The parameter 'positiveTtl' must not be null or negative."));
+        }
+        else if (negativeTtl == null || negativeTtl.isNegative())
+        {
+            throw (new IllegalArgumentException("The parameter 'negativeTtl' must not be null or negative."));
+        }
+        this._delegate = delegate;
+        this._positiveTtlNanos = positiveTtl.toNanos();
+        this._negativeTtlNanos = negativeTtl.toNanos();
+        this._cache = new ConcurrentLruCache<>(maxSize);
+    }
+
+    /**
+     * Resolves a host name to an IP address. The cached address is returned if
+     * it has not expired.
+     * 
+     * @param host
+     *            The host name or an IP address literal.
+     * @return The <code>InetAddress</code> of the host.
+     * @throws UnknownHostException
+     *             If the host can not be resolved.
+     */
+    @Override
+    public InetAddress resolve(final String host) throws UnknownHostException
+    {
+        if (host == null)
+        {
+            // a null host can not be a key.
+            return (this._delegate.resolve(null));
+        }
+
+        Lookup lookup = this._cache.getIfPresent(host);
+        if (lookup == null || lookup.isExpired(System.nanoTime()))
+        {
+            lookup = lookup(host);
+        }
+        return (lookup.getAddress(host));
+    }
+
+    /**
+     * Removes all of the cached hosts.
+     */
+    public void clear()
+    {
+        this._cache.clear();
+    }
+
+    /**
+     * @return The number of cached hosts.
+     */
+    public int size()
+    {
+        return (this._cache.size());
+    }
+
+    /*
+     * Looks up the host with the delegate. Only one thread does the lookup of a
+     * host at a time, the other threads wait for the result.
+     */
+    private Lookup lookup(final String host) throws UnknownHostException
+    {
+        final CompletableFuture<Lookup> future = new CompletableFuture<>();
+        final CompletableFuture<Lookup> running = this._inFlight.putIfAbsent(host, future);
+        if (running != null)
+        {
+            return (await(running, host));
+        }
+
+        try
+        {
+            Lookup lookup;
+            try
+            {
+                final InetAddress address = this._delegate.resolve(host);
+                lookup = new Lookup(address, System.nanoTime() + this._positiveTtlNanos);
+            }
+            catch (final UnknownHostException ex)
+            {
+                lookup = new Lookup(null, System.nanoTime() + this._negativeTtlNanos);
+            }
+
+            if (lookup._address != null || this._negativeTtlNanos > 0)
+            {
+                this._cache.put(host, lookup);
+            }
+            future.complete(lookup);
+            return (lookup);
+        }
+        catch (final RuntimeException | Error ex)
+        {
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+        finally
+        {
+            this._inFlight.remove(host, future);
+        }
+    }
+
+    /*
+     * Waits for the lookup that another thread is running.
+     */
+    private static Lookup await(final CompletableFuture<Lookup> running, final String host)
+            throws UnknownHostException
+    {
+        try
+        {
+            return (running.get());
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw (new UnknownHostException(host + ": interrupted while waiting for the lookup"));
+        }
+        catch (final ExecutionException ex)
+        {
+            final UnknownHostException unknownHost = new UnknownHostException(host);
+            unknownHost.initCause(ex.getCause());
+            throw (unknownHost);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "CachingHostResolver [_delegate=%s, _positiveTtlNanos=%s, _negativeTtlNanos=%s, _cache=%s]",
+                _delegate, _positiveTtlNanos, _negativeTtlNanos, _cache);
+    }
+
+    /*
+     * The result of a lookup. A null address means that the host did not
+     * resolve.
+     */
+    private static final class Lookup
+    {
+        private final InetAddress _address;
+        private final long        _expiresAt;
+
+        private Lookup(final InetAddress address, final long expiresAt)
+        {
+            this._address = address;
+            this._expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now)
+        {
+            return (now - this._expiresAt >= 0);
+        }
+
+        private InetAddress getAddress(final String host) throws UnknownHostException
+        {
+            if (this._address == null)
+            {
+                throw (new UnknownHostException(host));
+            }
+            return (this._address);
+        }
+    }
+}
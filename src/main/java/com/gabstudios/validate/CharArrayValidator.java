@@ -0,0 +1,257 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This is a char[] validator. After this class is created, call the testXXXX()
+ * methods to perform tests when the validate() method is called.
+ * 
+ *      Validate.defineCharArray(myChars).testNotNullEmpty().testMaxElementValue(...).validate();
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the validate fails
+ * then a ValidateException will be thrown.
+ * 
+ * The elements are never boxed while they are validated. The element range is compiled into an IntRule and the elements are
+ * widened to int and scanned with its bulk methods.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CharArrayValidator extends PrimitiveArrayValidator<char[]>
+{
+
+    /*
+     * The element range. Defaults to every char value.
+     */
+    private char    _minElementValue = Character.MIN_VALUE;
+    private char    _maxElementValue = Character.MAX_VALUE;
+
+    /*
+     * The compiled element range. Only created if an element test is called.
+     */
+    private IntRule _elementRule;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. This value can be null or
+     *            empty. It is not copied.
+     */
+    protected CharArrayValidator(final char[] value)
+    {
+        super(value);
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with. It is copied.
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    @Override
+    public CharArrayValidator testEquals(final char[] equalsValue)
+    {
+        super.testEquals(equalsValue);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max length" test will be performed when the
+     * validate() method is called.
+     * 
+     * @param maxLength
+     *            The value to perform the test with.
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    @Override
+    public CharArrayValidator testMaxLength(final int maxLength)
+    {
+        super.testMaxLength(maxLength);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min length" test will be performed when the
+     * validate() method is called.
+     * 
+     * @param minLength
+     *            The value to perform the test with.
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    @Override
+    public CharArrayValidator testMinLength(final int minLength)
+    {
+        super.testMinLength(minLength);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null" test will be performed when the
+     * validate() method is called.
+     * 
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    @Override
+    public CharArrayValidator testNotNull()
+    {
+        super.testNotNull();
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null or empty" test will be performed when
+     * the validate() method is called.
+     * 
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    @Override
+    public CharArrayValidator testNotNullEmpty()
+    {
+        super.testNotNullEmpty();
+        return (this);
+    }
+
+    /**
+     * A method to mark that a max element value test will be performed when
+     * the validate() method is called. Every element must be less than or
+     * equal to the maxValue.
+     *
+     * @param maxValue
+     *            The max value to compare to.
+     *
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    public CharArrayValidator testMaxElementValue(final char maxValue)
+    {
+        if (maxValue < this._minElementValue)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxValue' must be greater than the min element value."));
+        }
+        this._maxElementValue = maxValue;
+        buildElementRule();
+        return (this);
+    }
+
+    /**
+     * A method to mark that a min element value test will be performed when
+     * the validate() method is called. Every element must be greater than or
+     * equal to the minValue.
+     *
+     * @param minValue
+     *            The min value to compare to.
+     *
+     * @return The same CharArrayValidator instance. This allows for method chaining.
+     */
+    public CharArrayValidator testMinElementValue(final char minValue)
+    {
+        if (minValue > this._maxElementValue)
+        {
+            throw (new IllegalArgumentException("The parameter 'minValue' must be less than the max element value."));
+        }
+        this._minElementValue = minValue;
+        buildElementRule();
+        return (this);
+    }
+
+    /*
+     * Compiles the element range into an IntRule.
+     */
+    private void buildElementRule()
+    {
+        this._elementRule = Validate.defineIntegerRule().testMinValue(this._minElementValue)
+                .testMaxValue(this._maxElementValue).build();
+        addElementRule();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.PrimitiveArrayValidator#length()
+     */
+    @Override
+    protected int length()
+    {
+        return (this._value.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.PrimitiveArrayValidator#copyOf(java.lang.Object)
+     */
+    @Override
+    protected char[] copyOf(final char[] value)
+    {
+        return (value.clone());
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.PrimitiveArrayValidator#isEqualsValue()
+     */
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (this._value != null && Arrays.equals(this._value, this._equalsValue));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.PrimitiveArrayValidator#getElement(int)
+     */
+    @Override
+    protected Object getElement(final int index)
+    {
+        return (this._value[index]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.PrimitiveArrayValidator#firstInvalidIndex()
+     */
+    @Override
+    protected int firstInvalidIndex()
+    {
+        return (this._elementRule.firstInvalidCharIndex(this._value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.PrimitiveArrayValidator#invalidIndexes()
+     */
+    @Override
+    protected BitSet invalidIndexes()
+    {
+        return (this._elementRule.invalidCharIndexes(this._value));
+    }
+}
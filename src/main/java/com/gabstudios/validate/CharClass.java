@@ -0,0 +1,395 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of allowed chars. A CharClass is compiled into a 128 bit
+ * table for the ASCII chars and a bitmap of 256 char pages for the rest of the
+ * Basic Multilingual Plane. A page that is empty or full is shared, so a class
+ * that is mostly ASCII uses a few hundred bytes. A test of a char is a shift
+ * and a mask, and a whole value is scanned in one pass.
+ * 
+ *      CharClass hex = CharClass.HEX;
+ *      CharClass custom = Validate.defineCharClass().add(CharClass.ALNUM).addAll("-_.").build();
+ *      
+ *      Validate.defineString(myString).testCharClass(custom).validate();
+ *
+ * The chars of a value are tested one UTF-16 char at a time, so a char
+ * outside of the Basic Multilingual Plane is tested as its two surrogates.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CharClass
+{
+
+    /*
+     * The number of chars in a page of the bitmap.
+     */
+    private static final int      PAGE_SIZE  = 256;
+
+    /*
+     * The shared pages that have no chars and every char.
+     */
+    private static final long[]   EMPTY_PAGE = new long[PAGE_SIZE / Long.SIZE];
+    private static final long[]   FULL_PAGE  = new long[PAGE_SIZE / Long.SIZE];
+    static
+    {
+        Arrays.fill(FULL_PAGE, -1L);
+    }
+
+    /**
+     * The ASCII digits 0-9.
+     */
+    public static final CharClass DIGITS     = new Builder().addRange('0', '9').build("DIGITS");
+
+    /**
+     * The ASCII letters a-z and A-Z.
+     */
+    public static final CharClass ALPHA      = new Builder().addRange('a', 'z').addRange('A', 'Z').build("ALPHA");
+
+    /**
+     * The ASCII letters and digits.
+     */
+    public static final CharClass ALNUM      = new Builder().add(ALPHA).add(DIGITS).build("ALNUM");
+
+    /**
+     * The hex digits 0-9, a-f and A-F.
+     */
+    public static final CharClass HEX        = new Builder().add(DIGITS).addRange('a', 'f').addRange('A', 'F')
+            .build("HEX");
+
+    /**
+     * The chars of base64: the ASCII letters and digits, '+', '/' and the '='
+     * padding.
+     */
+    public static final CharClass BASE64     = new Builder().add(ALNUM).addAll("+/=").build("BASE64");
+
+    /**
+     * The chars of URL safe base64: the ASCII letters and digits, '-', '_' and
+     * the '=' padding.
+     */
+    public static final CharClass BASE64_URL = new Builder().add(ALNUM).addAll("-_=").build("BASE64_URL");
+
+    /*
+     * The ASCII table. Bit n of the low word is set if char n is allowed, and
+     * bit n of the high word if char 64 + n is allowed.
+     */
+    private final long            _asciiLow;
+    private final long            _asciiHigh;
+
+    /*
+     * The bitmap of the chars from 0x80 to 0xFFFF by page.
+     */
+    private final long[][]        _pages;
+
+    /*
+     * If the class has a char that is not ASCII.
+     */
+    private final boolean         _hasNonAscii;
+
+    /*
+     * The name of the class, or null.
+     */
+    private final String          _name;
+
+    /*
+     * Private constructor. Use the Builder to create a class.
+     */
+    private CharClass(final long[] bits, final String name)
+    {
+        this._asciiLow = bits[0];
+        this._asciiHigh = bits[1];
+        this._pages = new long[Character.MAX_VALUE / PAGE_SIZE + 1][];
+        boolean hasNonAscii = false;
+        for (int page = 0; page < this._pages.length; page++)
+        {
+            final long[] words = Arrays.copyOfRange(bits, page * EMPTY_PAGE.length, (page + 1) * EMPTY_PAGE.length);
+            if (page == 0)
+            {
+                // the ASCII chars are only tested with the table.
+                words[0] = 0L;
+                words[1] = 0L;
+            }
+            if (Arrays.equals(words, EMPTY_PAGE))
+            {
+                this._pages[page] = EMPTY_PAGE;
+            }
+            else
+            {
+                hasNonAscii = true;
+                this._pages[page] = Arrays.equals(words, FULL_PAGE) ? FULL_PAGE : words;
+            }
+        }
+        this._hasNonAscii = hasNonAscii;
+        this._name = name;
+    }
+
+    /**
+     * Tests if a char is in the class.
+     * 
+     * @param c
+     *            The char to test.
+     * @return A boolean value that is true if the char is in the class.
+     */
+    public boolean contains(final char c)
+    {
+        final boolean retVal;
+        if (c < 64)
+        {
+            retVal = ((this._asciiLow >>> c) & 1L) != 0L;
+        }
+        else if (c < 128)
+        {
+            retVal = ((this._asciiHigh >>> (c - 64)) & 1L) != 0L;
+        }
+        else
+        {
+            retVal = this._hasNonAscii
+                    && ((this._pages[c >>> 8][(c & 0xFF) >>> 6] >>> (c & 0x3F)) & 1L) != 0L;
+        }
+        return (retVal);
+    }
+
+    /**
+     * Finds the first char of a value that is not in the class.
+     * 
+     * @param value
+     *            The value to scan. Must not be null.
+     * @return The index of the first char that is not in the class, or -1 if
+     *         every char is in the class.
+     */
+    public int firstInvalidIndex(final CharSequence value)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        return (firstInvalidIndex(value, 0, value.length()));
+    }
+
+    /**
+     * Finds the first char of a region of a value that is not in the class.
+     * 
+     * @param value
+     *            The value to scan. Must not be null.
+     * @param start
+     *            The index of the first char to scan, inclusive.
+     * @param end
+     *            The index of the last char to scan, exclusive.
+     * @return The index of the first char that is not in the class, or -1 if
+     *         every char of the region is in the class.
+     */
+    public int firstInvalidIndex(final CharSequence value, final int start, final int end)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        else if (start < 0 || start > end || end > value.length())
+        {
+            throw (new IllegalArgumentException("The region [" + start + ", " + end
+                    + ") is not inside of a CharSequence with a length of " + value.length() + "."));
+        }
+        for (int i = start; i < end; i++)
+        {
+            if (!contains(value.charAt(i)))
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final String retVal;
+        if (this._name != null)
+        {
+            retVal = this._name;
+        }
+        else
+        {
+            // the ranges of the ASCII chars.
+            final StringBuilder builder = new StringBuilder("[");
+            int c = 0;
+            while (c < 128)
+            {
+                if (contains((char) c))
+                {
+                    final int from = c;
+                    while (c < 128 && contains((char) c))
+                    {
+                        c++;
+                    }
+                    builder.append(toPrintable(from));
+                    if (c - 1 > from)
+                    {
+                        builder.append('-').append(toPrintable(c - 1));
+                    }
+                }
+                c++;
+            }
+            if (this._hasNonAscii)
+            {
+                builder.append("...");
+            }
+            retVal = builder.append(']').toString();
+        }
+        return (retVal);
+    }
+
+    /*
+     * Gets a char as printable text.
+     */
+    private static String toPrintable(final int c)
+    {
+        return ((c < 0x20 || c == 0x7F) ? String.format("\\x%02x", c) : String.valueOf((char) c));
+    }
+
+    /**
+     * Builds a CharClass. A builder is not thread safe, the class that it
+     * builds is.
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        /*
+         * A bit for every char of the Basic Multilingual Plane.
+         */
+        private final long[] _bits = new long[(Character.MAX_VALUE + 1) / Long.SIZE];
+
+        /**
+         * Protected constructor. Use Validate static method to create a
+         * builder.
+         */
+        protected Builder()
+        {
+        }
+
+        /**
+         * Adds a char.
+         * 
+         * @param c
+         *            The char to add.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder add(final char c)
+        {
+            this._bits[c >>> 6] |= 1L << (c & 0x3F);
+            return (this);
+        }
+
+        /**
+         * Adds every char from a char to a char, inclusive.
+         * 
+         * @param from
+         *            The first char to add.
+         * @param to
+         *            The last char to add.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder addRange(final char from, final char to)
+        {
+            if (from > to)
+            {
+                throw (new IllegalArgumentException("The parameter 'from' must be less than or equal to 'to'."));
+            }
+            for (int c = from; c <= to; c++)
+            {
+                add((char) c);
+            }
+            return (this);
+        }
+
+        /**
+         * Adds every char of a value.
+         * 
+         * @param chars
+         *            The chars to add.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder addAll(final CharSequence chars)
+        {
+            if (chars == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'chars' must not be null."));
+            }
+            for (int i = 0; i < chars.length(); i++)
+            {
+                add(chars.charAt(i));
+            }
+            return (this);
+        }
+
+        /**
+         * Adds every char of a class.
+         * 
+         * @param charClass
+         *            The class to add.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder add(final CharClass charClass)
+        {
+            if (charClass == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'charClass' must not be null."));
+            }
+            this._bits[0] |= charClass._asciiLow;
+            this._bits[1] |= charClass._asciiHigh;
+            for (int page = 0; page < charClass._pages.length; page++)
+            {
+                final long[] words = charClass._pages[page];
+                for (int i = 0; i < words.length; i++)
+                {
+                    this._bits[page * words.length + i] |= words[i];
+                }
+            }
+            return (this);
+        }
+
+        /**
+         * Builds an immutable class from the chars that were added.
+         * 
+         * @return A <code>CharClass</code> instance.
+         */
+        public CharClass build()
+        {
+            return (new CharClass(this._bits, null));
+        }
+
+        /*
+         * Builds a named class.
+         */
+        private CharClass build(final String name)
+        {
+            return (new CharClass(this._bits, name));
+        }
+    }
+}
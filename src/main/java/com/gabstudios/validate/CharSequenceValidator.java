@@ -0,0 +1,522 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.regex.Pattern;
+
+/**
+ * This is a CharSequence validator. It has the same tests as the
+ * StringValidator, but the tests work directly on a CharSequence, such as a
+ * StringBuilder or a CharBuffer, so the text does not have to be copied into
+ * a String first. After this class is created, call the testXXXX() methods to
+ * perform tests when the validate() method is called.
+ * 
+ * Validate.defineCharSequence(myBuilder).testNotNullEmpty().testMaxLength(32).validate();
+ *
+ * A validator can also be limited to a region of a larger CharSequence. Only
+ * the chars from the start index, inclusive, to the end index, exclusive, are
+ * validated and nothing is copied.
+ * 
+ * Validate.defineCharSequence(myBuffer, 120, 136).testMatch("[0-9a-f]+").validate();
+ *
+ * The length, emptiness and equals tests do not allocate. The match test
+ * creates a Matcher that is limited to the region. The region is only copied
+ * into a String when a failure is reported. The CharSequence must not be
+ * changed until the validation is done.
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the
+ * validate fails then a ValidateException will be thrown.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CharSequenceValidator extends ObjectValidator<CharSequence>
+{
+
+    /*
+     * The index of the first char of the region, inclusive.
+     */
+    private final int _start;
+
+    /*
+     * The index of the last char of the region, exclusive.
+     */
+    private final int _end;
+
+    /*
+     * The char class, format and match tests.
+     */
+    private final TextTests _textTests = new TextTests();
+
+    /*
+     * The max length to test for. Defaults to 0.
+     */
+    private int       _maxLength = 0;
+
+    /*
+     * The min length to test for. Defaults to 0.
+     */
+    private int       _minLength = 0;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. This value can be null or
+     *            empty.
+     * @param start
+     *            The index of the first char that is validated, inclusive.
+     * @param end
+     *            The index of the last char that is validated, exclusive.
+     */
+    protected CharSequenceValidator(final CharSequence value, final int start, final int end)
+    {
+        super(value);
+        if (value != null && (start < 0 || start > end || end > value.length()))
+        {
+            throw (new IllegalArgumentException("The region [" + start + ", " + end
+                    + ") is not inside of a CharSequence with a length of " + value.length() + "."));
+        }
+        this._start = start;
+        this._end = end;
+    }
+
+    /**
+     * Gets the index of the first char that is validated.
+     * 
+     * @return The start index, inclusive.
+     */
+    public int getStart()
+    {
+        return (this._start);
+    }
+
+    /**
+     * Gets the index of the last char that is validated.
+     * 
+     * @return The end index, exclusive.
+     */
+    public int getEnd()
+    {
+        return (this._end);
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called. The region is compared char by char with the
+     * equals value, so a String, a StringBuilder or a CharBuffer can be equal.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    @Override
+    public CharSequenceValidator testEquals(final CharSequence equalsValue)
+    {
+        removeRule(RuleId.EQUALS_NO_CASE);
+        super.testEquals(equalsValue);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "equals no case" test will be performed when the
+     * validate() method is called. The chars are compared the same way as the
+     * String.equalsIgnoreCase() method.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testEqualsNoCase(final CharSequence equalsValue)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS_NO_CASE);
+        removeRule(RuleId.EQUALS);
+        this._equalsValue = equalsValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that a "char class" test will be performed when the
+     * validate() method is called. Every char of the region must be in the
+     * class.
+     * 
+     * @param charClass
+     *            The allowed chars, such as CharClass.HEX.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testCharClass(final CharClass charClass)
+    {
+        this._textTests.setCharClass(charClass);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.CHAR_CLASS);
+        return (this);
+    }
+
+    /**
+     * A method to mark that a "format" test will be performed when the
+     * validate() method is called. The format is tested with a hand written
+     * scanner, which is much faster than the same regular expression.
+     * 
+     * @param format
+     *            The format, such as TextFormat.UUID.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testFormat(final TextFormat format)
+    {
+        this._textTests.setFormat(format);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.FORMAT);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "match" test using regex will be performed when
+     * the validate() method is called. The regular expression is kept in the
+     * PatternCache.
+     * 
+     * @param value
+     *            A regular expression that be used to see if the region is a
+     *            match.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     * @see PatternCache
+     */
+    public CharSequenceValidator testMatch(final String value)
+    {
+        return (testMatch(PatternCache.getDefault().getPattern(value)));
+    }
+
+    /**
+     * A method to mark that an "match" test using regex will be performed when
+     * the validate() method is called. The regular expression is matched by
+     * the engine. The compiled pattern is kept in the PatternCache.
+     * 
+     * @param value
+     *            A regular expression that be used to see if the region is a
+     *            match.
+     * @param engine
+     *            The engine that matches the regular expression. Must not be
+     *            null.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     * @see RegexEngine
+     */
+    public CharSequenceValidator testMatch(final String value, final RegexEngine engine)
+    {
+        if (engine == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'engine' must not be null."));
+        }
+        return (engine == RegexEngine.DFA ? testMatch(PatternCache.getDefault().getDfaPattern(value))
+                : testMatch(value));
+    }
+
+    /**
+     * A method to mark that an "match" test using a DFA pattern will be
+     * performed when the validate() method is called. The whole region must
+     * match and the test takes linear time in the length of the region.
+     * 
+     * @param pattern
+     *            A DFA pattern that be used to see if the region is a match.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testMatch(final DfaPattern pattern)
+    {
+        this._textTests.setMatch(pattern);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MATCH);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "match" test using a compiled regex will be
+     * performed when the validate() method is called. The whole region must
+     * match. The anchors of the pattern match at the bounds of the region.
+     * 
+     * @param pattern
+     *            A compiled regular expression that be used to see if the
+     *            region is a match.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testMatch(final Pattern pattern)
+    {
+        this._textTests.setMatch(pattern);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MATCH);
+        return (this);
+    }
+
+    /**
+     * Sets a budget for the match test. A match that goes over the budget is
+     * stopped and the test fails with the RuleId.MATCH_BUDGET id instead of
+     * the RuleId.MATCH id.
+     * 
+     * @param budget
+     *            The max steps and time of a match. Must not be null.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     * @see MatchBudget
+     */
+    public CharSequenceValidator useMatchBudget(final MatchBudget budget)
+    {
+        this._textTests.setMatchBudget(budget);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max length" test will be performed when the
+     * validate() method is called. Tests if the length of the region is less
+     * than or equal to the max value when the validate method is called.
+     * 
+     * @param maxLength
+     *            The value to perform the test with.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testMaxLength(final int maxLength)
+    {
+        if (maxLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than zero (0)."));
+        }
+        else if (maxLength < this._minLength)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than the min length value."));
+        }
+        else
+        {
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MAX_LENGTH);
+            this._maxLength = maxLength;
+        }
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min length" test will be performed when the
+     * validate() method is called. Tests if the length of the region is greater
+     * than or equal to the min value when the validate method is called.
+     * 
+     * @param minLength
+     *            The value to perform the test with.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testMinLength(final int minLength)
+    {
+        if (minLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be greater than zero (0)."));
+        }
+        else if ((minLength > this._maxLength) && (this._maxLength != 0))
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be less than the max length value."));
+        }
+        else
+        {
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MIN_LENGTH);
+            this._minLength = minLength;
+        }
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null" test will be performed when the
+     * validate() method is called.
+     * 
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    @Override
+    public CharSequenceValidator testNotNull()
+    {
+        addRule(RuleId.NOT_NULL);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null or empty" test will be performed when
+     * the validate() method is called.
+     * 
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testNotNullEmpty()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.NOT_EMPTY);
+        return (this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
+     */
+    @Override
+    protected boolean validateRule(final RuleId ruleId)
+    {
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateNotEmpty();
+                break;
+            case MIN_LENGTH:
+                isValid = validateMinLength();
+                break;
+            case MAX_LENGTH:
+                isValid = validateMaxLength();
+                break;
+            case EQUALS_NO_CASE:
+                isValid = validateEqualsNoCase();
+                break;
+            case CHAR_CLASS:
+                isValid = validateCharClass();
+                break;
+            case FORMAT:
+                isValid = validateFormat();
+                break;
+            case MATCH:
+                isValid = validateMatch();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
+    }
+
+    protected boolean validateNotEmpty()
+    {
+        final boolean isValid = (this._value != null && this._end > this._start);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.NOT_EMPTY, getRegion(), null);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateMinLength()
+    {
+        final boolean isValid = (this._value != null && this._end - this._start >= this._minLength);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.MIN_LENGTH, getRegion(), this._minLength);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateMaxLength()
+    {
+        final boolean isValid = (this._value != null && this._end - this._start <= this._maxLength);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.MAX_LENGTH, getRegion(), this._maxLength);
+        }
+        return (isValid);
+    }
+
+    @Override
+    protected boolean validateEquals()
+    {
+        final boolean isValid = (this._value != null
+                && TextTests.isRegionEqual(this._value, this._start, this._end, this._equalsValue, false));
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.EQUALS, getRegion(), this._equalsValue);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateEqualsNoCase()
+    {
+        final boolean isValid = (this._value != null
+                && TextTests.isRegionEqual(this._value, this._start, this._end, this._equalsValue, true));
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.EQUALS_NO_CASE, getRegion(), this._equalsValue);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateCharClass()
+    {
+        final boolean isValid = (this._value != null && this._textTests.isCharClass(this._value, this._start, this._end));
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.CHAR_CLASS, getRegion(), this._textTests.getExpectedValue(RuleId.CHAR_CLASS));
+        }
+        return (isValid);
+    }
+
+    protected boolean validateFormat()
+    {
+        final boolean isValid = (this._value != null && this._textTests.isFormat(this._value, this._start, this._end));
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.FORMAT, getRegion(), this._textTests.getExpectedValue(RuleId.FORMAT));
+        }
+        return (isValid);
+    }
+
+    protected boolean validateMatch()
+    {
+        final RuleId failedRule = (this._value == null ? RuleId.MATCH
+                : this._textTests.getFailedMatchRule(this._value, this._start, this._end, null));
+        final boolean isValid = (failedRule == null);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(failedRule, getRegion(), this._textTests.getExpectedValue(failedRule));
+        }
+        return (isValid);
+    }
+
+    /*
+     * Gets the region as a String. Only used to report a failure.
+     */
+    private String getRegion()
+    {
+        return (this._value == null ? null : this._value.subSequence(this._start, this._end).toString());
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "CharSequenceValidator [_start=%s, _end=%s, _textTests=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+                _start, _end, _textTests, _maxLength, _minLength, _isValidationExceptionThrownOnFail, _equalsValue,
+                getRules(), getRegion());
+    }
+}
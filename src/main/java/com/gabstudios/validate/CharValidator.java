@@ -39,49 +39,7 @@ package com.gabstudios.validate;
  */
 public final class CharValidator extends ObjectValidator<Character>
 {
-    
-    /*
-     * A flag indicating if an "is the character a digit/number" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsDigit      = false;
-    
-    /*
-     * A flag indicating if an "is the character lower case" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsLowerCase  = false;
-    
-    /*
-     * A flag indicating that a max value test will be performed when the
-     * validate() method is called.
-     */
-    private boolean    _isTestMaxValue   = false;
-    
-    /*
-     * A flag indicating that a min value test will be performed when the
-     * validate() method is called.
-     */
-    private boolean    _isTestMinValue   = false;
-    
-    /*
-     * A flag indicating if an "not empty" test will be performed when the
-     * validate() method is called.
-     */
-    private boolean    _isTestNotEmpty   = false;
-    
-    /*
-     * A flag indicating if an "is the character upper case" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsUpperCase  = false;
-    
-    /*
-     * A flag indicating if an "is the character a white space" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsWhitespace = false;
-    
+
     /*
      * The max value to test for. Defaults to Character.MAX_VALUE.
      */
@@ -115,7 +73,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testMaxValue(final char maxValue)
     {
-        this._isTestMaxValue = true;
+        addRule(RuleId.MAX_VALUE);
         this._maxValue = maxValue;
         return (this);
     }
@@ -132,7 +90,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testMinValue(final char minValue)
     {
-        this._isTestMinValue = true;
+        addRule(RuleId.MIN_VALUE);
         this._minValue = minValue;
         return (this);
     }
@@ -145,7 +103,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testNotEmpty()
     {
-        this._isTestNotEmpty = true;
+        addRule(RuleId.NOT_EMPTY);
         return (this);
     }
     
@@ -157,7 +115,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsDigit()
     {
-        this._testIsDigit = true;
+        addRule(RuleId.IS_DIGIT);
         return (this);
     }
     
@@ -170,8 +128,8 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsLowerCase()
     {
-        this._testIsLowerCase = true;
-        this._testIsUpperCase = false;
+        addRule(RuleId.IS_LOWER_CASE);
+        removeRule(RuleId.IS_UPPER_CASE);
         return (this);
     }
     
@@ -184,8 +142,8 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsUpperCase()
     {
-        this._testIsUpperCase = true;
-        this._testIsLowerCase = false;
+        addRule(RuleId.IS_UPPER_CASE);
+        removeRule(RuleId.IS_LOWER_CASE);
         return (this);
     }
     
@@ -198,97 +156,85 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsWhitespace()
     {
-        this._testIsWhitespace = true;
+        addRule(RuleId.IS_WHITESPACE);
         return (this);
     }
-    
 
     /*
      * (non-Javadoc)
      * 
-     * @see com.gabstudios.gabvalidate.Validator#validate()
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
      */
     @Override
-	public boolean validate() 
+    protected boolean validateRule(final RuleId ruleId)
     {
-        // call ObjectValidator validate method.
-        boolean isValid = super.validate();
-        isValid &= validateNotEmpty();
-        isValid &= validateMinValue();
-        isValid &= validateMaxValue();
-        isValid &= validateIsDigit();
-        isValid &= validateIsLowerCase();
-        isValid &= validateIsUpperCase();
-        isValid &= validateWhitespace();
-
-        return ( isValid );
-
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateNotEmpty();
+                break;
+            case MIN_VALUE:
+                isValid = validateMinValue();
+                break;
+            case MAX_VALUE:
+                isValid = validateMaxValue();
+                break;
+            case IS_DIGIT:
+                isValid = validateIsDigit();
+                break;
+            case IS_LOWER_CASE:
+                isValid = validateIsLowerCase();
+                break;
+            case IS_UPPER_CASE:
+                isValid = validateIsUpperCase();
+                break;
+            case IS_WHITESPACE:
+                isValid = validateWhitespace();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
     }
 
     protected boolean validateNotEmpty()
     {
-        boolean isValid = true;
-        if (this._isTestNotEmpty)
+        final boolean isValid = this._value != '\0';
+        if (!isValid && isFailureReported())
         {
-            isValid &= this._value != '\0';
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The char must not be empty.");
-            }
+        	reportFailure(RuleId.NOT_EMPTY, this._value, null);
         }
         return( isValid );
     }
 
     protected boolean validateMinValue()
     {
-        boolean isValid = true;
-        if (this._isTestMinValue)
+        final boolean isValid = (this._value >= this._minValue);
+        if (!isValid && isFailureReported())
         {
-            isValid &= (this._value >= this._minValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be greater than or equal to the min value (value = '"
-                                + this._value
-                                + "' min value = '"
-                                + this._minValue + "').");
-            }
-            
+        	reportFailure(RuleId.MIN_VALUE, this._value, this._minValue);
         }
         return( isValid );
     }
 
     protected boolean validateMaxValue()
     {
-        boolean isValid = true;
-        if (this._isTestMaxValue)
+        final boolean isValid = (this._value <= this._maxValue);
+        if (!isValid && isFailureReported())
         {
-            isValid &= (this._value <= this._maxValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be less than or equal to the max value (value = '"
-                                + this._value
-                                + "' max value = '"
-                                + this._maxValue + "').");
-            }
+        	reportFailure(RuleId.MAX_VALUE, this._value, this._maxValue);
         }
         return( isValid );
     }
 
     protected boolean validateIsDigit()
     {
-        boolean isValid = true;
-        if (this._testIsDigit)
+        final boolean isValid = (Character.isDigit(this._value));
+        if (!isValid && isFailureReported())
         {
-            isValid &= (Character.isDigit(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The char is not a digit (value = '"
-                                + this._value + "').");
-            }
+        	reportFailure(RuleId.IS_DIGIT, this._value, null);
         }
         return( isValid );
     }
@@ -296,14 +242,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateIsLowerCase()
     {
         boolean isValid = true;  
-        if (this._testIsLowerCase)
+        if (hasRule(RuleId.IS_LOWER_CASE))
         {
             isValid &= (Character.isLowerCase(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && isFailureReported())
             {
-            	ObjectValidator
-                        .throwValidateException("The char is not lower case (value = '"
-                                + this._value + "').");
+            	reportFailure(RuleId.IS_LOWER_CASE, this._value, null);
             }
         }
         return( isValid );
@@ -311,33 +255,21 @@ public final class CharValidator extends ObjectValidator<Character>
 
     protected boolean validateIsUpperCase()
     {
-        boolean isValid = true;
-        if (this._testIsUpperCase)
+        final boolean isValid = (Character.isUpperCase(this._value));
+        if (!isValid && isFailureReported())
         {
-            isValid &= (Character.isUpperCase(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The char is not upper case (value = '"
-                                + this._value + "').");
-            }
+        	reportFailure(RuleId.IS_UPPER_CASE, this._value, null);
         }
         return( isValid );
     }
 
     protected boolean validateWhitespace()
     {
-        boolean isValid = true;
-        if (this._testIsWhitespace)
+        final boolean isValid = (Character.isWhitespace(this._value));
+        if (!isValid && isFailureReported())
         {
-            isValid &= (Character.isWhitespace(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The char is not a whitespace (value = '"
-                                + this._value + "').");
-            }
-        } 
+        	reportFailure(RuleId.IS_WHITESPACE, this._value, null);
+        }
         return( isValid );
     }
 
@@ -348,10 +280,8 @@ public final class CharValidator extends ObjectValidator<Character>
 	@Override
 	public String toString() {
 		return String.format(
-				"CharValidator [_testIsDigit=%s, _testIsLowerCase=%s, _isTestMaxValue=%s, _isTestMinValue=%s, _isTestNotEmpty=%s, _testIsUpperCase=%s, _testIsWhitespace=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_testIsDigit, _testIsLowerCase, _isTestMaxValue, _isTestMinValue, _isTestNotEmpty, _testIsUpperCase,
-				_testIsWhitespace, _maxValue, _minValue, _isValidationExceptionThrownOnFail, _equalsValue,
-				_isTestEquals, _isTestNotNull, _value);
+				"CharValidator [_maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+				_maxValue, _minValue, _isValidationExceptionThrownOnFail, _equalsValue, getRules(), _value);
 	}
     
     
@@ -0,0 +1,246 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A set of IPv4 and IPv6 address ranges in CIDR notation, such as
+ * "10.0.0.0/8" or "fe80::/10". The ranges are kept in a binary radix trie
+ * with one branch per bit of the address, so a lookup reads at most 32 or 128
+ * bits however many ranges are in the set. An address without a prefix length
+ * is a range of one address.
+ * 
+ * The nodes are kept in an int array, 2 children per node, instead of one
+ * object per node. Node 0 is the IPv4 root and node 1 is the IPv6 root. An
+ * IPv4-mapped IPv6 range is added to the IPv4 branch, like InetAddress does
+ * with a mapped address.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class CidrTrie
+{
+
+    /*
+     * The root nodes.
+     */
+    private static final int   IPV4_ROOT = 0;
+    private static final int   IPV6_ROOT = 1;
+
+    /*
+     * The 2 children of each node. A child of 0 is no child, node 0 is a root
+     * so it is never a child. Only the roots are allocated until a range is added.
+     */
+    private int[]              _children = new int[4];
+
+    /*
+     * The nodes where a range ends. Every address below such a node is in the
+     * set.
+     */
+    private final BitSet       _terminals = new BitSet();
+
+    /*
+     * The number of nodes.
+     */
+    private int                _size     = 2;
+
+    /*
+     * The ranges in the order they were added. Only used by toString().
+     */
+    private final List<String> _entries  = new ArrayList<>();
+
+    /*
+     * Adds a range in CIDR notation. The bits after the prefix are ignored.
+     * 
+     * @throws IllegalArgumentException If the range is not an address literal
+     *             with an optional prefix length.
+     */
+    void add(final String cidr)
+    {
+        if (cidr == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'cidr' must not be null."));
+        }
+        final int slash = cidr.indexOf('/');
+        final String host = (slash < 0 ? cidr : cidr.substring(0, slash)).trim();
+        final byte[] address = HostSyntax.parseAddress(host);
+        if (address == null)
+        {
+            throw (new IllegalArgumentException("The range '" + cidr + "' is not an IP address literal."));
+        }
+        int prefixLength = address.length * 8;
+        if (slash >= 0)
+        {
+            try
+            {
+                prefixLength = Integer.parseInt(cidr.substring(slash + 1).trim());
+            }
+            catch (final NumberFormatException e)
+            {
+                prefixLength = -1;
+            }
+            if (prefixLength < 0 || prefixLength > address.length * 8)
+            {
+                throw (new IllegalArgumentException("The range '" + cidr + "' has a prefix length that is not 0 to "
+                        + (address.length * 8) + "."));
+            }
+        }
+        add(address, prefixLength);
+    }
+
+    /*
+     * Adds a range of one address.
+     */
+    void add(final InetAddress address)
+    {
+        final byte[] bytes = address.getAddress();
+        add(bytes, bytes.length * 8);
+    }
+
+    /*
+     * Adds the range of the first prefixLength bits of a 4 or 16 byte address.
+     */
+    void add(final byte[] address, final int prefixLength)
+    {
+        byte[] bytes = address;
+        int length = prefixLength;
+        if (bytes.length == 16 && length >= 96 && isMapped(bytes))
+        {
+            bytes = Arrays.copyOfRange(bytes, 12, 16);
+            length -= 96;
+        }
+
+        int node = (bytes.length == 4 ? IPV4_ROOT : IPV6_ROOT);
+        for (int bit = 0; bit < length && !this._terminals.get(node); bit++)
+        {
+            final int index = 2 * node + bitAt(bytes, bit);
+            if (this._children[index] == 0)
+            {
+                if (2 * this._size + 2 > this._children.length)
+                {
+                    this._children = Arrays.copyOf(this._children, Math.max(64, this._children.length * 2));
+                }
+                this._children[index] = this._size++;
+            }
+            node = this._children[index];
+        }
+        this._terminals.set(node);
+        this._entries.add(format(bytes, length));
+    }
+
+    /*
+     * Tests if an address is in one of the ranges.
+     */
+    boolean contains(final InetAddress address)
+    {
+        return (contains(address.getAddress()));
+    }
+
+    /*
+     * Tests if a 4 or 16 byte address is in one of the ranges.
+     */
+    boolean contains(final byte[] address)
+    {
+        int node = (address.length == 4 ? IPV4_ROOT : IPV6_ROOT);
+        final int bits = address.length * 8;
+        for (int bit = 0; !this._terminals.get(node); bit++)
+        {
+            if (bit == bits)
+            {
+                return (false);
+            }
+            node = this._children[2 * node + bitAt(address, bit)];
+            if (node == 0)
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+
+    /*
+     * Gets if no range has been added.
+     */
+    boolean isEmpty()
+    {
+        return (this._entries.isEmpty());
+    }
+
+    /*
+     * Gets the bit of an address, from the most significant bit of the first
+     * byte.
+     */
+    private static int bitAt(final byte[] address, final int bit)
+    {
+        return ((address[bit >>> 3] >>> (7 - (bit & 7))) & 1);
+    }
+
+    /*
+     * Tests if a 16 byte address is an IPv4-mapped address.
+     */
+    private static boolean isMapped(final byte[] address)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            if (address[i] != 0)
+            {
+                return (false);
+            }
+        }
+        return (address[10] == (byte) 0xff && address[11] == (byte) 0xff);
+    }
+
+    /*
+     * Formats a range with the bits after the prefix cleared.
+     */
+    private static String format(final byte[] address, final int prefixLength)
+    {
+        final byte[] network = new byte[address.length];
+        for (int bit = 0; bit < prefixLength; bit++)
+        {
+            network[bit >>> 3] |= (byte) (bitAt(address, bit) << (7 - (bit & 7)));
+        }
+        try
+        {
+            return (InetAddress.getByAddress(network).getHostAddress() + "/" + prefixLength);
+        }
+        catch (final UnknownHostException e)
+        {
+            // the length of the address has been checked.
+            throw (new IllegalStateException(e));
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (this._entries.toString());
+    }
+}
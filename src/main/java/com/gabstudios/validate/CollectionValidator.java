@@ -0,0 +1,421 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is a Collection validator. After this class is created, call the
+ * testXXXX() methods to perform tests when the validate() method is called.
+ * 
+ * Validate.defineCollection(myList).testNotNullEmpty().testEachElement(rule).validate();
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the
+ * validate fails then a ValidateException will be thrown.
+ * 
+ * Validate.defineCollection(myList).testMaxLength(100)
+ * .throwValidationExceptionOnFail().validate();
+ *
+ * A large collection can be split across a ForkJoinPool when the element rule
+ * is tested. A list that is not a RandomAccess list is copied into an array
+ * first.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CollectionValidator extends ObjectValidator<Collection<?>>
+{
+
+    /*
+     * The max size to test for. Defaults to 0.
+     */
+    private int                    _maxLength = 0;
+
+    /*
+     * The min size to test for. Defaults to 0.
+     */
+    private int                    _minLength = 0;
+
+    /*
+     * The rule that every element must pass.
+     */
+    private ValidationRule<Object> _elementRule;
+
+    /*
+     * The pool that a large collection is split across. Null to validate the
+     * elements on the calling thread.
+     */
+    private ForkJoinPool           _pool;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. This value can be null or
+     *            empty.
+     */
+    protected CollectionValidator(final Collection<?> value)
+    {
+        super(value);
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called. The collections are compared with the
+     * equals() method of the value.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with.
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    @Override
+    public CollectionValidator testEquals(final Collection<?> equalsValue)
+    {
+        super.testEquals(equalsValue);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max length" test will be performed when the
+     * validate() method is called. Tests if the size is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxLength
+     *            The value to perform the test with.
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    public CollectionValidator testMaxLength(final int maxLength)
+    {
+        if (maxLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than zero (0)."));
+        }
+        else if (maxLength < this._minLength)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than the min length value."));
+        }
+        else
+        {
+            // have to test for null if max length is selected.
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MAX_LENGTH);
+            this._maxLength = maxLength;
+        }
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min length" test will be performed when the
+     * validate() method is called. Tests if the size is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minLength
+     *            The value to perform the test with.
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    public CollectionValidator testMinLength(final int minLength)
+    {
+        if (minLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be greater than zero (0)."));
+        }
+        else if ((minLength > this._maxLength) && (this._maxLength != 0))
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be less than the max length value."));
+        }
+        else
+        {
+            // have to test for null if min length is selected.
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MIN_LENGTH);
+            this._minLength = minLength;
+        }
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null" test will be performed when the
+     * validate() method is called.
+     * 
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    @Override
+    public CollectionValidator testNotNull()
+    {
+        addRule(RuleId.NOT_NULL);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null or empty" test will be performed when
+     * the validate() method is called.
+     * 
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    public CollectionValidator testNotNullEmpty()
+    {
+        // have to test for null if empty is selected.
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.NOT_EMPTY);
+        return (this);
+    }
+
+    /**
+     * A method to mark that every element will be tested with a rule when the
+     * validate() method is called. The validate() method stops at the first
+     * element that fails. The validateAll() method reports every element that
+     * fails, with the index of the element in iteration order as the expected
+     * value.
+     * 
+     * A rule that was built with throwValidationExceptionOnFail() fails the
+     * element, the exception is thrown by this validator.
+     * 
+     * @param rule
+     *            The rule that every element must pass. The rule must accept
+     *            the type of the elements.
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    @SuppressWarnings("unchecked")
+    public CollectionValidator testEachElement(final ValidationRule<?> rule)
+    {
+        if (rule == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'rule' must not be null."));
+        }
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EACH_ELEMENT);
+        this._elementRule = (ValidationRule<Object>) rule;
+        return (this);
+    }
+
+    /**
+     * Splits a large collection across the common ForkJoinPool when the
+     * element rule is tested. The result is the same as a test on one thread.
+     * 
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    public CollectionValidator useParallel()
+    {
+        return (useParallel(ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Splits a large collection across a ForkJoinPool when the element rule is
+     * tested. The result is the same as a test on one thread.
+     * 
+     * @param pool
+     *            The pool to use. Must not be null.
+     * @return The same CollectionValidator instance. This allows for method
+     *         chaining.
+     */
+    public CollectionValidator useParallel(final ForkJoinPool pool)
+    {
+        if (pool == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pool' must not be null."));
+        }
+        this._pool = pool;
+        return (this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
+     */
+    @Override
+    protected boolean validateRule(final RuleId ruleId)
+    {
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateNotEmpty();
+                break;
+            case MIN_LENGTH:
+                isValid = validateMinLength();
+                break;
+            case MAX_LENGTH:
+                isValid = validateMaxLength();
+                break;
+            case EACH_ELEMENT:
+                isValid = validateEachElement();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test that a collection is not empty.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateNotEmpty()
+    {
+        final boolean isValid = (this._value != null && !this._value.isEmpty());
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.NOT_EMPTY, this._value, null);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test min size.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateMinLength()
+    {
+        final boolean isValid = (this._value != null && this._value.size() >= this._minLength);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.MIN_LENGTH, this._value, this._minLength);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test max size.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateMaxLength()
+    {
+        final boolean isValid = (this._value != null && this._value.size() <= this._maxLength);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.MAX_LENGTH, this._value, this._maxLength);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test every element.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateEachElement()
+    {
+        boolean isValid = false;
+        if (this._value != null)
+        {
+            final List<?> elements = toList();
+            if (isFailureCollected())
+            {
+                final BitSet invalidIndexes = (elements != null
+                        ? ElementScanner.invalidIndexes(elements, this._elementRule, this._pool)
+                        : ElementScanner.invalidIndexes(this._value, this._elementRule));
+                isValid = invalidIndexes.isEmpty();
+                if (!isValid)
+                {
+                    reportFailures(elements, invalidIndexes);
+                }
+            }
+            else
+            {
+                final int index = (elements != null
+                        ? ElementScanner.firstInvalidIndex(elements, this._elementRule, this._pool)
+                        : ElementScanner.firstInvalidIndex(this._value, this._elementRule));
+                isValid = (index < 0);
+                if (!isValid && isFailureReported())
+                {
+                    final BitSet invalidIndexes = new BitSet();
+                    invalidIndexes.set(index);
+                    reportFailures(elements, invalidIndexes);
+                }
+            }
+        }
+        return (isValid);
+    }
+
+    /*
+     * Gets the value as a RandomAccess list. A list that is not a RandomAccess
+     * list is only copied if it will be split across the pool.
+     * 
+     * @return A RandomAccess list, or null if the elements are iterated.
+     */
+    private List<?> toList()
+    {
+        List<?> retVal = null;
+        if (this._value instanceof List && this._value instanceof RandomAccess)
+        {
+            retVal = (List<?>) this._value;
+        }
+        else if (this._pool != null && this._value.size() >= ElementScanner.PARALLEL_THRESHOLD)
+        {
+            retVal = Arrays.asList(this._value.toArray());
+        }
+        return (retVal);
+    }
+
+    /*
+     * Reports an EACH_ELEMENT failure for every invalid index.
+     */
+    private void reportFailures(final List<?> elements, final BitSet invalidIndexes)
+    {
+        if (elements != null)
+        {
+            for (int i = invalidIndexes.nextSetBit(0); i >= 0; i = invalidIndexes.nextSetBit(i + 1))
+            {
+                reportFailure(RuleId.EACH_ELEMENT, elements.get(i), i);
+            }
+        }
+        else
+        {
+            final Iterator<?> iterator = this._value.iterator();
+            for (int index = 0; iterator.hasNext(); index++)
+            {
+                final Object element = iterator.next();
+                if (invalidIndexes.get(index))
+                {
+                    reportFailure(RuleId.EACH_ELEMENT, element, index);
+                }
+            }
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "CollectionValidator [_maxLength=%s, _minLength=%s, _elementRule=%s, _pool=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+                _maxLength, _minLength, _elementRule, _pool, _isValidationExceptionThrownOnFail, _equalsValue,
+                getRules(), _value);
+    }
+}
@@ -0,0 +1,316 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache that evicts the least recently used entries when
+ * it grows past its max size.
+ * 
+ * A hit is a lock free map read. The recency of an entry is an approximation:
+ * each insert advances a clock and a hit stamps the entry with the current
+ * clock value. The entry is only written the first time it is hit after an
+ * insert, so threads that hit the same entry do not contend. When the cache is
+ * full, one thread evicts the oldest entries down to 90% of the max size, and
+ * at least one entry, so that the cost of an eviction is spread over many
+ * inserts.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+final class ConcurrentLruCache<K, V>
+{
+
+    /*
+     * The cached entries.
+     */
+    private final ConcurrentHashMap<K, Entry<V>> _map;
+
+    /*
+     * The max number of entries.
+     */
+    private final int                            _maxSize;
+
+    /*
+     * Advances on every insert. Used to order the entries for eviction.
+     */
+    private final AtomicLong                     _clock          = new AtomicLong();
+
+    /*
+     * Only one thread evicts at a time.
+     */
+    private final ReentrantLock                  _evictionLock   = new ReentrantLock();
+
+    /*
+     * The statistics counters.
+     */
+    private final LongAdder                      _hitCount       = new LongAdder();
+    private final LongAdder                      _missCount      = new LongAdder();
+    private final LongAdder                      _evictionCount  = new LongAdder();
+
+    /**
+     * Constructor.
+     * 
+     * @param maxSize
+     *            The max number of entries. Must be greater than zero (0).
+     */
+    ConcurrentLruCache(final int maxSize)
+    {
+        if (maxSize <= 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxSize' must be greater than zero (0)."));
+        }
+        this._maxSize = maxSize;
+        this._map = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * Gets the value for the key. If the key is not in the cache, the loader is
+     * called to create the value. Threads that miss on the same key at the same
+     * time only call the loader once.
+     * 
+     * @param key
+     *            The key. Must not be null.
+     * @param loader
+     *            Creates the value for a key. Must not return null.
+     * @return The cached or the loaded value.
+     */
+    V get(final K key, final Function<? super K, ? extends V> loader)
+    {
+        Entry<V> entry = this._map.get(key);
+        if (entry != null)
+        {
+            this._hitCount.increment();
+            touch(entry);
+        }
+        else
+        {
+            this._missCount.increment();
+            entry = this._map.computeIfAbsent(key,
+                    k -> new Entry<V>(loader.apply(k), this._clock.incrementAndGet()));
+            evictIfFull();
+        }
+        return (entry._value);
+    }
+
+    /**
+     * Gets the value for the key.
+     * 
+     * @param key
+     *            The key. Must not be null.
+     * @return The cached value or null if the key is not in the cache.
+     */
+    V getIfPresent(final K key)
+    {
+        V retVal = null;
+        final Entry<V> entry = this._map.get(key);
+        if (entry != null)
+        {
+            this._hitCount.increment();
+            touch(entry);
+            retVal = entry._value;
+        }
+        else
+        {
+            this._missCount.increment();
+        }
+        return (retVal);
+    }
+
+    /**
+     * Adds or replaces the value for the key.
+     * 
+     * @param key
+     *            The key. Must not be null.
+     * @param value
+     *            The value. Must not be null.
+     */
+    void put(final K key, final V value)
+    {
+        this._map.put(key, new Entry<V>(value, this._clock.incrementAndGet()));
+        evictIfFull();
+    }
+
+    /**
+     * Removes the key if it is mapped to the value.
+     * 
+     * @param key
+     *            The key.
+     * @param value
+     *            The value that the key must be mapped to.
+     * @return true if the entry was removed.
+     */
+    boolean remove(final K key, final V value)
+    {
+        final Entry<V> entry = this._map.get(key);
+        return (entry != null && entry._value == value && this._map.remove(key, entry));
+    }
+
+    /**
+     * Removes all of the entries. The statistics are not reset.
+     */
+    void clear()
+    {
+        this._map.clear();
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    int size()
+    {
+        return (this._map.size());
+    }
+
+    /**
+     * @return The max number of entries.
+     */
+    int getMaxSize()
+    {
+        return (this._maxSize);
+    }
+
+    /**
+     * @return The number of lookups that found a value.
+     */
+    long getHitCount()
+    {
+        return (this._hitCount.sum());
+    }
+
+    /**
+     * @return The number of lookups that did not find a value.
+     */
+    long getMissCount()
+    {
+        return (this._missCount.sum());
+    }
+
+    /**
+     * @return The number of entries that were evicted.
+     */
+    long getEvictionCount()
+    {
+        return (this._evictionCount.sum());
+    }
+
+    /*
+     * Stamps the entry with the current clock value.
+     */
+    private void touch(final Entry<V> entry)
+    {
+        final long now = this._clock.get();
+        if (entry._lastAccess != now)
+        {
+            entry._lastAccess = now;
+        }
+    }
+
+    /*
+     * Evicts the oldest entries if the cache is full. If another thread is
+     * already evicting, this thread does not wait.
+     */
+    private void evictIfFull()
+    {
+        if (this._map.size() > this._maxSize && this._evictionLock.tryLock())
+        {
+            try
+            {
+                final int size = this._map.size();
+                if (size > this._maxSize)
+                {
+                    final int target = this._maxSize - Math.max(1, this._maxSize / 10);
+
+                    /*
+                     * Other threads can stamp an entry while it is sorted, so
+                     * the stamps are copied first and the copies are sorted.
+                     */
+                    final List<Map.Entry<K, Entry<V>>> entries = new ArrayList<>(size + 16);
+                    entries.addAll(this._map.entrySet());
+                    final long[] stamps = new long[entries.size()];
+                    for (int i = 0; i < stamps.length; i++)
+                    {
+                        stamps[i] = entries.get(i).getValue()._lastAccess;
+                    }
+
+                    int count = size - target;
+                    if (count > 0 && stamps.length > 0)
+                    {
+                        final long[] sorted = stamps.clone();
+                        Arrays.sort(sorted);
+                        final long oldest = sorted[Math.min(count, sorted.length) - 1];
+
+                        for (int i = 0; i < stamps.length && count > 0; i++)
+                        {
+                            final Map.Entry<K, Entry<V>> entry = entries.get(i);
+                            if (stamps[i] <= oldest && this._map.remove(entry.getKey(), entry.getValue()))
+                            {
+                                this._evictionCount.increment();
+                                count--;
+                            }
+                        }
+                    }
+                }
+            }
+            finally
+            {
+                this._evictionLock.unlock();
+            }
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "ConcurrentLruCache [_maxSize=%s, size=%s, _hitCount=%s, _missCount=%s, _evictionCount=%s]",
+                _maxSize, size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    /*
+     * A cached value and the clock value of its last access.
+     */
+    private static final class Entry<V>
+    {
+        private final V       _value;
+        private volatile long _lastAccess;
+
+        private Entry(final V value, final long lastAccess)
+        {
+            this._value = value;
+            this._lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,616 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This is a delimited file validator. The file is memory mapped and each field
+ * is validated in place with a compiled rule, so the file is not read into
+ * Strings. After this class is created, call the testXXXX() methods to set the
+ * rule of each field and then call validate() with a listener that receives
+ * the location of each failure.
+ * 
+ *      long failures = Validate.defineDelimitedFile(path).delimiter(',').skipLines(1)
+ *          .testFieldCount(3)
+ *          .testField(0, Validate.defineLongRule().isPositiveValue().build())
+ *          .testField(1, Validate.defineStringRule().testNotNullEmpty().testMaxLength(64).build())
+ *          .testField(2, Validate.defineDoubleRule().testMinValue(0.0).build())
+ *          .validate((offset, line, field, ruleId) -> ...);
+ *
+ * A record ends with a '\n' or a "\r\n". Empty lines are skipped. The fields
+ * are split on a single byte delimiter and quotes are not supported.
+ * 
+ * A field is tested without being copied:
+ * 
+ * - An int or long field is parsed from the bytes. A field that is not a
+ *   decimal number fails with IS_NUMBER.
+ * - A double field is parsed from the bytes if it has no exponent and at most
+ *   15 digits. Any other double field is decoded into a String and parsed
+ *   with Double.parseDouble().
+ * - An ASCII string field is tested through a CharSequence view of the bytes.
+ *   A field that is not ASCII is decoded from UTF-8 into a String.
+ * 
+ * A field that a record does not have is tested as a null value. The file is
+ * mapped a region at a time, up to 1 GB, and a record must fit in one region.
+ * The file must not be changed while it is validated.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class DelimitedFileValidator
+{
+
+    /*
+     * The max number of bytes that are mapped at a time.
+     */
+    static final int           DEFAULT_MAX_MAPPED_SIZE = 1 << 30;
+
+    /*
+     * The kinds of field rules.
+     */
+    private static final byte  KIND_NONE               = 0;
+    private static final byte  KIND_STRING             = 1;
+    private static final byte  KIND_INT                = 2;
+    private static final byte  KIND_LONG               = 3;
+    private static final byte  KIND_DOUBLE             = 4;
+
+    /*
+     * The powers of ten that are exact doubles.
+     */
+    private static final double[] POWERS_OF_TEN        = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /*
+     * The file to validate.
+     */
+    private final Path         _path;
+
+    /*
+     * The byte that splits the fields. Defaults to a comma.
+     */
+    private byte               _delimiter              = ',';
+
+    /*
+     * The number of lines at the start of the file that are not validated.
+     */
+    private long               _skipLines              = 0L;
+
+    /*
+     * The number of fields a record must have, or -1 if it is not tested.
+     */
+    private int                _fieldCount             = -1;
+
+    /*
+     * The rule of each field by index and its kind.
+     */
+    private ValidationRule<?>[] _fieldRules            = new ValidationRule<?>[0];
+    private byte[]             _fieldKinds             = new byte[0];
+
+    /*
+     * The max number of bytes that are mapped at a time.
+     */
+    private int                _maxMappedSize          = DEFAULT_MAX_MAPPED_SIZE;
+
+    /*
+     * The view of a string field.
+     */
+    private final AsciiSequence _sequence              = new AsciiSequence();
+
+    /*
+     * The listener and the number of failures of the current validate() call.
+     */
+    private FileValidationListener _listener;
+    private long               _failureCount;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param path
+     *            The file that will be validated.
+     */
+    protected DelimitedFileValidator(final Path path)
+    {
+        if (path == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'path' must not be null."));
+        }
+        this._path = path;
+    }
+
+    /**
+     * Sets the byte that splits the fields of a record. Defaults to a comma.
+     * 
+     * @param delimiter
+     *            An ASCII char that is not a '\r' or a '\n'.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator delimiter(final char delimiter)
+    {
+        if (delimiter > 0x7F || delimiter == '\r' || delimiter == '\n')
+        {
+            throw (new IllegalArgumentException("The parameter 'delimiter' must be an ASCII char that does not end a line."));
+        }
+        this._delimiter = (byte) delimiter;
+        return (this);
+    }
+
+    /**
+     * Sets the number of lines at the start of the file, such as a header, that
+     * are not validated.
+     * 
+     * @param skipLines
+     *            The number of lines to skip.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator skipLines(final long skipLines)
+    {
+        if (skipLines < 0L)
+        {
+            throw (new IllegalArgumentException("The parameter 'skipLines' must not be negative."));
+        }
+        this._skipLines = skipLines;
+        return (this);
+    }
+
+    /**
+     * A method to mark that every record must have a number of fields.
+     * 
+     * @param fieldCount
+     *            The number of fields.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator testFieldCount(final int fieldCount)
+    {
+        if (fieldCount < 1)
+        {
+            throw (new IllegalArgumentException("The parameter 'fieldCount' must be greater than zero (0)."));
+        }
+        this._fieldCount = fieldCount;
+        return (this);
+    }
+
+    /**
+     * Sets the rule of a string field.
+     * 
+     * @param field
+     *            The index of the field. The first field is 0.
+     * @param rule
+     *            The rule to test the field with.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator testField(final int field, final StringRule rule)
+    {
+        return (setFieldRule(field, rule, KIND_STRING));
+    }
+
+    /**
+     * Sets the rule of an int field.
+     * 
+     * @param field
+     *            The index of the field. The first field is 0.
+     * @param rule
+     *            The rule to test the field with.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator testField(final int field, final IntRule rule)
+    {
+        return (setFieldRule(field, rule, KIND_INT));
+    }
+
+    /**
+     * Sets the rule of a long field.
+     * 
+     * @param field
+     *            The index of the field. The first field is 0.
+     * @param rule
+     *            The rule to test the field with.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator testField(final int field, final LongRule rule)
+    {
+        return (setFieldRule(field, rule, KIND_LONG));
+    }
+
+    /**
+     * Sets the rule of a double field.
+     * 
+     * @param field
+     *            The index of the field. The first field is 0.
+     * @param rule
+     *            The rule to test the field with.
+     * @return The same DelimitedFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public DelimitedFileValidator testField(final int field, final DoubleRule rule)
+    {
+        return (setFieldRule(field, rule, KIND_DOUBLE));
+    }
+
+    /*
+     * Sets the rule of a field.
+     */
+    private DelimitedFileValidator setFieldRule(final int field, final ValidationRule<?> rule, final byte kind)
+    {
+        if (field < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'field' must not be negative."));
+        }
+        else if (rule == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'rule' must not be null."));
+        }
+        if (field >= this._fieldRules.length)
+        {
+            this._fieldRules = Arrays.copyOf(this._fieldRules, field + 1);
+            this._fieldKinds = Arrays.copyOf(this._fieldKinds, field + 1);
+        }
+        this._fieldRules[field] = rule;
+        this._fieldKinds[field] = kind;
+        return (this);
+    }
+
+    /*
+     * Sets the max number of bytes that are mapped at a time.
+     */
+    DelimitedFileValidator maxMappedSize(final int maxMappedSize)
+    {
+        assert (maxMappedSize > 0) : "The parameter 'maxMappedSize' must be greater than zero (0).";
+
+        this._maxMappedSize = maxMappedSize;
+        return (this);
+    }
+
+    /**
+     * Validates every record of the file. The failures are passed to the
+     * listener as they are found.
+     * 
+     * @param listener
+     *            Receives the location of each failure.
+     * @return The number of failures. Zero if the file is valid.
+     * @throws IOException
+     *             If the file can not be read, or if a record does not fit in
+     *             the max mapped size.
+     */
+    public long validate(final FileValidationListener listener) throws IOException
+    {
+        if (listener == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'listener' must not be null."));
+        }
+        this._listener = listener;
+        this._failureCount = 0L;
+        try (FileChannel channel = FileChannel.open(this._path, StandardOpenOption.READ))
+        {
+            final long size = channel.size();
+            long base = 0L;
+            long line = 1L;
+            while (base < size)
+            {
+                final int length = (int) Math.min(this._maxMappedSize, size - base);
+                final boolean isLast = (base + length == size);
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+
+                // the records that end in this region.
+                int start = 0;
+                while (start < length)
+                {
+                    int end = start;
+                    while (end < length && buffer.get(end) != '\n')
+                    {
+                        end++;
+                    }
+                    if (end == length && !isLast)
+                    {
+                        break;
+                    }
+                    int recordEnd = end;
+                    if (recordEnd > start && buffer.get(recordEnd - 1) == '\r')
+                    {
+                        recordEnd--;
+                    }
+                    if (recordEnd > start && line > this._skipLines)
+                    {
+                        validateRecord(buffer, base, start, recordEnd, line);
+                    }
+                    start = end + 1;
+                    line++;
+                }
+
+                if (start == 0 && !isLast)
+                {
+                    throw (new IOException("The record at offset " + base + " is longer than the max mapped size of "
+                            + this._maxMappedSize + " bytes."));
+                }
+                base += Math.min(start, length);
+            }
+        }
+        finally
+        {
+            this._listener = null;
+        }
+        return (this._failureCount);
+    }
+
+    /*
+     * Validates the fields of one record.
+     */
+    private void validateRecord(final ByteBuffer buffer, final long base, final int start, final int end,
+            final long line)
+    {
+        final byte delimiter = this._delimiter;
+        int field = 0;
+        int fieldStart = start;
+        int bits = 0;
+        for (int i = start; i <= end; i++)
+        {
+            final int b = (i < end) ? buffer.get(i) : delimiter;
+            if (b == delimiter)
+            {
+                if (field < this._fieldKinds.length && this._fieldKinds[field] != KIND_NONE)
+                {
+                    validateField(buffer, base, fieldStart, i, (bits & 0x80) == 0, line, field);
+                }
+                field++;
+                fieldStart = i + 1;
+                bits = 0;
+            }
+            else
+            {
+                bits |= b;
+            }
+        }
+
+        // the fields that the record does not have.
+        for (int i = field; i < this._fieldKinds.length; i++)
+        {
+            if (this._fieldKinds[i] != KIND_NONE)
+            {
+                final RuleId ruleId = (this._fieldKinds[i] == KIND_STRING)
+                        ? ((StringRule) this._fieldRules[i]).getFailedRule(null)
+                        : RuleId.NOT_NULL;
+                if (ruleId != null)
+                {
+                    fail(base + end, line, i, ruleId);
+                }
+            }
+        }
+
+        if (this._fieldCount >= 0 && field != this._fieldCount)
+        {
+            fail(base + start, line, field, RuleId.FIELD_COUNT);
+        }
+    }
+
+    /*
+     * Validates one field.
+     */
+    private void validateField(final ByteBuffer buffer, final long base, final int start, final int end,
+            final boolean isAscii, final long line, final int field)
+    {
+        final RuleId ruleId;
+        switch (this._fieldKinds[field])
+        {
+            case KIND_STRING:
+            {
+                final CharSequence value = isAscii ? this._sequence.reset(buffer, start, end - start)
+                        : decode(buffer, start, end);
+                ruleId = ((StringRule) this._fieldRules[field]).getFailedRule(value);
+                break;
+            }
+            case KIND_INT:
+            {
+                final IntRule rule = (IntRule) this._fieldRules[field];
+                final long value = parseLong(buffer, start, end);
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+                {
+                    ruleId = RuleId.IS_NUMBER;
+                }
+                else
+                {
+                    ruleId = rule.isInRange((int) value) ? null : rule.getFailedRule((int) value);
+                }
+                break;
+            }
+            case KIND_LONG:
+            {
+                final LongRule rule = (LongRule) this._fieldRules[field];
+                final long value = parseLong(buffer, start, end);
+                if (value == Long.MIN_VALUE && !isLongMinValue(buffer, start, end))
+                {
+                    ruleId = RuleId.IS_NUMBER;
+                }
+                else
+                {
+                    ruleId = rule.isInRange(value) ? null : rule.getFailedRule(value);
+                }
+                break;
+            }
+            default:
+            {
+                final DoubleRule rule = (DoubleRule) this._fieldRules[field];
+                final double value = parseDouble(buffer, start, end);
+                if (Double.isNaN(value) && !isNaN(buffer, start, end))
+                {
+                    ruleId = RuleId.IS_NUMBER;
+                }
+                else
+                {
+                    ruleId = rule.isInRange(value) ? null : rule.getFailedRule(value);
+                }
+                break;
+            }
+        }
+        if (ruleId != null)
+        {
+            fail(base + start, line, field, ruleId);
+        }
+    }
+
+    /*
+     * Passes a failure to the listener.
+     */
+    private void fail(final long offset, final long line, final int field, final RuleId ruleId)
+    {
+        this._failureCount++;
+        this._listener.onFailure(offset, line, field, ruleId);
+    }
+
+    /*
+     * Parses a decimal long from the bytes of a field.
+     * 
+     * @return The value, or Long.MIN_VALUE if the field is not a long.
+     */
+    static long parseLong(final ByteBuffer buffer, final int start, final int end)
+    {
+        int i = start;
+        final boolean isNegative = (i < end && buffer.get(i) == '-');
+        if (i < end && (isNegative || buffer.get(i) == '+'))
+        {
+            i++;
+        }
+        if (i == end)
+        {
+            return (Long.MIN_VALUE);
+        }
+
+        // the value is kept negative so that Long.MIN_VALUE can be parsed.
+        long value = 0L;
+        for (; i < end; i++)
+        {
+            final int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10)
+            {
+                return (Long.MIN_VALUE);
+            }
+            value = value * 10 - digit;
+        }
+        return (isNegative ? value : (value == Long.MIN_VALUE ? Long.MIN_VALUE : -value));
+    }
+
+    /*
+     * Tests if a field is the text of Long.MIN_VALUE.
+     */
+    private static boolean isLongMinValue(final ByteBuffer buffer, final int start, final int end)
+    {
+        return (decode(buffer, start, end).equals(Long.toString(Long.MIN_VALUE)));
+    }
+
+    /*
+     * Parses a double from the bytes of a field. A field that has no exponent
+     * and at most 15 digits is parsed from the bytes. The value is exact
+     * because the digits and the power of ten are both exact doubles and a
+     * division is correctly rounded. Any other field is parsed with
+     * Double.parseDouble().
+     * 
+     * @return The value, or NaN if the field is not a double.
+     */
+    static double parseDouble(final ByteBuffer buffer, final int start, final int end)
+    {
+        int i = start;
+        final boolean isNegative = (i < end && buffer.get(i) == '-');
+        if (i < end && (isNegative || buffer.get(i) == '+'))
+        {
+            i++;
+        }
+        long digits = 0L;
+        int digitCount = 0;
+        int fractionCount = -1;
+        boolean isSimple = (i < end);
+        for (; isSimple && i < end; i++)
+        {
+            final int b = buffer.get(i);
+            if (b >= '0' && b <= '9')
+            {
+                digits = digits * 10 + (b - '0');
+                digitCount++;
+                if (fractionCount >= 0)
+                {
+                    fractionCount++;
+                }
+            }
+            else if (b == '.' && fractionCount < 0)
+            {
+                fractionCount = 0;
+            }
+            else
+            {
+                isSimple = false;
+            }
+        }
+        if (isSimple && digitCount > 0 && digitCount <= 15)
+        {
+            final double value = (fractionCount > 0) ? digits / POWERS_OF_TEN[fractionCount] : digits;
+            return (isNegative ? -value : value);
+        }
+
+        try
+        {
+            return (Double.parseDouble(decode(buffer, start, end)));
+        }
+        catch (final NumberFormatException e)
+        {
+            return (Double.NaN);
+        }
+    }
+
+    /*
+     * Tests if a field is the text of NaN.
+     */
+    private static boolean isNaN(final ByteBuffer buffer, final int start, final int end)
+    {
+        return (decode(buffer, start, end).trim().replaceFirst("^[+-]", "").equals("NaN"));
+    }
+
+    /*
+     * Decodes the UTF-8 bytes of a field into a String.
+     */
+    private static String decode(final ByteBuffer buffer, final int start, final int end)
+    {
+        final ByteBuffer field = buffer.duplicate();
+        field.position(start).limit(end);
+        return (StandardCharsets.UTF_8.decode(field).toString());
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "DelimitedFileValidator [_path=%s, _delimiter=%s, _skipLines=%s, _fieldCount=%s, _fieldRules=%s]",
+                _path, (char) _delimiter, _skipLines, _fieldCount, Arrays.toString(_fieldRules));
+    }
+}
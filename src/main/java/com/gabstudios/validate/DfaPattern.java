@@ -0,0 +1,1008 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression that is matched with a DFA. The DFA is built lazily:
+ * a state is only created the first time a value reaches it, and then it is
+ * cached. A match reads each char once and follows one cached transition, so
+ * it takes linear time in the length of the value and does not allocate once
+ * the states it needs are cached. The number of cached states is bounded; when
+ * the bound is reached the cache is cleared and the states are built again.
+ * 
+ *      DfaPattern pattern = DfaPattern.compile("[a-z]+(\\.[a-z]+)*");
+ *      boolean retVal = pattern.matches(myString);
+ *
+ * The DFA supports the regular subset of the java.util.regex syntax: literals,
+ * '.', char classes with ranges and negation, the \d \D \s \S \w \W escapes,
+ * groups, alternation, the greedy and reluctant quantifiers and a '^' or a '$'
+ * at the start or the end of the pattern. A pattern that uses any other
+ * feature, such as a backreference, a lookaround, a possessive quantifier, an
+ * inline flag or a boundary, is matched with java.util.regex instead. Use
+ * isLinearTime() to find out which engine a pattern uses.
+ * 
+ * A DfaPattern is thread safe. Like Matcher.matches(), the whole value must
+ * match.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class DfaPattern
+{
+
+    /*
+     * The max number of NFA states. A larger pattern, usually from a large
+     * bounded repeat, falls back to java.util.regex.
+     */
+    static final int                MAX_NFA_STATES = 10000;
+
+    /*
+     * The max number of cached DFA states before the cache is cleared.
+     */
+    static final int                MAX_DFA_STATES = 4096;
+
+    /*
+     * The kinds of NFA state.
+     */
+    private static final byte       CHAR           = 0;
+    private static final byte       SPLIT          = 1;
+    private static final byte       MATCH          = 2;
+
+    /*
+     * The code points that '.' matches, which are all but the line terminators.
+     */
+    private static final int[]      DOT            = complement(union(union(range(0x0A, 0x0A), range(0x0D, 0x0D)),
+            union(range(0x85, 0x85), range(0x2028, 0x2029))));
+
+    private static final int[]      DIGIT          = range('0', '9');
+    private static final int[]      WORD           = union(union(range('a', 'z'), range('A', 'Z')),
+            union(range('0', '9'), range('_', '_')));
+    private static final int[]      SPACE          = union(range(' ', ' '), range('\t', '\r'));
+
+    /*
+     * The regular expression.
+     */
+    private final String            _regex;
+
+    /*
+     * The java.util.regex pattern if the DFA does not support the regular
+     * expression, or null.
+     */
+    private final Pattern           _fallback;
+
+    /*
+     * The NFA. A CHAR state moves to _out1 on a code point in its set. A SPLIT
+     * state moves to both _out1 and _out2 without reading a code point.
+     */
+    private final byte[]            _types;
+    private final int[]             _out1;
+    private final int[]             _out2;
+    private final int[][]           _sets;
+    private final int               _nfaStart;
+
+    /*
+     * The alphabet. A code point is in the class of the last bound that is
+     * less than or equal to it. The classes of the ASCII code points are kept
+     * in a table.
+     */
+    private final int[]             _bounds;
+    private final int[]             _asciiClasses;
+
+    /*
+     * The cached DFA states by NFA state set, and the state that no value can
+     * leave.
+     */
+    private final Map<Key, State>   _states;
+    private final State             _dead;
+
+    /*
+     * The start state. It is replaced when the cache is cleared.
+     */
+    private volatile State          _start;
+
+    /*
+     * Private constructor. Use the compile() method.
+     */
+    private DfaPattern(final String regex, final Pattern fallback, final Nfa nfa)
+    {
+        this._regex = regex;
+        this._fallback = fallback;
+        if (nfa == null)
+        {
+            this._types = null;
+            this._out1 = null;
+            this._out2 = null;
+            this._sets = null;
+            this._nfaStart = -1;
+            this._bounds = null;
+            this._asciiClasses = null;
+            this._states = null;
+            this._dead = null;
+            this._start = null;
+        }
+        else
+        {
+            final int size = nfa._types.size();
+            this._types = new byte[size];
+            this._out1 = new int[size];
+            this._out2 = new int[size];
+            this._sets = new int[size][];
+            for (int i = 0; i < size; i++)
+            {
+                this._types[i] = nfa._types.get(i);
+                this._out1[i] = nfa._out1.get(i);
+                this._out2[i] = nfa._out2.get(i);
+                this._sets[i] = nfa._sets.get(i);
+            }
+            this._nfaStart = nfa._start;
+
+            // the bounds of every set split the code points into classes.
+            final TreeSet<Integer> bounds = new TreeSet<>();
+            bounds.add(0);
+            for (final int[] set : this._sets)
+            {
+                if (set != null)
+                {
+                    for (int i = 0; i < set.length; i += 2)
+                    {
+                        bounds.add(set[i]);
+                        if (set[i + 1] < Character.MAX_CODE_POINT)
+                        {
+                            bounds.add(set[i + 1] + 1);
+                        }
+                    }
+                }
+            }
+            this._bounds = bounds.stream().mapToInt(Integer::intValue).toArray();
+            this._asciiClasses = new int[128];
+            for (int c = 0; c < 128; c++)
+            {
+                this._asciiClasses[c] = findClass(c);
+            }
+
+            this._states = new HashMap<>();
+            this._dead = new State(new int[0], false, this._bounds.length);
+            this._start = newStart();
+        }
+    }
+
+    /**
+     * Compiles a regular expression. The syntax is checked by java.util.regex
+     * first, so a regular expression that is not valid throws the same
+     * exception as Pattern.compile().
+     * 
+     * @param regex
+     *            The regular expression. Must not be null.
+     * @return A <code>DfaPattern</code> instance.
+     * @throws java.util.regex.PatternSyntaxException
+     *             If the regular expression is not valid.
+     */
+    public static DfaPattern compile(final String regex)
+    {
+        if (regex == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'regex' must not be null."));
+        }
+        final Pattern pattern = Pattern.compile(regex);
+        Nfa nfa;
+        try
+        {
+            nfa = new Nfa(new Parser(regex).parse());
+        }
+        catch (final UnsupportedOperationException e)
+        {
+            nfa = null;
+        }
+        return (nfa == null ? new DfaPattern(regex, pattern, null) : new DfaPattern(regex, null, nfa));
+    }
+
+    /**
+     * Gets if the pattern is matched with the DFA. If false, the pattern uses
+     * a feature that the DFA does not support and it is matched with
+     * java.util.regex.
+     * 
+     * @return A boolean value that is true if a match takes linear time.
+     */
+    public boolean isLinearTime()
+    {
+        return (this._fallback == null);
+    }
+
+    /**
+     * Gets the regular expression.
+     * 
+     * @return The regular expression that was compiled.
+     */
+    public String pattern()
+    {
+        return (this._regex);
+    }
+
+    /**
+     * Tests if a whole value matches.
+     * 
+     * @param value
+     *            The value to test. Must not be null.
+     * @return A boolean value that is true if the value matches.
+     */
+    public boolean matches(final CharSequence value)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        return (matches(value, 0, value.length()));
+    }
+
+    /**
+     * Tests if a whole region of a value matches.
+     * 
+     * @param value
+     *            The value to test. Must not be null.
+     * @param start
+     *            The index of the first char of the region, inclusive.
+     * @param end
+     *            The index of the last char of the region, exclusive.
+     * @return A boolean value that is true if the region matches.
+     */
+    public boolean matches(final CharSequence value, final int start, final int end)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        else if (start < 0 || start > end || end > value.length())
+        {
+            throw (new IllegalArgumentException("The region [" + start + ", " + end
+                    + ") is not inside of a CharSequence with a length of " + value.length() + "."));
+        }
+        if (this._fallback != null)
+        {
+            return (this._fallback.matcher(value).region(start, end).matches());
+        }
+
+        State state = this._start;
+        int i = start;
+        while (i < end)
+        {
+            int codePoint = value.charAt(i++);
+            if (Character.isHighSurrogate((char) codePoint) && i < end && Character.isLowSurrogate(value.charAt(i)))
+            {
+                codePoint = Character.toCodePoint((char) codePoint, value.charAt(i++));
+            }
+            final int charClass = (codePoint < 128) ? this._asciiClasses[codePoint] : findClass(codePoint);
+            State next = state._next[charClass];
+            if (next == null)
+            {
+                next = step(state, charClass);
+            }
+            if (next == this._dead)
+            {
+                return (false);
+            }
+            state = next;
+        }
+        return (state._isMatch);
+    }
+
+    /*
+     * Gets the class of a code point.
+     */
+    private int findClass(final int codePoint)
+    {
+        final int index = Arrays.binarySearch(this._bounds, codePoint);
+        return (index >= 0 ? index : -index - 2);
+    }
+
+    /*
+     * Creates the transition of a state on a class and caches it.
+     */
+    private synchronized State step(final State state, final int charClass)
+    {
+        State retVal = state._next[charClass];
+        if (retVal == null)
+        {
+            final int representative = this._bounds[charClass];
+            final BitSet next = new BitSet(this._types.length);
+            for (final int nfaState : state._nfaStates)
+            {
+                if (this._types[nfaState] == CHAR && contains(this._sets[nfaState], representative))
+                {
+                    addClosure(next, this._out1[nfaState]);
+                }
+            }
+            if (this._states.size() >= MAX_DFA_STATES)
+            {
+                // the states that a match is using stay valid.
+                this._states.clear();
+                this._start = newStart();
+            }
+            retVal = intern(next);
+            state._next[charClass] = retVal;
+        }
+        return (retVal);
+    }
+
+    /*
+     * Creates the start state.
+     */
+    private State newStart()
+    {
+        final BitSet start = new BitSet(this._types.length);
+        addClosure(start, this._nfaStart);
+        return (intern(start));
+    }
+
+    /*
+     * Gets the cached state of a set of NFA states.
+     */
+    private State intern(final BitSet nfaStates)
+    {
+        if (nfaStates.isEmpty())
+        {
+            return (this._dead);
+        }
+        final int[] states = nfaStates.stream().toArray();
+        final Key key = new Key(states);
+        State retVal = this._states.get(key);
+        if (retVal == null)
+        {
+            boolean isMatch = false;
+            for (final int nfaState : states)
+            {
+                isMatch |= (this._types[nfaState] == MATCH);
+            }
+            retVal = new State(states, isMatch, this._bounds.length);
+            this._states.put(key, retVal);
+        }
+        return (retVal);
+    }
+
+    /*
+     * Adds a state and every state that it reaches without reading a code
+     * point. Only the CHAR and MATCH states are kept.
+     */
+    private void addClosure(final BitSet states, final int start)
+    {
+        final BitSet visited = new BitSet(this._types.length);
+        final int[] stack = new int[this._types.length + 1];
+        int top = 0;
+        stack[top++] = start;
+        while (top > 0)
+        {
+            final int state = stack[--top];
+            if (!visited.get(state))
+            {
+                visited.set(state);
+                if (this._types[state] == SPLIT)
+                {
+                    stack[top++] = this._out2[state];
+                    stack[top++] = this._out1[state];
+                }
+                else
+                {
+                    states.set(state);
+                }
+            }
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (this._regex);
+    }
+
+    /*
+     * Tests if a code point is in a set of ranges.
+     */
+    private static boolean contains(final int[] set, final int codePoint)
+    {
+        for (int i = 0; i < set.length; i += 2)
+        {
+            if (codePoint < set[i])
+            {
+                return (false);
+            }
+            else if (codePoint <= set[i + 1])
+            {
+                return (true);
+            }
+        }
+        return (false);
+    }
+
+    /*
+     * Creates a set of one range.
+     */
+    private static int[] range(final int from, final int to)
+    {
+        return (new int[] { from, to });
+    }
+
+    /*
+     * Creates the union of two sets of sorted ranges.
+     */
+    static int[] union(final int[] set1, final int[] set2)
+    {
+        final int[] all = new int[set1.length + set2.length];
+        System.arraycopy(set1, 0, all, 0, set1.length);
+        System.arraycopy(set2, 0, all, set1.length, set2.length);
+
+        // sort the ranges by start and merge the ranges that overlap or touch.
+        final long[] ranges = new long[all.length / 2];
+        for (int i = 0; i < ranges.length; i++)
+        {
+            ranges[i] = ((long) all[2 * i] << 32) | all[2 * i + 1];
+        }
+        Arrays.sort(ranges);
+        final int[] retVal = new int[all.length];
+        int size = 0;
+        for (final long range : ranges)
+        {
+            final int from = (int) (range >>> 32);
+            final int to = (int) range;
+            if (size > 0 && from <= retVal[size - 1] + 1)
+            {
+                retVal[size - 1] = Math.max(retVal[size - 1], to);
+            }
+            else
+            {
+                retVal[size++] = from;
+                retVal[size++] = to;
+            }
+        }
+        return (Arrays.copyOf(retVal, size));
+    }
+
+    /*
+     * Creates the complement of a set of sorted ranges.
+     */
+    static int[] complement(final int[] set)
+    {
+        final int[] retVal = new int[set.length + 2];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < set.length; i += 2)
+        {
+            if (set[i] > next)
+            {
+                retVal[size++] = next;
+                retVal[size++] = set[i] - 1;
+            }
+            next = set[i + 1] + 1;
+        }
+        if (next <= Character.MAX_CODE_POINT)
+        {
+            retVal[size++] = next;
+            retVal[size++] = Character.MAX_CODE_POINT;
+        }
+        return (Arrays.copyOf(retVal, size));
+    }
+
+    /*
+     * A DFA state. The fields are final, so a state that is read from the
+     * transitions of another state without a lock is fully built.
+     */
+    private static final class State
+    {
+        private final int[]   _nfaStates;
+        private final boolean _isMatch;
+        private final State[] _next;
+
+        private State(final int[] nfaStates, final boolean isMatch, final int classCount)
+        {
+            this._nfaStates = nfaStates;
+            this._isMatch = isMatch;
+            this._next = new State[classCount];
+        }
+    }
+
+    /*
+     * The key of a cached state.
+     */
+    private static final class Key
+    {
+        private final int[] _states;
+        private final int   _hashCode;
+
+        private Key(final int[] states)
+        {
+            this._states = states;
+            this._hashCode = Arrays.hashCode(states);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this._hashCode);
+        }
+
+        @Override
+        public boolean equals(final Object other)
+        {
+            return (other instanceof Key && Arrays.equals(this._states, ((Key) other)._states));
+        }
+    }
+
+    /*
+     * A node of the syntax tree.
+     */
+    private static final class Node
+    {
+        private static final int SET    = 0;
+        private static final int CONCAT = 1;
+        private static final int ALTERNATE = 2;
+        private static final int REPEAT = 3;
+
+        private final int        _kind;
+        private final int[]      _set;
+        private final List<Node> _children;
+        private final int        _min;
+        private final int        _max;
+
+        private Node(final int kind, final int[] set, final List<Node> children, final int min, final int max)
+        {
+            this._kind = kind;
+            this._set = set;
+            this._children = children;
+            this._min = min;
+            this._max = max;
+        }
+    }
+
+    /*
+     * Parses the regular subset of the java.util.regex syntax. Throws an
+     * UnsupportedOperationException for any other feature. The regular
+     * expression has already been checked by Pattern.compile().
+     */
+    private static final class Parser
+    {
+        private final String _regex;
+        private int          _index;
+
+        private Parser(final String regex)
+        {
+            this._regex = regex;
+        }
+
+        private Node parse()
+        {
+            // a '^' at the start and a '$' at the end do not change a whole match.
+            int end = this._regex.length();
+            if (this._regex.startsWith("^"))
+            {
+                this._index = 1;
+            }
+            if (end > this._index && this._regex.charAt(end - 1) == '$' && !isEscaped(end - 1))
+            {
+                end--;
+            }
+            final Node retVal = parseAlternate(end);
+            if (this._index != end)
+            {
+                throw (new UnsupportedOperationException(this._regex));
+            }
+            return (retVal);
+        }
+
+        private boolean isEscaped(final int index)
+        {
+            int count = 0;
+            for (int i = index - 1; i >= 0 && this._regex.charAt(i) == '\\'; i--)
+            {
+                count++;
+            }
+            return (count % 2 == 1);
+        }
+
+        private Node parseAlternate(final int end)
+        {
+            final List<Node> children = new ArrayList<>();
+            children.add(parseConcat(end));
+            while (this._index < end && this._regex.charAt(this._index) == '|')
+            {
+                this._index++;
+                children.add(parseConcat(end));
+            }
+            return (children.size() == 1 ? children.get(0) : new Node(Node.ALTERNATE, null, children, 0, 0));
+        }
+
+        private Node parseConcat(final int end)
+        {
+            final List<Node> children = new ArrayList<>();
+            while (this._index < end)
+            {
+                final char c = this._regex.charAt(this._index);
+                if (c == '|' || c == ')')
+                {
+                    break;
+                }
+                children.add(parseRepeat(parseAtom(end), end));
+            }
+            return (new Node(Node.CONCAT, null, children, 0, 0));
+        }
+
+        private Node parseRepeat(final Node atom, final int end)
+        {
+            Node retVal = atom;
+            while (this._index < end)
+            {
+                final char c = this._regex.charAt(this._index);
+                int min;
+                int max;
+                if (c == '*')
+                {
+                    min = 0;
+                    max = -1;
+                    this._index++;
+                }
+                else if (c == '+')
+                {
+                    min = 1;
+                    max = -1;
+                    this._index++;
+                }
+                else if (c == '?')
+                {
+                    min = 0;
+                    max = 1;
+                    this._index++;
+                }
+                else if (c == '{')
+                {
+                    final int close = this._regex.indexOf('}', this._index);
+                    final String bounds = this._regex.substring(this._index + 1, close);
+                    final int comma = bounds.indexOf(',');
+                    if (comma < 0)
+                    {
+                        min = Integer.parseInt(bounds.trim());
+                        max = min;
+                    }
+                    else
+                    {
+                        min = Integer.parseInt(bounds.substring(0, comma).trim());
+                        final String upper = bounds.substring(comma + 1).trim();
+                        max = upper.isEmpty() ? -1 : Integer.parseInt(upper);
+                    }
+                    this._index = close + 1;
+                }
+                else
+                {
+                    break;
+                }
+
+                if (this._index < end && this._regex.charAt(this._index) == '+')
+                {
+                    // a possessive quantifier.
+                    throw (new UnsupportedOperationException(this._regex));
+                }
+                else if (this._index < end && this._regex.charAt(this._index) == '?')
+                {
+                    // a reluctant quantifier gives the same whole match.
+                    this._index++;
+                }
+                if (Math.max(min, max) > MAX_NFA_STATES)
+                {
+                    throw (new UnsupportedOperationException(this._regex));
+                }
+                retVal = new Node(Node.REPEAT, null, List.of(retVal), min, max);
+            }
+            return (retVal);
+        }
+
+        private Node parseAtom(final int end)
+        {
+            final char c = this._regex.charAt(this._index);
+            final Node retVal;
+            if (c == '(')
+            {
+                this._index++;
+                if (this._regex.startsWith("?:", this._index))
+                {
+                    this._index += 2;
+                }
+                else if (this._regex.startsWith("?<", this._index) && this._index + 2 < end
+                        && Character.isLetter(this._regex.charAt(this._index + 2)))
+                {
+                    // a named group.
+                    this._index = this._regex.indexOf('>', this._index) + 1;
+                }
+                else if (this._regex.startsWith("?", this._index))
+                {
+                    // a lookaround, an inline flag or an atomic group.
+                    throw (new UnsupportedOperationException(this._regex));
+                }
+                retVal = parseAlternate(end);
+                if (this._index >= end || this._regex.charAt(this._index) != ')')
+                {
+                    throw (new UnsupportedOperationException(this._regex));
+                }
+                this._index++;
+            }
+            else if (c == '[')
+            {
+                retVal = set(parseClass());
+            }
+            else if (c == '.')
+            {
+                this._index++;
+                retVal = set(DOT);
+            }
+            else if (c == '\\')
+            {
+                retVal = set(parseEscape());
+            }
+            else if (c == '^' || c == '$')
+            {
+                throw (new UnsupportedOperationException(this._regex));
+            }
+            else
+            {
+                final int codePoint = this._regex.codePointAt(this._index);
+                this._index += Character.charCount(codePoint);
+                retVal = set(range(codePoint, codePoint));
+            }
+            return (retVal);
+        }
+
+        private int[] parseClass()
+        {
+            // skip the '['.
+            this._index++;
+            boolean isNegated = false;
+            if (this._regex.charAt(this._index) == '^')
+            {
+                isNegated = true;
+                this._index++;
+            }
+            int[] retVal = new int[0];
+            boolean isFirst = true;
+            while (true)
+            {
+                final char c = this._regex.charAt(this._index);
+                if (c == ']' && !isFirst)
+                {
+                    this._index++;
+                    break;
+                }
+                else if (c == '[' || this._regex.startsWith("&&", this._index))
+                {
+                    // a nested class or an intersection.
+                    throw (new UnsupportedOperationException(this._regex));
+                }
+                isFirst = false;
+
+                final int[] item;
+                if (c == '\\')
+                {
+                    item = parseEscape();
+                }
+                else
+                {
+                    final int codePoint = this._regex.codePointAt(this._index);
+                    this._index += Character.charCount(codePoint);
+                    item = range(codePoint, codePoint);
+                }
+
+                // a range such as a-z.
+                if (item.length == 2 && item[0] == item[1] && this._regex.charAt(this._index) == '-'
+                        && this._regex.charAt(this._index + 1) != ']')
+                {
+                    this._index++;
+                    final int[] to;
+                    if (this._regex.charAt(this._index) == '\\')
+                    {
+                        to = parseEscape();
+                    }
+                    else
+                    {
+                        final int codePoint = this._regex.codePointAt(this._index);
+                        this._index += Character.charCount(codePoint);
+                        to = range(codePoint, codePoint);
+                    }
+                    if (to.length != 2 || to[0] != to[1])
+                    {
+                        throw (new UnsupportedOperationException(this._regex));
+                    }
+                    retVal = union(retVal, range(item[0], to[0]));
+                }
+                else
+                {
+                    retVal = union(retVal, item);
+                }
+            }
+            return (isNegated ? complement(retVal) : retVal);
+        }
+
+        private int[] parseEscape()
+        {
+            // skip the '\'.
+            this._index++;
+            final char c = this._regex.charAt(this._index++);
+            final int[] retVal;
+            switch (c)
+            {
+                case 'd':
+                    retVal = DIGIT;
+                    break;
+                case 'D':
+                    retVal = complement(DIGIT);
+                    break;
+                case 'w':
+                    retVal = WORD;
+                    break;
+                case 'W':
+                    retVal = complement(WORD);
+                    break;
+                case 's':
+                    retVal = SPACE;
+                    break;
+                case 'S':
+                    retVal = complement(SPACE);
+                    break;
+                case 't':
+                    retVal = range('\t', '\t');
+                    break;
+                case 'n':
+                    retVal = range('\n', '\n');
+                    break;
+                case 'r':
+                    retVal = range('\r', '\r');
+                    break;
+                case 'f':
+                    retVal = range('\f', '\f');
+                    break;
+                case 'a':
+                    retVal = range('\u0007', '\u0007');
+                    break;
+                case 'e':
+                    retVal = range('\u001B', '\u001B');
+                    break;
+                case 'x':
+                    retVal = hex(2);
+                    break;
+                case 'u':
+                    retVal = hex(4);
+                    break;
+                default:
+                    if (Character.isLetterOrDigit(c))
+                    {
+                        // a backreference, a boundary, a property or a quote.
+                        throw (new UnsupportedOperationException(this._regex));
+                    }
+                    retVal = range(c, c);
+                    break;
+            }
+            return (retVal);
+        }
+
+        private int[] hex(final int length)
+        {
+            if (this._regex.charAt(this._index) == '{')
+            {
+                throw (new UnsupportedOperationException(this._regex));
+            }
+            final int codePoint = Integer.parseInt(this._regex.substring(this._index, this._index + length), 16);
+            if (Character.isSurrogate((char) codePoint))
+            {
+                // java.util.regex joins an escaped surrogate pair.
+                throw (new UnsupportedOperationException(this._regex));
+            }
+            this._index += length;
+            return (range(codePoint, codePoint));
+        }
+
+        private static Node set(final int[] set)
+        {
+            return (new Node(Node.SET, set, null, 0, 0));
+        }
+    }
+
+    /*
+     * A Thompson NFA built from a syntax tree. The states are built from the
+     * end of the pattern to the start.
+     */
+    private static final class Nfa
+    {
+        private final List<Byte>  _types = new ArrayList<>();
+        private final List<Integer> _out1  = new ArrayList<>();
+        private final List<Integer> _out2  = new ArrayList<>();
+        private final List<int[]> _sets  = new ArrayList<>();
+        private final int         _start;
+
+        private Nfa(final Node root)
+        {
+            this._start = build(root, add(MATCH, null, -1, -1));
+        }
+
+        private int add(final byte type, final int[] set, final int out1, final int out2)
+        {
+            if (this._types.size() >= MAX_NFA_STATES)
+            {
+                throw (new UnsupportedOperationException("The pattern is too large."));
+            }
+            this._types.add(type);
+            this._sets.add(set);
+            this._out1.add(out1);
+            this._out2.add(out2);
+            return (this._types.size() - 1);
+        }
+
+        private int build(final Node node, final int next)
+        {
+            int retVal = next;
+            switch (node._kind)
+            {
+                case Node.SET:
+                    retVal = add(CHAR, node._set, next, -1);
+                    break;
+                case Node.CONCAT:
+                    for (int i = node._children.size() - 1; i >= 0; i--)
+                    {
+                        retVal = build(node._children.get(i), retVal);
+                    }
+                    break;
+                case Node.ALTERNATE:
+                    retVal = build(node._children.get(node._children.size() - 1), next);
+                    for (int i = node._children.size() - 2; i >= 0; i--)
+                    {
+                        retVal = add(SPLIT, null, build(node._children.get(i), next), retVal);
+                    }
+                    break;
+                default:
+                    final Node child = node._children.get(0);
+                    if (node._max < 0)
+                    {
+                        // a loop that is closed once its body is built.
+                        final int loop = add(SPLIT, null, -1, next);
+                        this._out1.set(loop, build(child, loop));
+                        retVal = loop;
+                    }
+                    else
+                    {
+                        for (int i = node._min; i < node._max; i++)
+                        {
+                            retVal = add(SPLIT, null, build(child, retVal), next);
+                        }
+                    }
+                    for (int i = 0; i < node._min; i++)
+                    {
+                        retVal = build(child, retVal);
+                    }
+                    break;
+            }
+            return (retVal);
+        }
+    }
+}
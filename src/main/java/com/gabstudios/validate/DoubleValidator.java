@@ -34,12 +34,35 @@ package com.gabstudios.validate;
  *
  * If no test method is called, validate() returns a TRUE.
  *
+ * The value is compared the same way as the Double.compare() method - -0.0 is
+ * less than 0.0 and NaN is greater than every other value.
+ *
  * @author Gregory Brown (sysdevone)
  *
  */
 public final class DoubleValidator extends NumberValidator<Double>
 {
-       
+
+    /*
+     * The value that will be tested.
+     */
+    private final double _doubleValue;
+
+    /*
+     * The max value to test for. Defaults to Double.MAX_VALUE.
+     */
+    private double _doubleMaxValue = Double.MAX_VALUE;
+
+    /*
+     * The min value to test for. Defaults to -Double.MAX_VALUE.
+     */
+    private double _doubleMinValue = -Double.MAX_VALUE;
+
+    /*
+     * The value to use if the testEquals() method has been called.
+     */
+    private double _doubleEqualsValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -48,9 +71,134 @@ public final class DoubleValidator extends NumberValidator<Double>
      */
     protected DoubleValidator(final double value)
     {
-        super(value, Double.MIN_VALUE, Double.MAX_VALUE, Double.valueOf(0));
+        super();
+        this._doubleValue = value;
+    }
+
+    /**
+     * Gets the value that was used to initialize this validator.
+     *
+     * @return A Double value.
+     */
+    @Override
+    public Double getValue()
+    {
+        return (Double.valueOf(this._doubleValue));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     *
+     * @param value
+     *            The value to perform the equate with.
+     * @return The same DoubleValidator instance. This allows for method chaining.
+     */
+    public DoubleValidator testEquals(final double value)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._doubleEqualsValue = value;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same DoubleValidator instance. This allows for method chaining.
+     */
+    public DoubleValidator testMaxValue(final double maxValue)
+    {
+        addRule(RuleId.MAX_VALUE);
+        this._doubleMaxValue = maxValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same DoubleValidator instance. This allows for method chaining.
+     */
+    public DoubleValidator testMinValue(final double minValue)
+    {
+        addRule(RuleId.MIN_VALUE);
+        this._doubleMinValue = minValue;
+        return (this);
     }
 
+    @Override
+    protected void assignEqualsValue(final Double value)
+    {
+        this._doubleEqualsValue = value;
+    }
+
+    @Override
+    protected void assignMaxValue(final Double maxValue)
+    {
+        this._doubleMaxValue = maxValue;
+    }
+
+    @Override
+    protected void assignMinValue(final Double minValue)
+    {
+        this._doubleMinValue = minValue;
+    }
+
+    @Override
+    protected Double getEqualsValue()
+    {
+        return (Double.valueOf(this._doubleEqualsValue));
+    }
+
+    @Override
+    protected Double getMaxValue()
+    {
+        return (Double.valueOf(this._doubleMaxValue));
+    }
+
+    @Override
+    protected Double getMinValue()
+    {
+        return (Double.valueOf(this._doubleMinValue));
+    }
+
+    @Override
+    protected Double getZeroValue()
+    {
+        return (Double.valueOf(0.0));
+    }
+
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (Double.compare(this._doubleValue, this._doubleEqualsValue) == 0);
+    }
+
+    @Override
+    protected boolean isMaxValue()
+    {
+        return (Double.compare(this._doubleValue, this._doubleMaxValue) <= 0);
+    }
+
+    @Override
+    protected boolean isMinValue()
+    {
+        return (Double.compare(this._doubleValue, this._doubleMinValue) >= 0);
+    }
+
+    @Override
+    protected int signum()
+    {
+        return (Double.compare(this._doubleValue, 0.0d));
+    }
 
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -58,9 +206,9 @@ public final class DoubleValidator extends NumberValidator<Double>
 	@Override
 	public String toString() {
 		return String.format(
-				"DoubleValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"DoubleValidator [_doubleMaxValue=%s, _doubleMinValue=%s, _isValidationExceptionThrownOnFail=%s, _doubleEqualsValue=%s, _rules=%s, _doubleValue=%s]",
+				_doubleMaxValue, _doubleMinValue, _isValidationExceptionThrownOnFail, _doubleEqualsValue,
+				getRules(), _doubleValue);
 	}
     
     
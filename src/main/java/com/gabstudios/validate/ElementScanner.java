@@ -0,0 +1,384 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Applies an element rule to the elements of an array or a collection. A large
+ * input can be split across a ForkJoinPool. The results do not depend on how
+ * the input was split: the first invalid index is always the lowest one and the
+ * invalid indexes are merged into one BitSet.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class ElementScanner
+{
+    /*
+     * The min number of elements before the input is split across the pool.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /*
+     * The min number of elements that one task validates.
+     */
+    private static final int MIN_SLICE_SIZE = 1 << 11;
+
+    /*
+     * Private constructor. Only static methods.
+     */
+    private ElementScanner()
+    {
+    }
+
+    /*
+     * Finds the first element that is not valid.
+     * 
+     * @param elements The elements to validate. Must be a random access list.
+     * @param rule The element rule.
+     * @param pool The pool to split a large input across. Null to validate on
+     * the calling thread.
+     * @return The index of the first element that is not valid, or -1.
+     */
+    static int firstInvalidIndex(final List<?> elements, final ValidationRule<Object> rule, final ForkJoinPool pool)
+    {
+        final int size = elements.size();
+        final int retVal;
+        if (pool != null && size >= PARALLEL_THRESHOLD)
+        {
+            final AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+            pool.invoke(new FirstInvalidTask(elements, rule, first, 0, size, sliceSize(pool, size)));
+            retVal = (first.get() == Integer.MAX_VALUE ? -1 : first.get());
+        }
+        else
+        {
+            retVal = firstInvalidIndex(elements, rule, 0, size, null);
+        }
+        return (retVal);
+    }
+
+    /*
+     * Finds the first element of an array that is not valid. The array is
+     * indexed directly and is only wrapped in a List when it is split across
+     * the pool.
+     * 
+     * @param elements The elements to validate.
+     * @param rule The element rule.
+     * @param pool The pool to split a large input across. Null to validate on
+     * the calling thread.
+     * @return The index of the first element that is not valid, or -1.
+     */
+    static int firstInvalidIndex(final Object[] elements, final ValidationRule<Object> rule, final ForkJoinPool pool)
+    {
+        int retVal = -1;
+        if (pool != null && elements.length >= PARALLEL_THRESHOLD)
+        {
+            retVal = firstInvalidIndex(Arrays.asList(elements), rule, pool);
+        }
+        else
+        {
+            for (int i = 0; i < elements.length; i++)
+            {
+                if (!isValid(rule, elements[i]))
+                {
+                    retVal = i;
+                    break;
+                }
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Finds the first element that is not valid.
+     * 
+     * @param elements The elements to validate, in iteration order.
+     * @param rule The element rule.
+     * @return The index of the first element that is not valid, or -1.
+     */
+    static int firstInvalidIndex(final Iterable<?> elements, final ValidationRule<Object> rule)
+    {
+        int index = 0;
+        for (final Object element : elements)
+        {
+            if (!isValid(rule, element))
+            {
+                return (index);
+            }
+            index++;
+        }
+        return (-1);
+    }
+
+    /*
+     * Finds every element that is not valid.
+     * 
+     * @param elements The elements to validate. Must be a random access list.
+     * @param rule The element rule.
+     * @param pool The pool to split a large input across. Null to validate on
+     * the calling thread.
+     * @return A BitSet with a bit set at the index of every element that is not
+     * valid.
+     */
+    static BitSet invalidIndexes(final List<?> elements, final ValidationRule<Object> rule, final ForkJoinPool pool)
+    {
+        final int size = elements.size();
+        final BitSet retVal;
+        if (pool != null && size >= PARALLEL_THRESHOLD)
+        {
+            retVal = pool.invoke(new InvalidIndexesTask(elements, rule, 0, size, sliceSize(pool, size)));
+        }
+        else
+        {
+            retVal = invalidIndexes(elements, rule, 0, size);
+        }
+        return (retVal);
+    }
+
+    /*
+     * Finds every element of an array that is not valid. The array is indexed
+     * directly and is only wrapped in a List when it is split across the
+     * pool.
+     * 
+     * @param elements The elements to validate.
+     * @param rule The element rule.
+     * @param pool The pool to split a large input across. Null to validate on
+     * the calling thread.
+     * @return A BitSet with a bit set at the index of every element that is not
+     * valid.
+     */
+    static BitSet invalidIndexes(final Object[] elements, final ValidationRule<Object> rule, final ForkJoinPool pool)
+    {
+        final BitSet retVal;
+        if (pool != null && elements.length >= PARALLEL_THRESHOLD)
+        {
+            retVal = invalidIndexes(Arrays.asList(elements), rule, pool);
+        }
+        else
+        {
+            retVal = new BitSet();
+            for (int i = 0; i < elements.length; i++)
+            {
+                if (!isValid(rule, elements[i]))
+                {
+                    retVal.set(i);
+                }
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Finds every element that is not valid.
+     * 
+     * @param elements The elements to validate, in iteration order.
+     * @param rule The element rule.
+     * @return A BitSet with a bit set at the index of every element that is not
+     * valid.
+     */
+    static BitSet invalidIndexes(final Iterable<?> elements, final ValidationRule<Object> rule)
+    {
+        final BitSet retVal = new BitSet();
+        final Iterator<?> iterator = elements.iterator();
+        for (int index = 0; iterator.hasNext(); index++)
+        {
+            if (!isValid(rule, iterator.next()))
+            {
+                retVal.set(index);
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Validates one element. A rule that was built with
+     * throwValidationExceptionOnFail() fails the element instead of stopping
+     * the scan.
+     */
+    private static boolean isValid(final ValidationRule<Object> rule, final Object element)
+    {
+        boolean retVal;
+        try
+        {
+            retVal = rule.validate(element);
+        }
+        catch (final ValidateException e)
+        {
+            retVal = false;
+        }
+        return (retVal);
+    }
+
+    /*
+     * Finds the first element in a slice that is not valid. Stops early once
+     * another task has found an element before the current index.
+     */
+    private static int firstInvalidIndex(final List<?> elements, final ValidationRule<Object> rule,
+            final int fromIndex, final int toIndex, final AtomicInteger first)
+    {
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            if (first != null && i >= first.get())
+            {
+                break;
+            }
+            if (!isValid(rule, elements.get(i)))
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+
+    /*
+     * Finds every element in a slice that is not valid.
+     */
+    private static BitSet invalidIndexes(final List<?> elements, final ValidationRule<Object> rule,
+            final int fromIndex, final int toIndex)
+    {
+        final BitSet retVal = new BitSet();
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            if (!isValid(rule, elements.get(i)))
+            {
+                retVal.set(i);
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Gets the number of elements that one task validates. Makes about four
+     * tasks per worker so that a slow slice does not hold up the others.
+     */
+    private static int sliceSize(final ForkJoinPool pool, final int size)
+    {
+        return (Math.max(MIN_SLICE_SIZE, size / (pool.getParallelism() * 4)));
+    }
+
+    /*
+     * Finds the lowest invalid index. Every task lowers the shared first
+     * index, so a slice after it is skipped.
+     */
+    private static final class FirstInvalidTask extends RecursiveAction
+    {
+        private static final long            serialVersionUID = 1L;
+
+        private final List<?>                _elements;
+        private final ValidationRule<Object> _rule;
+        private final AtomicInteger          _first;
+        private final int                    _fromIndex;
+        private final int                    _toIndex;
+        private final int                    _sliceSize;
+
+        FirstInvalidTask(final List<?> elements, final ValidationRule<Object> rule, final AtomicInteger first,
+                final int fromIndex, final int toIndex, final int sliceSize)
+        {
+            this._elements = elements;
+            this._rule = rule;
+            this._first = first;
+            this._fromIndex = fromIndex;
+            this._toIndex = toIndex;
+            this._sliceSize = sliceSize;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this._fromIndex >= this._first.get())
+            {
+                return;
+            }
+            if (this._toIndex - this._fromIndex <= this._sliceSize)
+            {
+                final int index = firstInvalidIndex(this._elements, this._rule, this._fromIndex, this._toIndex,
+                        this._first);
+                if (index >= 0)
+                {
+                    this._first.accumulateAndGet(index, Math::min);
+                }
+            }
+            else
+            {
+                final int middle = (this._fromIndex + this._toIndex) >>> 1;
+                invokeAll(
+                        new FirstInvalidTask(this._elements, this._rule, this._first, this._fromIndex, middle,
+                                this._sliceSize),
+                        new FirstInvalidTask(this._elements, this._rule, this._first, middle, this._toIndex,
+                                this._sliceSize));
+            }
+        }
+    }
+
+    /*
+     * Finds every invalid index. The BitSets of the two halves are merged, so
+     * the result is the same as a scan on one thread.
+     */
+    private static final class InvalidIndexesTask extends RecursiveTask<BitSet>
+    {
+        private static final long            serialVersionUID = 1L;
+
+        private final List<?>                _elements;
+        private final ValidationRule<Object> _rule;
+        private final int                    _fromIndex;
+        private final int                    _toIndex;
+        private final int                    _sliceSize;
+
+        InvalidIndexesTask(final List<?> elements, final ValidationRule<Object> rule, final int fromIndex,
+                final int toIndex, final int sliceSize)
+        {
+            this._elements = elements;
+            this._rule = rule;
+            this._fromIndex = fromIndex;
+            this._toIndex = toIndex;
+            this._sliceSize = sliceSize;
+        }
+
+        @Override
+        protected BitSet compute()
+        {
+            final BitSet retVal;
+            if (this._toIndex - this._fromIndex <= this._sliceSize)
+            {
+                retVal = invalidIndexes(this._elements, this._rule, this._fromIndex, this._toIndex);
+            }
+            else
+            {
+                final int middle = (this._fromIndex + this._toIndex) >>> 1;
+                final InvalidIndexesTask high = new InvalidIndexesTask(this._elements, this._rule, middle,
+                        this._toIndex, this._sliceSize);
+                high.fork();
+                retVal = new InvalidIndexesTask(this._elements, this._rule, this._fromIndex, middle,
+                        this._sliceSize).compute();
+                retVal.or(high.join());
+            }
+            return (retVal);
+        }
+    }
+}
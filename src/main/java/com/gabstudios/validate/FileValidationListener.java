@@ -0,0 +1,50 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/**
+ * Receives the failures of a DelimitedFileValidator as they are found. The
+ * location of a failure is passed as primitives so that a failure does not
+ * allocate.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@FunctionalInterface
+public interface FileValidationListener
+{
+    /**
+     * Called for each field that fails.
+     * 
+     * @param offset
+     *            The byte offset in the file of the first byte of the field,
+     *            or of the record for a FIELD_COUNT failure.
+     * @param line
+     *            The line number of the record. The first line is 1.
+     * @param field
+     *            The index of the field. The first field is 0. For a
+     *            FIELD_COUNT failure, it is the number of fields that were
+     *            found.
+     * @param ruleId
+     *            The rule that failed.
+     */
+    public abstract void onFailure(final long offset, final long line, final int field, final RuleId ruleId);
+}
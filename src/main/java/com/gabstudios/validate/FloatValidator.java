@@ -34,12 +34,35 @@ package com.gabstudios.validate;
  *
  * If no test method is called, validate() returns a TRUE.
  *
+ * The value is compared the same way as the Float.compare() method - -0.0 is
+ * less than 0.0 and NaN is greater than every other value.
+ *
  * @author Gregory Brown (sysdevone)
  *
  */
 public final class FloatValidator extends NumberValidator<Float>
 {
-       
+
+    /*
+     * The value that will be tested.
+     */
+    private final float _floatValue;
+
+    /*
+     * The max value to test for. Defaults to Float.MAX_VALUE.
+     */
+    private float _floatMaxValue = Float.MAX_VALUE;
+
+    /*
+     * The min value to test for. Defaults to -Float.MAX_VALUE.
+     */
+    private float _floatMinValue = -Float.MAX_VALUE;
+
+    /*
+     * The value to use if the testEquals() method has been called.
+     */
+    private float _floatEqualsValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -48,9 +71,134 @@ public final class FloatValidator extends NumberValidator<Float>
      */
     protected FloatValidator(final float value)
     {
-        super( value, Float.MIN_VALUE, Float.MAX_VALUE, Float.valueOf(0));
+        super();
+        this._floatValue = value;
+    }
+
+    /**
+     * Gets the value that was used to initialize this validator.
+     *
+     * @return A Float value.
+     */
+    @Override
+    public Float getValue()
+    {
+        return (Float.valueOf(this._floatValue));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     *
+     * @param value
+     *            The value to perform the equate with.
+     * @return The same FloatValidator instance. This allows for method chaining.
+     */
+    public FloatValidator testEquals(final float value)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._floatEqualsValue = value;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same FloatValidator instance. This allows for method chaining.
+     */
+    public FloatValidator testMaxValue(final float maxValue)
+    {
+        addRule(RuleId.MAX_VALUE);
+        this._floatMaxValue = maxValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same FloatValidator instance. This allows for method chaining.
+     */
+    public FloatValidator testMinValue(final float minValue)
+    {
+        addRule(RuleId.MIN_VALUE);
+        this._floatMinValue = minValue;
+        return (this);
     }
 
+    @Override
+    protected void assignEqualsValue(final Float value)
+    {
+        this._floatEqualsValue = value;
+    }
+
+    @Override
+    protected void assignMaxValue(final Float maxValue)
+    {
+        this._floatMaxValue = maxValue;
+    }
+
+    @Override
+    protected void assignMinValue(final Float minValue)
+    {
+        this._floatMinValue = minValue;
+    }
+
+    @Override
+    protected Float getEqualsValue()
+    {
+        return (Float.valueOf(this._floatEqualsValue));
+    }
+
+    @Override
+    protected Float getMaxValue()
+    {
+        return (Float.valueOf(this._floatMaxValue));
+    }
+
+    @Override
+    protected Float getMinValue()
+    {
+        return (Float.valueOf(this._floatMinValue));
+    }
+
+    @Override
+    protected Float getZeroValue()
+    {
+        return (Float.valueOf(0.0f));
+    }
+
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (Float.compare(this._floatValue, this._floatEqualsValue) == 0);
+    }
+
+    @Override
+    protected boolean isMaxValue()
+    {
+        return (Float.compare(this._floatValue, this._floatMaxValue) <= 0);
+    }
+
+    @Override
+    protected boolean isMinValue()
+    {
+        return (Float.compare(this._floatValue, this._floatMinValue) >= 0);
+    }
+
+    @Override
+    protected int signum()
+    {
+        return (Float.compare(this._floatValue, 0.0f));
+    }
 
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -58,9 +206,9 @@ public final class FloatValidator extends NumberValidator<Float>
 	@Override
 	public String toString() {
 		return String.format(
-				"FloatValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"FloatValidator [_floatMaxValue=%s, _floatMinValue=%s, _isValidationExceptionThrownOnFail=%s, _floatEqualsValue=%s, _rules=%s, _floatValue=%s]",
+				_floatMaxValue, _floatMinValue, _isValidationExceptionThrownOnFail, _floatEqualsValue, getRules(),
+				_floatValue);
 	}
     
     
@@ -0,0 +1,83 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Resolves a host name to an IP address. The URIValidator uses a HostResolver
+ * for every host name lookup, so the lookups can be cached, answered from
+ * memory or sent somewhere other than the JVM resolver.
+ * 
+ *      HostResolver resolver = new CachingHostResolver(HostResolver.system());
+ *      Validate.defineURI(uri).useHostResolver(resolver).testMatchAllowDomain("my.domain.com").validate();
+ *
+ * An implementation must be thread safe.
+ *
+ * @author Gregory Brown (sysdevone)
+ * 
+ * @see CachingHostResolver
+ * @see InMemoryHostResolver
+ */
+public interface HostResolver
+{
+    /**
+     * Resolves a host name to an IP address.
+     * 
+     * @param host
+     *            The host name or an IP address literal. A null host resolves
+     *            to the loopback address like InetAddress.getByName(null).
+     * @return The <code>InetAddress</code> of the host.
+     * @throws UnknownHostException
+     *             If the host can not be resolved.
+     */
+    public abstract InetAddress resolve(final String host) throws UnknownHostException;
+
+    /**
+     * Gets a resolver that calls InetAddress.getByName() for every lookup.
+     * 
+     * @return A <code>HostResolver</code> that uses the JVM resolver.
+     */
+    public static HostResolver system()
+    {
+        return (InetAddress::getByName);
+    }
+
+    /**
+     * Gets a resolver that never does a lookup. An IPv4 or IPv6 literal is
+     * parsed in memory and every host name is unknown, so the resolver works
+     * on a host without a network.
+     * 
+     * @return A <code>HostResolver</code> for address literals.
+     */
+    public static HostResolver offline()
+    {
+        return ((host) -> {
+            final byte[] address = (host == null ? null : HostSyntax.parseAddress(host));
+            if (address == null)
+            {
+                throw (new UnknownHostException(host));
+            }
+            return (InetAddress.getByAddress(host, address));
+        });
+    }
+}
@@ -0,0 +1,269 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+/**
+ * Checks the syntax of a host without a lookup. A host is a DNS name of
+ * letter, digit and hyphen (LDH) labels, an IPv4 literal or an IPv6 literal in
+ * brackets. The parser works on the chars of the host and never calls the JVM
+ * resolver.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class HostSyntax
+{
+
+    /**
+     * The max length of a host name, without a trailing dot.
+     */
+    static final int MAX_NAME_LENGTH  = 253;
+
+    /**
+     * The max length of a label of a host name.
+     */
+    static final int MAX_LABEL_LENGTH = 63;
+
+    /*
+     * Private constructor. Only has static methods.
+     */
+    private HostSyntax()
+    {
+        // void - ignore this.
+    }
+
+    /*
+     * Tests if a host is a valid host name or address literal. This is the
+     * host of a URI, so an IPv6 literal must be in brackets. parseAddress()
+     * also takes an IPv6 literal without brackets.
+     */
+    static boolean isValid(final String host)
+    {
+        return (host != null && (host.startsWith("[") || host.indexOf(':') < 0)
+                && (parseAddress(host) != null || (!isDottedNumber(host) && isHostName(host))));
+    }
+
+    /*
+     * Tests if a host is a valid LDH host name. A label is 1 to 63 letters,
+     * digits and hyphens that does not start or end with a hyphen. The name
+     * can end with a dot.
+     */
+    static boolean isHostName(final String host)
+    {
+        final int length = (host.endsWith(".") ? host.length() - 1 : host.length());
+        if (length == 0 || length > MAX_NAME_LENGTH)
+        {
+            return (false);
+        }
+        int labelStart = 0;
+        for (int i = 0; i <= length; i++)
+        {
+            final char c = (i < length ? host.charAt(i) : '.');
+            if (c == '.')
+            {
+                final int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > MAX_LABEL_LENGTH || host.charAt(labelStart) == '-'
+                        || host.charAt(i - 1) == '-')
+                {
+                    return (false);
+                }
+                labelStart = i + 1;
+            }
+            else if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-'))
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+
+    /*
+     * Parses an IPv4 literal or an IPv6 literal that can be in brackets.
+     * 
+     * @return The 4 or 16 bytes of the address, or null if the host is not a
+     *         valid address literal.
+     */
+    static byte[] parseAddress(final String host)
+    {
+        final byte[] retVal;
+        if (host.length() > 1 && host.charAt(0) == '[' && host.charAt(host.length() - 1) == ']')
+        {
+            retVal = parseIPv6(host, 1, host.length() - 1);
+        }
+        else if (host.indexOf(':') >= 0)
+        {
+            retVal = parseIPv6(host, 0, host.length());
+        }
+        else
+        {
+            retVal = parseIPv4(host, 0, host.length());
+        }
+        return (retVal);
+    }
+
+    /*
+     * Tests if a host is only digits and dots. Such a host must be an IPv4
+     * literal, it is never a host name.
+     */
+    private static boolean isDottedNumber(final String host)
+    {
+        for (int i = 0; i < host.length(); i++)
+        {
+            final char c = host.charAt(i);
+            if (c != '.' && (c < '0' || c > '9'))
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+
+    /*
+     * Tests for an ASCII hex digit. Character.digit() also takes the digits of
+     * other scripts.
+     */
+    private static boolean isHexDigit(final char c)
+    {
+        return ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'));
+    }
+
+    /*
+     * Parses a dotted quad of decimal octets. An octet with a leading zero is
+     * not valid, so that it can not be read as octal by another parser.
+     */
+    private static byte[] parseIPv4(final String host, final int start, final int end)
+    {
+        final byte[] retVal = new byte[4];
+        int octet = 0;
+        int index = start;
+        while (octet < 4)
+        {
+            int value = 0;
+            final int octetStart = index;
+            while (index < end && host.charAt(index) >= '0' && host.charAt(index) <= '9' && index - octetStart < 3)
+            {
+                value = value * 10 + (host.charAt(index++) - '0');
+            }
+            final int digits = index - octetStart;
+            if (digits == 0 || value > 255 || (digits > 1 && host.charAt(octetStart) == '0'))
+            {
+                return (null);
+            }
+            retVal[octet++] = (byte) value;
+            if (octet < 4)
+            {
+                if (index >= end || host.charAt(index) != '.')
+                {
+                    return (null);
+                }
+                index++;
+            }
+        }
+        return (index == end ? retVal : null);
+    }
+
+    /*
+     * Parses 8 groups of 1 to 4 hex digits. One "::" can stand for one or more
+     * groups of zeros and the last 2 groups can be an IPv4 literal.
+     */
+    private static byte[] parseIPv6(final String host, final int start, final int end)
+    {
+        final byte[] retVal = new byte[16];
+        int count = 0;
+        int gap = -1;
+        int index = start;
+        if (end - start >= 2 && host.charAt(start) == ':' && host.charAt(start + 1) == ':')
+        {
+            gap = 0;
+            index += 2;
+        }
+        while (index < end)
+        {
+            if (count == 8)
+            {
+                return (null);
+            }
+            final int groupStart = index;
+            int value = 0;
+            while (index < end && index - groupStart < 4 && isHexDigit(host.charAt(index)))
+            {
+                value = (value << 4) | Character.digit(host.charAt(index++), 16);
+            }
+            if (index < end && host.charAt(index) == '.')
+            {
+                // an IPv4 literal in the last 2 groups.
+                final byte[] ipv4 = (count <= 6 ? parseIPv4(host, groupStart, end) : null);
+                if (ipv4 == null)
+                {
+                    return (null);
+                }
+                System.arraycopy(ipv4, 0, retVal, count * 2, 4);
+                count += 2;
+                index = end;
+                break;
+            }
+            if (index == groupStart)
+            {
+                return (null);
+            }
+            retVal[count * 2] = (byte) (value >> 8);
+            retVal[count * 2 + 1] = (byte) value;
+            count++;
+            if (index < end)
+            {
+                if (host.charAt(index) != ':')
+                {
+                    return (null);
+                }
+                index++;
+                if (index < end && host.charAt(index) == ':')
+                {
+                    if (gap >= 0)
+                    {
+                        return (null);
+                    }
+                    gap = count;
+                    index++;
+                }
+                else if (index == end)
+                {
+                    // a trailing single colon.
+                    return (null);
+                }
+            }
+        }
+        if (gap < 0)
+        {
+            return (count == 8 ? retVal : null);
+        }
+        else if (count == 8)
+        {
+            return (null);
+        }
+        // move the groups after the gap to the end.
+        final int moved = (count - gap) * 2;
+        System.arraycopy(retVal, gap * 2, retVal, 16 - moved, moved);
+        Arrays.fill(retVal, gap * 2, 16 - moved, (byte) 0);
+        return (retVal);
+    }
+}
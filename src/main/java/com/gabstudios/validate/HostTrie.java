@@ -0,0 +1,199 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A set of host name rules, such as "www.example.com" for one host or
+ * "*.example.com" for every host below a domain. The names are kept in a trie
+ * of their chars from the last char to the first, so the labels are read from
+ * the top level domain down. A host is matched in one pass from its last char
+ * and the match does not allocate. Names are not case sensitive and a trailing
+ * dot is ignored.
+ * 
+ * A wildcard only matches a host with at least one more label, so
+ * "*.example.com" does not match "example.com".
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class HostTrie
+{
+
+    /*
+     * The chars of a host name: a-z, 0-9, '-' and '.'.
+     */
+    private static final int   ALPHABET_SIZE = 38;
+
+    /*
+     * The children of each node, ALPHABET_SIZE per node. A child of 0 is no
+     * child, node 0 is the root so it is never a child. Only the root is
+     * allocated until a name is added.
+     */
+    private int[]              _children     = new int[ALPHABET_SIZE];
+
+    /*
+     * The nodes where an exact name ends.
+     */
+    private final BitSet       _exact        = new BitSet();
+
+    /*
+     * The nodes where the domain of a wildcard name ends.
+     */
+    private final BitSet       _wildcards    = new BitSet();
+
+    /*
+     * The number of nodes.
+     */
+    private int                _size         = 1;
+
+    /*
+     * The names in the order they were added. Only used by toString().
+     */
+    private final List<String> _entries      = new ArrayList<>();
+
+    /*
+     * Adds a host name or a wildcard name.
+     * 
+     * @throws IllegalArgumentException If the name is not a valid host name
+     *             with an optional "*." prefix.
+     */
+    void add(final String name)
+    {
+        if (name == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'name' must not be null."));
+        }
+        final boolean isWildcard = name.startsWith("*.");
+        final int start = (isWildcard ? 2 : 0);
+        final int end = (name.endsWith(".") ? name.length() - 1 : name.length());
+        final String host = name.substring(start, Math.max(start, end));
+        if (!HostSyntax.isHostName(host))
+        {
+            throw (new IllegalArgumentException("The name '" + name + "' is not a host name or a wildcard name."));
+        }
+
+        int node = 0;
+        for (int i = host.length() - 1; i >= 0; i--)
+        {
+            final int index = ALPHABET_SIZE * node + indexOf(host.charAt(i));
+            if (this._children[index] == 0)
+            {
+                if (ALPHABET_SIZE * (this._size + 1) > this._children.length)
+                {
+                    this._children = Arrays.copyOf(this._children,
+                            Math.max(ALPHABET_SIZE * 16, this._children.length * 2));
+                }
+                this._children[index] = this._size++;
+            }
+            node = this._children[index];
+        }
+        (isWildcard ? this._wildcards : this._exact).set(node);
+        this._entries.add(name);
+    }
+
+    /*
+     * Tests if a host matches one of the names.
+     */
+    boolean contains(final String host)
+    {
+        if (host == null || host.isEmpty())
+        {
+            return (false);
+        }
+        final int end = (host.charAt(host.length() - 1) == '.' ? host.length() - 1 : host.length());
+        int node = 0;
+        for (int i = end - 1; i >= 0; i--)
+        {
+            final char c = host.charAt(i);
+            if (c == '.' && i > 0 && this._wildcards.get(node))
+            {
+                return (true);
+            }
+            final int index = indexOf(c);
+            if (index < 0)
+            {
+                return (false);
+            }
+            node = this._children[ALPHABET_SIZE * node + index];
+            if (node == 0)
+            {
+                return (false);
+            }
+        }
+        return (this._exact.get(node));
+    }
+
+    /*
+     * Gets if no name has been added.
+     */
+    boolean isEmpty()
+    {
+        return (this._entries.isEmpty());
+    }
+
+    /*
+     * Gets the index of a char of a host name, or -1. An upper case letter
+     * has the index of its lower case letter.
+     */
+    private static int indexOf(final char c)
+    {
+        final int retVal;
+        if (c >= 'a' && c <= 'z')
+        {
+            retVal = c - 'a';
+        }
+        else if (c >= 'A' && c <= 'Z')
+        {
+            retVal = c - 'A';
+        }
+        else if (c >= '0' && c <= '9')
+        {
+            retVal = 26 + (c - '0');
+        }
+        else if (c == '-')
+        {
+            retVal = 36;
+        }
+        else if (c == '.')
+        {
+            retVal = 37;
+        }
+        else
+        {
+            retVal = -1;
+        }
+        return (retVal);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (this._entries.toString());
+    }
+}
@@ -0,0 +1,194 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A HostResolver that answers from memory and never sends a lookup to the
+ * network. Use it in tests or on hosts that are offline.
+ * 
+ *      HostResolver resolver = new InMemoryHostResolver()
+ *          .register("my.domain.com", "10.0.0.1");
+ *
+ * A host name is matched without case. An IP address literal resolves to
+ * itself.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class InMemoryHostResolver implements HostResolver
+{
+
+    /*
+     * The addresses keyed by lower case host name.
+     */
+    private final ConcurrentHashMap<String, InetAddress> _addresses = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor. No host is registered.
+     */
+    public InMemoryHostResolver()
+    {
+        // void - ignore this.
+    }
+
+    /**
+     * Registers the address of a host.
+     * 
+     * @param host
+     *            The host name.
+     * @param address
+     *            The address that the host resolves to.
+     * @return The same InMemoryHostResolver instance. This allows for method
+     *         chaining.
+     */
+    public InMemoryHostResolver register(final String host, final InetAddress address)
+    {
+        if (host == null || host.isEmpty())
+        {
+            throw (new IllegalArgumentException("The parameter 'host' must not be null or empty."));
+        }
+        else if (address == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'address' must not be null."));
+        }
+        this._addresses.put(host.toLowerCase(Locale.ROOT), address);
+        return (this);
+    }
+
+    /**
+     * Registers the address of a host.
+     * 
+     * @param host
+     *            The host name.
+     * @param address
+     *            An IPv4 or IPv6 address literal - e.g. "10.0.0.1".
+     * @return The same InMemoryHostResolver instance. This allows for method
+     *         chaining.
+     * @throws IllegalArgumentException
+     *             If the address is not an IP address literal.
+     */
+    public InMemoryHostResolver register(final String host, final String address)
+    {
+        if (!isAddressLiteral(address))
+        {
+            throw (new IllegalArgumentException("The parameter 'address' must be an IP address literal."));
+        }
+        try
+        {
+            return (register(host, InetAddress.getByName(address)));
+        }
+        catch (final UnknownHostException ex)
+        {
+            throw (new IllegalArgumentException("The parameter 'address' must be an IP address literal.", ex));
+        }
+    }
+
+    /**
+     * Removes a host.
+     * 
+     * @param host
+     *            The host name.
+     * @return The same InMemoryHostResolver instance. This allows for method
+     *         chaining.
+     */
+    public InMemoryHostResolver unregister(final String host)
+    {
+        if (host != null)
+        {
+            this._addresses.remove(host.toLowerCase(Locale.ROOT));
+        }
+        return (this);
+    }
+
+    /**
+     * Resolves a host name from memory.
+     * 
+     * @param host
+     *            The host name or an IP address literal.
+     * @return The registered <code>InetAddress</code> of the host.
+     * @throws UnknownHostException
+     *             If the host is not registered.
+     */
+    @Override
+    public InetAddress resolve(final String host) throws UnknownHostException
+    {
+        if (host == null)
+        {
+            return (InetAddress.getLoopbackAddress());
+        }
+
+        InetAddress address = this._addresses.get(host);
+        if (address == null)
+        {
+            address = this._addresses.get(host.toLowerCase(Locale.ROOT));
+        }
+        if (address == null)
+        {
+            if (!isAddressLiteral(host))
+            {
+                throw (new UnknownHostException(host));
+            }
+            // a literal is parsed, it is never looked up.
+            address = InetAddress.getByName(host);
+        }
+        return (address);
+    }
+
+    /*
+     * Tests if the value is an IPv4 (digits and dots) or an IPv6 (contains a
+     * colon) literal. InetAddress.getByName() does not do a lookup for these.
+     */
+    static boolean isAddressLiteral(final String value)
+    {
+        boolean isLiteral = false;
+        if (value != null && !value.isEmpty())
+        {
+            if (value.indexOf(':') >= 0)
+            {
+                isLiteral = true;
+            }
+            else
+            {
+                isLiteral = true;
+                for (int i = 0; i < value.length() && isLiteral; i++)
+                {
+                    final char c = value.charAt(i);
+                    isLiteral = (c == '.' || (c >= '0' && c <= '9'));
+                }
+            }
+        }
+        return (isLiteral);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("InMemoryHostResolver [_addresses=%s]", _addresses);
+    }
+}
@@ -39,6 +39,26 @@ package com.gabstudios.validate;
  */
 public final class IntegerValidator extends NumberValidator<Integer>
 {
+
+    /*
+     * The value that will be tested.
+     */
+    private final int _intValue;
+
+    /*
+     * The max value to test for. Defaults to Integer.MAX_VALUE.
+     */
+    private int _intMaxValue = Integer.MAX_VALUE;
+
+    /*
+     * The min value to test for. Defaults to Integer.MIN_VALUE.
+     */
+    private int _intMinValue = Integer.MIN_VALUE;
+
+    /*
+     * The value to use if the testEquals() method has been called.
+     */
+    private int _intEqualsValue;
     
     /**
      * Protected constructor. Use Validate static method to create validator.
@@ -48,7 +68,133 @@ public final class IntegerValidator extends NumberValidator<Integer>
      */
     protected IntegerValidator(final int value)
     {
-        super( value, Integer.MIN_VALUE, Integer.MAX_VALUE, 0);
+        super();
+        this._intValue = value;
+    }
+
+    /**
+     * Gets the value that was used to initialize this validator.
+     *
+     * @return A Integer value.
+     */
+    @Override
+    public Integer getValue()
+    {
+        return (Integer.valueOf(this._intValue));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     *
+     * @param value
+     *            The value to perform the equate with.
+     * @return The same IntegerValidator instance. This allows for method chaining.
+     */
+    public IntegerValidator testEquals(final int value)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._intEqualsValue = value;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same IntegerValidator instance. This allows for method chaining.
+     */
+    public IntegerValidator testMaxValue(final int maxValue)
+    {
+        addRule(RuleId.MAX_VALUE);
+        this._intMaxValue = maxValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same IntegerValidator instance. This allows for method chaining.
+     */
+    public IntegerValidator testMinValue(final int minValue)
+    {
+        addRule(RuleId.MIN_VALUE);
+        this._intMinValue = minValue;
+        return (this);
+    }
+
+    @Override
+    protected void assignEqualsValue(final Integer value)
+    {
+        this._intEqualsValue = value;
+    }
+
+    @Override
+    protected void assignMaxValue(final Integer maxValue)
+    {
+        this._intMaxValue = maxValue;
+    }
+
+    @Override
+    protected void assignMinValue(final Integer minValue)
+    {
+        this._intMinValue = minValue;
+    }
+
+    @Override
+    protected Integer getEqualsValue()
+    {
+        return (Integer.valueOf(this._intEqualsValue));
+    }
+
+    @Override
+    protected Integer getMaxValue()
+    {
+        return (Integer.valueOf(this._intMaxValue));
+    }
+
+    @Override
+    protected Integer getMinValue()
+    {
+        return (Integer.valueOf(this._intMinValue));
+    }
+
+    @Override
+    protected Integer getZeroValue()
+    {
+        return (Integer.valueOf(0));
+    }
+
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (this._intValue == this._intEqualsValue);
+    }
+
+    @Override
+    protected boolean isMaxValue()
+    {
+        return (this._intValue <= this._intMaxValue);
+    }
+
+    @Override
+    protected boolean isMinValue()
+    {
+        return (this._intValue >= this._intMinValue);
+    }
+
+    @Override
+    protected int signum()
+    {
+        return (Integer.signum(this._intValue));
     }
 
 	/* (non-Javadoc)
@@ -57,9 +203,9 @@ public final class IntegerValidator extends NumberValidator<Integer>
 	@Override
 	public String toString() {
 		return String.format(
-				"IntegerValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"IntegerValidator [_intMaxValue=%s, _intMinValue=%s, _isValidationExceptionThrownOnFail=%s, _intEqualsValue=%s, _rules=%s, _intValue=%s]",
+				_intMaxValue, _intMinValue, _isValidationExceptionThrownOnFail, _intEqualsValue, getRules(),
+				_intValue);
 	}
     
     
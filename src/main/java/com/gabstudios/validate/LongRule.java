@@ -0,0 +1,542 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.BitSet;
+
+/**
+ * This is a compiled long rule. Use the Validate.defineLongRule() method to
+ * get a builder, call the testXXXX() methods on the builder and then build the
+ * rule once. The rule can then validate any number of long values.
+ * 
+ *      final LongRule rule = Validate.defineLongRule().testMinValue(0)
+ *          .testMaxValue(100).build();
+ *      
+ *      boolean retVal = rule.validate(50);
+ *
+ * A rule gives the same results as the LongValidator that was configured
+ * with the same test methods. All of the tests are compiled into a single
+ * inclusive range so a validate is two compares. A rule is immutable, can be
+ * shared between threads and does not allocate when validating a value.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class LongRule implements ValidationRule<Long>
+{
+
+    /*
+     * A flag indicating if an exception should be thrown if the validate fails.
+     */
+    private final boolean _isValidationExceptionThrownOnFail;
+
+    /*
+     * The inclusive range that a valid value must be inside of. It is the
+     * intersection of all of the tests.
+     */
+    private final long    _lowValue;
+    private final long    _highValue;
+
+    /*
+     * The individual tests. They are only used to report a failure.
+     */
+    private final boolean _isTestEquals;
+    private final boolean _isTestMinValue;
+    private final boolean _isTestMaxValue;
+    private final boolean _isTestZeroValue;
+    private final boolean _isTestPositiveValue;
+    private final boolean _isTestNegativeValue;
+    private final long    _equalsValue;
+    private final long    _minValue;
+    private final long    _maxValue;
+
+    /*
+     * Private constructor. Use the Builder to create a rule.
+     */
+    private LongRule(final Builder builder)
+    {
+        this._isValidationExceptionThrownOnFail = builder._isValidationExceptionThrownOnFail;
+        this._isTestEquals = builder._isTestEquals;
+        this._isTestMinValue = builder._isTestMinValue;
+        this._isTestMaxValue = builder._isTestMaxValue;
+        this._isTestZeroValue = builder._isTestZeroValue;
+        this._isTestPositiveValue = builder._isTestPositiveValue;
+        this._isTestNegativeValue = builder._isTestNegativeValue;
+        this._equalsValue = builder._equalsValue;
+        this._minValue = builder._minValue;
+        this._maxValue = builder._maxValue;
+
+        // intersect every test into one range.
+        long low = Long.MIN_VALUE;
+        long high = Long.MAX_VALUE;
+        if (this._isTestEquals)
+        {
+            low = Math.max(low, this._equalsValue);
+            high = Math.min(high, this._equalsValue);
+        }
+        if (this._isTestMinValue)
+        {
+            low = Math.max(low, this._minValue);
+        }
+        if (this._isTestMaxValue)
+        {
+            high = Math.min(high, this._maxValue);
+        }
+        if (this._isTestZeroValue)
+        {
+            low = Math.max(low, 0L);
+            high = Math.min(high, 0);
+        }
+        if (this._isTestPositiveValue)
+        {
+            low = Math.max(low, 1);
+        }
+        if (this._isTestNegativeValue)
+        {
+            high = Math.min(high, -1);
+        }
+
+        if (low > high)
+        {
+            // an empty range - no value can be valid.
+            this._lowValue = Long.MAX_VALUE;
+            this._highValue = Long.MIN_VALUE;
+        }
+        else
+        {
+            this._lowValue = low;
+            this._highValue = high;
+        }
+    }
+
+    /**
+     * Gets the lowest value that is valid.
+     * 
+     * @return A long value. If no value can be valid, then this value is
+     *         greater than the high value.
+     */
+    public long getLowValue()
+    {
+        return (this._lowValue);
+    }
+
+    /**
+     * Gets the highest value that is valid.
+     * 
+     * @return A long value. If no value can be valid, then this value is less
+     *         than the low value.
+     */
+    public long getHighValue()
+    {
+        return (this._highValue);
+    }
+
+    /**
+     * Performs a validation test on the value based on the test methods that
+     * were called when the rule was built.
+     *
+     * @param value
+     *            The value to validate.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    public boolean validate(final long value)
+    {
+        return (isInRange(value) || fail(value));
+    }
+
+    /*
+     * Tests if a value is inside of the range. Never throws.
+     */
+    boolean isInRange(final long value)
+    {
+        return (value >= this._lowValue && value <= this._highValue);
+    }
+
+    /**
+     * Performs a validation test on the value based on the test methods that
+     * were called when the rule was built. A null value is never valid.
+     *
+     * @param value
+     *            The value to validate.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    @Override
+    public boolean validate(final Long value)
+    {
+        if (value == null)
+        {
+            if (this._isValidationExceptionThrownOnFail)
+            {
+                ObjectValidator.throwValidateException(RuleId.NOT_NULL, null, null);
+            }
+            return (false);
+        }
+        return (validate(value.longValue()));
+    }
+
+    /**
+     * Finds the first value that is not valid.
+     * 
+     * @param values
+     *            The values to validate. Must not be null.
+     * @return The index of the first value that is not valid, or -1 if every
+     *         value is valid.
+     */
+    public int firstInvalidIndex(final long[] values)
+    {
+        return (firstInvalidIndex(values, 0, (values == null ? 0 : values.length)));
+    }
+
+    /**
+     * Finds the first value in a slice of an array that is not valid. The
+     * values are scanned a block at a time with a loop that has no branches, so
+     * the JIT can vectorize it. If the rule was built with
+     * throwValidationExceptionOnFail(), a ValidateException is thrown for the
+     * first value that is not valid.
+     * 
+     * @param values
+     *            The values to validate. Must not be null.
+     * @param fromIndex
+     *            The index of the first value to validate, inclusive.
+     * @param toIndex
+     *            The index of the last value to validate, exclusive.
+     * @return The index of the first value that is not valid, or -1 if every
+     *         value in the slice is valid.
+     */
+    public int firstInvalidIndex(final long[] values, final int fromIndex, final int toIndex)
+    {
+        Slices.checkSlice(values, (values == null ? 0 : values.length), fromIndex, toIndex);
+
+        final long low = this._lowValue;
+        final long high = this._highValue;
+        for (int block = fromIndex; block < toIndex; block += Slices.BLOCK_SIZE)
+        {
+            final int end = Math.min(block + Slices.BLOCK_SIZE, toIndex);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = block; i < end; i++)
+            {
+                final long key = values[i];
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+            if (min < low || max > high)
+            {
+                for (int i = block; i < end; i++)
+                {
+                    final long key = values[i];
+                    if (key < low || key > high)
+                    {
+                        fail(values[i]);
+                        return (i);
+                    }
+                }
+            }
+        }
+        return (-1);
+    }
+
+    /**
+     * Finds every value that is not valid.
+     * 
+     * @param values
+     *            The values to validate. Must not be null.
+     * @return A BitSet with a bit set at the index of every value that is not
+     *         valid. Empty if every value is valid.
+     */
+    public BitSet invalidIndexes(final long[] values)
+    {
+        return (invalidIndexes(values, 0, (values == null ? 0 : values.length)));
+    }
+
+    /**
+     * Finds every value in a slice of an array that is not valid. A block of
+     * values is only checked one at a time if the block has a value that is
+     * not valid. If the rule was built with throwValidationExceptionOnFail(), a
+     * ValidateException is thrown for the first value that is not valid.
+     * 
+     * @param values
+     *            The values to validate. Must not be null.
+     * @param fromIndex
+     *            The index of the first value to validate, inclusive.
+     * @param toIndex
+     *            The index of the last value to validate, exclusive.
+     * @return A BitSet with a bit set at the index of every value that is not
+     *         valid. Empty if every value in the slice is valid.
+     */
+    public BitSet invalidIndexes(final long[] values, final int fromIndex, final int toIndex)
+    {
+        final BitSet retVal = new BitSet();
+        int index = firstInvalidIndex(values, fromIndex, toIndex);
+        if (index >= 0)
+        {
+            final long low = this._lowValue;
+            final long high = this._highValue;
+            for (int block = index; block < toIndex; block += Slices.BLOCK_SIZE)
+            {
+                final int end = Math.min(block + Slices.BLOCK_SIZE, toIndex);
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                for (int i = block; i < end; i++)
+                {
+                    final long key = values[i];
+                    min = Math.min(min, key);
+                    max = Math.max(max, key);
+                }
+                if (min < low || max > high)
+                {
+                    for (int i = block; i < end; i++)
+                    {
+                        final long key = values[i];
+                        if (key < low || key > high)
+                        {
+                            retVal.set(i);
+                        }
+                    }
+                }
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Called when the value is outside of the range. Throws a ValidateException
+     * for the test that failed if the rule was built with
+     * throwValidationExceptionOnFail().
+     * 
+     * @return Always false.
+     */
+    private boolean fail(final long value)
+    {
+        if (this._isValidationExceptionThrownOnFail)
+        {
+            final RuleId ruleId = getFailedRule(value);
+            ObjectValidator.throwValidateException(ruleId, value, getExpectedValue(ruleId));
+        }
+        return (false);
+    }
+
+    /*
+     * Finds the test that a value outside of the range failed, using the same
+     * order as the LongValidator.
+     */
+    RuleId getFailedRule(final long value)
+    {
+        final RuleId retVal;
+        if (this._isTestEquals && value != this._equalsValue)
+        {
+            retVal = RuleId.EQUALS;
+        }
+        else if (this._isTestMinValue && value < this._minValue)
+        {
+            retVal = RuleId.MIN_VALUE;
+        }
+        else if (this._isTestMaxValue && value > this._maxValue)
+        {
+            retVal = RuleId.MAX_VALUE;
+        }
+        else if (this._isTestZeroValue && value != 0)
+        {
+            retVal = RuleId.ZERO_VALUE;
+        }
+        else if (this._isTestPositiveValue && value <= 0)
+        {
+            retVal = RuleId.POSITIVE_VALUE;
+        }
+        else
+        {
+            retVal = RuleId.NEGATIVE_VALUE;
+        }
+        return (retVal);
+    }
+
+    /*
+     * Gets the value that a rule tests against.
+     */
+    Object getExpectedValue(final RuleId ruleId)
+    {
+        final Object retVal;
+        switch (ruleId)
+        {
+            case EQUALS:
+                retVal = this._equalsValue;
+                break;
+            case MIN_VALUE:
+                retVal = this._minValue;
+                break;
+            case MAX_VALUE:
+                retVal = this._maxValue;
+                break;
+            default:
+                retVal = null;
+                break;
+        }
+        return (retVal);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "LongRule [_lowValue=%s, _highValue=%s, _isTestEquals=%s, _isTestMinValue=%s, _isTestMaxValue=%s, _isTestZeroValue=%s, _isTestPositiveValue=%s, _isTestNegativeValue=%s, _isValidationExceptionThrownOnFail=%s]",
+                _lowValue, _highValue, _isTestEquals, _isTestMinValue, _isTestMaxValue, _isTestZeroValue,
+                _isTestPositiveValue, _isTestNegativeValue, _isValidationExceptionThrownOnFail);
+    }
+
+    /**
+     * Builds a LongRule. The test methods mirror the LongValidator test
+     * methods. A builder is not thread safe, the rule that it builds is.
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        private boolean _isValidationExceptionThrownOnFail = false;
+        private boolean _isTestEquals                      = false;
+        private boolean _isTestMinValue                    = false;
+        private boolean _isTestMaxValue                    = false;
+        private boolean _isTestZeroValue                   = false;
+        private boolean _isTestPositiveValue               = false;
+        private boolean _isTestNegativeValue               = false;
+        private long    _equalsValue                       = 0;
+        private long    _minValue                          = Long.MIN_VALUE;
+        private long    _maxValue                          = Long.MAX_VALUE;
+
+        /**
+         * Protected constructor. Use Validate static method to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+
+        /**
+         * A method to mark that an "equals" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEquals(final long equalsValue)
+        {
+            this._isTestEquals = true;
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "max value" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param maxValue
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMaxValue(final long maxValue)
+        {
+            this._isTestMaxValue = true;
+            this._maxValue = maxValue;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "min value" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param minValue
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMinValue(final long minValue)
+        {
+            this._isTestMinValue = true;
+            this._minValue = minValue;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "zero value" test will be performed when the
+         * validate() method is called.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder isZeroValue()
+        {
+            this._isTestZeroValue = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "positive value" test will be performed when
+         * the validate() method is called.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder isPositiveValue()
+        {
+            this._isTestPositiveValue = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "negative value" test will be performed when
+         * the validate() method is called.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder isNegativeValue()
+        {
+            this._isTestNegativeValue = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an ValidateException should be thrown if the
+         * validate method returns false.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder throwValidationExceptionOnFail()
+        {
+            this._isValidationExceptionThrownOnFail = true;
+            return (this);
+        }
+
+        /**
+         * Builds an immutable rule from the test methods that were called.
+         * 
+         * @return A <code>LongRule</code> instance.
+         */
+        public LongRule build()
+        {
+            return (new LongRule(this));
+        }
+    }
+}
@@ -37,9 +37,29 @@ package com.gabstudios.validate;
  * @author Gregory Brown (sysdevone)
  *
  */
-public final class LongValidator  extends NumberValidator<Long>
+public final class LongValidator extends NumberValidator<Long>
 {
-   
+
+    /*
+     * The value that will be tested.
+     */
+    private final long _longValue;
+
+    /*
+     * The max value to test for. Defaults to Long.MAX_VALUE.
+     */
+    private long _longMaxValue = Long.MAX_VALUE;
+
+    /*
+     * The min value to test for. Defaults to Long.MIN_VALUE.
+     */
+    private long _longMinValue = Long.MIN_VALUE;
+
+    /*
+     * The value to use if the testEquals() method has been called.
+     */
+    private long _longEqualsValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -48,7 +68,133 @@ public final class LongValidator  extends NumberValidator<Long>
      */
     protected LongValidator(final long value)
     {
-        super( value, Long.MIN_VALUE, Long.MAX_VALUE, Long.valueOf(0) );
+        super();
+        this._longValue = value;
+    }
+
+    /**
+     * Gets the value that was used to initialize this validator.
+     *
+     * @return A Long value.
+     */
+    @Override
+    public Long getValue()
+    {
+        return (Long.valueOf(this._longValue));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     *
+     * @param value
+     *            The value to perform the equate with.
+     * @return The same LongValidator instance. This allows for method chaining.
+     */
+    public LongValidator testEquals(final long value)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._longEqualsValue = value;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same LongValidator instance. This allows for method chaining.
+     */
+    public LongValidator testMaxValue(final long maxValue)
+    {
+        addRule(RuleId.MAX_VALUE);
+        this._longMaxValue = maxValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same LongValidator instance. This allows for method chaining.
+     */
+    public LongValidator testMinValue(final long minValue)
+    {
+        addRule(RuleId.MIN_VALUE);
+        this._longMinValue = minValue;
+        return (this);
+    }
+
+    @Override
+    protected void assignEqualsValue(final Long value)
+    {
+        this._longEqualsValue = value;
+    }
+
+    @Override
+    protected void assignMaxValue(final Long maxValue)
+    {
+        this._longMaxValue = maxValue;
+    }
+
+    @Override
+    protected void assignMinValue(final Long minValue)
+    {
+        this._longMinValue = minValue;
+    }
+
+    @Override
+    protected Long getEqualsValue()
+    {
+        return (Long.valueOf(this._longEqualsValue));
+    }
+
+    @Override
+    protected Long getMaxValue()
+    {
+        return (Long.valueOf(this._longMaxValue));
+    }
+
+    @Override
+    protected Long getMinValue()
+    {
+        return (Long.valueOf(this._longMinValue));
+    }
+
+    @Override
+    protected Long getZeroValue()
+    {
+        return (Long.valueOf(0L));
+    }
+
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (this._longValue == this._longEqualsValue);
+    }
+
+    @Override
+    protected boolean isMaxValue()
+    {
+        return (this._longValue <= this._longMaxValue);
+    }
+
+    @Override
+    protected boolean isMinValue()
+    {
+        return (this._longValue >= this._longMinValue);
+    }
+
+    @Override
+    protected int signum()
+    {
+        return (Long.signum(this._longValue));
     }
 
 	/* (non-Javadoc)
@@ -57,9 +203,9 @@ public final class LongValidator  extends NumberValidator<Long>
 	@Override
 	public String toString() {
 		return String.format(
-				"LongValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"LongValidator [_longMaxValue=%s, _longMinValue=%s, _isValidationExceptionThrownOnFail=%s, _longEqualsValue=%s, _rules=%s, _longValue=%s]",
+				_longMaxValue, _longMinValue, _isValidationExceptionThrownOnFail, _longEqualsValue, getRules(),
+				_longValue);
 	}
     
     
@@ -0,0 +1,277 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A limit on the work of one regular expression match. A budget has a max
+ * number of steps, where a step is one char that the engine reads, and a max
+ * time. A match that goes over either limit is stopped and its rule fails with
+ * the RuleId.MATCH_BUDGET id, so a value that makes a pattern backtrack cannot
+ * stall the thread that validates it.
+ * 
+ *      MatchBudget budget = new MatchBudget(100000, Duration.ofMillis(5));
+ *      Validate.defineString(myString).testMatch("(a|aa)+b").useMatchBudget(budget).validate();
+ *
+ * The time is checked every 1024 steps. A budget counts the matches that went
+ * over it, so a budget that is shared by the rules of a service is also its
+ * metric. A budget is thread safe.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class MatchBudget
+{
+
+    /*
+     * The number of steps between two checks of the time.
+     */
+    private static final int  TIME_CHECK_MASK = 1023;
+
+    /*
+     * The wrapper of each thread, so that a match does not allocate one.
+     */
+    private static final ThreadLocal<Budgeted> BUDGETED = ThreadLocal.withInitial(Budgeted::new);
+
+    /*
+     * The max number of steps, or Long.MAX_VALUE.
+     */
+    private final long        _maxSteps;
+
+    /*
+     * The max time in nanoseconds, or Long.MAX_VALUE.
+     */
+    private final long        _maxNanos;
+
+    /*
+     * The number of matches that went over the budget.
+     */
+    private final LongAdder   _exceededCount = new LongAdder();
+
+    /**
+     * Constructor.
+     * 
+     * @param maxSteps
+     *            The max number of chars that a match reads. Must be greater
+     *            than zero (0).
+     * @param maxTime
+     *            The max time of a match, or null if the time is not limited.
+     *            Must not be negative.
+     */
+    public MatchBudget(final long maxSteps, final Duration maxTime)
+    {
+        if (maxSteps <= 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxSteps' must be greater than zero (0)."));
+        }
+        else if (maxTime != null && maxTime.isNegative())
+        {
+            throw (new IllegalArgumentException("The parameter 'maxTime' must not be negative."));
+        }
+        this._maxSteps = maxSteps;
+        this._maxNanos = (maxTime == null ? Long.MAX_VALUE : toNanos(maxTime));
+    }
+
+    /**
+     * Creates a budget that only limits the number of steps.
+     * 
+     * @param maxSteps
+     *            The max number of chars that a match reads. Must be greater
+     *            than zero (0).
+     * @return A <code>MatchBudget</code> instance.
+     */
+    public static MatchBudget ofSteps(final long maxSteps)
+    {
+        return (new MatchBudget(maxSteps, null));
+    }
+
+    /**
+     * Creates a budget that only limits the time.
+     * 
+     * @param maxTime
+     *            The max time of a match. Must not be null or negative.
+     * @return A <code>MatchBudget</code> instance.
+     */
+    public static MatchBudget ofTime(final Duration maxTime)
+    {
+        if (maxTime == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxTime' must not be null."));
+        }
+        return (new MatchBudget(Long.MAX_VALUE, maxTime));
+    }
+
+    /**
+     * @return The max number of steps of a match.
+     */
+    public long getMaxSteps()
+    {
+        return (this._maxSteps);
+    }
+
+    /**
+     * @return The max time of a match, or null if the time is not limited.
+     */
+    public Duration getMaxTime()
+    {
+        return (this._maxNanos == Long.MAX_VALUE ? null : Duration.ofNanos(this._maxNanos));
+    }
+
+    /**
+     * @return The number of matches that went over this budget.
+     */
+    public long getExceededCount()
+    {
+        return (this._exceededCount.sum());
+    }
+
+    /*
+     * Wraps a value so that the steps of a match are counted. An engine that
+     * reads past the budget gets an ExceededException. The wrapper of the
+     * thread is reused, so the caller must call release() when the match is
+     * done.
+     */
+    CharSequence wrap(final CharSequence value)
+    {
+        Budgeted retVal = BUDGETED.get();
+        if (retVal._value != null)
+        {
+            // the wrapper is in use by a match that is not released.
+            retVal = new Budgeted();
+        }
+        retVal.reset(value, this._maxSteps,
+                this._maxNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + this._maxNanos);
+        return (retVal);
+    }
+
+    /*
+     * Releases a value of wrap() so that the wrapper can be reused and does
+     * not hold the value.
+     */
+    void release(final CharSequence wrapped)
+    {
+        if (wrapped instanceof Budgeted)
+        {
+            ((Budgeted) wrapped).reset(null, 0, 0);
+        }
+    }
+
+    /*
+     * Counts a match that went over the budget.
+     */
+    void exceeded()
+    {
+        this._exceededCount.increment();
+    }
+
+    /*
+     * Converts a duration that can be too large for a long.
+     */
+    private static long toNanos(final Duration duration)
+    {
+        try
+        {
+            return (duration.toNanos());
+        }
+        catch (final ArithmeticException e)
+        {
+            return (Long.MAX_VALUE);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("MatchBudget [_maxSteps=%s, _maxNanos=%s, _exceededCount=%s]", _maxSteps, _maxNanos,
+                _exceededCount);
+    }
+
+    /*
+     * Thrown by a wrapped value when a match goes over its budget. There is
+     * one instance without a stack trace, so stopping a match does not
+     * allocate.
+     */
+    static final class ExceededException extends RuntimeException
+    {
+        private static final long              serialVersionUID = 1L;
+
+        static final ExceededException INSTANCE         = new ExceededException();
+
+        private ExceededException()
+        {
+            super("The match budget was exceeded.", null, false, false);
+        }
+    }
+
+    /*
+     * A value that counts the chars that are read. Reset for each match.
+     */
+    private static final class Budgeted implements CharSequence
+    {
+        private CharSequence _value;
+        private long         _maxSteps;
+        private long         _deadline;
+        private long         _steps;
+
+        private void reset(final CharSequence value, final long maxSteps, final long deadline)
+        {
+            this._value = value;
+            this._maxSteps = maxSteps;
+            this._deadline = deadline;
+            this._steps = 0;
+        }
+
+        @Override
+        public char charAt(final int index)
+        {
+            final long steps = ++this._steps;
+            if (steps > this._maxSteps || ((steps & TIME_CHECK_MASK) == 0 && this._deadline != Long.MAX_VALUE
+                    && System.nanoTime() - this._deadline > 0))
+            {
+                throw (ExceededException.INSTANCE);
+            }
+            return (this._value.charAt(index));
+        }
+
+        @Override
+        public int length()
+        {
+            return (this._value.length());
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end)
+        {
+            return (this._value.subSequence(start, end));
+        }
+
+        @Override
+        public String toString()
+        {
+            return (this._value.toString());
+        }
+    }
+}
@@ -24,6 +24,10 @@ package com.gabstudios.validate;
  * This is an abstract Number validator. It is used to add number based
  * validators.
  *
+ * A subclass keeps the value and the values that it is tested against in
+ * primitive fields. A test is a direct compare of the primitive values and the
+ * value is only boxed if getValue() is called or a failure message is built.
+ *
  * @author Gregory Brown (sysdevone)
  * 
  * @param <C>
@@ -33,68 +37,29 @@ package com.gabstudios.validate;
  */
 public abstract class NumberValidator<C extends Number> extends ObjectValidator<C> {
 
-	/*
-	 * A flag indicating that a max value test will be performed when the validate()
-	 * method is called.
-	 */
-	protected boolean _isTestMaxValue = false;
-
-	/*
-	 * A flag indicating that a min value test will be performed when the validate()
-	 * method is called.
-	 */
-	protected boolean _isTestMinValue = false;
-
-	/*
-	 * A flag indicating that a positive value test will be performed when the
-	 * validate() method is called.
-	 */
-	protected boolean _isTestPositiveValue = false;
-
-	/*
-	 * A flag indicating that a negative value test will be performed when the
-	 * validate() method is called.
-	 */
-	protected boolean _isTestNegativeValue = false;
-
-	/*
-	 * A flag indicating that a zero value test will be performed when the
-	 * validate() method is called.
-	 */
-	protected boolean _isTestZeroValue = false;
-
-	/*
-	 * The max value to test for. Defaults to Float.MAX_VALUE.
-	 */
-	protected C _maxValue;
-
-	/*
-	 * The min value to test for. Defaults to Float.MIN_VALUE.
-	 */
-	protected C _minValue;
-
 	/**
-	 * Used for the zero, negative, and postive testing against zero.
+	 * Protected constructor. Use Validate static method to create validator. The
+	 * value that will be validated is kept in a primitive field by the subclass
+	 * so that it is not boxed.
 	 */
-	protected C _zeroValue;
+	protected NumberValidator() {
+		super();
+	}
 
 	/**
-	 * Protected constructor. Use Validate static method to create validator.
+	 * A method to mark that an "equals" test will be performed when the
+	 * validate() method is called.
 	 *
 	 * @param value
-	 *            The value that will be validated.
-	 * @param minValue
-	 *            The min value to use in tests.
-	 * @param maxValue
-	 *            The max value to use in tests.
-	 * @param zeroValue
-	 *            The zero value to use in tests.
+	 *            The value to perform the equate with.
+	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
-	protected NumberValidator(final C value, final C minValue, final C maxValue, final C zeroValue ) {
-		super(value);
-		this._minValue = minValue;
-		this._maxValue = maxValue;
-		this._zeroValue = zeroValue;
+	@Override
+	public NumberValidator<C> testEquals(final C value) {
+		assignEqualsValue(requireValue(value, "value"));
+		addRule(RuleId.NOT_NULL);
+		addRule(RuleId.EQUALS);
+		return (this);
 	}
 
 	/**
@@ -104,11 +69,11 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * 
 	 * @param maxValue
 	 *            The value to perform the test with.
-	 * @return The same FloatValidator instance. This allows for method chaining.
+	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> testMaxValue(final C maxValue) {
-		this._isTestMaxValue = true;
-		this._maxValue = maxValue;
+		assignMaxValue(requireValue(maxValue, "maxValue"));
+		addRule(RuleId.MAX_VALUE);
 		return (this);
 	}
 
@@ -119,11 +84,11 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * 
 	 * @param minValue
 	 *            The value to perform the test with.
-	 * @return The same FloatValidator instance. This allows for method chaining.
+	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> testMinValue(final C minValue) {
-		this._isTestMinValue = true;
-		this._minValue = minValue;
+		assignMinValue(requireValue(minValue, "minValue"));
+		addRule(RuleId.MIN_VALUE);
 		return (this);
 	}
 
@@ -135,7 +100,7 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> isZeroValue() {
-		this._isTestZeroValue = true;
+		addRule(RuleId.ZERO_VALUE);
 		return (this);
 	}
 
@@ -147,7 +112,7 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> isPositiveValue() {
-		this._isTestPositiveValue = true;
+		addRule(RuleId.POSITIVE_VALUE);
 		return (this);
 	}
 
@@ -159,101 +124,250 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> isNegativeValue() {
-		this._isTestNegativeValue = true;
+		addRule(RuleId.NEGATIVE_VALUE);
 		return (this);
 	}
     
-    /*
-     * (non-Javadoc)
-     * 
-     * @see com.gabstudios.gabvalidate.Validator#validate()
-     */
-    @Override
-	public boolean validate() 
-    {
-        // call ObjectValidator validate method.
-        boolean isValid = super.validate();
-        isValid &= validateMinValue();
-        isValid &= validateMaxValue();
-        isValid &= validateZeroValue();
-        isValid &= validatePositiveValue();
-        isValid &= validateNegativeValue();
-
-        return ( isValid );
-
-    }
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
+	 */
+	@Override
+	protected boolean validateRule(final RuleId ruleId)
+	{
+		final boolean isValid;
+		switch (ruleId)
+		{
+			case MIN_VALUE:
+				isValid = validateMinValue();
+				break;
+			case MAX_VALUE:
+				isValid = validateMaxValue();
+				break;
+			case ZERO_VALUE:
+				isValid = validateZeroValue();
+				break;
+			case POSITIVE_VALUE:
+				isValid = validatePositiveValue();
+				break;
+			case NEGATIVE_VALUE:
+				isValid = validateNegativeValue();
+				break;
+			default:
+				isValid = super.validateRule(ruleId);
+				break;
+		}
+		return (isValid);
+	}
 
-	protected boolean validateMinValue()
+	/*
+	 * A primitive value can never be null.
+	 */
+	@Override
+	protected boolean validateNotNull()
+	{
+		return( true );
+	}
+
+	@Override
+	protected boolean validateEquals()
 	{
-		boolean isValid = true;
-		if (this._isTestMinValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._minValue) >= 0);
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-						.throwValidateException("The value must be greater than or equal to the min value (value = '"
-								+ this._value + "' min value = '" + this._minValue + "').");
-			}
+		final boolean isValid = isEqualsValue();
+		if (!isValid && isFailureReported()) {
+			reportFailure(RuleId.EQUALS, getValue(), getEqualsValue());
+		}
+		return( isValid );
+	}
 
+	protected boolean validateMinValue()
+	{
+		final boolean isValid = isMinValue();
+		if (!isValid && isFailureReported()) {
+			reportFailure(RuleId.MIN_VALUE, getValue(), getMinValue());
 		}
 		return( isValid );
 	}
 
 	protected boolean validateMaxValue()
 	{
-		boolean isValid = true;
-		if (this._isTestMaxValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._maxValue) <= 0);
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-						.throwValidateException("The value must be less than or equal to the max value (value = '"
-								+ this._value + "' max value = '" + this._maxValue + "').");
-			}
+		final boolean isValid = isMaxValue();
+		if (!isValid && isFailureReported()) {
+			reportFailure(RuleId.MAX_VALUE, getValue(), getMaxValue());
 		}
 		return( isValid );
 	}
 
 	protected boolean validateZeroValue()
 	{
-		boolean isValid = true;
-		if (this._isTestZeroValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._zeroValue) == 0);
-			//System.out.println( "Zero: " + isValid );
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator.throwValidateException("The value is not a zero value x = 0 (value = '" + this._value + "').");
-			}
+		final boolean isValid = (signum() == 0);
+		if (!isValid && isFailureReported()) {
+			reportFailure(RuleId.ZERO_VALUE, getValue(), null);
 		}
 		return( isValid );
 	}
 
 	protected boolean validatePositiveValue()
 	{
-		boolean isValid = true;
-		if (this._isTestPositiveValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._zeroValue) > 0);
-			//System.out.println( "Pos: " + isValid );
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-						.throwValidateException("The value must be be a positive value x > 0 (value = '"
-								+ this._value + "').");
-			}
+		final boolean isValid = (signum() > 0);
+		if (!isValid && isFailureReported()) {
+			reportFailure(RuleId.POSITIVE_VALUE, getValue(), null);
 		}
 		return( isValid );
 	}
 
 	protected boolean validateNegativeValue()
 	{
-		boolean isValid = true;
-		if (this._isTestNegativeValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._zeroValue) < 0);
-			//System.out.println( "Neg: " + isValid );
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-				.throwValidateException("The value must be be a negative value x < 0 (value = '"
-				+ this._value + "').");
-			}
+		final boolean isValid = (signum() < 0);
+		if (!isValid && isFailureReported()) {
+			reportFailure(RuleId.NEGATIVE_VALUE, getValue(), null);
 		}
 		return( isValid );
 	}
 
+	/**
+	 * Gets if the "max value" test will be performed. Replaces the protected
+	 * _isTestMaxValue field.
+	 *
+	 * @return true if the MAX_VALUE rule is set.
+	 */
+	protected final boolean isTestMaxValue() {
+		return (hasRule(RuleId.MAX_VALUE));
+	}
+
+	/**
+	 * Gets if the "min value" test will be performed. Replaces the protected
+	 * _isTestMinValue field.
+	 *
+	 * @return true if the MIN_VALUE rule is set.
+	 */
+	protected final boolean isTestMinValue() {
+		return (hasRule(RuleId.MIN_VALUE));
+	}
+
+	/**
+	 * Gets if the "zero value" test will be performed. Replaces the protected
+	 * _isTestZeroValue field.
+	 *
+	 * @return true if the ZERO_VALUE rule is set.
+	 */
+	protected final boolean isTestZeroValue() {
+		return (hasRule(RuleId.ZERO_VALUE));
+	}
+
+	/**
+	 * Gets if the "positive value" test will be performed. Replaces the
+	 * protected _isTestPositiveValue field.
+	 *
+	 * @return true if the POSITIVE_VALUE rule is set.
+	 */
+	protected final boolean isTestPositiveValue() {
+		return (hasRule(RuleId.POSITIVE_VALUE));
+	}
+
+	/**
+	 * Gets if the "negative value" test will be performed. Replaces the
+	 * protected _isTestNegativeValue field.
+	 *
+	 * @return true if the NEGATIVE_VALUE rule is set.
+	 */
+	protected final boolean isTestNegativeValue() {
+		return (hasRule(RuleId.NEGATIVE_VALUE));
+	}
+
+	/*
+	 * Tests that a boxed parameter is not null before it is unboxed.
+	 */
+	private static <N> N requireValue(final N value, final String parameterName)
+	{
+		if (value == null) {
+			throw (new IllegalArgumentException("The parameter '" + parameterName + "' must not be null."));
+		}
+		return( value );
+	}
+
+	/**
+	 * Stores the unboxed equals value in the primitive field of the subclass.
+	 *
+	 * @param value
+	 *            The value to perform the equate with. Never null.
+	 */
+	protected abstract void assignEqualsValue(final C value);
+
+	/**
+	 * Stores the unboxed max value in the primitive field of the subclass.
+	 *
+	 * @param maxValue
+	 *            The max value. Never null.
+	 */
+	protected abstract void assignMaxValue(final C maxValue);
+
+	/**
+	 * Stores the unboxed min value in the primitive field of the subclass.
+	 *
+	 * @param minValue
+	 *            The min value. Never null.
+	 */
+	protected abstract void assignMinValue(final C minValue);
+
+	/**
+	 * Gets the equals value. Only used to build a failure message.
+	 *
+	 * @return The boxed equals value.
+	 */
+	protected abstract C getEqualsValue();
+
+	/**
+	 * Gets the max value. Used to build a failure message. Replaces the
+	 * protected _maxValue field.
+	 *
+	 * @return The boxed max value.
+	 */
+	protected abstract C getMaxValue();
+
+	/**
+	 * Gets the min value. Used to build a failure message. Replaces the
+	 * protected _minValue field.
+	 *
+	 * @return The boxed min value.
+	 */
+	protected abstract C getMinValue();
+
+	/**
+	 * Gets the zero value that the zero, positive and negative tests compare
+	 * against. Replaces the protected _zeroValue field.
+	 *
+	 * @return The boxed zero value.
+	 */
+	protected abstract C getZeroValue();
+
+	/**
+	 * Tests if the value equals the equals value.
+	 *
+	 * @return true if the values are equal.
+	 */
+	protected abstract boolean isEqualsValue();
+
+	/**
+	 * Tests if the value is less than or equal to the max value.
+	 *
+	 * @return true if the value is less than or equal to the max value.
+	 */
+	protected abstract boolean isMaxValue();
+
+	/**
+	 * Tests if the value is greater than or equal to the min value.
+	 *
+	 * @return true if the value is greater than or equal to the min value.
+	 */
+	protected abstract boolean isMinValue();
+
+	/**
+	 * Gets the sign of the value.
+	 *
+	 * @return -1, 0 or 1 if the value is negative, zero or positive.
+	 */
+	protected abstract int signum();
+
 }
@@ -20,6 +20,8 @@
 
 package com.gabstudios.validate;
 
+import java.util.Set;
+
 /**
  * This is a Object validator. After this class is created, call the testXXXX()
  * methods to perform tests when the validate() method is called.
@@ -46,22 +48,33 @@ public abstract class ObjectValidator<C> implements Validator
      */
     protected boolean _isValidationExceptionThrownOnFail = false;
 
+    /*
+     * The max number of violations that validateAll() keeps.
+     */
+    private int _maxViolations = ValidationResult.DEFAULT_MAX_VIOLATIONS;
+
+    /*
+     * A flag indicating that validateAll() is running and that failures are
+     * collected instead of thrown.
+     */
+    private boolean _isFailureCollected = false;
+
+    /*
+     * Collects the failures of validateAll(). Only created when the first
+     * failure is found.
+     */
+    private ValidationResult.Collector _collector;
+
 	/*
 	 * The value to use if the testEquals(boolean) method has been called.
 	 */
 	protected C _equalsValue;
 
 	/*
-	 * A flag indicating if an "equals" test will be performed when the validate()
-	 * method is called.
-	 */
-	protected boolean _isTestEquals = false;
-
-	/*
-	 * A flag indicating if an "not null" test will be performed when the validate()
-	 * method is called.
+	 * The tests that will be performed when the validate() method is called.
+	 * Bit n is set for the RuleId with the ordinal n.
 	 */
-	protected boolean _isTestNotNull = false;
+	private long _rules = 0L;
 
 	/*
 	 * The value that will be tested.
@@ -78,6 +91,28 @@ public abstract class ObjectValidator<C> implements Validator
 		this._value = value;
 	}
 
+	/*
+	 * Constructor for a validator that runs the same tests as a template on
+	 * another value. Used to validate many values without adding the tests
+	 * for each value.
+	 */
+	ObjectValidator(final C value, final ObjectValidator<C> template) {
+		this._value = value;
+		this._isValidationExceptionThrownOnFail = template._isValidationExceptionThrownOnFail;
+		this._maxViolations = template._maxViolations;
+		this._equalsValue = template._equalsValue;
+		this._rules = template._rules;
+	}
+
+	/**
+	 * Protected constructor for validators that keep the value that will be
+	 * validated in a primitive field. These validators must override the
+	 * getValue(), validateNotNull() and validateEquals() methods.
+	 */
+	protected ObjectValidator() {
+		this._value = null;
+	}
+
 	/**
 	 * Gets the value that was used to initialize this validator.
 	 *
@@ -96,8 +131,8 @@ public abstract class ObjectValidator<C> implements Validator
 	 * @return The same BooleanValidator instance. This allows for method chaining.
 	 */
 	public ObjectValidator<C> testEquals(final C value) {
-		this._isTestNotNull = true;
-		this._isTestEquals = true;
+		addRule(RuleId.NOT_NULL);
+		addRule(RuleId.EQUALS);
 		this._equalsValue = value;
 		return (this);
 	}
@@ -109,7 +144,7 @@ public abstract class ObjectValidator<C> implements Validator
 	 * @return The same StringValidator instance. This allows for method chaining.
 	 */
 	public ObjectValidator<C> testNotNull() {
-		this._isTestNotNull = true;
+		addRule(RuleId.NOT_NULL);
 		return (this);
 	}
 
@@ -120,27 +155,218 @@ public abstract class ObjectValidator<C> implements Validator
 	 */
     @Override
 	public boolean validate() {
-        boolean isValid = validateNotNull();
-        isValid &= validateEquals();
+        // run the rules from the cheapest to the most expensive. The RuleId
+        // values are declared in that order, so the lowest bit is run first.
+        boolean isValid = true;
+        for (long rules = this._rules; rules != 0L && isNextRuleRun(isValid); rules &= rules - 1L)
+        {
+            isValid &= validateRule(RuleId.valueOf(Long.numberOfTrailingZeros(rules)));
+        }
 
         return (isValid);
 	}
 
+    /*
+     * Runs one rule. A validator that adds a rule must override this method
+     * and pass the rules that it does not know to the super class.
+     * 
+     * @param ruleId The rule to run.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateRule(final RuleId ruleId)
+    {
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_NULL:
+                isValid = validateNotNull();
+                break;
+            case EQUALS:
+                isValid = validateEquals();
+                break;
+            default:
+                throw (new IllegalStateException("The rule '" + ruleId + "' is not supported by " + getClass().getSimpleName() + "."));
+        }
+        return (isValid);
+    }
+
+    /*
+     * Marks that a rule will be run when the validate() method is called.
+     */
+    protected final void addRule(final RuleId ruleId)
+    {
+        this._rules |= ruleId.getMask();
+    }
+
+    /*
+     * Marks that a rule will not be run when the validate() method is called.
+     */
+    protected final void removeRule(final RuleId ruleId)
+    {
+        this._rules &= ~ruleId.getMask();
+    }
+
+    /*
+     * Gets if a rule will be run when the validate() method is called.
+     */
+    protected final boolean hasRule(final RuleId ruleId)
+    {
+        return ((this._rules & ruleId.getMask()) != 0L);
+    }
+
+    /**
+     * Gets if the "not null" test will be performed. Replaces the protected
+     * _isTestNotNull field. The rule mask is the only state of a test.
+     * 
+     * @return true if the NOT_NULL rule is set.
+     */
+    protected final boolean isTestNotNull()
+    {
+        return (hasRule(RuleId.NOT_NULL));
+    }
+
+    /**
+     * Gets if the "equals" test will be performed. Replaces the protected
+     * _isTestEquals field.
+     * 
+     * @return true if the EQUALS rule is set.
+     */
+    protected final boolean isTestEquals()
+    {
+        return (hasRule(RuleId.EQUALS));
+    }
+
+    /*
+     * Gets the rules that will be run when the validate() method is called.
+     */
+    protected final Set<RuleId> getRules()
+    {
+        return (RuleId.toSet(this._rules));
+    }
+
+    /*
+     * Gets the bit mask of the rules that will be run when the validate()
+     * method is called.
+     */
+    protected final long getRuleMask()
+    {
+        return (this._rules);
+    }
+
+    /*
+     * Gets if the next rule is run. validate() stops at the first rule that
+     * fails, so the rules are run from the cheapest to the most expensive.
+     * validateAll() runs every rule.
+     * 
+     * @param isValid The result of the rules that have been run.
+     * @return A boolean value that is true if the next rule is run.
+     */
+    protected boolean isNextRuleRun(final boolean isValid)
+    {
+        return (isValid || this._isFailureCollected);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.gabvalidate.Validator#validateAll()
+     */
+    @Override
+    public ValidationResult validateAll()
+    {
+        final boolean isValidationExceptionThrownOnFail = this._isValidationExceptionThrownOnFail;
+        this._isValidationExceptionThrownOnFail = false;
+        this._isFailureCollected = true;
+        this._collector = null;
+        try
+        {
+            validate();
+        }
+        finally
+        {
+            this._isValidationExceptionThrownOnFail = isValidationExceptionThrownOnFail;
+            this._isFailureCollected = false;
+        }
+
+        final ValidationResult.Collector collector = this._collector;
+        this._collector = null;
+        return (collector == null ? ValidationResult.VALID : collector.toResult());
+    }
+
+    /**
+     * Sets the max number of violations that the validateAll() method keeps
+     * in its result. Failures past the max are still counted.
+     * 
+     * @param <T> A type of validator.
+     * @param maxViolations
+     *            The max number of violations. Must not be negative.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    @SuppressWarnings({ "hiding", "unchecked" })
+    public <T extends Validator> T collectMaxViolations(final int maxViolations)
+    {
+        if (maxViolations < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxViolations' must not be negative."));
+        }
+        this._maxViolations = maxViolations;
+        return ((T) this);
+    }
+
+    /*
+     * Gets if validateAll() is running and every failure is collected. A
+     * validator that can find more than one failure for a rule reports all of
+     * them in this case.
+     */
+    protected boolean isFailureCollected()
+    {
+        return (this._isFailureCollected);
+    }
+
+    /*
+     * Gets if a failure has to be reported, either because an exception is
+     * thrown or because validateAll() is collecting failures. A validator calls
+     * this before it boxes any value for reportFailure().
+     */
+    protected boolean isFailureReported()
+    {
+        return (this._isValidationExceptionThrownOnFail || this._isFailureCollected);
+    }
+
+    /*
+     * Reports a failure. Throws a ValidateException, or adds the failure to the
+     * result of validateAll().
+     * 
+     * @param ruleId The rule that failed.
+     * @param value The value that failed.
+     * @param expectedValue The value that it was tested against. Can be null.
+     */
+    protected void reportFailure(final RuleId ruleId, final Object value, final Object expectedValue)
+    {
+        if (this._isFailureCollected)
+        {
+            if (this._collector == null)
+            {
+                this._collector = new ValidationResult.Collector(this._maxViolations);
+            }
+            this._collector.add(ruleId, value, expectedValue);
+        }
+        else if (this._isValidationExceptionThrownOnFail)
+        {
+            ObjectValidator.throwValidateException(ruleId, value, expectedValue);
+        }
+    }
+
 	/*
      * Used as part of the validation process to test to not null.
      * @return A <code>boolean</code> value of true it is valid or false the validate failed.
      */
     protected boolean validateNotNull()
     {
-		boolean isValid = true;
-        if (this._isTestNotNull)
+		final boolean isValid = (this._value != null);
+        if (!isValid && isFailureReported())
         {
-			isValid = (this._value != null);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must not be null");
-            }
+        	reportFailure(RuleId.NOT_NULL, null, null);
         }
         return(isValid);
     }
@@ -151,18 +377,10 @@ public abstract class ObjectValidator<C> implements Validator
      */
 	protected boolean validateEquals()
     {
-		boolean isValid = true;
-        if (this._isTestEquals)
+	    final boolean isValid = this._value != null && this._value.equals(this._equalsValue);
+        if (!isValid && isFailureReported())
         {
-		    isValid = this._value != null && this._value.equals(this._equalsValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid )
-            {
-            	ObjectValidator
-                        .throwValidateException("The value does not equal the expected value (value = '"
-                                + this._value
-                                + "' expected value = '"
-                                + this._equalsValue + "').");
-            }
+        	reportFailure(RuleId.EQUALS, this._value, this._equalsValue);
         }
         return(isValid);
     }
@@ -182,6 +400,22 @@ public abstract class ObjectValidator<C> implements Validator
         throw (new ValidateException(errorMessage));
     }
     
+    /*
+     * Forces an ValidateException to be thrown. The message is rendered from the
+     * template of the rule only if it is asked for.
+     * 
+     * @param ruleId The rule that failed.
+     * @param value The value that failed.
+     * @param expectedValue The value that it was tested against. Can be null.
+     */
+    protected static void throwValidateException(final RuleId ruleId,
+            final Object value, final Object expectedValue)
+    {
+        assert (ruleId != null) : "The parameter 'ruleId' is NULL.";
+        
+        throw (new ValidateException(ruleId, value, expectedValue));
+    }
+    
     /**
      * A method to mark that an IllegalArgumentException should be thrown if the
      * validate method returns false.
@@ -203,8 +437,8 @@ public abstract class ObjectValidator<C> implements Validator
 	@Override
 	public String toString() {
 		return String.format(
-				"ObjectValidator [_isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isValidationExceptionThrownOnFail, _equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"ObjectValidator [_isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+				_isValidationExceptionThrownOnFail, _equalsValue, getRules(), _value);
 	}
 
 
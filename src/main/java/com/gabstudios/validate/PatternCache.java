@@ -0,0 +1,209 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, concurrent cache of compiled regular expressions. The
+ * StringValidator.testMatch(String) method gets its Pattern from the default
+ * cache so that a regular expression that is used again is not recompiled.
+ * When the cache is full, the least recently used patterns are evicted. The
+ * DfaPattern instances used by testMatch(String, RegexEngine) are kept in a
+ * second cache of the same max size.
+ * 
+ *      PatternCache cache = PatternCache.getDefault();
+ *      long hits = cache.getHitCount();
+ *
+ * The max size of the default cache is 256 patterns of each kind. It can be
+ * changed with the "com.gabstudios.validate.patternCacheSize" system property.
+ * A value that is not greater than zero (0) is ignored with a warning.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class PatternCache
+{
+
+    /**
+     * The max size of the default cache if the system property is not set.
+     */
+    public static final int           DEFAULT_MAX_SIZE = 256;
+
+    /*
+     * The system property that sets the max size of the default cache.
+     */
+    private static final String       SIZE_PROPERTY    = "com.gabstudios.validate.patternCacheSize";
+
+    /*
+     * The cache used by the StringValidator.
+     */
+    private static final PatternCache DEFAULT          = new PatternCache(getDefaultMaxSize());
+
+    /*
+     * The compiled patterns keyed by regular expression.
+     */
+    private final ConcurrentLruCache<String, Pattern> _cache;
+
+    /*
+     * The DFA patterns keyed by regular expression.
+     */
+    private final ConcurrentLruCache<String, DfaPattern> _dfaCache;
+
+    /**
+     * Constructor.
+     * 
+     * @param maxSize
+     *            The max number of patterns of each kind to keep. Must be
+     *            greater than zero (0).
+     */
+    public PatternCache(final int maxSize)
+    {
+        this._cache = new ConcurrentLruCache<>(maxSize);
+        this._dfaCache = new ConcurrentLruCache<>(maxSize);
+    }
+
+    /*
+     * Reads the max size of the default cache from the system property. Falls
+     * back to the default max size if the value is not greater than zero (0),
+     * so that a bad setting does not fail the class initialization.
+     */
+    static int getDefaultMaxSize()
+    {
+        int retVal = Integer.getInteger(SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+        if (retVal <= 0)
+        {
+            System.getLogger(PatternCache.class.getName()).log(System.Logger.Level.WARNING,
+                    "The system property ''{0}'' must be greater than zero (0). Using {1} instead of {2}.",
+                    SIZE_PROPERTY, DEFAULT_MAX_SIZE, retVal);
+            retVal = DEFAULT_MAX_SIZE;
+        }
+        return (retVal);
+    }
+
+    /**
+     * Gets the cache that is used by the StringValidator.
+     * 
+     * @return The default <code>PatternCache</code> instance.
+     */
+    public static PatternCache getDefault()
+    {
+        return (DEFAULT);
+    }
+
+    /**
+     * Gets the compiled pattern for a regular expression. The regular
+     * expression is only compiled if it is not in the cache.
+     * 
+     * @param regex
+     *            The regular expression. Must not be null.
+     * @return A compiled <code>Pattern</code>.
+     * @throws java.util.regex.PatternSyntaxException
+     *             If the regular expression is not valid.
+     */
+    public Pattern getPattern(final String regex)
+    {
+        if (regex == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'regex' must not be null."));
+        }
+        return (this._cache.get(regex, Pattern::compile));
+    }
+
+    /**
+     * Gets the DFA pattern for a regular expression. The regular expression is
+     * only compiled if it is not in the cache.
+     * 
+     * @param regex
+     *            The regular expression. Must not be null.
+     * @return A compiled <code>DfaPattern</code>.
+     * @throws java.util.regex.PatternSyntaxException
+     *             If the regular expression is not valid.
+     */
+    public DfaPattern getDfaPattern(final String regex)
+    {
+        if (regex == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'regex' must not be null."));
+        }
+        return (this._dfaCache.get(regex, DfaPattern::compile));
+    }
+
+    /**
+     * Removes all of the patterns. The statistics are not reset.
+     */
+    public void clear()
+    {
+        this._cache.clear();
+        this._dfaCache.clear();
+    }
+
+    /**
+     * @return The number of patterns of both kinds in the cache.
+     */
+    public int size()
+    {
+        return (this._cache.size() + this._dfaCache.size());
+    }
+
+    /**
+     * @return The max number of patterns of both kinds in the cache. This is
+     *         twice the max size that the cache was created with.
+     */
+    public int getMaxSize()
+    {
+        return (this._cache.getMaxSize() + this._dfaCache.getMaxSize());
+    }
+
+    /**
+     * @return The number of times that a pattern was found in the cache.
+     */
+    public long getHitCount()
+    {
+        return (this._cache.getHitCount() + this._dfaCache.getHitCount());
+    }
+
+    /**
+     * @return The number of times that a pattern had to be compiled.
+     */
+    public long getMissCount()
+    {
+        return (this._cache.getMissCount() + this._dfaCache.getMissCount());
+    }
+
+    /**
+     * @return The number of patterns that were evicted because the cache was
+     *         full.
+     */
+    public long getEvictionCount()
+    {
+        return (this._cache.getEvictionCount() + this._dfaCache.getEvictionCount());
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("PatternCache [_cache=%s, _dfaCache=%s]", _cache, _dfaCache);
+    }
+}
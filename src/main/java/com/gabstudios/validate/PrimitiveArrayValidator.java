@@ -0,0 +1,358 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.BitSet;
+
+/**
+ * The base class of the primitive array validators. After a validator is
+ * created, call the testXXXX() methods to perform tests when the validate()
+ * method is called.
+ * 
+ * Validate.defineIntArray(myInts).testNotNullEmpty().testMinElementValue(0).validate();
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the
+ * validate fails then a ValidateException will be thrown.
+ * 
+ * The elements are never boxed while they are validated. An element is only
+ * boxed to report a failure. The equals value and the value that is returned
+ * by getValue() are copied, the same as the ArrayValidator.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ * 
+ * @param <C> A primitive array class such as byte[], int[], long[], etc.
+ *
+ */
+public abstract class PrimitiveArrayValidator<C> extends ObjectValidator<C>
+{
+
+    /*
+     * The max length to test for. Defaults to 0.
+     */
+    private int _maxLength = 0;
+
+    /*
+     * The min length to test for. Defaults to 0.
+     */
+    private int _minLength = 0;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. This value can be null or
+     *            empty.
+     */
+    protected PrimitiveArrayValidator(final C value)
+    {
+        super(value);
+    }
+
+    /**
+     * Gets a copy of the value that was used to initialize this validator.
+     * 
+     * @return A copy of the array, or null if the value is null.
+     */
+    @Override
+    public C getValue()
+    {
+        return (this._value == null ? null : copyOf(this._value));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with. It is copied.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    @Override
+    public PrimitiveArrayValidator<C> testEquals(final C equalsValue)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._equalsValue = (equalsValue == null ? null : copyOf(equalsValue));
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max length" test will be performed when the
+     * validate() method is called. Tests if the length is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxLength
+     *            The value to perform the test with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public PrimitiveArrayValidator<C> testMaxLength(final int maxLength)
+    {
+        if (maxLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than zero (0)."));
+        }
+        else if (maxLength < this._minLength)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than the min length value."));
+        }
+        else
+        {
+            // have to test for null if max length is selected.
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MAX_LENGTH);
+            this._maxLength = maxLength;
+        }
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min length" test will be performed when the
+     * validate() method is called. Tests if the length is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minLength
+     *            The value to perform the test with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public PrimitiveArrayValidator<C> testMinLength(final int minLength)
+    {
+        if (minLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be greater than zero (0)."));
+        }
+        else if ((minLength > this._maxLength) && (this._maxLength != 0))
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be less than the max length value."));
+        }
+        else
+        {
+            // have to test for null if min length is selected.
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MIN_LENGTH);
+            this._minLength = minLength;
+        }
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null" test will be performed when the
+     * validate() method is called.
+     * 
+     * @return The same validator instance. This allows for method chaining.
+     */
+    @Override
+    public PrimitiveArrayValidator<C> testNotNull()
+    {
+        addRule(RuleId.NOT_NULL);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null or empty" test will be performed when
+     * the validate() method is called.
+     * 
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public PrimitiveArrayValidator<C> testNotNullEmpty()
+    {
+        // have to test for null if empty is selected.
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.NOT_EMPTY);
+        return (this);
+    }
+
+    /*
+     * Marks that every element will be tested against the element range. Called
+     * by the subclass when an element min or max value is set.
+     */
+    protected void addElementRule()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EACH_ELEMENT);
+    }
+
+    /*
+     * Gets the length of the value. The value is not null.
+     */
+    protected abstract int length();
+
+    /*
+     * Copies an array.
+     */
+    protected abstract C copyOf(final C value);
+
+    /*
+     * Tests if the value is equal to the equals value.
+     */
+    protected abstract boolean isEqualsValue();
+
+    /*
+     * Finds the first element that is outside of the element range. The value
+     * is not null.
+     * 
+     * @return The index of the element, or -1 if every element is valid.
+     */
+    protected abstract int firstInvalidIndex();
+
+    /*
+     * Finds every element that is outside of the element range. The value is
+     * not null.
+     */
+    protected abstract BitSet invalidIndexes();
+
+    /*
+     * Gets an element boxed, to report a failure.
+     */
+    protected abstract Object getElement(final int index);
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
+     */
+    @Override
+    protected boolean validateRule(final RuleId ruleId)
+    {
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateNotEmpty();
+                break;
+            case MIN_LENGTH:
+                isValid = validateMinLength();
+                break;
+            case MAX_LENGTH:
+                isValid = validateMaxLength();
+                break;
+            case EACH_ELEMENT:
+                isValid = validateEachElement();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test that an array is not empty.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateNotEmpty()
+    {
+        final boolean isValid = (this._value != null && length() > 0);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.NOT_EMPTY, this._value, null);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test min length
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateMinLength()
+    {
+        final boolean isValid = (this._value != null && length() >= this._minLength);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.MIN_LENGTH, this._value, this._minLength);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test max length.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateMaxLength()
+    {
+        final boolean isValid = (this._value != null && length() <= this._maxLength);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.MAX_LENGTH, this._value, this._maxLength);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test for equality.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    @Override
+    protected boolean validateEquals()
+    {
+        final boolean isValid = isEqualsValue();
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.EQUALS, this._value, this._equalsValue);
+        }
+        return (isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test every element against the
+     * element range.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateEachElement()
+    {
+        boolean isValid = false;
+        if (this._value != null)
+        {
+            if (isFailureCollected())
+            {
+                final BitSet invalidIndexes = invalidIndexes();
+                isValid = invalidIndexes.isEmpty();
+                for (int i = invalidIndexes.nextSetBit(0); i >= 0; i = invalidIndexes.nextSetBit(i + 1))
+                {
+                    reportFailure(RuleId.EACH_ELEMENT, getElement(i), i);
+                }
+            }
+            else
+            {
+                final int index = firstInvalidIndex();
+                isValid = (index < 0);
+                if (!isValid && isFailureReported())
+                {
+                    reportFailure(RuleId.EACH_ELEMENT, getElement(index), index);
+                }
+            }
+        }
+        return (isValid);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "%s [_maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _rules=%s, _length=%s]",
+                getClass().getSimpleName(), _maxLength, _minLength, _isValidationExceptionThrownOnFail, getRules(),
+                (_value == null ? null : length()));
+    }
+}
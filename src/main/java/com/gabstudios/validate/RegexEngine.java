@@ -0,0 +1,47 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/**
+ * The regular expression engines that a match test can use.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public enum RegexEngine
+{
+    /**
+     * The backtracking java.util.regex engine. Every feature is supported, but
+     * some patterns can take exponential time on a crafted value.
+     */
+    JAVA,
+
+    /**
+     * A DFA engine that is built lazily while values are matched. A match
+     * takes linear time in the length of the value and does not allocate once
+     * the states it needs are cached. A pattern that uses a feature that the
+     * DFA does not support, such as a backreference or a lookaround, falls back
+     * to the JAVA engine.
+     * 
+     * @see DfaPattern
+     */
+    DFA
+}
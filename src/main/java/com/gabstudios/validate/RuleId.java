@@ -0,0 +1,289 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Identifies a validation rule. A ValidateException keeps the id of the rule
+ * that failed so that a caller can tell the failures apart without parsing the
+ * message.
+ * 
+ * Each id has a message template. The template is only rendered when the
+ * message of a ValidateException is asked for. The arguments of a template are
+ * the value (%1$s), the expected value (%2$s) and the length of the value
+ * (%3$s).
+ * 
+ * The ids are declared from the cheapest to the most expensive test.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public enum RuleId
+{
+    /**
+     * The value must not be null.
+     */
+    NOT_NULL("The value must not be null"),
+
+    /**
+     * The value must be true.
+     */
+    TRUE("The value is not true. (value = '%1$s')."),
+
+    /**
+     * The value must be false.
+     */
+    FALSE("The value is not false. (value = '%1$s')."),
+
+    /**
+     * The value must not be empty.
+     */
+    NOT_EMPTY("The value must not be empty."),
+
+    /**
+     * The number of bytes of the value must be greater than or equal to a min
+     * length.
+     */
+    MIN_BYTE_LENGTH("The byte length of the value must be greater than or equal to the min value (value = '%1$s' min value = '%2$s')."),
+
+    /**
+     * The number of bytes of the value must be less than or equal to a max
+     * length.
+     */
+    MAX_BYTE_LENGTH("The byte length of the value must be less than or equal to the max value (value = '%1$s' max value = '%2$s')."),
+
+    /**
+     * A record must have an expected number of fields.
+     */
+    FIELD_COUNT("The record does not have the expected number of fields (value = '%1$s' expected value = '%2$s')."),
+
+    /**
+     * The length of the value must be greater than or equal to a min length.
+     */
+    MIN_LENGTH("The value must be greater than or equal to the min value (value = '%1$s' length = '%3$s' min value = '%2$s')."),
+
+    /**
+     * The length of the value must be less than or equal to a max length.
+     */
+    MAX_LENGTH("The value must be less than or equal to the max value (value = '%1$s' length = '%3$s' max value = '%2$s')."),
+
+    /**
+     * The value must be greater than or equal to a min value.
+     */
+    MIN_VALUE("The value must be greater than or equal to the min value (value = '%1$s' min value = '%2$s')."),
+
+    /**
+     * The value must be less than or equal to a max value.
+     */
+    MAX_VALUE("The value must be less than or equal to the max value (value = '%1$s' max value = '%2$s')."),
+
+    /**
+     * The value must be zero.
+     */
+    ZERO_VALUE("The value is not a zero value x = 0 (value = '%1$s')."),
+
+    /**
+     * The value must be greater than zero.
+     */
+    POSITIVE_VALUE("The value must be be a positive value x > 0 (value = '%1$s')."),
+
+    /**
+     * The value must be less than zero.
+     */
+    NEGATIVE_VALUE("The value must be be a negative value x < 0 (value = '%1$s')."),
+
+    /**
+     * The value must equal an expected value.
+     */
+    EQUALS("The value does not equal the expected value (value = '%1$s' expected value = '%2$s')."),
+
+    /**
+     * The value must equal an expected value without case.
+     */
+    EQUALS_NO_CASE("The value does not equal the expected value (string value = '%1$s' expected value = '%2$s')."),
+
+    /**
+     * The char must be a digit.
+     */
+    IS_DIGIT("The char is not a digit (value = '%1$s')."),
+
+    /**
+     * The char must be lower case.
+     */
+    IS_LOWER_CASE("The char is not lower case (value = '%1$s')."),
+
+    /**
+     * The char must be upper case.
+     */
+    IS_UPPER_CASE("The char is not upper case (value = '%1$s')."),
+
+    /**
+     * The char must be a whitespace.
+     */
+    IS_WHITESPACE("The char is not a whitespace (value = '%1$s')."),
+
+    /**
+     * Every char of the value must be in a CharClass.
+     */
+    CHAR_CLASS("The value has a char that is not in the allowed chars (value = '%1$s' allowed chars = '%2$s')."),
+
+    /**
+     * The value must be in a TextFormat.
+     */
+    FORMAT("The value is not in the expected format (value = '%1$s' format = '%2$s')."),
+
+    /**
+     * Every char of the value must be ASCII.
+     */
+    IS_ASCII("The value is not ASCII (value = '%1$s')."),
+
+    /**
+     * The bytes of the value must be well formed UTF-8.
+     */
+    WELL_FORMED("The value is not well formed UTF-8 at byte offset %2$s (value = '%1$s')."),
+
+    /**
+     * The value must be a number.
+     */
+    IS_NUMBER("The value is not a number (value = '%1$s')."),
+
+    /**
+     * The host of a URI must be a valid host name or IP address literal.
+     */
+    HOST_SYNTAX("The host (value = '%1$s') is not a valid host name or IP address."),
+
+    /**
+     * The host name of a URI must match a name in the allowed hosts.
+     */
+    ALLOW_HOST("The host (value = '%1$s') does not match the entries in the allowed hosts (value = '%2$s')."),
+
+    /**
+     * The host name of a URI must not match a name in the denied hosts.
+     */
+    DENY_HOST("The host (value = '%1$s') is present in the denied hosts (value = '%2$s')."),
+
+    /**
+     * The protocol of a URI must be in the allowed protocols.
+     */
+    ALLOWED_PROTOCOLS("The url protocol (value = '%1$s') does not match the entries in the allow list (value = '%2$s')."),
+
+    /**
+     * The port of a URI must be in the allowed ports.
+     */
+    ALLOWED_PORTS("The url port (value = '%1$s') does not match the entries in the allow list (value = '%2$s')."),
+
+    /**
+     * The value must match a regular expression.
+     */
+    MATCH("The value does not match the regular expression (value = '%1$s' regex = '%2$s')."),
+
+    /**
+     * A regular expression match must finish within its budget. The match is
+     * stopped and the value is not known to be valid or not valid.
+     */
+    MATCH_BUDGET("The regular expression match did not finish within its budget (value = '%1$s' budget = '%2$s')."),
+
+    /**
+     * Every element of the value must be valid for the element rule.
+     */
+    EACH_ELEMENT("The element at index %2$s is not valid (value = '%1$s')."),
+
+    /**
+     * The host of a URI must resolve to an address.
+     */
+    RESOLVE_ADDRESS("The host (value = '%1$s') is an unknown host."),
+
+    /**
+     * The address of a URI must be in the allow list.
+     */
+    ALLOW_LIST("The address (value = '%1$s') does not match the entries in the allow list (value = '%2$s')."),
+
+    /**
+     * The address of a URI must not be in the deny list.
+     */
+    DENY_LIST("The address (value = '%1$s') is present in the deny list (value = '%2$s')."),
+
+    /**
+     * The validate() method of a Validator that does not report its own rules
+     * returned false.
+     */
+    VALIDATE("The value is not valid.");
+
+    /*
+     * The message template.
+     */
+    private final String _template;
+
+    /*
+     * The rules by ordinal. The rule masks are a long, so there can be no more
+     * than 64 rules.
+     */
+    private static final RuleId[] VALUES = values();
+
+    private RuleId(final String template)
+    {
+        this._template = template;
+    }
+
+    /**
+     * Gets the message template of the rule.
+     * 
+     * @return A <code>String</code> format template.
+     */
+    public String getTemplate()
+    {
+        return (this._template);
+    }
+
+    /**
+     * Gets the bit of the rule in a rule mask. Bit n is set for the rule with
+     * the ordinal n.
+     * 
+     * @return A <code>long</code> with one bit set.
+     */
+    public long getMask()
+    {
+        return (1L << ordinal());
+    }
+
+    /*
+     * Gets the rule with an ordinal.
+     */
+    static RuleId valueOf(final int ordinal)
+    {
+        return (VALUES[ordinal]);
+    }
+
+    /*
+     * Gets the rules that are set in a rule mask.
+     */
+    static Set<RuleId> toSet(final long mask)
+    {
+        final Set<RuleId> retVal = EnumSet.noneOf(RuleId.class);
+        for (long bits = mask; bits != 0L; bits &= bits - 1L)
+        {
+            retVal.add(VALUES[Long.numberOfTrailingZeros(bits)]);
+        }
+        return (retVal);
+    }
+}
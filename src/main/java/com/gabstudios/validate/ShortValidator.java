@@ -38,7 +38,27 @@ package com.gabstudios.validate;
  *
  */
 public final class ShortValidator extends NumberValidator<Short>
-{   
+{
+
+    /*
+     * The value that will be tested.
+     */
+    private final short _shortValue;
+
+    /*
+     * The max value to test for. Defaults to Short.MAX_VALUE.
+     */
+    private short _shortMaxValue = Short.MAX_VALUE;
+
+    /*
+     * The min value to test for. Defaults to Short.MIN_VALUE.
+     */
+    private short _shortMinValue = Short.MIN_VALUE;
+
+    /*
+     * The value to use if the testEquals() method has been called.
+     */
+    private short _shortEqualsValue;
     
     /**
      * Protected constructor. Use Validate static method to create validator.
@@ -48,7 +68,133 @@ public final class ShortValidator extends NumberValidator<Short>
      */
     protected ShortValidator(final short value)
     {
-        super( value, Short.MIN_VALUE, Short.MAX_VALUE, (short)0);
+        super();
+        this._shortValue = value;
+    }
+
+    /**
+     * Gets the value that was used to initialize this validator.
+     *
+     * @return A Short value.
+     */
+    @Override
+    public Short getValue()
+    {
+        return (Short.valueOf(this._shortValue));
+    }
+
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called.
+     *
+     * @param value
+     *            The value to perform the equate with.
+     * @return The same ShortValidator instance. This allows for method chaining.
+     */
+    public ShortValidator testEquals(final short value)
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS);
+        this._shortEqualsValue = value;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same ShortValidator instance. This allows for method chaining.
+     */
+    public ShortValidator testMaxValue(final short maxValue)
+    {
+        addRule(RuleId.MAX_VALUE);
+        this._shortMaxValue = maxValue;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same ShortValidator instance. This allows for method chaining.
+     */
+    public ShortValidator testMinValue(final short minValue)
+    {
+        addRule(RuleId.MIN_VALUE);
+        this._shortMinValue = minValue;
+        return (this);
+    }
+
+    @Override
+    protected void assignEqualsValue(final Short value)
+    {
+        this._shortEqualsValue = value;
+    }
+
+    @Override
+    protected void assignMaxValue(final Short maxValue)
+    {
+        this._shortMaxValue = maxValue;
+    }
+
+    @Override
+    protected void assignMinValue(final Short minValue)
+    {
+        this._shortMinValue = minValue;
+    }
+
+    @Override
+    protected Short getEqualsValue()
+    {
+        return (Short.valueOf(this._shortEqualsValue));
+    }
+
+    @Override
+    protected Short getMaxValue()
+    {
+        return (Short.valueOf(this._shortMaxValue));
+    }
+
+    @Override
+    protected Short getMinValue()
+    {
+        return (Short.valueOf(this._shortMinValue));
+    }
+
+    @Override
+    protected Short getZeroValue()
+    {
+        return (Short.valueOf((short) 0));
+    }
+
+    @Override
+    protected boolean isEqualsValue()
+    {
+        return (this._shortValue == this._shortEqualsValue);
+    }
+
+    @Override
+    protected boolean isMaxValue()
+    {
+        return (this._shortValue <= this._shortMaxValue);
+    }
+
+    @Override
+    protected boolean isMinValue()
+    {
+        return (this._shortValue >= this._shortMinValue);
+    }
+
+    @Override
+    protected int signum()
+    {
+        return (Integer.signum(this._shortValue));
     }
 
 	/* (non-Javadoc)
@@ -57,9 +203,9 @@ public final class ShortValidator extends NumberValidator<Short>
 	@Override
 	public String toString() {
 		return String.format(
-				"ShortValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"ShortValidator [_shortMaxValue=%s, _shortMinValue=%s, _isValidationExceptionThrownOnFail=%s, _shortEqualsValue=%s, _rules=%s, _shortValue=%s]",
+				_shortMaxValue, _shortMinValue, _isValidationExceptionThrownOnFail, _shortEqualsValue, getRules(),
+				_shortValue);
 	}
     
     
@@ -0,0 +1,65 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/*
+ * Helpers for the methods that validate a slice of an array.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class Slices
+{
+    /*
+     * The number of elements that are scanned before the scan checks if one of
+     * them failed. The scan of a block has no branches, so the JIT can
+     * vectorize it.
+     */
+    static final int BLOCK_SIZE = 256;
+
+    /*
+     * Private constructor. Only static methods.
+     */
+    private Slices()
+    {
+    }
+
+    /*
+     * Tests the parameters of a slice.
+     * 
+     * @param array The array. Must not be null.
+     * @param length The length of the array.
+     * @param fromIndex The first index of the slice, inclusive.
+     * @param toIndex The last index of the slice, exclusive.
+     */
+    static void checkSlice(final Object array, final int length, final int fromIndex, final int toIndex)
+    {
+        if (array == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'values' must not be null."));
+        }
+        else if (fromIndex < 0 || fromIndex > toIndex || toIndex > length)
+        {
+            throw (new IllegalArgumentException("The slice [" + fromIndex + ", " + toIndex
+                    + ") is not inside of an array with a length of " + length + "."));
+        }
+    }
+}
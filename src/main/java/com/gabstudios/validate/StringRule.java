@@ -0,0 +1,510 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This is a compiled String rule. Use the Validate.defineStringRule() method to
+ * get a builder, call the testXXXX() methods on the builder and then build the
+ * rule once. The rule can then validate any number of values.
+ * 
+ *      final StringRule rule = Validate.defineStringRule().testNotNullEmpty()
+ *          .testMaxLength(10).build();
+ *      
+ *      boolean retVal = rule.validate("HelloWorld");
+ *
+ * A rule gives the same results as the StringValidator that was configured with
+ * the same test methods. Unlike a validator, a rule is immutable, can be shared
+ * between threads and does not allocate when validating a value.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class StringRule implements ValidationRule<String>
+{
+
+    /*
+     * A flag indicating if an exception should be thrown if the validate fails.
+     */
+    private final boolean              _isValidationExceptionThrownOnFail;
+
+    /*
+     * Flags indicating which tests will be performed.
+     */
+    private final boolean              _isTestNotNull;
+    private final boolean              _isTestEquals;
+    private final boolean              _isTestEqualsNoCase;
+    private final boolean              _isTestNotEmpty;
+    private final boolean              _isTestMinLength;
+    private final boolean              _isTestMaxLength;
+    private final boolean              _isTestMatch;
+
+    /*
+     * The values used by the tests.
+     */
+    private final String               _equalsValue;
+    private final int                  _minLength;
+    private final int                  _maxLength;
+
+    /*
+     * The char class, format and match tests. A copy of the tests of the
+     * builder.
+     */
+    private final TextTests            _textTests;
+
+    /*
+     * A matcher per thread so that a match does not allocate a new Matcher.
+     */
+    private final ThreadLocal<Matcher> _matcher;
+
+    /*
+     * Private constructor. Use the Builder to create a rule.
+     */
+    private StringRule(final Builder builder)
+    {
+        this._isValidationExceptionThrownOnFail = builder._isValidationExceptionThrownOnFail;
+        this._isTestNotNull = builder._isTestNotNull;
+        this._isTestEquals = builder._isTestEquals;
+        this._isTestEqualsNoCase = builder._isTestEqualsNoCase;
+        this._isTestNotEmpty = builder._isTestNotEmpty;
+        this._isTestMinLength = builder._isTestMinLength;
+        this._isTestMaxLength = builder._isTestMaxLength;
+        this._isTestMatch = builder._isTestMatch;
+        this._equalsValue = builder._equalsValue;
+        this._minLength = builder._minLength;
+        this._maxLength = builder._maxLength;
+        this._textTests = new TextTests(builder._textTests);
+
+        final Pattern pattern = this._textTests.getMatchPattern();
+        this._matcher = (builder._isTestMatch && pattern != null ? ThreadLocal.withInitial(() -> pattern.matcher(""))
+                : null);
+    }
+
+    /**
+     * Performs a validation test on the value based on the test methods that
+     * were called when the rule was built.
+     *
+     * @param value
+     *            The value to validate. This value can be null or empty.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    @Override
+    public boolean validate(final String value)
+    {
+        final RuleId ruleId = getFailedRule(value);
+        return (ruleId == null || fail(ruleId, value));
+    }
+
+    /*
+     * Finds the first test that a value fails. The tests are checked in RuleId
+     * order, the same as the StringValidator. Works on any CharSequence, so
+     * text that is not a String does not have to be copied.
+     * 
+     * @return The RuleId of the test that failed, or null if the value is
+     *         valid. Never throws.
+     */
+    RuleId getFailedRule(final CharSequence value)
+    {
+        final RuleId retVal;
+        if (value == null)
+        {
+            retVal = (this._isTestNotNull ? RuleId.NOT_NULL : null);
+        }
+        else if (this._isTestNotEmpty && value.length() == 0)
+        {
+            retVal = RuleId.NOT_EMPTY;
+        }
+        else if (this._isTestMinLength && value.length() < this._minLength)
+        {
+            retVal = RuleId.MIN_LENGTH;
+        }
+        else if (this._isTestMaxLength && value.length() > this._maxLength)
+        {
+            retVal = RuleId.MAX_LENGTH;
+        }
+        else if (this._isTestEquals && !TextTests.isRegionEqual(value, 0, value.length(), this._equalsValue, false))
+        {
+            retVal = RuleId.EQUALS;
+        }
+        else if (this._isTestEqualsNoCase
+                && !TextTests.isRegionEqual(value, 0, value.length(), this._equalsValue, true))
+        {
+            retVal = RuleId.EQUALS_NO_CASE;
+        }
+        else if (this._textTests.isCharClassTested() && !this._textTests.isCharClass(value, 0, value.length()))
+        {
+            retVal = RuleId.CHAR_CLASS;
+        }
+        else if (this._textTests.isFormatTested() && !this._textTests.isFormat(value, 0, value.length()))
+        {
+            retVal = RuleId.FORMAT;
+        }
+        else if (this._isTestMatch)
+        {
+            retVal = this._textTests.getFailedMatchRule(value, 0, value.length(),
+                    (this._matcher == null ? null : this._matcher.get()));
+        }
+        else
+        {
+            retVal = null;
+        }
+        return (retVal);
+    }
+
+    /*
+     * Called when a test fails. Throws a ValidateException if the rule was
+     * built with throwValidationExceptionOnFail().
+     * 
+     * @return Always false.
+     */
+    private boolean fail(final RuleId ruleId, final String value)
+    {
+        if (this._isValidationExceptionThrownOnFail)
+        {
+            ObjectValidator.throwValidateException(ruleId, value, getExpectedValue(ruleId));
+        }
+        return (false);
+    }
+
+    /*
+     * Gets the value that a rule tests against.
+     */
+    Object getExpectedValue(final RuleId ruleId)
+    {
+        final Object retVal;
+        switch (ruleId)
+        {
+            case EQUALS:
+            case EQUALS_NO_CASE:
+                retVal = this._equalsValue;
+                break;
+            case MIN_LENGTH:
+                retVal = this._minLength;
+                break;
+            case MAX_LENGTH:
+                retVal = this._maxLength;
+                break;
+            default:
+                retVal = this._textTests.getExpectedValue(ruleId);
+                break;
+        }
+        return (retVal);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "StringRule [_isTestNotNull=%s, _isTestEquals=%s, _isTestEqualsNoCase=%s, _isTestNotEmpty=%s, _isTestMinLength=%s, _isTestMaxLength=%s, _isTestMatch=%s, _equalsValue=%s, _minLength=%s, _maxLength=%s, _textTests=%s, _isValidationExceptionThrownOnFail=%s]",
+                _isTestNotNull, _isTestEquals, _isTestEqualsNoCase, _isTestNotEmpty, _isTestMinLength,
+                _isTestMaxLength, _isTestMatch, _equalsValue, _minLength, _maxLength, _textTests,
+                _isValidationExceptionThrownOnFail);
+    }
+
+    /**
+     * Builds a StringRule. The test methods mirror the StringValidator test
+     * methods. A builder is not thread safe, the rule that it builds is.
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        private boolean _isValidationExceptionThrownOnFail = false;
+        private boolean _isTestNotNull                     = false;
+        private boolean _isTestEquals                      = false;
+        private boolean _isTestEqualsNoCase                = false;
+        private boolean _isTestNotEmpty                    = false;
+        private boolean _isTestMinLength                   = false;
+        private boolean _isTestMaxLength                   = false;
+        private boolean _isTestMatch                       = false;
+        private String  _equalsValue;
+        private final TextTests _textTests                 = new TextTests();
+        private int     _minLength                         = 0;
+        private int     _maxLength                         = 0;
+
+        /**
+         * Protected constructor. Use Validate static method to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+
+        /**
+         * A method to mark that an "not null" test will be performed when the
+         * validate() method is called.
+         *
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotNull()
+        {
+            this._isTestNotNull = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "equals" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEquals(final String equalsValue)
+        {
+            this._isTestNotNull = true;
+            this._isTestEquals = true;
+            this._isTestEqualsNoCase = false;
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "equals no case" test will be performed when
+         * the validate() method is called.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEqualsNoCase(final String equalsValue)
+        {
+            this._isTestNotNull = true;
+            this._isTestEqualsNoCase = true;
+            this._isTestEquals = false;
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "match" test using regex will be performed
+         * when the validate() method is called. The regular expression is
+         * compiled by the PatternCache.
+         * 
+         * @param value
+         *            A regular expression that be used to see if the String
+         *            value is a match.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatch(final String value)
+        {
+            return (testMatch(PatternCache.getDefault().getPattern(value)));
+        }
+
+        /**
+         * A method to mark that an "match" test using regex will be performed
+         * when the validate() method is called. The regular expression is
+         * matched by the engine and compiled by the PatternCache.
+         * 
+         * @param value
+         *            A regular expression that be used to see if the String
+         *            value is a match.
+         * @param engine
+         *            The engine that matches the regular expression. Must not
+         *            be null.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatch(final String value, final RegexEngine engine)
+        {
+            if (engine == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'engine' must not be null."));
+            }
+            return (engine == RegexEngine.DFA ? testMatch(PatternCache.getDefault().getDfaPattern(value))
+                    : testMatch(value));
+        }
+
+        /**
+         * A method to mark that an "match" test using a DFA pattern will be
+         * performed when the validate() method is called.
+         * 
+         * @param pattern
+         *            A DFA pattern that be used to see if the String value is
+         *            a match.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatch(final DfaPattern pattern)
+        {
+            this._textTests.setMatch(pattern);
+            this._isTestNotNull = true;
+            this._isTestMatch = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that a "char class" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param charClass
+         *            The allowed chars, such as CharClass.HEX.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testCharClass(final CharClass charClass)
+        {
+            this._textTests.setCharClass(charClass);
+            this._isTestNotNull = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that a "format" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param format
+         *            The format, such as TextFormat.UUID.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testFormat(final TextFormat format)
+        {
+            this._textTests.setFormat(format);
+            this._isTestNotNull = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "match" test using a compiled regex will be
+         * performed when the validate() method is called.
+         * 
+         * @param pattern
+         *            A compiled regular expression that be used to see if the
+         *            String value is a match.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatch(final Pattern pattern)
+        {
+            this._textTests.setMatch(pattern);
+            this._isTestNotNull = true;
+            this._isTestMatch = true;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "max length" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param maxLength
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMaxLength(final int maxLength)
+        {
+            if (maxLength < 0)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'maxLength' must be greater than zero (0)."));
+            }
+            else if (maxLength < this._minLength)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'maxLength' must be greater than the min length value."));
+            }
+            this._isTestNotNull = true;
+            this._isTestMaxLength = true;
+            this._maxLength = maxLength;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "min length" test will be performed when the
+         * validate() method is called.
+         * 
+         * @param minLength
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMinLength(final int minLength)
+        {
+            if (minLength < 0)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'minLength' must be greater than zero (0)."));
+            }
+            else if ((minLength > this._maxLength) && (this._maxLength != 0))
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'minLength' must be less than the max length value."));
+            }
+            this._isTestNotNull = true;
+            this._isTestMinLength = true;
+            this._minLength = minLength;
+            return (this);
+        }
+
+        /**
+         * A method to mark that an "not null or empty" test will be performed
+         * when the validate() method is called.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotNullEmpty()
+        {
+            this._isTestNotNull = true;
+            this._isTestNotEmpty = true;
+            return (this);
+        }
+
+        /**
+         * Sets a budget for the match test. A match that goes over the budget
+         * is stopped and the test fails with the RuleId.MATCH_BUDGET id.
+         * 
+         * @param budget
+         *            The max steps and time of a match. Must not be null.
+         * @return The same Builder instance. This allows for method chaining.
+         * @see MatchBudget
+         */
+        public Builder useMatchBudget(final MatchBudget budget)
+        {
+            this._textTests.setMatchBudget(budget);
+            return (this);
+        }
+
+        /**
+         * A method to mark that an ValidateException should be thrown if the
+         * validate method returns false.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder throwValidationExceptionOnFail()
+        {
+            this._isValidationExceptionThrownOnFail = true;
+            return (this);
+        }
+
+        /**
+         * Builds an immutable rule from the test methods that were called.
+         * 
+         * @return A <code>StringRule</code> instance.
+         */
+        public StringRule build()
+        {
+            return (new StringRule(this));
+        }
+    }
+}
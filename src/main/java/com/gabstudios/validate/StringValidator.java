@@ -43,41 +43,10 @@ public class StringValidator extends ObjectValidator<String>
 {
     
     /*
-     * The value to use if the testMatch(String) method has been called.
+     * The char class, format and match tests.
      */
-    private String       _matchValue;
-    
-    
-    /*
-     * A flag indicating if an "equals no case" test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestEqualsNoCase = false;
-    
-    /*
-     * A flag indicating that a max length test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestMaxLength    = false;
-    
-    /*
-     * A flag indicating that a min length test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestMinLength    = false;
-    
-    /*
-     * A flag indicating if an "not empty" test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestNotEmpty     = false;
-    
-    /*
-     * A flag indicating if a "match" will be performed using regrex expressions
-     * when the validate() method is called.
-     */
-    private boolean      _isTestMatch        = false;
-    
+    private final TextTests _textTests;
+
     /*
      * The max length to test for. Defaults to 0.
      */
@@ -98,6 +67,20 @@ public class StringValidator extends ObjectValidator<String>
     protected StringValidator(final String value)
     {
         super( value );
+        this._textTests = new TextTests();
+    }
+
+    /*
+     * Constructor for a validator that runs the same tests as a template on
+     * another value. The char class, format and match tests are shared with
+     * the template, so the template must not be changed after.
+     */
+    StringValidator(final String value, final StringValidator template)
+    {
+        super( value, template );
+        this._textTests = template._textTests;
+        this._maxLength = template._maxLength;
+        this._minLength = template._minLength;
     }
     
     
@@ -114,7 +97,7 @@ public class StringValidator extends ObjectValidator<String>
     public StringValidator testEquals(final String equalsValue)
     {
         // have to test for null if empty is selected.
-        this._isTestEqualsNoCase = false;
+        removeRule(RuleId.EQUALS_NO_CASE);
     		super.testEquals(equalsValue);
     		return( this );
     }
@@ -131,33 +114,151 @@ public class StringValidator extends ObjectValidator<String>
     public StringValidator testEqualsNoCase(final String equalsValue)
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestEqualsNoCase = true;
-        this._isTestEquals = false;
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.EQUALS_NO_CASE);
+        removeRule(RuleId.EQUALS);
         this._equalsValue = equalsValue;
     	return( this );
     }
     
+    /**
+     * A method to mark that a "char class" test will be performed when the
+     * validate() method is called. Every char of the value must be in the
+     * class. The chars are scanned in one pass without a regular expression.
+     * 
+     * @param charClass
+     *            The allowed chars, such as CharClass.HEX.
+     * @return The same StringValidator instance. This allows for method
+     *         chaining.
+     */
+    public StringValidator testCharClass(final CharClass charClass)
+    {
+        this._textTests.setCharClass(charClass);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.CHAR_CLASS);
+        return (this);
+    }
+
+    /**
+     * A method to mark that a "format" test will be performed when the
+     * validate() method is called. The format is tested with a hand written
+     * scanner, which is much faster than the same regular expression.
+     * 
+     * @param format
+     *            The format, such as TextFormat.UUID.
+     * @return The same StringValidator instance. This allows for method
+     *         chaining.
+     */
+    public StringValidator testFormat(final TextFormat format)
+    {
+        this._textTests.setFormat(format);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.FORMAT);
+        return (this);
+    }
+
     /**
      * A method to mark that an "match" test using regex will be performed when
-     * the validate() method is called.
+     * the validate() method is called. The regular expression is compiled
+     * once and kept in the PatternCache so that it is not recompiled by the
+     * next validator that uses it.
+     * 
+     * @param value
+     *            A regular expression that be used to see if the String value
+     *            is a match.
+     * 
+     * @return The same StringValidator instance. This allows for method
+     *         chaining.
+     * @see PatternCache
+     */
+    public StringValidator testMatch(final String value)
+    {
+        return (testMatch(PatternCache.getDefault().getPattern(value)));
+    }
+
+    /**
+     * A method to mark that an "match" test using regex will be performed when
+     * the validate() method is called. The regular expression is matched by
+     * the engine. The compiled pattern is kept in the PatternCache.
      * 
      * @param value
      *            A regular expression that be used to see if the String value
      *            is a match.
+     * @param engine
+     *            The engine that matches the regular expression. Must not be
+     *            null.
      * 
      * @return The same StringValidator instance. This allows for method
      *         chaining.
+     * @see RegexEngine
      */
-    public StringValidator testMatch(String value)
+    public StringValidator testMatch(final String value, final RegexEngine engine)
     {
+        if (engine == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'engine' must not be null."));
+        }
+        return (engine == RegexEngine.DFA ? testMatch(PatternCache.getDefault().getDfaPattern(value))
+                : testMatch(value));
+    }
+
+    /**
+     * A method to mark that an "match" test using a DFA pattern will be
+     * performed when the validate() method is called. The test takes linear
+     * time in the length of the String value.
+     * 
+     * @param pattern
+     *            A DFA pattern that be used to see if the String value is a
+     *            match.
+     * 
+     * @return The same StringValidator instance. This allows for method
+     *         chaining.
+     */
+    public StringValidator testMatch(final DfaPattern pattern)
+    {
+        this._textTests.setMatch(pattern);
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MATCH);
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "match" test using a compiled regex will be
+     * performed when the validate() method is called.
+     * 
+     * @param pattern
+     *            A compiled regular expression that be used to see if the
+     *            String value is a match.
+     * 
+     * @return The same StringValidator instance. This allows for method
+     *         chaining.
+     */
+    public StringValidator testMatch(final Pattern pattern)
+    {
+        this._textTests.setMatch(pattern);
         // have to test for null if match is selected.
-        this._isTestNotNull = true;
-        this._isTestMatch = true;
-        this._matchValue = value;
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MATCH);
         return (this);
     }
     
+    /**
+     * Sets a budget for the match test. A match that goes over the budget is
+     * stopped and the test fails with the RuleId.MATCH_BUDGET id instead of
+     * the RuleId.MATCH id.
+     * 
+     * @param budget
+     *            The max steps and time of a match. Must not be null.
+     * @return The same StringValidator instance. This allows for method
+     *         chaining.
+     * @see MatchBudget
+     */
+    public StringValidator useMatchBudget(final MatchBudget budget)
+    {
+        this._textTests.setMatchBudget(budget);
+        return (this);
+    }
+
     /**
      * A method to mark that an "max length" test will be performed when the
      * validate() method is called. Tests if the length is less than or equal to
@@ -183,8 +284,8 @@ public class StringValidator extends ObjectValidator<String>
         else
         {
             // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMaxLength = true;
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MAX_LENGTH);
             this._maxLength = maxLength;
         }
         return (this);
@@ -213,8 +314,8 @@ public class StringValidator extends ObjectValidator<String>
         else
         {
             // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMinLength = true;
+            addRule(RuleId.NOT_NULL);
+            addRule(RuleId.MIN_LENGTH);
             this._minLength = minLength;
         }
         return (this);
@@ -230,8 +331,8 @@ public class StringValidator extends ObjectValidator<String>
     public StringValidator testNotNullEmpty()
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestNotEmpty = true;
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.NOT_EMPTY);
         return (this);
     }
     
@@ -240,115 +341,114 @@ public class StringValidator extends ObjectValidator<String>
 		return( this._value != null && this._value.length() > 0 );
 	}
 
-   /*
-    * (non-Javadoc)
-    * 
-    * @see com.gabstudios.gabvalidate.Validator#validate()
-    */
-   @Override
-   public boolean validate() 
-   {
-       // call ObjectValidator validate method.
-        boolean isValid = super.validate();
-        isValid &= validateNotEmpty();
-        isValid &= validateEqualsNoCase();
-        isValid &= validateMinLength();
-        isValid &= validateMaxLength();
-        isValid &= validateMatch();
 
-        return ( isValid );
-
-   }
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
+     */
+    @Override
+    protected boolean validateRule(final RuleId ruleId)
+    {
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateNotEmpty();
+                break;
+            case MIN_LENGTH:
+                isValid = validateMinLength();
+                break;
+            case MAX_LENGTH:
+                isValid = validateMaxLength();
+                break;
+            case EQUALS_NO_CASE:
+                isValid = validateEqualsNoCase();
+                break;
+            case CHAR_CLASS:
+                isValid = validateCharClass();
+                break;
+            case FORMAT:
+                isValid = validateFormat();
+                break;
+            case MATCH:
+                isValid = validateMatch();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
+    }
 
    protected boolean validateNotEmpty()
    {
-       boolean isValid = true;
-       if (this._isTestNotEmpty)
+       final boolean isValid = (this._value != null && this._value.length() > 0);
+       if (!isValid && isFailureReported())
        {
-           
-           isValid = (this._value != null && this._value.length() > 0);
-           if (this._isValidationExceptionThrownOnFail && !isValid)
-           {
-               ObjectValidator
-                       .throwValidateException("The value must not be empty.");
-           }
+           reportFailure(RuleId.NOT_EMPTY, this._value, null);
        }
        return(isValid);
    }
 
    protected boolean validateEqualsNoCase()
    {
-        boolean isValid = true;
-        if (this._isTestEqualsNoCase)
+        final boolean isValid = this._value != null && this._value.equalsIgnoreCase(this._equalsValue);
+        if (!isValid && isFailureReported())
         {
-            isValid &= this._value != null && this._value.equalsIgnoreCase(this._equalsValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-                ObjectValidator
-                        .throwValidateException("The value does not equal the expected value (string value = '"
-                                + this._value
-                                + "' expected value = '"
-                                + this._equalsValue + "').");
-            }
+            reportFailure(RuleId.EQUALS_NO_CASE, this._value, this._equalsValue);
         }
         return(isValid);
     }
 
     protected boolean validateMinLength()
     {
-        boolean isValid = true;
-        if (this._isTestMinLength)
+        final boolean isValid = (this._value != null && this._value.length() >= this._minLength);
+        if (!isValid && isFailureReported())
         {
-            isValid &= (this._value != null && this._value.length() >= this._minLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be greater than or equal to the min value (value = '"
-                                + this._value
-                                + "' length = '"
-                                + ((this._value != null) ? this._value.length() : "null" )
-                                + "' min value = '"
-                                + this._minLength + "').");
-            }
-            
+        	reportFailure(RuleId.MIN_LENGTH, this._value, this._minLength);
         }
         return(isValid);
     }
 
     protected boolean validateMaxLength()
     {
-        boolean isValid = true;
-        if (this._isTestMaxLength)
+        final boolean isValid = (this._value != null && this._value.length() <= this._maxLength);
+        if (!isValid && isFailureReported())
         {
-            isValid &= (this._value != null && this._value.length() <= this._maxLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be less than or equal to the max value (value = '"
-                                + this._value
-                                + "' length = '"
-                                + ((this._value != null) ? this._value.length() : "null" )
-                                + "' max value = '"
-                                + this._maxLength + "').");
-            }
+        	reportFailure(RuleId.MAX_LENGTH, this._value, this._maxLength);
         }
         return(isValid);
     }
 
+    protected boolean validateCharClass()
+    {
+        final boolean isValid = (this._value != null && this._textTests.isCharClass(this._value, 0, this._value.length()));
+        if (!isValid && isFailureReported())
+        {
+        	reportFailure(RuleId.CHAR_CLASS, this._value, this._textTests.getExpectedValue(RuleId.CHAR_CLASS));
+        }
+        return(isValid);
+    }
+
+    protected boolean validateFormat()
+    {
+        final boolean isValid = (this._value != null && this._textTests.isFormat(this._value, 0, this._value.length()));
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.FORMAT, this._value, this._textTests.getExpectedValue(RuleId.FORMAT));
+        }
+        return (isValid);
+    }
+
     protected boolean validateMatch()
     {
-        boolean isValid = true;
-        if (this._isTestMatch)
+        final RuleId failedRule = (this._value == null ? RuleId.MATCH
+                : this._textTests.getFailedMatchRule(this._value, 0, this._value.length(), null));
+        final boolean isValid = (failedRule == null);
+        if (!isValid && isFailureReported())
         {
-            isValid &= this._value != null && (Pattern.matches(this._matchValue, this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value does not match the reqular expression (value = '"
-                                + this._value
-                                + "' regex = '"
-                                + this._matchValue + "').");
-            }
+            reportFailure(failedRule, this._value, this._textTests.getExpectedValue(failedRule));
         }
         return(isValid);
     }
@@ -360,13 +460,9 @@ public class StringValidator extends ObjectValidator<String>
 	@Override
 	public String toString() {
 		return String.format(
-				"StringValidator [_matchValue=%s, _isTestEqualsNoCase=%s, _isTestMaxLength=%s, _isTestMinLength=%s, _isTestNotEmpty=%s, _isTestMatch=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_matchValue, _isTestEqualsNoCase, _isTestMaxLength, _isTestMinLength, _isTestNotEmpty, _isTestMatch,
-				_maxLength, _minLength, _isValidationExceptionThrownOnFail, _equalsValue, _isTestEquals, _isTestNotNull,
-				_value);
+				"StringValidator [_textTests=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _rules=%s, _value=%s]",
+				_textTests, _maxLength, _minLength, _isValidationExceptionThrownOnFail, _equalsValue,
+				getRules(), _value);
 	}
 
-
-    
-    
 }
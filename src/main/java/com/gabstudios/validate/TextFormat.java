@@ -0,0 +1,261 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/**
+ * Common text formats that are tested with a hand written scanner instead of
+ * a regular expression. A scanner makes one pass over the chars, keeps its
+ * state in local variables and does not allocate.
+ * 
+ *      Validate.defineString(myId).testFormat(TextFormat.UUID).validate();
+ *
+ * Each format lists the regular expression that it is the same as.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public enum TextFormat
+{
+    /**
+     * A UUID in the 8-4-4-4-12 hex form, in any case.
+     * 
+     * [0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}
+     */
+    UUID
+    {
+        @Override
+        boolean matches(final CharSequence value, final int start, final int end)
+        {
+            if (end - start != 36)
+            {
+                return (false);
+            }
+            for (int i = 0; i < 36; i++)
+            {
+                final char c = value.charAt(start + i);
+                if (i == 8 || i == 13 || i == 18 || i == 23)
+                {
+                    if (c != '-')
+                    {
+                        return (false);
+                    }
+                }
+                else if (!CharClass.HEX.contains(c))
+                {
+                    return (false);
+                }
+            }
+            return (true);
+        }
+    },
+
+    /**
+     * One or more hex digits, in any case, such as a digest.
+     * 
+     * [0-9a-fA-F]+
+     */
+    HEX
+    {
+        @Override
+        boolean matches(final CharSequence value, final int start, final int end)
+        {
+            return (end > start && CharClass.HEX.firstInvalidIndex(value, start, end) < 0);
+        }
+    },
+
+    /**
+     * A decimal number with an optional sign and an optional fraction.
+     * 
+     * [+-]?[0-9]+(\.[0-9]+)?
+     */
+    DECIMAL
+    {
+        @Override
+        boolean matches(final CharSequence value, final int start, final int end)
+        {
+            int i = start;
+            if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-'))
+            {
+                i++;
+            }
+            final int integerStart = i;
+            while (i < end && isDigit(value.charAt(i)))
+            {
+                i++;
+            }
+            if (i == integerStart)
+            {
+                return (false);
+            }
+            if (i < end && value.charAt(i) == '.')
+            {
+                final int fractionStart = ++i;
+                while (i < end && isDigit(value.charAt(i)))
+                {
+                    i++;
+                }
+                if (i == fractionStart)
+                {
+                    return (false);
+                }
+            }
+            return (i == end);
+        }
+    },
+
+    /**
+     * An ASCII identifier that does not start with a digit.
+     * 
+     * [A-Za-z_][A-Za-z0-9_]*
+     */
+    IDENTIFIER
+    {
+        @Override
+        boolean matches(final CharSequence value, final int start, final int end)
+        {
+            if (end == start)
+            {
+                return (false);
+            }
+            final char first = value.charAt(start);
+            return ((first == '_' || CharClass.ALPHA.contains(first))
+                    && IDENTIFIER_CHARS.firstInvalidIndex(value, start + 1, end) < 0);
+        }
+    },
+
+    /**
+     * An email address with a dot-atom local part of at most 64 chars and a
+     * domain of two or more host name labels. The address is at most 254
+     * chars. Quoted local parts and address literals are not allowed.
+     * 
+     * [atext]+(\.[atext]+)*@[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?(\.[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?)+
+     */
+    EMAIL
+    {
+        @Override
+        boolean matches(final CharSequence value, final int start, final int end)
+        {
+            if (end - start > 254)
+            {
+                return (false);
+            }
+
+            // the local part.
+            int i = start;
+            boolean isDotAllowed = false;
+            while (i < end && value.charAt(i) != '@')
+            {
+                final char c = value.charAt(i);
+                if (c == '.')
+                {
+                    if (!isDotAllowed)
+                    {
+                        return (false);
+                    }
+                    isDotAllowed = false;
+                }
+                else if (ATEXT_CHARS.contains(c))
+                {
+                    isDotAllowed = true;
+                }
+                else
+                {
+                    return (false);
+                }
+                i++;
+            }
+            if (i == end || !isDotAllowed || i - start > 64)
+            {
+                return (false);
+            }
+
+            // the domain labels.
+            int labelCount = 0;
+            int labelStart = ++i;
+            for (; i <= end; i++)
+            {
+                final char c = (i < end) ? value.charAt(i) : '.';
+                if (c == '.')
+                {
+                    final int labelLength = i - labelStart;
+                    if (labelLength == 0 || labelLength > 63 || value.charAt(i - 1) == '-')
+                    {
+                        return (false);
+                    }
+                    labelCount++;
+                    labelStart = i + 1;
+                }
+                else if (c == '-')
+                {
+                    if (i == labelStart)
+                    {
+                        return (false);
+                    }
+                }
+                else if (!CharClass.ALNUM.contains(c))
+                {
+                    return (false);
+                }
+            }
+            return (labelCount >= 2);
+        }
+    };
+
+    /*
+     * The chars of an identifier after the first char.
+     */
+    private static final CharClass IDENTIFIER_CHARS = new CharClass.Builder().add(CharClass.ALNUM).add('_').build();
+
+    /*
+     * The chars of the local part of an email address, other than the dot.
+     */
+    private static final CharClass ATEXT_CHARS      = new CharClass.Builder().add(CharClass.ALNUM)
+            .addAll("!#$%&'*+/=?^_`{|}~-").build();
+
+    /**
+     * Tests if a whole value is in the format.
+     * 
+     * @param value
+     *            The value to test. Must not be null.
+     * @return A boolean value that is true if the value is in the format.
+     */
+    public boolean matches(final CharSequence value)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        return (matches(value, 0, value.length()));
+    }
+
+    /*
+     * Tests if a region of a value is in the format.
+     */
+    abstract boolean matches(final CharSequence value, final int start, final int end);
+
+    /*
+     * Tests if a char is an ASCII digit.
+     */
+    private static boolean isDigit(final char c)
+    {
+        return (c >= '0' && c <= '9');
+    }
+}
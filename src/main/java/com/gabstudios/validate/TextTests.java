@@ -0,0 +1,311 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * The char class, format and match tests of the StringValidator, the
+ * CharSequenceValidator and the StringRule. The tests work on a region of a
+ * CharSequence, so a String is tested as a region from 0 to its length.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class TextTests
+{
+
+    /*
+     * The allowed chars to use if a char class test is set.
+     */
+    private CharClass   _charClass;
+
+    /*
+     * The format to use if a format test is set.
+     */
+    private TextFormat  _format;
+
+    /*
+     * The compiled pattern to use if a match test is set.
+     */
+    private Pattern     _matchPattern;
+
+    /*
+     * The DFA pattern to use if a match test is set with the DFA engine. Used
+     * instead of the _matchPattern if it is not null.
+     */
+    private DfaPattern  _matchDfa;
+
+    /*
+     * The budget of a match, or null if a match is not limited.
+     */
+    private MatchBudget _matchBudget;
+
+    /*
+     * Constructor.
+     */
+    TextTests()
+    {
+        // void - ignore this.
+    }
+
+    /*
+     * Copy constructor. Used by a rule so that its builder can be changed
+     * after the rule is built.
+     */
+    TextTests(final TextTests other)
+    {
+        this._charClass = other._charClass;
+        this._format = other._format;
+        this._matchPattern = other._matchPattern;
+        this._matchDfa = other._matchDfa;
+        this._matchBudget = other._matchBudget;
+    }
+
+    /*
+     * Sets the char class test.
+     */
+    void setCharClass(final CharClass charClass)
+    {
+        if (charClass == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'charClass' must not be null."));
+        }
+        this._charClass = charClass;
+    }
+
+    /*
+     * Sets the format test.
+     */
+    void setFormat(final TextFormat format)
+    {
+        if (format == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'format' must not be null."));
+        }
+        this._format = format;
+    }
+
+    /*
+     * Sets the match test to a compiled pattern.
+     */
+    void setMatch(final Pattern pattern)
+    {
+        if (pattern == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pattern' must not be null."));
+        }
+        this._matchPattern = pattern;
+        this._matchDfa = null;
+    }
+
+    /*
+     * Sets the match test to a DFA pattern.
+     */
+    void setMatch(final DfaPattern pattern)
+    {
+        if (pattern == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pattern' must not be null."));
+        }
+        this._matchPattern = null;
+        this._matchDfa = pattern;
+    }
+
+    /*
+     * Sets the budget of the match test.
+     */
+    void setMatchBudget(final MatchBudget budget)
+    {
+        if (budget == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'budget' must not be null."));
+        }
+        this._matchBudget = budget;
+    }
+
+    /*
+     * Gets the compiled pattern of the match test, or null if the match test
+     * uses a DFA pattern or is not set.
+     */
+    Pattern getMatchPattern()
+    {
+        return (this._matchPattern);
+    }
+
+    /*
+     * Gets if the char class test is set.
+     */
+    boolean isCharClassTested()
+    {
+        return (this._charClass != null);
+    }
+
+    /*
+     * Gets if the format test is set.
+     */
+    boolean isFormatTested()
+    {
+        return (this._format != null);
+    }
+
+    /*
+     * Tests if every char of a region is in the char class.
+     */
+    boolean isCharClass(final CharSequence value, final int start, final int end)
+    {
+        return (this._charClass.firstInvalidIndex(value, start, end) < 0);
+    }
+
+    /*
+     * Tests if a region is in the format.
+     */
+    boolean isFormat(final CharSequence value, final int start, final int end)
+    {
+        return (this._format.matches(value, start, end));
+    }
+
+    /*
+     * Matches a whole region within the budget.
+     * 
+     * @param matcher A Matcher of the compiled pattern to reuse, or null to
+     * create one. The matcher is reset to an empty input when the match is
+     * done.
+     * @return RuleId.MATCH if the region does not match, RuleId.MATCH_BUDGET
+     * if the match went over the budget or null if the region matches.
+     */
+    RuleId getFailedMatchRule(final CharSequence value, final int start, final int end, final Matcher matcher)
+    {
+        RuleId retVal;
+        final CharSequence input = (this._matchBudget == null ? value : this._matchBudget.wrap(value));
+        try
+        {
+            final boolean isMatch;
+            if (this._matchDfa != null)
+            {
+                isMatch = this._matchDfa.matches(input, start, end);
+            }
+            else
+            {
+                final Matcher inputMatcher = (matcher == null ? this._matchPattern.matcher(input)
+                        : matcher.reset(input));
+                isMatch = inputMatcher.region(start, end).matches();
+            }
+            retVal = (isMatch ? null : RuleId.MATCH);
+        }
+        catch (final MatchBudget.ExceededException e)
+        {
+            this._matchBudget.exceeded();
+            retVal = RuleId.MATCH_BUDGET;
+        }
+        finally
+        {
+            // a reused matcher or wrapper must not hold the value.
+            if (matcher != null)
+            {
+                matcher.reset("");
+            }
+            if (this._matchBudget != null)
+            {
+                this._matchBudget.release(input);
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Gets the value that a char class, format or match rule tests against.
+     */
+    Object getExpectedValue(final RuleId ruleId)
+    {
+        final Object retVal;
+        switch (ruleId)
+        {
+            case CHAR_CLASS:
+                retVal = this._charClass;
+                break;
+            case FORMAT:
+                retVal = this._format;
+                break;
+            case MATCH:
+                retVal = (this._matchDfa != null ? this._matchDfa : this._matchPattern);
+                break;
+            case MATCH_BUDGET:
+                retVal = this._matchBudget;
+                break;
+            default:
+                retVal = null;
+                break;
+        }
+        return (retVal);
+    }
+
+    /*
+     * Compares a region of a value with the equals value char by char. If both
+     * values are Strings, the String methods are used because they are
+     * intrinsics.
+     */
+    static boolean isRegionEqual(final CharSequence value, final int start, final int end,
+            final CharSequence equalsValue, final boolean isCaseIgnored)
+    {
+        final int length = end - start;
+        boolean retVal;
+        if (equalsValue == null || equalsValue.length() != length)
+        {
+            retVal = false;
+        }
+        else if (value instanceof String && equalsValue instanceof String)
+        {
+            retVal = ((String) value).regionMatches(isCaseIgnored, start, (String) equalsValue, 0, length);
+        }
+        else
+        {
+            retVal = true;
+            for (int i = 0; retVal && i < length; i++)
+            {
+                final char c1 = value.charAt(start + i);
+                final char c2 = equalsValue.charAt(i);
+                retVal = (c1 == c2) || (isCaseIgnored && isEqualNoCase(c1, c2));
+            }
+        }
+        return (retVal);
+    }
+
+    /*
+     * Compares two chars the same way as String.equalsIgnoreCase().
+     */
+    private static boolean isEqualNoCase(final char c1, final char c2)
+    {
+        final char u1 = Character.toUpperCase(c1);
+        final char u2 = Character.toUpperCase(c2);
+        return (u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2));
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("TextTests [_charClass=%s, _format=%s, _matchPattern=%s, _matchDfa=%s, _matchBudget=%s]",
+                _charClass, _format, _matchPattern, _matchDfa, _matchBudget);
+    }
+}
@@ -0,0 +1,333 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.UnaryOperator;
+
+/**
+ * Validates many URIs with the same tests. The URIs are grouped by host and
+ * each distinct host is resolved once, with a bounded number of lookups
+ * running at the same time. The tests are then run for every URI with the
+ * resolved addresses, so the time of a batch grows with the number of
+ * distinct hosts and not with the number of URIs.
+ * 
+ *      List&lt;ValidationResult&gt; results = Validate.defineURIBatch(uris)
+ *          .testEachURI(validator -&gt; validator.allowProtocols("https").testMatchDenyCidr("10.0.0.0/8"))
+ *          .validate();
+ *
+ * The operator adds the tests once, to a template URIValidator, and every URI
+ * is then validated with the tests of the template, so the tests must not
+ * depend on the URI. A domain test resolves its domain with the resolver of
+ * the batch. A host is only resolved if the tests need an address. The
+ * lookups run on the default URIValidator executor and resolver unless others
+ * are given. A resolver that the tests set, such as the one of
+ * useOfflineMode(), is kept and does the lookups instead of the resolver of
+ * the batch.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class URIBatchValidator
+{
+
+    /**
+     * The default max number of lookups that run at the same time.
+     */
+    public static final int                 DEFAULT_MAX_CONCURRENT_LOOKUPS = 64;
+
+    /*
+     * The URIs to validate.
+     */
+    private final List<URI>                 _uris;
+
+    /*
+     * Adds the tests to the validator of a URI.
+     */
+    private UnaryOperator<URIValidator>     _tests                         = UnaryOperator.identity();
+
+    /*
+     * Resolves the distinct hosts.
+     */
+    private HostResolver                    _hostResolver                  = URIValidator.getDefaultHostResolver();
+
+    /*
+     * Runs the lookups.
+     */
+    private Executor                        _executor                      = URIValidator.getDefaultExecutor();
+
+    /*
+     * The max number of lookups that run at the same time.
+     */
+    private int                             _maxConcurrentLookups          = DEFAULT_MAX_CONCURRENT_LOOKUPS;
+
+    /*
+     * The number of lookups of the last validate() call.
+     */
+    private int                             _lookupCount;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     * 
+     * @param uris
+     *            The URIs to validate. Must not be null or contain a null.
+     */
+    protected URIBatchValidator(final Collection<? extends URI> uris)
+    {
+        if (uris == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'uris' must not be null."));
+        }
+        this._uris = new ArrayList<>(uris);
+        if (this._uris.contains(null))
+        {
+            throw (new IllegalArgumentException("The parameter 'uris' must not contain a null."));
+        }
+    }
+
+    /**
+     * Sets the tests that are run for every URI. The operator is called once
+     * per validate() call with a template URIValidator that uses the resolver
+     * of the batch. It adds the tests and returns the template.
+     * 
+     * @param tests
+     *            Adds the tests to a validator. Must not be null.
+     * @return The same URIBatchValidator instance. This allows for method
+     *         chaining.
+     */
+    public URIBatchValidator testEachURI(final UnaryOperator<URIValidator> tests)
+    {
+        if (tests == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'tests' must not be null."));
+        }
+        this._tests = tests;
+        return (this);
+    }
+
+    /**
+     * Sets the resolver that looks up the distinct hosts. A resolver that the
+     * tests set is used instead.
+     * 
+     * @param resolver
+     *            The resolver to use. Must not be null.
+     * @return The same URIBatchValidator instance. This allows for method
+     *         chaining.
+     */
+    public URIBatchValidator useHostResolver(final HostResolver resolver)
+    {
+        if (resolver == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'resolver' must not be null."));
+        }
+        this._hostResolver = resolver;
+        return (this);
+    }
+
+    /**
+     * Sets the executor that runs the lookups.
+     * 
+     * @param executor
+     *            The executor to use. Must not be null.
+     * @return The same URIBatchValidator instance. This allows for method
+     *         chaining.
+     */
+    public URIBatchValidator useExecutor(final Executor executor)
+    {
+        if (executor == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'executor' must not be null."));
+        }
+        this._executor = executor;
+        return (this);
+    }
+
+    /**
+     * Sets the max number of lookups that run at the same time.
+     * 
+     * @param maxConcurrentLookups
+     *            The max number of lookups. Must be greater than zero (0).
+     * @return The same URIBatchValidator instance. This allows for method
+     *         chaining.
+     */
+    public URIBatchValidator maxConcurrentLookups(final int maxConcurrentLookups)
+    {
+        if (maxConcurrentLookups <= 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxConcurrentLookups' must be greater than zero (0)."));
+        }
+        this._maxConcurrentLookups = maxConcurrentLookups;
+        return (this);
+    }
+
+    /**
+     * Gets the number of distinct hosts that the last validate() call looked
+     * up.
+     * 
+     * @return The number of lookups.
+     */
+    public int getLookupCount()
+    {
+        return (this._lookupCount);
+    }
+
+    /**
+     * Validates every URI. The distinct hosts are resolved first if the tests
+     * need an address, then the tests are run for each URI like
+     * URIValidator.validateAll().
+     * 
+     * @return The results in the order of the URIs.
+     * @throws InterruptedException
+     *             If the thread is interrupted while it waits for the lookups.
+     */
+    public List<ValidationResult> validate() throws InterruptedException
+    {
+        final List<ValidationResult> results = new ArrayList<>(this._uris.size());
+        if (this._uris.isEmpty())
+        {
+            this._lookupCount = 0;
+            return (results);
+        }
+
+        // the tests are the same for every URI, so they are added once to a
+        // template that also tells if an address is needed.
+        final URIValidator template = newTemplate(this._uris.get(0));
+        final boolean isLookupNeeded = template.hasRule(RuleId.RESOLVE_ADDRESS);
+        this._lookupCount = 0;
+        if (isLookupNeeded)
+        {
+            template.useHostResolver(resolveHosts(template.getHostResolver()));
+        }
+        for (final URI uri : this._uris)
+        {
+            results.add(new URIValidator(uri, template).validateAll());
+        }
+        return (results);
+    }
+
+    /*
+     * Creates the template validator with the tests. A domain test resolves
+     * its domain with the resolver of the batch.
+     */
+    private URIValidator newTemplate(final URI uri)
+    {
+        final URIValidator retVal = this._tests.apply(new URIValidator(uri).useHostResolver(this._hostResolver));
+        if (retVal == null)
+        {
+            throw (new IllegalStateException("The tests of the URI '" + uri + "' returned a null validator."));
+        }
+        return (retVal);
+    }
+
+    /*
+     * Looks up every distinct host, at most _maxConcurrentLookups at the same
+     * time.
+     * 
+     * @param delegate The resolver of the tests that looks up the hosts.
+     * @return A resolver that answers from the addresses that were found.
+     */
+    private HostResolver resolveHosts(final HostResolver delegate) throws InterruptedException
+    {
+        // a null host is looked up like any other host.
+        final Map<String, Integer> indexes = new HashMap<>();
+        final List<String> hosts = new ArrayList<>();
+        for (final URI uri : this._uris)
+        {
+            final String host = uri.getHost();
+            if (!indexes.containsKey(host))
+            {
+                indexes.put(host, hosts.size());
+                hosts.add(host);
+            }
+        }
+        this._lookupCount = hosts.size();
+
+        // each lookup writes its own slot. The latch makes the writes visible.
+        final InetAddress[] addresses = new InetAddress[hosts.size()];
+        final Semaphore permits = new Semaphore(this._maxConcurrentLookups);
+        final CountDownLatch done = new CountDownLatch(hosts.size());
+        for (int i = 0; i < hosts.size(); i++)
+        {
+            final int index = i;
+            final String host = hosts.get(i);
+            permits.acquire();
+            try
+            {
+                this._executor.execute(() -> {
+                    try
+                    {
+                        addresses[index] = delegate.resolve(host);
+                    }
+                    catch (final UnknownHostException | RuntimeException e)
+                    {
+                        // the host is unknown. The address stays null.
+                    }
+                    finally
+                    {
+                        permits.release();
+                        done.countDown();
+                    }
+                });
+            }
+            catch (final RejectedExecutionException e)
+            {
+                permits.release();
+                throw (e);
+            }
+        }
+        done.await();
+
+        return ((host) -> {
+            final Integer index = indexes.get(host);
+            if (index == null)
+            {
+                return (delegate.resolve(host));
+            }
+            else if (addresses[index] == null)
+            {
+                throw (new UnknownHostException(host));
+            }
+            return (addresses[index]);
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "URIBatchValidator [_uris=%s, _hostResolver=%s, _executor=%s, _maxConcurrentLookups=%s, _lookupCount=%s]",
+                _uris.size(), _hostResolver, _executor, _maxConcurrentLookups, _lookupCount);
+    }
+}
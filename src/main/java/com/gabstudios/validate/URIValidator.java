@@ -25,9 +25,15 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is a URI validator. After this class is created, call the testXXXX()
@@ -43,31 +49,72 @@ import java.util.Set;
  *
  * If no test method is called, validate() returns a TRUE.
  *
+ * Host names are resolved with a HostResolver. By default a shared
+ * CachingHostResolver over the JVM resolver is used. Call useHostResolver()
+ * before the testMatchXXXX() methods to use another resolver. The host is only
+ * resolved if an allow list, a deny list or the testResolveAddress() method is
+ * used, so a test of the protocol or the port never does a lookup.
+ *
+ * In the offline mode the host syntax is tested in memory and only an IP
+ * address literal can be resolved, so a validator never touches the network.
+ *
+ * Validate.defineURI(URI).useOfflineMode().allowProtocols("https").validate();
+ *
+ * An allow or deny list can hold whole address ranges in CIDR notation. The
+ * ranges are kept in a radix trie, so a lookup takes the same time however
+ * many ranges are in the list.
+ *
+ * Validate.defineURI(URI).testMatchDenyCidr("10.0.0.0/8", "169.254.0.0/16", "fc00::/7").validate();
+ *
+ * The host name itself can be matched against exact names and wildcard names,
+ * without a lookup. This works for a host with many or changing addresses.
+ *
+ * Validate.defineURI(URI).testMatchAllowHost("example.com", "*.example.com").validate();
+ *
+ * The validateAsync() methods run a validation that resolves the host on an
+ * executor, so the calling thread is not blocked by a slow lookup. By default
+ * a virtual thread is started per validation if the runtime supports them.
+ *
+ * Validate.defineURI(URI).testMatchDenyCidr("10.0.0.0/8").validateAsync(Duration.ofSeconds(2)).thenAccept(...);
+ *
  * @author Gregory Brown (sysdevone)
  *
  */
 public final class URIValidator extends StringValidator {
 
     /*
-     * A flag indicating if an "Match Allow List" test will be performed when the
-     * validate() method is called.
+     * The allowed and denied addresses and address ranges.
      */
-    private boolean _isTestMatchAllowList = false;
+    private final CidrTrie _allowList;
+    private final CidrTrie _denyList;
 
     /*
-     * A flag indicating if an "Match Deny List" test will be performed when the
-     * validate() method is called.
+     * The allowed and denied host names and wildcard names.
      */
-    private boolean _isTestMatchDenyList = false;
+    private final HostTrie _allowedHosts;
+    private final HostTrie _deniedHosts;
 
-    private final Set<InetAddress> _allowList = new HashSet<>();
-    private final Set<InetAddress> _denyList = new HashSet<>();
-    private final Set<String> _allowedProtocols = new HashSet<>();
-    private final Set<Integer> _allowedPorts = new HashSet<>();
+    private final Set<String> _allowedProtocols;
+    private final Set<Integer> _allowedPorts;
 
     private final URI _uri;
     private InetAddress _address;
 
+    /*
+     * The resolver used by every validator that has not been given its own.
+     */
+    private static volatile HostResolver _defaultHostResolver = new CachingHostResolver(HostResolver.system());
+
+    /*
+     * The executor used by validateAsync() if no executor is given.
+     */
+    private static volatile Executor _defaultExecutor = newDefaultExecutor();
+
+    /*
+     * The resolver used to look up host names.
+     */
+    private HostResolver _hostResolver = _defaultHostResolver;
+
 
     /**
      * Protected constructor for creating a URIValidator instance.
@@ -77,11 +124,240 @@ public final class URIValidator extends StringValidator {
     protected URIValidator(final URI value) {
         super(value.toString());
         this._uri = value;
+        this._allowList = new CidrTrie();
+        this._denyList = new CidrTrie();
+        this._allowedHosts = new HostTrie();
+        this._deniedHosts = new HostTrie();
+        this._allowedProtocols = new HashSet<>();
+        this._allowedPorts = new HashSet<>();
+    }
+
+    /*
+     * Constructor for a validator that runs the same tests as a template on
+     * another URI. The lists, the protocols, the ports and the resolver are
+     * shared with the template, so the template must not be changed after.
+     */
+    URIValidator(final URI value, final URIValidator template) {
+        super(value.toString(), template);
+        this._uri = value;
+        this._allowList = template._allowList;
+        this._denyList = template._denyList;
+        this._allowedHosts = template._allowedHosts;
+        this._deniedHosts = template._deniedHosts;
+        this._allowedProtocols = template._allowedProtocols;
+        this._allowedPorts = template._allowedPorts;
+        this._hostResolver = template._hostResolver;
+    }
+
+    /**
+     * Gets the resolver that is used by a new validator.
+     * 
+     * @return The default <code>HostResolver</code>.
+     */
+    public static HostResolver getDefaultHostResolver() {
+        return (_defaultHostResolver);
+    }
+
+    /**
+     * Sets the resolver that is used by a new validator.
+     * 
+     * @param resolver the resolver to use. Must not be null.
+     */
+    public static void setDefaultHostResolver(final HostResolver resolver) {
+        if (resolver == null) {
+            throw new IllegalArgumentException("The parameter 'resolver' must not be null.");
+        }
+        _defaultHostResolver = resolver;
+    }
+
+    /**
+     * Gets the executor that the validateAsync() methods use if no executor is
+     * given. It starts a virtual thread per validation on a runtime that
+     * supports virtual threads, otherwise it is a pool of daemon threads.
+     * 
+     * @return The default <code>Executor</code>.
+     */
+    public static Executor getDefaultExecutor() {
+        return (_defaultExecutor);
+    }
+
+    /**
+     * Sets the executor that the validateAsync() methods use if no executor
+     * is given.
+     * 
+     * @param executor the executor to use. Must not be null.
+     */
+    public static void setDefaultExecutor(final Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The parameter 'executor' must not be null.");
+        }
+        _defaultExecutor = executor;
+    }
+
+    /*
+     * Creates the default executor. Virtual threads are found by reflection so
+     * that the library still runs on the older runtimes.
+     */
+    private static Executor newDefaultExecutor() {
+        Executor executor;
+        try {
+            executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            executor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "gab-validate-resolver");
+                thread.setDaemon(true);
+                return (thread);
+            });
+        }
+        return (executor);
+    }
+
+    /**
+     * Sets the resolver that this validator uses to look up host names. Call
+     * this method before the testMatchXXXX() methods.
+     * 
+     * @param resolver the resolver to use. Must not be null.
+     * @return this validator for chaining
+     */
+    public URIValidator useHostResolver(final HostResolver resolver) {
+        if (resolver == null) {
+            throw new IllegalArgumentException("The parameter 'resolver' must not be null.");
+        }
+        this._hostResolver = resolver;
+        return (this);
+    }
+
+    /*
+     * Gets the resolver that this validator uses to look up host names.
+     */
+    HostResolver getHostResolver() {
+        return (this._hostResolver);
+    }
+
+    /**
+     * Uses the offline mode. The host of the URI is tested with an in-memory
+     * parser and only an IP address literal is resolved, without a lookup. An
+     * allow or deny list can only hold IP address literals in this mode. Call
+     * this method before the testMatchXXXX() methods.
+     * 
+     * @return this validator for chaining
+     * @see HostResolver#offline()
+     */
+    public URIValidator useOfflineMode() {
+        this._hostResolver = HostResolver.offline();
+        testHostSyntax();
+        return (this);
+    }
+
+    /**
+     * Tests that the host of the URI is a valid host name or IP address
+     * literal. A host name is made of letter, digit and hyphen labels of at
+     * most 63 chars and is at most 253 chars long. An IPv6 literal must be in
+     * brackets. The host is not resolved.
+     * 
+     * @return this validator for chaining
+     */
+    public URIValidator testHostSyntax() {
+        addRule(RuleId.HOST_SYNTAX);
+        return (this);
+    }
+
+    /**
+     * Tests that the host of the URI resolves to an IP address with the
+     * HostResolver of this validator. The allow and deny lists add this test.
+     * 
+     * @return this validator for chaining
+     */
+    public URIValidator testResolveAddress() {
+        addRule(RuleId.RESOLVE_ADDRESS);
+        return (this);
+    }
+
+    /**
+     * Runs every test on the default executor and collects the failures like
+     * validateAll().
+     * 
+     * @return A future of the result. It is already complete if no test
+     *         resolves the host.
+     * @see #validateAsync(Executor, Duration)
+     */
+    public CompletableFuture<ValidationResult> validateAsync() {
+        return (validateAsync(_defaultExecutor, null));
+    }
+
+    /**
+     * Runs every test on the default executor and collects the failures like
+     * validateAll(). The future fails with a TimeoutException if the
+     * validation does not finish in time.
+     * 
+     * @param timeout the max time of the validation. Must not be null or negative.
+     * @return A future of the result.
+     * @see #validateAsync(Executor, Duration)
+     */
+    public CompletableFuture<ValidationResult> validateAsync(final Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("The parameter 'timeout' must not be null.");
+        }
+        return (validateAsync(_defaultExecutor, timeout));
+    }
+
+    /**
+     * Runs every test and collects the failures like validateAll(). If a test
+     * resolves the host, the validation runs on the executor. Otherwise no
+     * test can block and it runs on the calling thread.
+     * 
+     * If the future is cancelled or times out, the thread that runs the
+     * validation is interrupted and the future completes at once, even if the
+     * lookup itself can not be stopped. The validation runs on a copy of this
+     * validator, so this validator can be validated again at once. The copy
+     * shares the tests, so they must not be changed until the lookup ends.
+     * 
+     * @param executor the executor that runs the validation. Must not be null.
+     * @param timeout the max time of the validation, or null for no limit.
+     *            Must not be negative.
+     * @return A future of the result. It fails with a TimeoutException if the
+     *         validation does not finish in time.
+     */
+    public CompletableFuture<ValidationResult> validateAsync(final Executor executor, final Duration timeout) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The parameter 'executor' must not be null.");
+        } else if (timeout != null && timeout.isNegative()) {
+            throw new IllegalArgumentException("The parameter 'timeout' must not be negative.");
+        }
+
+        final CompletableFuture<ValidationResult> future = new CompletableFuture<>();
+        if (!hasRule(RuleId.RESOLVE_ADDRESS)) {
+            try {
+                future.complete(validateAll());
+            } catch (final RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return (future);
+        }
+
+        // a lookup that can not be stopped keeps running after a timeout, so
+        // it must not write to this validator.
+        final AsyncValidation task = new AsyncValidation(new URIValidator(this._uri, this), future);
+        if (timeout != null) {
+            future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                task.interrupt();
+            }
+        });
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return (future);
     }
 
     /**
      * Adds a domain to the allow list for validation. The domain string is parsed into a URI and resolved to an IP address.
-     * Only one of allow or deny list can be set at a time.
+     * Only one of allow or deny list can be set at a time. Use testMatchAllowHost() to match a host
+     * by name, without a lookup.
      * 
      * @param domain the domain string to allow (e.g., "example.com")
      * @return this validator for chaining
@@ -96,7 +372,8 @@ public final class URIValidator extends StringValidator {
     }
 
     /**
-     * Adds a URI's host to the allow list for validation. The host is resolved to an IP address.
+     * Adds a URI's host to the allow list for validation. The host is resolved to an IP address
+     * with the HostResolver of this validator.
      * Only one of allow or deny list can be set at a time.
      * 
      * @param uri the URI whose host to allow
@@ -105,20 +382,22 @@ public final class URIValidator extends StringValidator {
      */
     public URIValidator testMatchAllowDomain(final URI uri) throws UnknownHostException {
         // FIXME: need to convert to IP address for deny name
-        if (this._isTestMatchDenyList) {
+        if (hasRule(RuleId.DENY_LIST)) {
             throw (new IllegalStateException(
                     "Attempting to set the allow list when the deny list has already been defined. Only one list can be used at a time: either allow or deny list."));
         } else {
-            final InetAddress address = InetAddress.getByName(uri.getHost());
+            final InetAddress address = this._hostResolver.resolve(uri.getHost());
             this._allowList.add(address);
-            this._isTestMatchAllowList = true;
+            addRule(RuleId.RESOLVE_ADDRESS);
+            addRule(RuleId.ALLOW_LIST);
             return (this);
         }
     }
 
     /**
      * Adds a domain to the deny list for validation. The domain string is parsed into a URI and resolved to an IP address.
-     * Only one of allow or deny list can be set at a time.
+     * Only one of allow or deny list can be set at a time. Use testMatchDenyHost() to match a host
+     * by name, without a lookup.
      * 
      * @param domain the domain string to deny (e.g., "example.com")
      * @return this validator for chaining
@@ -133,7 +412,8 @@ public final class URIValidator extends StringValidator {
     }
 
     /**
-     * Adds a URI's host to the deny list for validation. The host is resolved to an IP address.
+     * Adds a URI's host to the deny list for validation. The host is resolved to an IP address
+     * with the HostResolver of this validator.
      * Only one of allow or deny list can be set at a time.
      * 
      * @param uri the URI whose host to deny
@@ -141,17 +421,102 @@ public final class URIValidator extends StringValidator {
      * @throws UnknownHostException if the URI's host cannot be resolved to an IP address
      */
     public URIValidator testMatchDenyDomain(final URI uri) throws UnknownHostException {
-        if (this._isTestMatchAllowList) {
+        if (hasRule(RuleId.ALLOW_LIST)) {
             throw (new IllegalStateException(
                     "Attempting to set the deny list when the allow list has already been defined. Only one list can be used at a time: either allow or deny list."));
         } else {
-            final InetAddress address = InetAddress.getByName(uri.getHost());
+            final InetAddress address = this._hostResolver.resolve(uri.getHost());
             this._denyList.add(address);
-            this._isTestMatchDenyList = true;
+            addRule(RuleId.RESOLVE_ADDRESS);
+            addRule(RuleId.DENY_LIST);
             return (this);
         }
     }
 
+    /**
+     * Adds host names to the allowed hosts. A name is an exact host, such as
+     * "api.example.com", or a wildcard, such as "*.example.com", that matches
+     * every host below the domain but not the domain itself. The host of the
+     * URI is matched by name and is never resolved.
+     * Only one of allowed or denied hosts can be set at a time.
+     * 
+     * @param names the host names and wildcard names to allow
+     * @return this validator for chaining
+     */
+    public URIValidator testMatchAllowHost(final String... names) {
+        validateVarargInput(names, "names");
+        if (hasRule(RuleId.DENY_HOST)) {
+            throw (new IllegalStateException(
+                    "Attempting to set the allowed hosts when the denied hosts have already been defined. Only one list can be used at a time: either allowed or denied hosts."));
+        }
+        Arrays.stream(names).forEach(this._allowedHosts::add);
+        addRule(RuleId.ALLOW_HOST);
+        return (this);
+    }
+
+    /**
+     * Adds host names to the denied hosts. A name is an exact host, such as
+     * "admin.example.com", or a wildcard, such as "*.internal.example.com",
+     * that matches every host below the domain but not the domain itself. The
+     * host of the URI is matched by name and is never resolved.
+     * Only one of allowed or denied hosts can be set at a time.
+     * 
+     * @param names the host names and wildcard names to deny
+     * @return this validator for chaining
+     */
+    public URIValidator testMatchDenyHost(final String... names) {
+        validateVarargInput(names, "names");
+        if (hasRule(RuleId.ALLOW_HOST)) {
+            throw (new IllegalStateException(
+                    "Attempting to set the denied hosts when the allowed hosts have already been defined. Only one list can be used at a time: either allowed or denied hosts."));
+        }
+        Arrays.stream(names).forEach(this._deniedHosts::add);
+        addRule(RuleId.DENY_HOST);
+        return (this);
+    }
+
+    /**
+     * Adds address ranges in CIDR notation to the allow list, such as
+     * "10.0.0.0/8" or "2001:db8::/32". An address without a prefix length is a
+     * range of one address. The ranges are parsed, never resolved.
+     * Only one of allow or deny list can be set at a time.
+     * 
+     * @param cidrs the IPv4 or IPv6 ranges to allow
+     * @return this validator for chaining
+     */
+    public URIValidator testMatchAllowCidr(final String... cidrs) {
+        validateVarargInput(cidrs, "cidrs");
+        if (hasRule(RuleId.DENY_LIST)) {
+            throw (new IllegalStateException(
+                    "Attempting to set the allow list when the deny list has already been defined. Only one list can be used at a time: either allow or deny list."));
+        }
+        Arrays.stream(cidrs).forEach(this._allowList::add);
+        addRule(RuleId.RESOLVE_ADDRESS);
+        addRule(RuleId.ALLOW_LIST);
+        return (this);
+    }
+
+    /**
+     * Adds address ranges in CIDR notation to the deny list, such as
+     * "169.254.0.0/16" or "fe80::/10". An address without a prefix length is a
+     * range of one address. The ranges are parsed, never resolved.
+     * Only one of allow or deny list can be set at a time.
+     * 
+     * @param cidrs the IPv4 or IPv6 ranges to deny
+     * @return this validator for chaining
+     */
+    public URIValidator testMatchDenyCidr(final String... cidrs) {
+        validateVarargInput(cidrs, "cidrs");
+        if (hasRule(RuleId.ALLOW_LIST)) {
+            throw (new IllegalStateException(
+                    "Attempting to set the deny list when the allow list has already been defined. Only one list can be used at a time: either allow or deny list."));
+        }
+        Arrays.stream(cidrs).forEach(this._denyList::add);
+        addRule(RuleId.RESOLVE_ADDRESS);
+        addRule(RuleId.DENY_LIST);
+        return (this);
+    }
+
     /**
      * Restricts validation to the provided protocols (case insensitive).
      *
@@ -167,6 +532,7 @@ public final class URIValidator extends StringValidator {
             }
             this._allowedProtocols.add(protocol.trim().toLowerCase());
         });
+        addRule(RuleId.ALLOWED_PROTOCOLS);
         return this;
     }
 
@@ -185,6 +551,7 @@ public final class URIValidator extends StringValidator {
             }
             this._allowedPorts.add(port);
         });
+        addRule(RuleId.ALLOWED_PORTS);
         return this;
     }
 
@@ -196,42 +563,89 @@ public final class URIValidator extends StringValidator {
     }
 
     /**
-     * Performs the validation based on the configured tests (allow/deny lists, protocols, ports, etc.).
-     * Calls the parent validate() first, then checks address resolution, allow list, protocols, ports, and deny list.
+     * Runs one of the URI rules, or passes the rule to StringValidator. The host syntax,
+     * protocols and ports are tested before the regular expression, and the host is
+     * resolved after it.
+     * The allow and deny lists need the resolved address, so they fail if the host could
+     * not be resolved.
      * 
-     * @return true if all validations pass, false otherwise
+     * @param ruleId the rule to run
+     * @return true if the rule passes, false otherwise
      */
     @Override
-    public boolean validate() {
-        // validate allow list
-        boolean isValid = super.validate();
-
-        isValid = (!isValid ? false : validateAddress());
-        if (isValid) {
-            // System.out.println("start result: " + isValid + " : " + this._url + " : " +
-            // this._address);
-            if (this._isTestMatchAllowList) {
-                isValid = validateAllowList();
-                // System.out.println("allow result: " + isValid);
-            }
-
-            // allowed protocols
-            isValid &= validateAllowedProtocols();
-            // System.out.println("protocol result: " + isValid);
-
-            // allowed ports
-            isValid &= validateAllowedPorts();
-            // System.out.println("protocol result: " + isValid);
+    protected boolean validateRule(final RuleId ruleId) {
+        final boolean isValid;
+        switch (ruleId) {
+            case HOST_SYNTAX:
+                isValid = validateHostSyntax();
+                break;
+            case ALLOW_HOST:
+                isValid = validateAllowedHosts();
+                break;
+            case DENY_HOST:
+                isValid = validateDeniedHosts();
+                break;
+            case ALLOWED_PROTOCOLS:
+                isValid = validateAllowedProtocols();
+                break;
+            case ALLOWED_PORTS:
+                isValid = validateAllowedPorts();
+                break;
+            case RESOLVE_ADDRESS:
+                isValid = validateAddress();
+                break;
+            case ALLOW_LIST:
+                isValid = (this._address != null && validateAllowList());
+                break;
+            case DENY_LIST:
+                isValid = (this._address != null && validateDenyList());
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
+    }
 
-            // validate deny list
-            if (this._isTestMatchDenyList) {
-                isValid &= validateDenyList();
-                // System.out.println("deny result: " + isValid);
-            }
+    /**
+     * Validates the syntax of the URI's host without resolving it.
+     * 
+     * @return true if the host is a valid host name or IP address literal, false otherwise
+     */
+    protected boolean validateHostSyntax() {
+        final String host = this._uri.getHost();
+        final boolean isValid = HostSyntax.isValid(host);
+        if (!isValid && isFailureReported()) {
+            reportFailure(RuleId.HOST_SYNTAX, host, null);
+        }
+        return (isValid);
+    }
 
+    /**
+     * Validates the URI's host name against the allowed hosts.
+     * 
+     * @return true if the host matches an allowed name, false otherwise
+     */
+    protected boolean validateAllowedHosts() {
+        final String host = this._uri.getHost();
+        final boolean isValid = this._allowedHosts.contains(host);
+        if (!isValid && isFailureReported()) {
+            reportFailure(RuleId.ALLOW_HOST, host, this._allowedHosts);
         }
+        return (isValid);
+    }
 
-        // System.out.println("final result: " + isValid);
+    /**
+     * Validates the URI's host name against the denied hosts.
+     * 
+     * @return true if the host does not match a denied name, false otherwise
+     */
+    protected boolean validateDeniedHosts() {
+        final String host = this._uri.getHost();
+        final boolean isValid = !this._deniedHosts.contains(host);
+        if (!isValid && isFailureReported()) {
+            reportFailure(RuleId.DENY_HOST, host, this._deniedHosts);
+        }
         return (isValid);
     }
 
@@ -244,13 +658,13 @@ public final class URIValidator extends StringValidator {
     protected boolean validateAddress() {
         boolean isValid;
         try {
-            this._address = InetAddress.getByName(this._uri.getHost());
+            this._address = this._hostResolver.resolve(this._uri.getHost());
             isValid = true;
         } catch (UnknownHostException ex) {
+            this._address = null;
             isValid = false;
-            if (this._isValidationExceptionThrownOnFail && !isValid) {
-                ObjectValidator.throwValidateException(
-                        "The address (value = " + this._address + ") is an unknown host (value = '" + this._uri.getHost() + "').");
+            if (!isValid && isFailureReported()) {
+                reportFailure(RuleId.RESOLVE_ADDRESS, this._uri.getHost(), null);
             }
         }
         return (isValid);
@@ -258,7 +672,8 @@ public final class URIValidator extends StringValidator {
 
     /**
      * Validates the URI's host against the allow list.
-     * If the allow list is empty, allows all; otherwise, checks if the resolved address matches any in the list.
+     * If the allow list is empty, allows all; otherwise, checks if the resolved address is in an
+     * address or range of the list.
      * 
      * @return true if validation passes, false otherwise
      */
@@ -266,16 +681,10 @@ public final class URIValidator extends StringValidator {
         boolean isValid = false;
         if( !this._allowList.isEmpty() )
         {
-            for (final InetAddress address : this._allowList) {
-                if (this._address.equals(address)) {
-                    isValid = true;
-                    break;
-                }
-            }
+            isValid = this._allowList.contains(this._address);
 
-            if (this._isValidationExceptionThrownOnFail && !isValid) {
-                ObjectValidator.throwValidateException(
-                        "The address does (value = " + this._address + "') not match the entries in the allow list (value = '" + this._allowList + "').");
+            if (!isValid && isFailureReported()) {
+                reportFailure(RuleId.ALLOW_LIST, this._address, this._allowList);
             }
         }
         else
@@ -289,7 +698,8 @@ public final class URIValidator extends StringValidator {
 
     /**
      * Validates the URI's host against the deny list.
-     * If the deny list is empty, allows all; otherwise, checks if the resolved address is not in the list.
+     * If the deny list is empty, allows all; otherwise, checks if the resolved address is not in an
+     * address or range of the list.
      * 
      * @return true if validation passes, false otherwise
      */
@@ -298,16 +708,10 @@ public final class URIValidator extends StringValidator {
         boolean isValid = true;
         if( !this._denyList.isEmpty() )
         {
-            for (final InetAddress address : this._denyList) {
-                if (this._address.equals(address)) {
-                    isValid = false;
-                    break;
-                }
-            }
+            isValid = !this._denyList.contains(this._address);
 
-            if (this._isValidationExceptionThrownOnFail && !isValid) {
-                ObjectValidator.throwValidateException(
-                        "The address (value = " + this._address + ") is present in the deny list (value = '" + this._denyList + "').");
+            if (!isValid && isFailureReported()) {
+                reportFailure(RuleId.DENY_LIST, this._address, this._denyList);
             }
         }
         else
@@ -335,9 +739,8 @@ public final class URIValidator extends StringValidator {
                     break;
                 }
             }
-            if (this._isValidationExceptionThrownOnFail && !isValid) {
-                ObjectValidator.throwValidateException(
-                        "The url protocol (value = '" + scheme + "') does not match the entries in the allow list (value = '" + this._allowedProtocols + "').");
+            if (!isValid && isFailureReported()) {
+                reportFailure(RuleId.ALLOWED_PROTOCOLS, scheme, this._allowedProtocols);
             }
         }
         else
@@ -368,9 +771,8 @@ public final class URIValidator extends StringValidator {
                     break;
                 }
             }
-            if (this._isValidationExceptionThrownOnFail && !isValid) {
-                ObjectValidator.throwValidateException(
-                        "The url port (value = '" + port + "') does not match the entries in the allow list (value = '" + this._allowedPorts + "').");
+            if (!isValid && isFailureReported()) {
+                reportFailure(RuleId.ALLOWED_PORTS, port, this._allowedPorts);
             }
         }
         else
@@ -393,9 +795,8 @@ public final class URIValidator extends StringValidator {
             try {
                 port = this._uri.toURL().getDefaultPort();
             } catch (MalformedURLException e) {
-                if (this._isValidationExceptionThrownOnFail) {
-                    ObjectValidator.throwValidateException("Unable to resolve the URI port (value = '" + this._uri + "').");
-                }
+                // the scheme has no default port. validateAllowedPorts() reports -1.
+                port = -1;
             }
         }
         return port;
@@ -409,8 +810,59 @@ public final class URIValidator extends StringValidator {
     @Override
     public String toString() {
         return String.format(
-                "URLValidator [_address=%s, _isTestMatchAllowList=%s, _isTestMatchDenyList=%s, _allowList=%s, _denyList=%s]",
-                _address, _isTestMatchAllowList, _isTestMatchDenyList, _allowList, _denyList);
+                "URLValidator [_address=%s, _hostResolver=%s, _rules=%s, _allowList=%s, _denyList=%s, _allowedHosts=%s, _deniedHosts=%s]",
+                _address, _hostResolver, getRules(), _allowList, _denyList, _allowedHosts, _deniedHosts);
+    }
+
+    /*
+     * Runs a validation for validateAsync(). The thread that runs it is kept
+     * so that it can be interrupted when the future is cancelled or times out.
+     */
+    private static final class AsyncValidation implements Runnable {
+
+        private final URIValidator _validator;
+        private final CompletableFuture<ValidationResult> _future;
+        private Thread _thread;
+
+        private AsyncValidation(final URIValidator validator, final CompletableFuture<ValidationResult> future) {
+            this._validator = validator;
+            this._future = future;
+        }
+
+        @Override
+        public void run() {
+            if (!start()) {
+                // cancelled or timed out before it started.
+                return;
+            }
+            try {
+                this._future.complete(this._validator.validateAll());
+            } catch (final RuntimeException e) {
+                this._future.completeExceptionally(e);
+            } finally {
+                finish();
+            }
+        }
+
+        private synchronized boolean start() {
+            final boolean isStarted = !this._future.isDone();
+            if (isStarted) {
+                this._thread = Thread.currentThread();
+            }
+            return (isStarted);
+        }
+
+        private synchronized void finish() {
+            this._thread = null;
+            // an interrupt must not be left on a pooled thread.
+            Thread.interrupted();
+        }
+
+        private synchronized void interrupt() {
+            if (this._thread != null) {
+                this._thread.interrupt();
+            }
+        }
     }
 
 }
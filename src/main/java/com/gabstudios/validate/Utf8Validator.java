@@ -0,0 +1,726 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is a UTF-8 text validator. The tests work directly on the bytes of a
+ * byte[] or of a heap or direct ByteBuffer, so the text does not have to be
+ * decoded into a String first. After this class is created, call the
+ * testXXXX() methods to perform tests when the validate() method is called.
+ * 
+ * Validate.defineUtf8(myBuffer).testWellFormed().testMaxByteLength(256).testMaxLength(64).validate();
+ *
+ * The bytes from the position to the limit of a ByteBuffer are validated. The
+ * position of the ByteBuffer is not changed.
+ * 
+ * The tests that need to look at the text share one scan of the bytes. The
+ * scan checks 8 bytes at a time while the bytes are ASCII and only decodes a
+ * code point when a byte is not ASCII. A malformed sequence is counted as one
+ * replacement char, the same as the String constructor. The text is only
+ * decoded into a String when a failure is reported. The bytes must not be
+ * changed until the validation is done.
+ * 
+ * The lengths are in chars, the same as String.length(), unless
+ * useCodePointLength() is called.
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the
+ * validate fails then a ValidateException will be thrown.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class Utf8Validator extends ObjectValidator<ByteBuffer>
+{
+
+    /*
+     * Reads 8 bytes of a byte[] as a long.
+     */
+    private static final VarHandle LONG_VIEW   = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+
+    /*
+     * The high bit of every byte of a long. A byte is ASCII if its high bit is
+     * not set.
+     */
+    private static final long      HIGH_BITS   = 0x8080808080808080L;
+
+    /*
+     * The rules that test every code point of the text.
+     */
+    private static final long      CLASS_RULES = RuleId.IS_DIGIT.getMask() | RuleId.IS_LOWER_CASE.getMask()
+            | RuleId.IS_UPPER_CASE.getMask() | RuleId.IS_WHITESPACE.getMask();
+
+    /*
+     * The bytes of a heap buffer, or null for a direct buffer.
+     */
+    private final byte[]           _array;
+
+    /*
+     * The index of the first byte in the array or the buffer.
+     */
+    private final int              _offset;
+
+    /*
+     * The number of bytes to validate.
+     */
+    private final int              _byteLength;
+
+    /*
+     * If the lengths are in code points instead of chars.
+     */
+    private boolean                _isCodePointLength;
+
+    /*
+     * The length tests. Default to 0.
+     */
+    private int                    _maxByteLength;
+    private int                    _minByteLength;
+    private int                    _maxLength;
+    private int                    _minLength;
+
+    /*
+     * The rules of the last scan. The scan is done again if a rule is added.
+     */
+    private long                   _scannedRules = -1L;
+
+    /*
+     * The results of the last scan.
+     */
+    private int                    _charLength;
+    private int                    _codePointLength;
+    private boolean                _isAscii;
+    private int                    _malformedOffset;
+    private long                   _failedClassRules;
+
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. This value can be null or
+     *            empty.
+     */
+    protected Utf8Validator(final ByteBuffer value)
+    {
+        super(value);
+        if (value == null)
+        {
+            this._array = null;
+            this._offset = 0;
+            this._byteLength = 0;
+        }
+        else if (value.hasArray())
+        {
+            this._array = value.array();
+            this._offset = value.arrayOffset() + value.position();
+            this._byteLength = value.remaining();
+        }
+        else
+        {
+            this._array = null;
+            this._offset = value.position();
+            this._byteLength = value.remaining();
+        }
+    }
+
+    /**
+     * A method to mark that the lengths of the min and max length tests are in
+     * code points instead of chars.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator useCodePointLength()
+    {
+        this._isCodePointLength = true;
+        return (this);
+    }
+
+    /**
+     * A method to mark that a "well formed" test will be performed when the
+     * validate() method is called. The bytes must be well formed UTF-8: no
+     * overlong encodings, no surrogates, no code points above U+10FFFF and no
+     * truncated sequences.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testWellFormed()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.WELL_FORMED);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "is ASCII" test will be performed when the
+     * validate() method is called. Every byte must be less than 0x80.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testIsAscii()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.IS_ASCII);
+        return (this);
+    }
+
+    /**
+     * A method to mark that every code point must be a digit when the
+     * validate() method is called.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testIsDigit()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.IS_DIGIT);
+        return (this);
+    }
+
+    /**
+     * A method to mark that every code point must be lower case when the
+     * validate() method is called. Calling this method will de-active the
+     * isUpperCase test.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testIsLowerCase()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.IS_LOWER_CASE);
+        removeRule(RuleId.IS_UPPER_CASE);
+        return (this);
+    }
+
+    /**
+     * A method to mark that every code point must be upper case when the
+     * validate() method is called. Calling this method will de-active the
+     * isLowerCase test.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testIsUpperCase()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.IS_UPPER_CASE);
+        removeRule(RuleId.IS_LOWER_CASE);
+        return (this);
+    }
+
+    /**
+     * A method to mark that every code point must be a whitespace when the
+     * validate() method is called.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testIsWhitespace()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.IS_WHITESPACE);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max byte length" test will be performed when
+     * the validate() method is called. Tests if the number of bytes is less
+     * than or equal to the max value.
+     * 
+     * @param maxByteLength
+     *            The value to perform the test with.
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testMaxByteLength(final int maxByteLength)
+    {
+        if (maxByteLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxByteLength' must be greater than zero (0)."));
+        }
+        else if (maxByteLength < this._minByteLength)
+        {
+            throw (new IllegalArgumentException(
+                    "The parameter 'maxByteLength' must be greater than the min byte length value."));
+        }
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MAX_BYTE_LENGTH);
+        this._maxByteLength = maxByteLength;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min byte length" test will be performed when
+     * the validate() method is called. Tests if the number of bytes is greater
+     * than or equal to the min value.
+     * 
+     * @param minByteLength
+     *            The value to perform the test with.
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testMinByteLength(final int minByteLength)
+    {
+        if (minByteLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'minByteLength' must be greater than zero (0)."));
+        }
+        else if ((minByteLength > this._maxByteLength) && (this._maxByteLength != 0))
+        {
+            throw (new IllegalArgumentException(
+                    "The parameter 'minByteLength' must be less than the max byte length value."));
+        }
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MIN_BYTE_LENGTH);
+        this._minByteLength = minByteLength;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "max length" test will be performed when the
+     * validate() method is called. Tests if the number of chars, or code
+     * points, is less than or equal to the max value.
+     * 
+     * @param maxLength
+     *            The value to perform the test with.
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testMaxLength(final int maxLength)
+    {
+        if (maxLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than zero (0)."));
+        }
+        else if (maxLength < this._minLength)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than the min length value."));
+        }
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MAX_LENGTH);
+        this._maxLength = maxLength;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "min length" test will be performed when the
+     * validate() method is called. Tests if the number of chars, or code
+     * points, is greater than or equal to the min value.
+     * 
+     * @param minLength
+     *            The value to perform the test with.
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testMinLength(final int minLength)
+    {
+        if (minLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be greater than zero (0)."));
+        }
+        else if ((minLength > this._maxLength) && (this._maxLength != 0))
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be less than the max length value."));
+        }
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.MIN_LENGTH);
+        this._minLength = minLength;
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null" test will be performed when the
+     * validate() method is called.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    @Override
+    public Utf8Validator testNotNull()
+    {
+        addRule(RuleId.NOT_NULL);
+        return (this);
+    }
+
+    /**
+     * A method to mark that an "not null or empty" test will be performed when
+     * the validate() method is called.
+     * 
+     * @return The same Utf8Validator instance. This allows for method chaining.
+     */
+    public Utf8Validator testNotNullEmpty()
+    {
+        addRule(RuleId.NOT_NULL);
+        addRule(RuleId.NOT_EMPTY);
+        return (this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#validateRule(com.gabstudios.validate.RuleId)
+     */
+    @Override
+    protected boolean validateRule(final RuleId ruleId)
+    {
+        final boolean isValid;
+        switch (ruleId)
+        {
+            case NOT_EMPTY:
+                isValid = validateLength(ruleId, this._value != null && this._byteLength > 0, null);
+                break;
+            case MIN_BYTE_LENGTH:
+                isValid = validateLength(ruleId,
+                        this._value != null && this._byteLength >= this._minByteLength, this._minByteLength);
+                break;
+            case MAX_BYTE_LENGTH:
+                isValid = validateLength(ruleId,
+                        this._value != null && this._byteLength <= this._maxByteLength, this._maxByteLength);
+                break;
+            case MIN_LENGTH:
+                isValid = validateLength(ruleId, this._value != null && getLength() >= this._minLength,
+                        this._minLength);
+                break;
+            case MAX_LENGTH:
+                isValid = validateLength(ruleId, this._value != null && getLength() <= this._maxLength,
+                        this._maxLength);
+                break;
+            case IS_DIGIT:
+            case IS_LOWER_CASE:
+            case IS_UPPER_CASE:
+            case IS_WHITESPACE:
+                isValid = validateClass(ruleId);
+                break;
+            case IS_ASCII:
+                isValid = validateAscii();
+                break;
+            case WELL_FORMED:
+                isValid = validateWellFormed();
+                break;
+            default:
+                isValid = super.validateRule(ruleId);
+                break;
+        }
+        return (isValid);
+    }
+
+    /*
+     * Reports a failure of a length test.
+     */
+    private boolean validateLength(final RuleId ruleId, final boolean isValid, final Object expectedValue)
+    {
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(ruleId, decode(), expectedValue);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateClass(final RuleId ruleId)
+    {
+        final boolean isValid = (this._value != null && (scan()._failedClassRules & ruleId.getMask()) == 0L);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(ruleId, decode(), null);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateAscii()
+    {
+        final boolean isValid = (this._value != null && scan()._isAscii);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.IS_ASCII, decode(), null);
+        }
+        return (isValid);
+    }
+
+    protected boolean validateWellFormed()
+    {
+        final boolean isValid = (this._value != null && scan()._malformedOffset < 0);
+        if (!isValid && isFailureReported())
+        {
+            reportFailure(RuleId.WELL_FORMED, decode(), (this._value == null ? null : this._malformedOffset));
+        }
+        return (isValid);
+    }
+
+    /*
+     * Gets the length in chars or code points.
+     */
+    private int getLength()
+    {
+        scan();
+        return (this._isCodePointLength ? this._codePointLength : this._charLength);
+    }
+
+    /*
+     * Scans the bytes once for all of the tests. The scan is only done again
+     * if a rule was added since the last scan.
+     * 
+     * @return This validator.
+     */
+    private Utf8Validator scan()
+    {
+        final long rules = getRuleMask();
+        if (this._scannedRules == rules)
+        {
+            return (this);
+        }
+
+        final long classRules = rules & CLASS_RULES;
+        long allowedLow = -1L;
+        long allowedHigh = -1L;
+        if (classRules != 0L)
+        {
+            // the ASCII chars that pass every class rule.
+            allowedLow = 0L;
+            allowedHigh = 0L;
+            for (int c = 0; c < 128; c++)
+            {
+                if (classFailures(c, classRules) == 0L)
+                {
+                    if (c < 64)
+                    {
+                        allowedLow |= 1L << c;
+                    }
+                    else
+                    {
+                        allowedHigh |= 1L << (c - 64);
+                    }
+                }
+            }
+        }
+
+        final int end = this._byteLength;
+        int charLength = 0;
+        int codePointLength = 0;
+        int malformedOffset = -1;
+        boolean isAscii = true;
+        long failedClassRules = 0L;
+        int i = 0;
+        while (i < end)
+        {
+            // the ASCII fast path, 8 bytes at a time.
+            while (i + Long.BYTES <= end && (longAt(i) & HIGH_BITS) == 0L)
+            {
+                if (classRules != 0L)
+                {
+                    for (int j = i; j < i + Long.BYTES; j++)
+                    {
+                        final int c = byteAt(j);
+                        if ((((c < 64) ? (allowedLow >>> c) : (allowedHigh >>> (c - 64))) & 1L) == 0L)
+                        {
+                            failedClassRules |= classFailures(c, classRules);
+                        }
+                    }
+                }
+                i += Long.BYTES;
+                charLength += Long.BYTES;
+                codePointLength += Long.BYTES;
+            }
+            if (i >= end)
+            {
+                break;
+            }
+
+            final int b0 = byteAt(i) & 0xFF;
+            int codePoint;
+            int length;
+            if (b0 < 0x80)
+            {
+                codePoint = b0;
+                length = 1;
+            }
+            else
+            {
+                isAscii = false;
+
+                // the range of the second byte and the number of bytes.
+                int low = 0x80;
+                int high = 0xBF;
+                if (b0 >= 0xC2 && b0 <= 0xDF)
+                {
+                    length = 2;
+                    codePoint = b0 & 0x1F;
+                }
+                else if (b0 >= 0xE0 && b0 <= 0xEF)
+                {
+                    length = 3;
+                    codePoint = b0 & 0x0F;
+                    if (b0 == 0xE0)
+                    {
+                        low = 0xA0;
+                    }
+                    else if (b0 == 0xED)
+                    {
+                        high = 0x9F;
+                    }
+                }
+                else if (b0 >= 0xF0 && b0 <= 0xF4)
+                {
+                    length = 4;
+                    codePoint = b0 & 0x07;
+                    if (b0 == 0xF0)
+                    {
+                        low = 0x90;
+                    }
+                    else if (b0 == 0xF4)
+                    {
+                        high = 0x8F;
+                    }
+                }
+                else
+                {
+                    length = 0;
+                    codePoint = -1;
+                }
+
+                // the continuation bytes. A malformed sequence is the longest
+                // valid prefix, or the lead byte.
+                for (int k = 1; k < length; k++)
+                {
+                    final int b = (i + k < end) ? (byteAt(i + k) & 0xFF) : -1;
+                    if (b < low || b > high)
+                    {
+                        // the String constructor treats ED A0..BF as the
+                        // prefix of an encoded surrogate and counts it, and
+                        // its continuation byte if there is one, as one
+                        // replacement char.
+                        if (b0 == 0xED && k == 1 && b >= 0xA0 && b <= 0xBF)
+                        {
+                            length = (i + 2 < end && (byteAt(i + 2) & 0xC0) == 0x80) ? -3 : -2;
+                        }
+                        else
+                        {
+                            length = -k;
+                        }
+                        break;
+                    }
+                    codePoint = (codePoint << 6) | (b & 0x3F);
+                    low = 0x80;
+                    high = 0xBF;
+                }
+                if (length <= 0)
+                {
+                    if (malformedOffset < 0)
+                    {
+                        malformedOffset = i;
+                    }
+                    length = Math.max(1, -length);
+                    codePoint = 0xFFFD;
+                }
+            }
+
+            if (classRules != 0L)
+            {
+                failedClassRules |= classFailures(codePoint, classRules);
+            }
+            i += length;
+            charLength += Character.charCount(codePoint);
+            codePointLength++;
+        }
+
+        this._charLength = charLength;
+        this._codePointLength = codePointLength;
+        this._isAscii = isAscii;
+        this._malformedOffset = malformedOffset;
+        this._failedClassRules = failedClassRules;
+        this._scannedRules = rules;
+        return (this);
+    }
+
+    /*
+     * Gets the class rules that a code point fails.
+     */
+    private static long classFailures(final int codePoint, final long classRules)
+    {
+        long retVal = 0L;
+        if ((classRules & RuleId.IS_DIGIT.getMask()) != 0L && !Character.isDigit(codePoint))
+        {
+            retVal |= RuleId.IS_DIGIT.getMask();
+        }
+        if ((classRules & RuleId.IS_LOWER_CASE.getMask()) != 0L && !Character.isLowerCase(codePoint))
+        {
+            retVal |= RuleId.IS_LOWER_CASE.getMask();
+        }
+        if ((classRules & RuleId.IS_UPPER_CASE.getMask()) != 0L && !Character.isUpperCase(codePoint))
+        {
+            retVal |= RuleId.IS_UPPER_CASE.getMask();
+        }
+        if ((classRules & RuleId.IS_WHITESPACE.getMask()) != 0L && !Character.isWhitespace(codePoint))
+        {
+            retVal |= RuleId.IS_WHITESPACE.getMask();
+        }
+        return (retVal);
+    }
+
+    /*
+     * Gets a byte at an index from the start of the bytes.
+     */
+    private byte byteAt(final int index)
+    {
+        return (this._array != null ? this._array[this._offset + index] : this._value.get(this._offset + index));
+    }
+
+    /*
+     * Gets 8 bytes at an index from the start of the bytes. The byte order does
+     * not matter because only the high bit of every byte is tested.
+     */
+    private long longAt(final int index)
+    {
+        return (this._array != null ? (long) LONG_VIEW.get(this._array, this._offset + index)
+                : this._value.getLong(this._offset + index));
+    }
+
+    /*
+     * Decodes the bytes into a String. Only used to report a failure.
+     */
+    private String decode()
+    {
+        final String retVal;
+        if (this._value == null)
+        {
+            retVal = null;
+        }
+        else if (this._array != null)
+        {
+            retVal = new String(this._array, this._offset, this._byteLength, StandardCharsets.UTF_8);
+        }
+        else
+        {
+            retVal = StandardCharsets.UTF_8.decode(this._value.duplicate()).toString();
+        }
+        return (retVal);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "Utf8Validator [_byteLength=%s, _maxByteLength=%s, _minByteLength=%s, _maxLength=%s, _minLength=%s, _isCodePointLength=%s, _isValidationExceptionThrownOnFail=%s, _rules=%s]",
+                _byteLength, _maxByteLength, _minByteLength, _maxLength, _minLength, _isCodePointLength,
+                _isValidationExceptionThrownOnFail, getRules());
+    }
+}
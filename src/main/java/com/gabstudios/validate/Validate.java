@@ -21,6 +21,11 @@
 package com.gabstudios.validate;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 /**
@@ -144,6 +149,17 @@ public class Validate
         return (new ShortValidator(value));
     }
     
+    /**
+     * This method defines a CharClass builder. Add the allowed chars to the
+     * builder and then build the class once.
+     *
+     * @return A <code>CharClass.Builder</code> instance.
+     */
+    public static final CharClass.Builder defineCharClass()
+    {
+        return (new CharClass.Builder());
+    }
+
     /**
      * This method defines a String validator. Each call creates a new
      * validator.
@@ -156,6 +172,87 @@ public class Validate
     {
         return (new StringValidator(value));
     }
+
+    /**
+     * This method defines a CharSequence validator. Each call creates a new
+     * validator. The value is not copied into a String.
+     *
+     * @param value
+     *            The CharSequence value to validate.
+     * @return A <code>CharSequenceValidator</code> instance.
+     */
+    public static final CharSequenceValidator defineCharSequence(final CharSequence value)
+    {
+        return (new CharSequenceValidator(value, 0, (value == null ? 0 : value.length())));
+    }
+
+    /**
+     * This method defines a validator for a region of a CharSequence. Each call
+     * creates a new validator. Only the region is validated and it is not
+     * copied.
+     *
+     * @param value
+     *            The CharSequence value to validate.
+     * @param start
+     *            The index of the first char to validate, inclusive.
+     * @param end
+     *            The index of the last char to validate, exclusive.
+     * @return A <code>CharSequenceValidator</code> instance.
+     */
+    public static final CharSequenceValidator defineCharSequence(final CharSequence value, final int start,
+            final int end)
+    {
+        return (new CharSequenceValidator(value, start, end));
+    }
+
+    /**
+     * This method defines a UTF-8 validator for a byte[]. Each call creates a
+     * new validator. The bytes are not copied or decoded.
+     *
+     * @param value
+     *            The UTF-8 bytes to validate.
+     * @return A <code>Utf8Validator</code> instance.
+     */
+    public static final Utf8Validator defineUtf8(final byte[] value)
+    {
+        return (new Utf8Validator(value == null ? null : ByteBuffer.wrap(value)));
+    }
+
+    /**
+     * This method defines a UTF-8 validator for a slice of a byte[]. Each call
+     * creates a new validator. The bytes are not copied or decoded.
+     *
+     * @param value
+     *            The UTF-8 bytes to validate.
+     * @param offset
+     *            The index of the first byte to validate.
+     * @param length
+     *            The number of bytes to validate.
+     * @return A <code>Utf8Validator</code> instance.
+     */
+    public static final Utf8Validator defineUtf8(final byte[] value, final int offset, final int length)
+    {
+        if (value != null && (offset < 0 || length < 0 || offset > value.length - length))
+        {
+            throw (new IllegalArgumentException("The slice [" + offset + ", " + offset + " + " + length
+                    + ") is not inside of an array with a length of " + value.length + "."));
+        }
+        return (new Utf8Validator(value == null ? null : ByteBuffer.wrap(value, offset, length)));
+    }
+
+    /**
+     * This method defines a UTF-8 validator for the remaining bytes of a heap
+     * or direct ByteBuffer. Each call creates a new validator. The bytes are
+     * not copied or decoded and the position of the buffer is not changed.
+     *
+     * @param value
+     *            The UTF-8 bytes to validate.
+     * @return A <code>Utf8Validator</code> instance.
+     */
+    public static final Utf8Validator defineUtf8(final ByteBuffer value)
+    {
+        return (new Utf8Validator(value));
+    }
     
     // /**
     //  * This method defines a String validator. Each call creates a new
@@ -182,6 +279,112 @@ public class Validate
         return (new ArrayValidator(value));
     }
 
+    /**
+     * This method defines a Array validator that does not copy the arrays.
+     * The array is validated in place and the array that is passed to
+     * testEquals() is kept as it is. The caller must not change the arrays
+     * while they are being validated. Each call creates a new validator.
+     *
+     * @param value
+     *            The Object[] value to validate.
+     * @return A <code>ArrayValidator</code> instance.
+     */
+    public static final ArrayValidator defineTrustedArray(final Object[] value)
+    {
+        return (new ArrayValidator(value, true));
+    }
+
+    /**
+     * This method defines a byte[] validator. Each call creates a new
+     * validator. The array is not copied and its elements are never boxed.
+     *
+     * @param value
+     *            The byte[] value to validate.
+     * @return A <code>ByteArrayValidator</code> instance.
+     */
+    public static final ByteArrayValidator defineByteArray(final byte[] value)
+    {
+        return (new ByteArrayValidator(value));
+    }
+
+    /**
+     * This method defines a char[] validator. Each call creates a new
+     * validator. The array is not copied and its elements are never boxed.
+     *
+     * @param value
+     *            The char[] value to validate.
+     * @return A <code>CharArrayValidator</code> instance.
+     */
+    public static final CharArrayValidator defineCharArray(final char[] value)
+    {
+        return (new CharArrayValidator(value));
+    }
+
+    /**
+     * This method defines a int[] validator. Each call creates a new
+     * validator. The array is not copied and its elements are never boxed.
+     *
+     * @param value
+     *            The int[] value to validate.
+     * @return A <code>IntArrayValidator</code> instance.
+     */
+    public static final IntArrayValidator defineIntArray(final int[] value)
+    {
+        return (new IntArrayValidator(value));
+    }
+
+    /**
+     * This method defines a long[] validator. Each call creates a new
+     * validator. The array is not copied and its elements are never boxed.
+     *
+     * @param value
+     *            The long[] value to validate.
+     * @return A <code>LongArrayValidator</code> instance.
+     */
+    public static final LongArrayValidator defineLongArray(final long[] value)
+    {
+        return (new LongArrayValidator(value));
+    }
+
+    /**
+     * This method defines a double[] validator. Each call creates a new
+     * validator. The array is not copied and its elements are never boxed.
+     *
+     * @param value
+     *            The double[] value to validate.
+     * @return A <code>DoubleArrayValidator</code> instance.
+     */
+    public static final DoubleArrayValidator defineDoubleArray(final double[] value)
+    {
+        return (new DoubleArrayValidator(value));
+    }
+
+    /**
+     * This method defines a delimited file validator. Each call creates a new
+     * validator. The file is memory mapped when validate() is called.
+     *
+     * @param path
+     *            The file to validate.
+     * @return A <code>DelimitedFileValidator</code> instance.
+     */
+    public static final DelimitedFileValidator defineDelimitedFile(final Path path)
+    {
+        return (new DelimitedFileValidator(path));
+    }
+
+    /**
+     * This method defines a Collection validator. Each call creates a new
+     * validator.
+     *
+     * @param value
+     *            The Collection value to validate.
+     * @return A <code>CollectionValidator</code> instance.
+     */
+    public static final CollectionValidator defineCollection(final Collection<?> value)
+    {
+        return (new CollectionValidator(value));
+    }
+
     /**
      * This method defines a URI validator. Each call creates a new validator.
      *
@@ -194,4 +397,78 @@ public class Validate
         return (new URIValidator(value));
     }
 
-}
+    /**
+     * This method defines a validator for many URIs. Each call creates a new
+     * validator. Each distinct host is resolved once.
+     *
+     * @param values
+     *            The URIs to validate.
+     * @return A <code>URIBatchValidator</code> instance.
+     */
+    public static final URIBatchValidator defineURIBatch(final Collection<? extends URI> values)
+    {
+        return (new URIBatchValidator(values));
+    }
+
+    /**
+     * This method defines a validator for a stream of URIs. The stream is
+     * read when this method is called. Each call creates a new validator.
+     *
+     * @param values
+     *            The URIs to validate.
+     * @return A <code>URIBatchValidator</code> instance.
+     */
+    public static final URIBatchValidator defineURIBatch(final Stream<? extends URI> values)
+    {
+        if (values == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'values' must not be null."));
+        }
+        return (new URIBatchValidator(values.collect(Collectors.toList())));
+    }
+
+    /**
+     * This method defines a String rule builder. The rule that is built can
+     * validate any number of values and can be shared between threads.
+     *
+     * @return A <code>StringRule.Builder</code> instance.
+     */
+    public static final StringRule.Builder defineStringRule()
+    {
+        return (new StringRule.Builder());
+    }
+
+    /**
+     * This method defines an int rule builder. The rule that is built can
+     * validate any number of values and can be shared between threads.
+     *
+     * @return A <code>IntRule.Builder</code> instance.
+     */
+    public static final IntRule.Builder defineIntegerRule()
+    {
+        return (new IntRule.Builder());
+    }
+
+    /**
+     * This method defines a long rule builder. The rule that is built can
+     * validate any number of values and can be shared between threads.
+     *
+     * @return A <code>LongRule.Builder</code> instance.
+     */
+    public static final LongRule.Builder defineLongRule()
+    {
+        return (new LongRule.Builder());
+    }
+
+    /**
+     * This method defines a double rule builder. The rule that is built can
+     * validate any number of values and can be shared between threads.
+     *
+     * @return A <code>DoubleRule.Builder</code> instance.
+     */
+    public static final DoubleRule.Builder defineDoubleRule()
+    {
+        return (new DoubleRule.Builder());
+    }
+
+}
\ No newline at end of file
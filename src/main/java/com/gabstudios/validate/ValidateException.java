@@ -20,8 +20,27 @@
  
 package com.gabstudios.validate;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+
 /**
- *
+ * Thrown when a validation fails and the throwValidationExceptionOnFail()
+ * method has been called.
+ * 
+ * The exception keeps the id of the rule that failed, the value and the
+ * expected value. The message is only rendered when getMessage() is called, so
+ * a failure that is caught and handled does not pay for building it. When the
+ * message is rendered, a value that is longer than the max value length is
+ * truncated.
+ * 
+ * Filling in the stack trace is the largest cost of a failure. It can be
+ * turned off with setStackTraceEnabled(false) or with the
+ * "com.gabstudios.validate.stacklessExceptions" system property. The max value
+ * length defaults to 256 and can be set with the
+ * "com.gabstudios.validate.maxValueLength" system property.
  * 
  * @author Gregory Brown (sysdevone)
  *
@@ -33,6 +52,34 @@ public class ValidateException extends RuntimeException
      * Serialized version number.
      */
     private static final long serialVersionUID = 2153424671222831231L;
+
+    /*
+     * A flag indicating if a new exception fills in its stack trace.
+     */
+    private static volatile boolean _isStackTraceEnabled = !Boolean
+            .getBoolean("com.gabstudios.validate.stacklessExceptions");
+
+    /*
+     * The max length of a value in a rendered message.
+     */
+    private static volatile int     _maxValueLength      = Integer
+            .getInteger("com.gabstudios.validate.maxValueLength", 256);
+
+    /*
+     * The rule that failed. Null if the exception was created with a message.
+     */
+    private final RuleId            _ruleId;
+
+    /*
+     * The value that failed and the value that it was tested against.
+     */
+    private final transient Object  _value;
+    private final transient Object  _expectedValue;
+
+    /*
+     * The rendered message.
+     */
+    private String                  _message;
     
     /**
      * Constructor that takes a message.
@@ -42,6 +89,260 @@ public class ValidateException extends RuntimeException
      */
     protected ValidateException(final String message)
     {
-        super(message);
+        super(message, null, true, _isStackTraceEnabled);
+        this._ruleId = null;
+        this._value = null;
+        this._expectedValue = null;
+        this._message = message;
+    }
+
+    /**
+     * Constructor that takes the rule that failed. The message is rendered from
+     * the template of the rule when it is asked for.
+     * 
+     * @param ruleId
+     *            The rule that failed.
+     * @param value
+     *            The value that failed.
+     * @param expectedValue
+     *            The value that it was tested against. Can be null.
+     */
+    protected ValidateException(final RuleId ruleId, final Object value, final Object expectedValue)
+    {
+        super(null, null, true, _isStackTraceEnabled);
+        this._ruleId = ruleId;
+        this._value = value;
+        this._expectedValue = expectedValue;
+    }
+
+    /**
+     * Gets the rule that failed.
+     * 
+     * @return A <code>RuleId</code> or null if the exception was created with
+     *         a message.
+     */
+    public RuleId getRuleId()
+    {
+        return (this._ruleId);
+    }
+
+    /**
+     * Gets the value that failed.
+     * 
+     * @return The value. Null if the value was null or the exception was
+     *         serialized.
+     */
+    public Object getValue()
+    {
+        return (this._value);
+    }
+
+    /**
+     * Gets the value that the failed value was tested against.
+     * 
+     * @return The expected value. Null if the rule does not have an expected
+     *         value or the exception was serialized.
+     */
+    public Object getExpectedValue()
+    {
+        return (this._expectedValue);
+    }
+
+    /**
+     * Gets the message. The message is rendered the first time that it is
+     * asked for.
+     * 
+     * @return A <code>String</code> message.
+     */
+    @Override
+    public String getMessage()
+    {
+        String message = this._message;
+        if (message == null && this._ruleId != null)
+        {
+            message = format(this._ruleId, this._value, this._expectedValue);
+            this._message = message;
+        }
+        return (message);
+    }
+
+    /**
+     * Tests if a new exception fills in its stack trace.
+     * 
+     * @return true if the stack trace is filled in.
+     */
+    public static boolean isStackTraceEnabled()
+    {
+        return (_isStackTraceEnabled);
+    }
+
+    /**
+     * Sets if a new exception fills in its stack trace. Turn it off when
+     * failures are expected and handled - e.g. when validating untrusted input.
+     * 
+     * @param isEnabled
+     *            false to create exceptions without a stack trace.
+     */
+    public static void setStackTraceEnabled(final boolean isEnabled)
+    {
+        _isStackTraceEnabled = isEnabled;
+    }
+
+    /**
+     * Gets the max length of a value in a rendered message.
+     * 
+     * @return The max number of chars.
+     */
+    public static int getMaxValueLength()
+    {
+        return (_maxValueLength);
+    }
+
+    /**
+     * Sets the max length of a value in a rendered message. A longer value is
+     * truncated.
+     * 
+     * @param maxValueLength
+     *            The max number of chars. Must be greater than zero (0).
+     */
+    public static void setMaxValueLength(final int maxValueLength)
+    {
+        if (maxValueLength <= 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxValueLength' must be greater than zero (0)."));
+        }
+        _maxValueLength = maxValueLength;
+    }
+
+    /*
+     * Renders the message of a rule from its template.
+     */
+    static String format(final RuleId ruleId, final Object value, final Object expectedValue)
+    {
+        final int maxLength = _maxValueLength;
+        return (String.format(ruleId.getTemplate(), render(value, maxLength), render(expectedValue, maxLength),
+                lengthOf(value)));
+    }
+
+    /*
+     * Renders a value. Arrays and collections are rendered element by element
+     * and stop once the max length is reached.
+     */
+    static String render(final Object value, final int maxLength)
+    {
+        final String retVal;
+        if (value == null)
+        {
+            retVal = "null";
+        }
+        else if (value.getClass().isArray())
+        {
+            final int length = Array.getLength(value);
+            final StringBuilder builder = new StringBuilder("[");
+            int i = 0;
+            for (; i < length && builder.length() < maxLength; i++)
+            {
+                if (i > 0)
+                {
+                    builder.append(", ");
+                }
+                builder.append(Array.get(value, i));
+            }
+            retVal = close(builder, i, length, maxLength);
+        }
+        else if (value instanceof Collection)
+        {
+            final Collection<?> collection = (Collection<?>) value;
+            final StringBuilder builder = new StringBuilder("[");
+            final Iterator<?> iterator = collection.iterator();
+            int i = 0;
+            for (; iterator.hasNext() && builder.length() < maxLength; i++)
+            {
+                if (i > 0)
+                {
+                    builder.append(", ");
+                }
+                builder.append(iterator.next());
+            }
+            retVal = close(builder, i, collection.size(), maxLength);
+        }
+        else if (value instanceof CharSequence)
+        {
+            retVal = truncate((CharSequence) value, maxLength);
+        }
+        else
+        {
+            retVal = truncate(String.valueOf(value), maxLength);
+        }
+        return (retVal);
+    }
+
+    /*
+     * Closes a rendered array or collection.
+     */
+    private static String close(final StringBuilder builder, final int rendered, final int count, final int maxLength)
+    {
+        if (rendered < count || builder.length() > maxLength)
+        {
+            builder.setLength(Math.min(builder.length(), maxLength));
+            builder.append("...(").append(count).append(" elements)");
+        }
+        return (builder.append(']').toString());
+    }
+
+    /*
+     * Truncates a value to the max length.
+     */
+    private static String truncate(final CharSequence value, final int maxLength)
+    {
+        final String retVal;
+        if (value.length() > maxLength)
+        {
+            retVal = value.subSequence(0, maxLength) + "...(" + value.length() + " chars)";
+        }
+        else
+        {
+            retVal = value.toString();
+        }
+        return (retVal);
+    }
+
+    /*
+     * Gets the length of a value for a message.
+     */
+    private static String lengthOf(final Object value)
+    {
+        final String retVal;
+        if (value == null)
+        {
+            retVal = "null";
+        }
+        else if (value instanceof CharSequence)
+        {
+            retVal = String.valueOf(((CharSequence) value).length());
+        }
+        else if (value.getClass().isArray())
+        {
+            retVal = String.valueOf(Array.getLength(value));
+        }
+        else if (value instanceof Collection)
+        {
+            retVal = String.valueOf(((Collection<?>) value).size());
+        }
+        else
+        {
+            retVal = "";
+        }
+        return (retVal);
+    }
+
+    /*
+     * Renders the message before the exception is serialized because the value
+     * and expected value are not serialized.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        getMessage();
+        out.defaultWriteObject();
     }
 }
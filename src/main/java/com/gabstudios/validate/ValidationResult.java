@@ -0,0 +1,379 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result of a validateAll() call. It holds every rule that failed, not
+ * just the first one.
+ * 
+ * The failed rules are kept as a bit mask of RuleId ordinals. The details of
+ * each failure are kept as a Violation, up to the max number of violations of
+ * the validator, so that the memory that a result uses is bounded. The message
+ * of a Violation is only rendered when it is asked for.
+ * 
+ * A valid input always returns the shared VALID result, so validateAll() does
+ * not allocate when nothing fails.
+ * 
+ * ValidationResult result = Validate.defineString(myString).testMinLength(2).testMatch("[a-z]+").validateAll();
+ * 
+ * if (!result.isValid()) { for (Violation violation : result.getViolations()) { ... } }
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class ValidationResult
+{
+    /**
+     * The default max number of violations that are kept by a result.
+     */
+    public static final int              DEFAULT_MAX_VIOLATIONS = 16;
+
+    /**
+     * The result of a validation that did not fail.
+     */
+    public static final ValidationResult VALID                  = new ValidationResult(0L, new Violation[0], 0);
+
+    /*
+     * A bit mask of the ordinals of the rules that failed.
+     */
+    private final long                   _failedRules;
+
+    /*
+     * The details of the failures that were kept.
+     */
+    private final Violation[]            _violations;
+
+    /*
+     * The number of failures, including the ones that were not kept.
+     */
+    private final int                    _violationCount;
+
+    /*
+     * Private constructor. Results are created by a Collector.
+     */
+    private ValidationResult(final long failedRules, final Violation[] violations, final int violationCount)
+    {
+        this._failedRules = failedRules;
+        this._violations = violations;
+        this._violationCount = violationCount;
+    }
+
+    /**
+     * Gets if the validation did not fail.
+     * 
+     * @return A boolean value that is true if no rule failed.
+     */
+    public boolean isValid()
+    {
+        return (this._failedRules == 0L);
+    }
+
+    /**
+     * Gets if a rule failed.
+     * 
+     * @param ruleId
+     *            The rule to test.
+     * @return A boolean value that is true if the rule failed.
+     */
+    public boolean isFailed(final RuleId ruleId)
+    {
+        if (ruleId == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'ruleId' must not be null."));
+        }
+        return ((this._failedRules & ruleId.getMask()) != 0L);
+    }
+
+    /**
+     * Gets the bit mask of the rules that failed. Bit n is set if the rule with
+     * the ordinal n failed.
+     * 
+     * @return A long bit mask.
+     */
+    public long getFailedRuleMask()
+    {
+        return (this._failedRules);
+    }
+
+    /**
+     * Gets the rules that failed.
+     * 
+     * @return A new Set of the rules that failed. Empty if the validation did
+     *         not fail.
+     */
+    public Set<RuleId> getFailedRules()
+    {
+        return (RuleId.toSet(this._failedRules));
+    }
+
+    /**
+     * Gets the details of the failures that were kept, in the order that they
+     * were found.
+     * 
+     * @return A read only List of Violation instances.
+     */
+    public List<Violation> getViolations()
+    {
+        return (Collections.unmodifiableList(Arrays.asList(this._violations)));
+    }
+
+    /**
+     * Gets the number of failures, including the ones that were not kept
+     * because the max number of violations was reached.
+     * 
+     * @return The number of failures.
+     */
+    public int getViolationCount()
+    {
+        return (this._violationCount);
+    }
+
+    /**
+     * Gets if some of the failures were not kept because the max number of
+     * violations was reached.
+     * 
+     * @return A boolean value that is true if some failures were not kept.
+     */
+    public boolean isTruncated()
+    {
+        return (this._violationCount > this._violations.length);
+    }
+
+    /**
+     * Throws a ValidateException for the first failure if the validation
+     * failed. If no violation was kept, the exception is for the first rule in
+     * the failed rule mask.
+     * 
+     * @return The same ValidationResult instance if the validation did not
+     *         fail.
+     */
+    public ValidationResult throwIfInvalid()
+    {
+        if (!isValid())
+        {
+            if (this._violations.length > 0)
+            {
+                final Violation violation = this._violations[0];
+                ObjectValidator.throwValidateException(violation._ruleId, violation._value,
+                        violation._expectedValue);
+            }
+            else
+            {
+                ObjectValidator.throwValidateException(
+                        RuleId.valueOf(Long.numberOfTrailingZeros(this._failedRules)), null, null);
+            }
+        }
+        return (this);
+    }
+
+    /*
+     * Creates a result with a single violation.
+     */
+    static ValidationResult of(final RuleId ruleId, final Object value, final Object expectedValue)
+    {
+        final Collector collector = new Collector(1);
+        collector.add(ruleId, value, expectedValue);
+        return (collector.toResult());
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("ValidationResult [_failedRules=%s, _violationCount=%s, _violations=%s]",
+                getFailedRules(), _violationCount, Arrays.toString(_violations));
+    }
+
+    /**
+     * The details of a rule that failed.
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Violation
+    {
+        /*
+         * The rule that failed.
+         */
+        private final RuleId _ruleId;
+
+        /*
+         * The value that failed and the value that it was tested against.
+         */
+        private final Object _value;
+        private final Object _expectedValue;
+
+        /*
+         * The rendered message.
+         */
+        private String       _message;
+
+        /*
+         * Private constructor. Violations are created by a Collector.
+         */
+        private Violation(final RuleId ruleId, final Object value, final Object expectedValue)
+        {
+            this._ruleId = ruleId;
+            this._value = value;
+            this._expectedValue = expectedValue;
+        }
+
+        /**
+         * Gets the rule that failed.
+         * 
+         * @return A RuleId value.
+         */
+        public RuleId getRuleId()
+        {
+            return (this._ruleId);
+        }
+
+        /**
+         * Gets the value that failed.
+         * 
+         * @return The value. Can be null.
+         */
+        public Object getValue()
+        {
+            return (this._value);
+        }
+
+        /**
+         * Gets the value that the value was tested against.
+         * 
+         * @return The expected value. Can be null.
+         */
+        public Object getExpectedValue()
+        {
+            return (this._expectedValue);
+        }
+
+        /**
+         * Gets the message. It is rendered from the template of the rule the
+         * first time it is asked for.
+         * 
+         * @return A String message.
+         */
+        public String getMessage()
+        {
+            String message = this._message;
+            if (message == null)
+            {
+                message = ValidateException.format(this._ruleId, this._value, this._expectedValue);
+                this._message = message;
+            }
+            return (message);
+        }
+
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            return String.format("Violation [_ruleId=%s, _message=%s]", _ruleId, getMessage());
+        }
+    }
+
+    /*
+     * Collects the failures of a validateAll() call. A validator only creates a
+     * Collector when the first failure is found.
+     */
+    static final class Collector
+    {
+        /*
+         * The max number of violations that are kept.
+         */
+        private final int   _maxViolations;
+
+        /*
+         * A bit mask of the ordinals of the rules that failed.
+         */
+        private long        _failedRules;
+
+        /*
+         * The violations that were kept. Grows up to the max number of
+         * violations.
+         */
+        private Violation[] _violations = new Violation[4];
+
+        /*
+         * The number of failures.
+         */
+        private int         _violationCount;
+
+        /*
+         * Constructor.
+         * 
+         * @param maxViolations The max number of violations that are kept.
+         */
+        Collector(final int maxViolations)
+        {
+            assert (maxViolations >= 0) : "The parameter 'maxViolations' must not be negative.";
+
+            this._maxViolations = maxViolations;
+        }
+
+        /*
+         * Adds a failure.
+         */
+        void add(final RuleId ruleId, final Object value, final Object expectedValue)
+        {
+            this._failedRules |= ruleId.getMask();
+            if (this._violationCount < this._maxViolations)
+            {
+                if (this._violationCount == this._violations.length)
+                {
+                    this._violations = Arrays.copyOf(this._violations,
+                            Math.min(this._violations.length * 2, this._maxViolations));
+                }
+                this._violations[this._violationCount] = new Violation(ruleId, value, expectedValue);
+            }
+            this._violationCount++;
+        }
+
+        /*
+         * Creates the result.
+         */
+        ValidationResult toResult()
+        {
+            final ValidationResult retVal;
+            if (this._failedRules == 0L)
+            {
+                retVal = VALID;
+            }
+            else
+            {
+                retVal = new ValidationResult(this._failedRules,
+                        Arrays.copyOf(this._violations, Math.min(this._violationCount, this._maxViolations)),
+                        this._violationCount);
+            }
+            return (retVal);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/**
+ * A compiled, reusable validation rule. A rule is built once from the same
+ * testXXXX() methods that the validators use and can then be applied to any
+ * number of values.
+ * 
+ *      final ValidationRule&lt;String&gt; rule = Validate.defineStringRule()
+ *          .testMinLength(3).testMaxLength(10).build();
+ * 
+ *      boolean retVal = rule.validate("HelloWorld");
+ *
+ * A rule is immutable and can be shared between threads. If the
+ * throwValidationExceptionOnFail() method has been called while building the
+ * rule and if the validate fails then a ValidateException will be thrown.
+ *
+ * If no test method is called, validate() returns a TRUE.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <T> The type of value that this rule validates.
+ */
+public interface ValidationRule<T>
+{
+    /**
+     * Performs a validation test on the value based on the test methods that
+     * were called when the rule was built.
+     *
+     * @param value
+     *            The value to validate.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    public abstract boolean validate(final T value);
+}
@@ -41,6 +41,37 @@ public abstract interface Validator
      */
     public abstract boolean validate();
     
+    /**
+     * Performs a validation test based on the methods that were called and
+     * collects every rule that failed instead of stopping at the first one. No
+     * ValidateException is thrown for a failed rule, even if the method
+     * throwValidationExceptionOnFail has been called.
+     * 
+     * If no test method is called or no rule fails, this method returns
+     * ValidationResult.VALID.
+     * 
+     * The default method calls validate() and returns a result with a single
+     * violation if it fails. The violation is for the rule of a thrown
+     * ValidateException, or RuleId.VALIDATE if validate() returned false.
+     *
+     * @return A ValidationResult with the rules that failed.
+     */
+    public default ValidationResult validateAll()
+    {
+        ValidationResult retVal;
+        try
+        {
+            retVal = validate() ? ValidationResult.VALID : ValidationResult.of(RuleId.VALIDATE, null, null);
+        }
+        catch (final ValidateException e)
+        {
+            final RuleId ruleId = e.getRuleId();
+            retVal = ruleId == null ? ValidationResult.of(RuleId.VALIDATE, null, null)
+                    : ValidationResult.of(ruleId, e.getValue(), e.getExpectedValue());
+        }
+        return (retVal);
+    }
+    
     /**
      * A method to mark that an ValidateException should be thrown if the
      * validate method returns false.
@@ -18,6 +18,10 @@
  */
 package com.gabstudios.validate;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.*;
 
 
@@ -197,6 +201,112 @@ public class ArrayValidatorTest
         }
 
     }
-    
-        
+
+    @Test
+    public void testEachElement()
+    {
+        StringRule rule = Validate.defineStringRule().testNotNullEmpty().testMaxLength(5).build();
+        String[] valid = { "Hello", "World", "is", "nice" };
+        String[] invalid = { "Hello", "", "is", "awesome" };
+
+        Assertions.assertTrue(Validate.defineArray(valid).testEachElement(rule).validate());
+        Assertions.assertFalse(Validate.defineArray(invalid).testEachElement(rule).validate());
+
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineArray(invalid).testEachElement(rule).throwValidationExceptionOnFail().validate());
+        Assertions.assertEquals(RuleId.EACH_ELEMENT, e.getRuleId());
+        Assertions.assertEquals("", e.getValue());
+        Assertions.assertEquals(1, e.getExpectedValue());
+
+        ValidationResult result = Validate.defineArray(invalid).testEachElement(rule).validateAll();
+        Assertions.assertEquals(2, result.getViolationCount());
+        Assertions.assertEquals(1, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals(3, result.getViolations().get(1).getExpectedValue());
+    }
+
+    @Test
+    public void testEachElementThrowingRule()
+    {
+        StringRule rule = Validate.defineStringRule().testNotNullEmpty().throwValidationExceptionOnFail().build();
+        ValidationResult result = Validate.defineArray(new String[] { "a", "", null }).testEachElement(rule)
+                .validateAll();
+        Assertions.assertEquals(2, result.getViolationCount());
+    }
+
+    @Test
+    public void testEachElementParallel()
+    {
+        IntRule rule = Validate.defineIntegerRule().isPositiveValue().build();
+        Integer[] values = new Integer[100000];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = i + 1;
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            Assertions.assertTrue(Validate.defineArray(values).testEachElement(rule).useParallel(pool).validate());
+
+            values[70000] = -1;
+            values[30000] = 0;
+            values[99999] = -5;
+            ValidateException e = Assertions.assertThrows(ValidateException.class, () -> Validate.defineArray(values)
+                    .testEachElement(rule).useParallel(pool).throwValidationExceptionOnFail().validate());
+            Assertions.assertEquals(30000, e.getExpectedValue());
+
+            ValidationResult result = Validate.defineArray(values).testEachElement(rule).useParallel(pool)
+                    .validateAll();
+            Assertions.assertEquals(3, result.getViolationCount());
+            Assertions.assertEquals(30000, result.getViolations().get(0).getExpectedValue());
+            Assertions.assertEquals(70000, result.getViolations().get(1).getExpectedValue());
+            Assertions.assertEquals(99999, result.getViolations().get(2).getExpectedValue());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testEachElementInvalidParameters()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineArray(new Object[0]).testEachElement(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineArray(new Object[0]).useParallel(null));
+        Assertions.assertFalse(Validate.defineArray(null).testEachElement(Validate.defineStringRule().build())
+                .validate());
+    }
+
+    @Test
+    public void testTrusted()
+    {
+        String[] value = { "Hello", "World" };
+        String[] equalsValue = { "Hello", "World" };
+
+        ArrayValidator validator = Validate.defineTrustedArray(value).testEquals(equalsValue).testMaxLength(2);
+        Assertions.assertTrue(validator.isTrusted());
+        Assertions.assertSame(value, validator.getValue());
+        Assertions.assertTrue(validator.validate());
+
+        // the trusted validator sees a change to the array it was given.
+        equalsValue[1] = "Moon";
+        Assertions.assertFalse(validator.validate());
+
+        ArrayValidator copying = Validate.defineArray(value);
+        Assertions.assertFalse(copying.isTrusted());
+        Assertions.assertNotSame(value, copying.getValue());
+    }
+
+    @Test
+    public void testView()
+    {
+        String[] value = { "Hello", "World" };
+        List<Object> view = Validate.defineTrustedArray(value).getView();
+        Assertions.assertEquals(Arrays.asList("Hello", "World"), view);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.set(0, "Bye"));
+        value[0] = "Bye";
+        Assertions.assertEquals("Bye", view.get(0));
+        Assertions.assertNull(Validate.defineArray(null).getView());
+    }
 }
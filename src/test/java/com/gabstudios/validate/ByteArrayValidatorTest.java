@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the ByteArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ByteArrayValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        byte[] values = { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+        String desc = Validate.defineByteArray(values).testMaxLength(4).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testGetValue()
+    {
+        byte[] values = { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+        byte[] retArray = Validate.defineByteArray(values).getValue();
+        Assertions.assertArrayEquals(values, retArray);
+        Assertions.assertNotSame(values, retArray);
+        Assertions.assertNull(Validate.defineByteArray(null).getValue());
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineByteArray(null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        byte[] values = { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+        Assertions.assertTrue(Validate.defineByteArray(values).testNotNullEmpty().testMinLength(2).testMaxLength(4).validate());
+        Assertions.assertFalse(Validate.defineByteArray(values).testMaxLength(3).validate());
+        Assertions.assertFalse(Validate.defineByteArray(values).testMinLength(5).validate());
+        Assertions.assertFalse(Validate.defineByteArray(new byte[0]).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineByteArray(null).testNotNull().validate());
+        Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineByteArray(values).testMaxLength(3).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        byte[] values = { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+        byte[] equalsValues = { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+        ByteArrayValidator validator = Validate.defineByteArray(values).testEquals(equalsValues);
+        equalsValues[0] = (byte) 9;
+        Assertions.assertTrue(validator.validate());
+        Assertions.assertFalse(Validate.defineByteArray(values).testEquals(equalsValues).validate());
+        Assertions.assertFalse(Validate.defineByteArray(null).testEquals(values).validate());
+    }
+
+    @Test
+    public void testElementValue()
+    {
+        byte[] values = { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+        Assertions.assertTrue(Validate.defineByteArray(values).testMinElementValue((byte) 1).testMaxElementValue((byte) 4).validate());
+        Assertions.assertFalse(Validate.defineByteArray(values).testMaxElementValue((byte) 3).validate());
+        Assertions.assertFalse(Validate.defineByteArray(values).testMinElementValue((byte) 2).validate());
+        Assertions.assertFalse(Validate.defineByteArray(null).testMaxElementValue((byte) 4).validate());
+        try
+        {
+            Validate.defineByteArray(values).testMaxElementValue((byte) 3).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.EACH_ELEMENT, e.getRuleId());
+        }
+    }
+
+    @Test
+    public void testElementValueLarge()
+    {
+        byte[] values = new byte[1000];
+        Arrays.fill(values, (byte) 1);
+        values[10] = (byte) 9;
+        values[700] = (byte) 9;
+        values[999] = (byte) 9;
+        Assertions.assertFalse(Validate.defineByteArray(values).testMaxElementValue((byte) 4).validate());
+        ValidationResult result = Validate.defineByteArray(values).testMaxElementValue((byte) 4).validateAll();
+        Assertions.assertEquals(3, result.getViolationCount());
+        Assertions.assertEquals(10, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals(700, result.getViolations().get(1).getExpectedValue());
+        Assertions.assertEquals(999, result.getViolations().get(2).getExpectedValue());
+        values[10] = (byte) 1;
+        values[700] = (byte) 1;
+        values[999] = (byte) 1;
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineByteArray(values).testMaxElementValue((byte) 4).validateAll());
+    }
+
+    @Test
+    public void testInvalidLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineByteArray(null).testMaxLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineByteArray(null).testMinLength(5).testMaxLength(4));
+    }
+
+    @Test
+    public void testInvalidElementValue()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineByteArray(null).testMinElementValue((byte) 5).testMaxElementValue((byte) 4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineByteArray(null).testMaxElementValue((byte) 4).testMinElementValue((byte) 5));
+        // a min value that equals the max value is allowed.
+        Assertions.assertTrue(Validate.defineByteArray(new byte[] { (byte) 4 }).testMinElementValue((byte) 4).testMaxElementValue((byte) 4)
+                .validate());
+    }
+}
@@ -0,0 +1,151 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the CachingHostResolver
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CachingHostResolverTest {
+
+    private AtomicInteger _lookupCount;
+    private HostResolver _countingResolver;
+
+    @BeforeEach
+    public void setUp() {
+        this._lookupCount = new AtomicInteger();
+        final InMemoryHostResolver memory = new InMemoryHostResolver().register("my.domain.com", "10.0.0.1");
+        this._countingResolver = host -> {
+            this._lookupCount.incrementAndGet();
+            return memory.resolve(host);
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testPositiveCache() throws UnknownHostException {
+        CachingHostResolver resolver = new CachingHostResolver(this._countingResolver);
+        InetAddress first = resolver.resolve("my.domain.com");
+        InetAddress second = resolver.resolve("my.domain.com");
+
+        Assertions.assertEquals("10.0.0.1", first.getHostAddress());
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, this._lookupCount.get());
+        Assertions.assertEquals(1, resolver.size());
+    }
+
+    @Test
+    public void testNegativeCache() {
+        CachingHostResolver resolver = new CachingHostResolver(this._countingResolver);
+        Assertions.assertThrows(UnknownHostException.class, () -> resolver.resolve("unknown.domain.com"));
+        Assertions.assertThrows(UnknownHostException.class, () -> resolver.resolve("unknown.domain.com"));
+        Assertions.assertEquals(1, this._lookupCount.get());
+    }
+
+    @Test
+    public void testNoNegativeCache() {
+        CachingHostResolver resolver = new CachingHostResolver(this._countingResolver, Duration.ofMinutes(1),
+                Duration.ZERO, 10);
+        Assertions.assertThrows(UnknownHostException.class, () -> resolver.resolve("unknown.domain.com"));
+        Assertions.assertThrows(UnknownHostException.class, () -> resolver.resolve("unknown.domain.com"));
+        Assertions.assertEquals(2, this._lookupCount.get());
+    }
+
+    @Test
+    public void testExpired() throws UnknownHostException, InterruptedException {
+        CachingHostResolver resolver = new CachingHostResolver(this._countingResolver, Duration.ofMillis(1),
+                Duration.ofMillis(1), 10);
+        resolver.resolve("my.domain.com");
+        Thread.sleep(10);
+        resolver.resolve("my.domain.com");
+        Assertions.assertEquals(2, this._lookupCount.get());
+    }
+
+    @Test
+    public void testMaxSize() throws UnknownHostException {
+        CachingHostResolver resolver = new CachingHostResolver(this._countingResolver, Duration.ofMinutes(1),
+                Duration.ofMinutes(1), 10);
+        for (int i = 0; i < 100; i++) {
+            resolver.resolve("10.0.0." + i);
+        }
+        Assertions.assertTrue(resolver.size() <= 10);
+    }
+
+    @Test
+    public void testCoalescing() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final HostResolver slowResolver = host -> {
+            this._lookupCount.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return InetAddress.getByName("10.0.0.2");
+        };
+        final CachingHostResolver resolver = new CachingHostResolver(slowResolver);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> resolver.resolve("slow.domain.com"));
+            }
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            // let the other threads reach the lookup before it finishes.
+            Thread.sleep(50);
+            release.countDown();
+            for (final Future<?> future : futures) {
+                Assertions.assertEquals("10.0.0.2", ((InetAddress) future.get(5, TimeUnit.SECONDS)).getHostAddress());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, this._lookupCount.get());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CachingHostResolver(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingHostResolver(this._countingResolver, Duration.ofSeconds(-1), Duration.ZERO, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingHostResolver(this._countingResolver, Duration.ZERO, Duration.ZERO, 0));
+    }
+}
@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the CharArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharArrayValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        char[] values = { 'a', 'b', 'c', 'd' };
+        String desc = Validate.defineCharArray(values).testMaxLength(4).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testGetValue()
+    {
+        char[] values = { 'a', 'b', 'c', 'd' };
+        char[] retArray = Validate.defineCharArray(values).getValue();
+        Assertions.assertArrayEquals(values, retArray);
+        Assertions.assertNotSame(values, retArray);
+        Assertions.assertNull(Validate.defineCharArray(null).getValue());
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineCharArray(null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        char[] values = { 'a', 'b', 'c', 'd' };
+        Assertions.assertTrue(Validate.defineCharArray(values).testNotNullEmpty().testMinLength(2).testMaxLength(4).validate());
+        Assertions.assertFalse(Validate.defineCharArray(values).testMaxLength(3).validate());
+        Assertions.assertFalse(Validate.defineCharArray(values).testMinLength(5).validate());
+        Assertions.assertFalse(Validate.defineCharArray(new char[0]).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineCharArray(null).testNotNull().validate());
+        Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineCharArray(values).testMaxLength(3).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        char[] values = { 'a', 'b', 'c', 'd' };
+        char[] equalsValues = { 'a', 'b', 'c', 'd' };
+        CharArrayValidator validator = Validate.defineCharArray(values).testEquals(equalsValues);
+        equalsValues[0] = 'z';
+        Assertions.assertTrue(validator.validate());
+        Assertions.assertFalse(Validate.defineCharArray(values).testEquals(equalsValues).validate());
+        Assertions.assertFalse(Validate.defineCharArray(null).testEquals(values).validate());
+    }
+
+    @Test
+    public void testElementValue()
+    {
+        char[] values = { 'a', 'b', 'c', 'd' };
+        Assertions.assertTrue(Validate.defineCharArray(values).testMinElementValue('a').testMaxElementValue('d').validate());
+        Assertions.assertFalse(Validate.defineCharArray(values).testMaxElementValue('c').validate());
+        Assertions.assertFalse(Validate.defineCharArray(values).testMinElementValue('b').validate());
+        Assertions.assertFalse(Validate.defineCharArray(null).testMaxElementValue('d').validate());
+        try
+        {
+            Validate.defineCharArray(values).testMaxElementValue('c').throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.EACH_ELEMENT, e.getRuleId());
+        }
+    }
+
+    @Test
+    public void testElementValueLarge()
+    {
+        char[] values = new char[1000];
+        Arrays.fill(values, 'a');
+        values[10] = 'z';
+        values[700] = 'z';
+        values[999] = 'z';
+        Assertions.assertFalse(Validate.defineCharArray(values).testMaxElementValue('d').validate());
+        ValidationResult result = Validate.defineCharArray(values).testMaxElementValue('d').validateAll();
+        Assertions.assertEquals(3, result.getViolationCount());
+        Assertions.assertEquals(10, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals(700, result.getViolations().get(1).getExpectedValue());
+        Assertions.assertEquals(999, result.getViolations().get(2).getExpectedValue());
+        values[10] = 'a';
+        values[700] = 'a';
+        values[999] = 'a';
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineCharArray(values).testMaxElementValue('d').validateAll());
+    }
+
+    @Test
+    public void testInvalidLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharArray(null).testMaxLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharArray(null).testMinLength(5).testMaxLength(4));
+    }
+
+    @Test
+    public void testInvalidElementValue()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharArray(null).testMinElementValue('e').testMaxElementValue('d'));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharArray(null).testMaxElementValue('d').testMinElementValue('e'));
+        // a min value that equals the max value is allowed.
+        Assertions.assertTrue(Validate.defineCharArray(new char[] { 'd' }).testMinElementValue('d').testMaxElementValue('d')
+                .validate());
+    }
+}
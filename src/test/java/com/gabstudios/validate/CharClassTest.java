@@ -0,0 +1,107 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the CharClass
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharClassTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testConstants()
+    {
+        for (char c = 0; c < 128; c++)
+        {
+            Assertions.assertEquals(c >= '0' && c <= '9', CharClass.DIGITS.contains(c));
+            Assertions.assertEquals((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'), CharClass.ALPHA.contains(c));
+            Assertions.assertEquals(CharClass.ALPHA.contains(c) || CharClass.DIGITS.contains(c), CharClass.ALNUM.contains(c));
+            Assertions.assertEquals(Character.digit(c, 16) >= 0, CharClass.HEX.contains(c));
+            Assertions.assertEquals(CharClass.ALNUM.contains(c) || c == '+' || c == '/' || c == '=', CharClass.BASE64.contains(c));
+            Assertions.assertEquals(CharClass.ALNUM.contains(c) || c == '-' || c == '_' || c == '=', CharClass.BASE64_URL.contains(c));
+        }
+        Assertions.assertFalse(CharClass.ALNUM.contains('é'));
+        Assertions.assertFalse(CharClass.DIGITS.contains('٣'));
+    }
+
+    @Test
+    public void testCustom()
+    {
+        CharClass charClass = Validate.defineCharClass().add(CharClass.DIGITS).addAll("-_").add('é')
+                .addRange('Ѐ', 'ӿ').build();
+        Assertions.assertTrue(charClass.contains('7'));
+        Assertions.assertTrue(charClass.contains('_'));
+        Assertions.assertTrue(charClass.contains('é'));
+        Assertions.assertTrue(charClass.contains('Ѐ'));
+        Assertions.assertTrue(charClass.contains('ѐ'));
+        Assertions.assertTrue(charClass.contains('ӿ'));
+        Assertions.assertFalse(charClass.contains('Ԁ'));
+        Assertions.assertFalse(charClass.contains('è'));
+        Assertions.assertFalse(charClass.contains('a'));
+        Assertions.assertFalse(charClass.contains('￿'));
+
+        CharClass copy = Validate.defineCharClass().add(charClass).build();
+        for (int c = 0; c <= Character.MAX_VALUE; c++)
+        {
+            Assertions.assertEquals(charClass.contains((char) c), copy.contains((char) c));
+        }
+    }
+
+    @Test
+    public void testFirstInvalidIndex()
+    {
+        Assertions.assertEquals(-1, CharClass.HEX.firstInvalidIndex("deadBEEF"));
+        Assertions.assertEquals(4, CharClass.HEX.firstInvalidIndex("deadXEEF"));
+        Assertions.assertEquals(-1, CharClass.HEX.firstInvalidIndex(new StringBuilder("xxdeadxx"), 2, 6));
+        Assertions.assertEquals(-1, CharClass.HEX.firstInvalidIndex(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CharClass.HEX.firstInvalidIndex(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CharClass.HEX.firstInvalidIndex("dead", 2, 5));
+    }
+
+    @Test
+    public void testToString()
+    {
+        Assertions.assertEquals("HEX", CharClass.HEX.toString());
+        Assertions.assertEquals("[0-9_]", Validate.defineCharClass().add(CharClass.DIGITS).add('_').build().toString());
+        Assertions.assertEquals("[a...]", Validate.defineCharClass().add('a').add('é').build().toString());
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharClass().addRange('z', 'a'));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharClass().addAll(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharClass().add((CharClass) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineString("x").testCharClass(null));
+    }
+}
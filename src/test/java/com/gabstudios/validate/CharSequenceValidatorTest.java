@@ -0,0 +1,136 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.CharBuffer;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the CharSequenceValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharSequenceValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        String desc = Validate.defineCharSequence(new StringBuilder("HelloWorld")).testMaxLength(10).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineCharSequence(null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        StringBuilder builder = new StringBuilder("HelloWorld");
+        Assertions.assertTrue(Validate.defineCharSequence(builder).testNotNullEmpty().testMinLength(10).testMaxLength(10).validate());
+        Assertions.assertFalse(Validate.defineCharSequence(builder).testMaxLength(9).validate());
+        Assertions.assertFalse(Validate.defineCharSequence(builder).testMinLength(11).validate());
+        Assertions.assertFalse(Validate.defineCharSequence(new StringBuilder()).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineCharSequence(null).testNotNull().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        Assertions.assertTrue(Validate.defineCharSequence(new StringBuilder("HelloWorld")).testEquals("HelloWorld").validate());
+        Assertions.assertTrue(Validate.defineCharSequence("HelloWorld").testEquals(CharBuffer.wrap("HelloWorld")).validate());
+        Assertions.assertFalse(Validate.defineCharSequence(new StringBuilder("HelloWorld")).testEquals("helloworld").validate());
+        Assertions.assertFalse(Validate.defineCharSequence(new StringBuilder("HelloWorld")).testEquals("Hello").validate());
+        Assertions.assertFalse(Validate.defineCharSequence(new StringBuilder("HelloWorld")).testEquals(null).validate());
+    }
+
+    @Test
+    public void testEqualsNoCase()
+    {
+        Assertions.assertTrue(Validate.defineCharSequence(new StringBuilder("HelloWorld")).testEqualsNoCase("hELLOwORLD").validate());
+        Assertions.assertTrue(Validate.defineCharSequence("HelloWorld").testEqualsNoCase("hELLOwORLD").validate());
+        Assertions.assertFalse(Validate.defineCharSequence(new StringBuilder("HelloWorld")).testEqualsNoCase("hELLOwORLX").validate());
+
+        // the last test wins.
+        Assertions.assertFalse(Validate.defineCharSequence("HelloWorld").testEqualsNoCase("hELLOwORLD").testEquals("hELLOwORLD").validate());
+    }
+
+    @Test
+    public void testMatch()
+    {
+        Assertions.assertTrue(Validate.defineCharSequence(new StringBuilder("12345")).testMatch("[0-9]+").validate());
+        Assertions.assertFalse(Validate.defineCharSequence(new StringBuilder("123a5")).testMatch(Pattern.compile("[0-9]+")).validate());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence("12345").testMatch((Pattern) null));
+    }
+
+    @Test
+    public void testRegion()
+    {
+        CharBuffer buffer = CharBuffer.wrap("id=12345;name=Hello;");
+        Assertions.assertTrue(Validate.defineCharSequence(buffer, 3, 8).testMinLength(5).testMaxLength(5)
+                .testMatch("^[0-9]+$").testEquals("12345").validate());
+        Assertions.assertTrue(Validate.defineCharSequence(buffer, 14, 19).testEqualsNoCase("HELLO").validate());
+        Assertions.assertTrue(Validate.defineCharSequence("id=12345;name=Hello;", 14, 19).testEqualsNoCase("HELLO").validate());
+        Assertions.assertFalse(Validate.defineCharSequence(buffer, 3, 9).testMatch("[0-9]+").validate());
+        Assertions.assertFalse(Validate.defineCharSequence(buffer, 8, 8).testNotNullEmpty().validate());
+
+        try
+        {
+            Validate.defineCharSequence(buffer, 14, 19).testEquals("World").throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.EQUALS, e.getRuleId());
+            Assertions.assertEquals("Hello", e.getValue());
+        }
+    }
+
+    @Test
+    public void testCharClass()
+    {
+        CharBuffer buffer = CharBuffer.wrap("id=deadBEEF;");
+        Assertions.assertTrue(Validate.defineCharSequence(buffer, 3, 11).testCharClass(CharClass.HEX).validate());
+        Assertions.assertFalse(Validate.defineCharSequence(buffer, 3, 12).testCharClass(CharClass.HEX).validate());
+    }
+
+    @Test
+    public void testInvalidRegion()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharSequence("Hello", -1, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharSequence("Hello", 3, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharSequence("Hello", 0, 6));
+    }
+}
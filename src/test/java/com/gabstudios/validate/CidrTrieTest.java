@@ -0,0 +1,130 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the CidrTrie
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CidrTrieTest
+{
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    private static boolean contains(final CidrTrie trie, final String address) throws Exception
+    {
+        return (trie.contains(InetAddress.getByName(address)));
+    }
+
+    @Test
+    public void testIPv4() throws Exception
+    {
+        final CidrTrie trie = new CidrTrie();
+        Assertions.assertTrue(trie.isEmpty());
+        trie.add("10.0.0.0/8");
+        trie.add("192.168.1.0/24");
+        trie.add("203.0.113.7");
+        Assertions.assertFalse(trie.isEmpty());
+
+        Assertions.assertTrue(contains(trie, "10.0.0.0"));
+        Assertions.assertTrue(contains(trie, "10.255.255.255"));
+        Assertions.assertFalse(contains(trie, "11.0.0.0"));
+        Assertions.assertFalse(contains(trie, "9.255.255.255"));
+        Assertions.assertTrue(contains(trie, "192.168.1.200"));
+        Assertions.assertFalse(contains(trie, "192.168.2.1"));
+        Assertions.assertTrue(contains(trie, "203.0.113.7"));
+        Assertions.assertFalse(contains(trie, "203.0.113.8"));
+        Assertions.assertFalse(contains(trie, "::a00:1"));
+        Assertions.assertEquals("[10.0.0.0/8, 192.168.1.0/24, 203.0.113.7/32]", trie.toString());
+    }
+
+    @Test
+    public void testIPv6() throws Exception
+    {
+        final CidrTrie trie = new CidrTrie();
+        trie.add("fe80::/10");
+        trie.add("2001:db8::1");
+        trie.add("::ffff:172.16.0.0/108");
+
+        Assertions.assertTrue(contains(trie, "fe80::1"));
+        Assertions.assertTrue(contains(trie, "febf:ffff::"));
+        Assertions.assertFalse(contains(trie, "fec0::"));
+        Assertions.assertTrue(contains(trie, "2001:db8::1"));
+        Assertions.assertFalse(contains(trie, "2001:db8::2"));
+
+        // a mapped range is an IPv4 range.
+        Assertions.assertTrue(contains(trie, "172.31.255.255"));
+        Assertions.assertFalse(contains(trie, "172.32.0.0"));
+    }
+
+    @Test
+    public void testPrefixes() throws Exception
+    {
+        final CidrTrie trie = new CidrTrie();
+        trie.add("10.1.2.3/8");
+        trie.add("10.1.0.0/16");
+        Assertions.assertTrue(contains(trie, "10.200.0.1"));
+        Assertions.assertEquals("[10.0.0.0/8, 10.1.0.0/16]", trie.toString());
+
+        final CidrTrie all = new CidrTrie();
+        all.add("0.0.0.0/0");
+        Assertions.assertTrue(contains(all, "8.8.8.8"));
+        Assertions.assertFalse(contains(all, "::1"));
+    }
+
+    @Test
+    public void testManyRanges() throws Exception
+    {
+        final CidrTrie trie = new CidrTrie();
+        for (int i = 0; i < 10000; i++)
+        {
+            trie.add("100." + (i >> 8) + "." + (i & 0xff) + ".0/24");
+        }
+        Assertions.assertTrue(contains(trie, "100.39.15.77"));
+        Assertions.assertFalse(contains(trie, "100.39.16.77"));
+        Assertions.assertFalse(contains(trie, "101.0.0.1"));
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        final CidrTrie trie = new CidrTrie();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add((String) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("my.domain.com/8"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("10.0.0.0/33"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("10.0.0.0/-1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("10.0.0.0/x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("::/129"));
+    }
+}
@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the CollectionValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CollectionValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        String desc = Validate.defineCollection(Arrays.asList("Hello", "World")).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTests()
+    {
+        Assertions.assertTrue(Validate.defineCollection(null).validate());
+    }
+
+    @Test
+    public void testNotNullEmpty()
+    {
+        Assertions.assertTrue(Validate.defineCollection(Arrays.asList("a")).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineCollection(new ArrayList<>()).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineCollection(null).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineCollection(null).testNotNull().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        List<String> list = Arrays.asList("a", "b", "c");
+        Assertions.assertTrue(Validate.defineCollection(list).testMinLength(1).testMaxLength(3).validate());
+        Assertions.assertFalse(Validate.defineCollection(list).testMaxLength(2).validate());
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineCollection(list).testMinLength(4).throwValidationExceptionOnFail().validate());
+        Assertions.assertEquals(RuleId.MIN_LENGTH, e.getRuleId());
+        Assertions.assertTrue(e.getMessage().contains("length = '3'"), e.getMessage());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        Assertions.assertTrue(Validate.defineCollection(Arrays.asList("a", "b"))
+                .testEquals(new ArrayList<>(Arrays.asList("a", "b"))).validate());
+        Assertions.assertFalse(Validate.defineCollection(Arrays.asList("a", "b")).testEquals(Arrays.asList("b", "a"))
+                .validate());
+    }
+
+    @Test
+    public void testEachElement()
+    {
+        StringRule rule = Validate.defineStringRule().testMatch("[a-z]+").build();
+        Assertions.assertTrue(Validate.defineCollection(Arrays.asList("abc", "def")).testEachElement(rule).validate());
+
+        ValidationResult result = Validate.defineCollection(new LinkedHashSet<>(Arrays.asList("abc", "D", "e", "F")))
+                .testEachElement(rule).validateAll();
+        Assertions.assertEquals(2, result.getViolationCount());
+        Assertions.assertEquals("D", result.getViolations().get(0).getValue());
+        Assertions.assertEquals(1, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals("F", result.getViolations().get(1).getValue());
+        Assertions.assertEquals(3, result.getViolations().get(1).getExpectedValue());
+
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineCollection(new LinkedList<>(Arrays.asList("abc", "D"))).testEachElement(rule)
+                        .throwValidationExceptionOnFail().validate());
+        Assertions.assertEquals("D", e.getValue());
+        Assertions.assertEquals(1, e.getExpectedValue());
+    }
+
+    @Test
+    public void testEachElementParallel()
+    {
+        LongRule rule = Validate.defineLongRule().testMaxValue(1000L).build();
+        List<Long> values = new LinkedList<>();
+        for (long i = 0; i < 50000; i++)
+        {
+            values.add(i % 1000);
+        }
+        values.set(20000, 5000L);
+        values.set(40000, 5000L);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try
+        {
+            CollectionValidator validator = Validate.defineCollection(values).testEachElement(rule).useParallel(pool);
+            Assertions.assertFalse(validator.validate());
+            ValidationResult result = validator.validateAll();
+            Assertions.assertEquals(2, result.getViolationCount());
+            Assertions.assertEquals(20000, result.getViolations().get(0).getExpectedValue());
+            Assertions.assertEquals(40000, result.getViolations().get(1).getExpectedValue());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidParameters()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCollection(null).testMaxLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCollection(null).testMinLength(5).testMaxLength(2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCollection(null).testEachElement(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineCollection(null).useParallel(null));
+    }
+}
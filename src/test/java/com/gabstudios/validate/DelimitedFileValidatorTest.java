@@ -0,0 +1,159 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * A test class for the DelimitedFileValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DelimitedFileValidatorTest
+{
+    @TempDir
+    Path _directory;
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    private Path write(final String text) throws IOException
+    {
+        final Path path = this._directory.resolve("data.csv");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        return (path);
+    }
+
+    private static DelimitedFileValidator define(final Path path)
+    {
+        return (Validate.defineDelimitedFile(path).skipLines(1).testFieldCount(4)
+                .testField(0, Validate.defineLongRule().isPositiveValue().build())
+                .testField(1, Validate.defineStringRule().testNotNullEmpty().testMaxLength(8).testMatch("[A-Za-zé]+").build())
+                .testField(2, Validate.defineIntegerRule().testMinValue(0).testMaxValue(150).build())
+                .testField(3, Validate.defineDoubleRule().testMinValue(0.0).testMaxValue(1000.0).build()));
+    }
+
+    @Test
+    public void testToString()
+    {
+        String desc = Validate.defineDelimitedFile(Path.of("data.csv")).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testValid() throws IOException
+    {
+        final Path path = write("id,name,age,balance\n1,Alice,30,10.5\r\n2,José,41,999.99\n\n3,Bob,0,1e2\n");
+        final List<String> failures = new ArrayList<>();
+        final long count = define(path).validate((offset, line, field, ruleId) -> failures.add(line + ":" + field + ":" + ruleId));
+        Assertions.assertEquals(0L, count, failures.toString());
+    }
+
+    @Test
+    public void testFailures() throws IOException
+    {
+        final String text = "id,name,age,balance\n1,Alice,30,10.5\n-2,Bob,200,5\nx,,30,abc\n4,Carol,30\n5,Dave,30,1,extra";
+        final Path path = write(text);
+        final List<String> failures = new ArrayList<>();
+        final List<Long> offsets = new ArrayList<>();
+        final long count = define(path).validate((offset, line, field, ruleId) -> {
+            failures.add(line + ":" + field + ":" + ruleId);
+            offsets.add(offset);
+        });
+
+        Assertions.assertEquals(List.of("3:0:POSITIVE_VALUE", "3:2:MAX_VALUE", "4:0:IS_NUMBER", "4:1:NOT_EMPTY",
+                "4:3:IS_NUMBER", "5:3:NOT_NULL", "5:3:FIELD_COUNT", "6:5:FIELD_COUNT"), failures);
+        Assertions.assertEquals(failures.size(), count);
+        Assertions.assertEquals(text.indexOf("-2"), offsets.get(0).longValue());
+        Assertions.assertEquals(text.indexOf("200"), offsets.get(1).longValue());
+    }
+
+    @Test
+    public void testRegions() throws IOException
+    {
+        final StringBuilder builder = new StringBuilder("id,name,age,balance\n");
+        for (int i = 1; i <= 500; i++)
+        {
+            builder.append(i).append(",Name,").append(i % 200).append(',').append(i).append(".25\n");
+        }
+        final Path path = write(builder.toString());
+
+        final List<Long> lines = new ArrayList<>();
+        final long count = define(path).maxMappedSize(64)
+                .validate((offset, line, field, ruleId) -> lines.add(line));
+
+        // the ages above 150.
+        final List<Long> expected = new ArrayList<>();
+        for (int i = 1; i <= 500; i++)
+        {
+            if (i % 200 > 150)
+            {
+                expected.add((long) i + 1);
+            }
+        }
+        Assertions.assertEquals(expected, lines);
+        Assertions.assertEquals(expected.size(), count);
+    }
+
+    @Test
+    public void testRecordTooLong() throws IOException
+    {
+        final Path path = write("1,Alice,30,10.5\n1,Alice,30,10.5\n");
+        Assertions.assertThrows(IOException.class,
+                () -> define(path).maxMappedSize(8).validate((offset, line, field, ruleId) -> {}));
+    }
+
+    @Test
+    public void testParse()
+    {
+        final ByteBuffer buffer = ByteBuffer.wrap("-9223372036854775808|9223372036854775808|+12|1.5|-0.125|12345678901234567.5".getBytes(StandardCharsets.US_ASCII));
+        Assertions.assertEquals(Long.MIN_VALUE, DelimitedFileValidator.parseLong(buffer, 0, 20));
+        Assertions.assertEquals(Long.MIN_VALUE, DelimitedFileValidator.parseLong(buffer, 21, 40));
+        Assertions.assertEquals(12L, DelimitedFileValidator.parseLong(buffer, 41, 44));
+        Assertions.assertEquals(1.5, DelimitedFileValidator.parseDouble(buffer, 45, 48));
+        Assertions.assertEquals(-0.125, DelimitedFileValidator.parseDouble(buffer, 49, 55));
+        Assertions.assertEquals(12345678901234567.5, DelimitedFileValidator.parseDouble(buffer, 56, 75));
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineDelimitedFile(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineDelimitedFile(Path.of("x")).delimiter('\n'));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineDelimitedFile(Path.of("x")).testField(-1, Validate.defineIntegerRule().build()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineDelimitedFile(Path.of("x")).validate(null));
+    }
+}
@@ -0,0 +1,199 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the DfaPattern
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DfaPatternTest
+{
+    private static final String[] PATTERNS = { "", "a", "abc", "a*", "a+", "a?", "a*?", "a+?b", "(ab)*", "(a|b)*c",
+            "a|b|", "(?:a|bc)+", "(?<x>a)b", "a{2}", "a{1,3}", "a{2,}", "(ab){0,2}c", "[abc]+", "[^a]*", "[a-c]{2}",
+            "[]a]", "[-a]", "[a-]", "[\\]]", "[\\d_]+", "\\d+", "\\D", "\\w+", "\\W", "\\s", "\\S+", ".", ".*", "a.c",
+            "^ab$", "^$", "\\$", "a\\.b", "\\x41", "\\u00e9", "\\t", "[\\x00-\\x7f]+", "()*a", "(a*)*", "(a|ab)(c|bcd)",
+            "[^\\d\\s]+", "x(y(z)?)*", "é+", "😀", ".😀", "[😀a]b", "[^😀]" };
+
+    private static final String[] VALUES   = { "", "a", "b", "c", "ab", "abc", "aa", "aaa", "aaaa", "abab", "ababc",
+            "bc", "abcd", "]", "-", "a-", "$", "a.b", "axb", "A", "é", "éé", "\t", " ", "\n", "\r", "\u0085",
+            " ", "a\nc", "0", "123", "12a", "_", "x", "xy", "xyz", "xyzy", "xyyz", "😀", "a😀", "😀b", "\ud83d",
+            "\ude00", "\u0000\u007f", "\u0080" };
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    private static void assertSameAsJava(final String regex, final String value)
+    {
+        final DfaPattern dfa = DfaPattern.compile(regex);
+        Assertions.assertEquals(Pattern.compile(regex).matcher(value).matches(), dfa.matches(value),
+                "/" + regex + "/ " + value);
+    }
+
+    @Test
+    public void testSameAsJava()
+    {
+        for (final String regex : PATTERNS)
+        {
+            Assertions.assertTrue(DfaPattern.compile(regex).isLinearTime(), regex);
+            for (final String value : VALUES)
+            {
+                assertSameAsJava(regex, value);
+            }
+        }
+    }
+
+    @Test
+    public void testEveryShortValue()
+    {
+        // every value of up to 6 chars over a small alphabet.
+        final String[] patterns = { "(a|b)*abb", "(a|ab)*b?", "a{2,3}(ba)?", "(a?b?){3}", "[ab]*a[ab]", "(aa|b)+?a*" };
+        List<String> values = new ArrayList<>();
+        values.add("");
+        final List<String> all = new ArrayList<>(values);
+        for (int length = 1; length <= 6; length++)
+        {
+            final List<String> next = new ArrayList<>();
+            for (final String value : values)
+            {
+                next.add(value + "a");
+                next.add(value + "b");
+            }
+            all.addAll(next);
+            values = next;
+        }
+        for (final String regex : patterns)
+        {
+            for (final String value : all)
+            {
+                assertSameAsJava(regex, value);
+            }
+        }
+    }
+
+    @Test
+    public void testRegion()
+    {
+        final DfaPattern pattern = DfaPattern.compile("[0-9]+");
+        Assertions.assertTrue(pattern.matches("id=123;", 3, 6));
+        Assertions.assertFalse(pattern.matches("id=123;", 2, 6));
+        Assertions.assertFalse(pattern.matches("id=123;", 3, 3));
+    }
+
+    @Test
+    public void testFallback()
+    {
+        final String[] patterns = { "(a)\\1", "a(?=b).", "(?i)abc", "a++", "\\bab", "\\p{L}+", "[a-z&&[^b]]+",
+                "a^b", "(?>a)", "\\Qa.b\\E", "\\x{41}", "\\uD83D\\uDE00", "a{20000}" };
+        for (final String regex : patterns)
+        {
+            Assertions.assertFalse(DfaPattern.compile(regex).isLinearTime(), regex);
+            for (final String value : new String[] { "", "aa", "ab", "ABC", "abc", "a.b", "A", "😀", "ac" })
+            {
+                assertSameAsJava(regex, value);
+            }
+        }
+    }
+
+    @Test
+    public void testLinearTime()
+    {
+        // exponential for a backtracking engine.
+        final DfaPattern pattern = DfaPattern.compile("(a+)+b");
+        final String value = "a".repeat(100000);
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            Assertions.assertFalse(pattern.matches(value));
+            Assertions.assertTrue(pattern.matches(value + "b"));
+        });
+    }
+
+    @Test
+    public void testCacheFlush()
+    {
+        // a pattern with more DFA states than the cache can keep.
+        final DfaPattern pattern = DfaPattern.compile("[ab]*a[ab]{13}");
+        final Pattern java = Pattern.compile("[ab]*a[ab]{13}");
+        final Random random = new Random(42);
+        for (int i = 0; i < 2000; i++)
+        {
+            final StringBuilder value = new StringBuilder();
+            for (int j = 0; j < 40; j++)
+            {
+                value.append(random.nextBoolean() ? 'a' : 'b');
+            }
+            Assertions.assertEquals(java.matcher(value).matches(), pattern.matches(value), value.toString());
+        }
+    }
+
+    @Test
+    public void testValidator()
+    {
+        Assertions.assertTrue(Validate.defineString("abc-123").testMatch("[a-z]+-\\d+", RegexEngine.DFA).validate());
+        Assertions.assertFalse(Validate.defineString("abc-12x").testMatch("[a-z]+-\\d+", RegexEngine.DFA).validate());
+        Assertions.assertFalse(Validate.defineString(null).testMatch("[a-z]+", RegexEngine.DFA).validate());
+        Assertions.assertTrue(Validate.defineString("abc").testMatch("[a-z]+", RegexEngine.JAVA).validate());
+        Assertions.assertTrue(Validate.defineCharSequence("id=123;", 3, 6).testMatch("\\d+", RegexEngine.DFA).validate());
+        Assertions.assertTrue(Validate.defineStringRule().testMatch("\\d+", RegexEngine.DFA).build().validate("42"));
+        Assertions.assertFalse(Validate.defineStringRule().testMatch("\\d+", RegexEngine.DFA).build().validate("4x"));
+
+        final DfaPattern pattern = PatternCache.getDefault().getDfaPattern("\\d+");
+        Assertions.assertSame(pattern, PatternCache.getDefault().getDfaPattern("\\d+"));
+        try
+        {
+            Validate.defineString("x").testMatch(pattern).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.MATCH, e.getRuleId());
+            Assertions.assertSame(pattern, e.getExpectedValue());
+        }
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DfaPattern.compile(null));
+        Assertions.assertThrows(PatternSyntaxException.class, () -> DfaPattern.compile("(a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DfaPattern.compile("a").matches(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DfaPattern.compile("a").matches("abc", 2, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("x").testMatch("a", (RegexEngine) null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("x").testMatch((DfaPattern) null));
+    }
+}
@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the DoubleArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DoubleArrayValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        double[] values = { 1.0, 2.0, 3.0, 4.0 };
+        String desc = Validate.defineDoubleArray(values).testMaxLength(4).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testGetValue()
+    {
+        double[] values = { 1.0, 2.0, 3.0, 4.0 };
+        double[] retArray = Validate.defineDoubleArray(values).getValue();
+        Assertions.assertArrayEquals(values, retArray);
+        Assertions.assertNotSame(values, retArray);
+        Assertions.assertNull(Validate.defineDoubleArray(null).getValue());
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineDoubleArray(null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        double[] values = { 1.0, 2.0, 3.0, 4.0 };
+        Assertions.assertTrue(Validate.defineDoubleArray(values).testNotNullEmpty().testMinLength(2).testMaxLength(4).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(values).testMaxLength(3).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(values).testMinLength(5).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(new double[0]).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(null).testNotNull().validate());
+        Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineDoubleArray(values).testMaxLength(3).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        double[] values = { 1.0, 2.0, 3.0, 4.0 };
+        double[] equalsValues = { 1.0, 2.0, 3.0, 4.0 };
+        DoubleArrayValidator validator = Validate.defineDoubleArray(values).testEquals(equalsValues);
+        equalsValues[0] = 9.0;
+        Assertions.assertTrue(validator.validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(values).testEquals(equalsValues).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(null).testEquals(values).validate());
+    }
+
+    @Test
+    public void testElementValue()
+    {
+        double[] values = { 1.0, 2.0, 3.0, 4.0 };
+        Assertions.assertTrue(Validate.defineDoubleArray(values).testMinElementValue(1.0).testMaxElementValue(4.0).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(values).testMaxElementValue(3.0).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(values).testMinElementValue(2.0).validate());
+        Assertions.assertFalse(Validate.defineDoubleArray(null).testMaxElementValue(4.0).validate());
+        try
+        {
+            Validate.defineDoubleArray(values).testMaxElementValue(3.0).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.EACH_ELEMENT, e.getRuleId());
+        }
+    }
+
+    @Test
+    public void testElementValueLarge()
+    {
+        double[] values = new double[1000];
+        Arrays.fill(values, 1.0);
+        values[10] = 9.0;
+        values[700] = 9.0;
+        values[999] = 9.0;
+        Assertions.assertFalse(Validate.defineDoubleArray(values).testMaxElementValue(4.0).validate());
+        ValidationResult result = Validate.defineDoubleArray(values).testMaxElementValue(4.0).validateAll();
+        Assertions.assertEquals(3, result.getViolationCount());
+        Assertions.assertEquals(10, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals(700, result.getViolations().get(1).getExpectedValue());
+        Assertions.assertEquals(999, result.getViolations().get(2).getExpectedValue());
+        values[10] = 1.0;
+        values[700] = 1.0;
+        values[999] = 1.0;
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineDoubleArray(values).testMaxElementValue(4.0).validateAll());
+    }
+
+    @Test
+    public void testInvalidLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineDoubleArray(null).testMaxLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineDoubleArray(null).testMinLength(5).testMaxLength(4));
+    }
+
+    @Test
+    public void testInvalidElementValue()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineDoubleArray(null).testMinElementValue(5.0).testMaxElementValue(4.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineDoubleArray(null).testMaxElementValue(4.0).testMinElementValue(5.0));
+        // a min value that equals the max value is allowed.
+        Assertions.assertTrue(Validate.defineDoubleArray(new double[] { 4.0 }).testMinElementValue(4.0).testMaxElementValue(4.0)
+                .validate());
+    }
+}
@@ -0,0 +1,116 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the DoubleRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DoubleRuleTest {
+
+    private static final double[] VALUES = { Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -100.5, -1, -Double.MIN_VALUE,
+            -0.0d, 0.0d, Double.MIN_VALUE, 1, 5, 10, 10.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN };
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testNoTest() {
+        DoubleRule rule = Validate.defineDoubleRule().build();
+        for (final double value : VALUES) {
+            Assertions.assertTrue(rule.validate(value));
+        }
+    }
+
+    @Test
+    public void testRange() {
+        DoubleRule rule = Validate.defineDoubleRule().testMinValue(1.5).testMaxValue(10).build();
+        Assertions.assertTrue(rule.validate(1.5));
+        Assertions.assertTrue(rule.validate(10));
+        Assertions.assertFalse(rule.validate(1.4));
+        Assertions.assertFalse(rule.validate(10.1));
+        Assertions.assertFalse(rule.validate(Double.NaN));
+    }
+
+    @Test
+    public void testThrowOnFail() {
+        DoubleRule rule = Validate.defineDoubleRule().testMinValue(4).throwValidationExceptionOnFail().build();
+        Assertions.assertTrue(rule.validate(4.0));
+        Assertions.assertThrows(ValidateException.class, () -> rule.validate(3.9));
+    }
+
+    @Test
+    public void testSameAsValidator() {
+        for (final double value : VALUES) {
+            String desc = Double.toString(value);
+            Assertions.assertEquals(Validate.defineDouble(value).testMinValue(-1.0).testMaxValue(10.0).validate(),
+                    Validate.defineDoubleRule().testMinValue(-1).testMaxValue(10).build().validate(value), desc);
+            Assertions.assertEquals(Validate.defineDouble(value).testEquals(5.0).validate(),
+                    Validate.defineDoubleRule().testEquals(5).build().validate(value), desc);
+            Assertions.assertEquals(Validate.defineDouble(value).isZeroValue().validate(),
+                    Validate.defineDoubleRule().isZeroValue().build().validate(value), desc);
+            Assertions.assertEquals(Validate.defineDouble(value).isPositiveValue().validate(),
+                    Validate.defineDoubleRule().isPositiveValue().build().validate(value), desc);
+            Assertions.assertEquals(Validate.defineDouble(value).isNegativeValue().validate(),
+                    Validate.defineDoubleRule().isNegativeValue().build().validate(value), desc);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineDoubleRule().build().toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testBulk() {
+        DoubleRule rule = Validate.defineDoubleRule().testMinValue(0.0).testMaxValue(1.0).build();
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i / 1000.0;
+        }
+        Assertions.assertEquals(-1, rule.firstInvalidIndex(values));
+
+        values[10] = Double.NaN;
+        values[20] = -0.0;
+        values[300] = 1.5;
+        Assertions.assertEquals(10, rule.firstInvalidIndex(values));
+        BitSet expected = new BitSet();
+        expected.set(10);
+        expected.set(20);
+        expected.set(300);
+        Assertions.assertEquals(expected, rule.invalidIndexes(values));
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(!rule.validate(values[i]), expected.get(i));
+        }
+    }
+}
@@ -210,4 +210,24 @@ public class DoubleValidatorTest
 
     }
     
+    @Test
+    public void testSignedZeroAndNaN() {
+
+        // values compare the same way as Double.compare().
+        Assertions.assertTrue(Validate.defineDouble(-0.0d).isNegativeValue().validate());
+        Assertions.assertFalse(Validate.defineDouble(-0.0d).isZeroValue().validate());
+        Assertions.assertTrue(Validate.defineDouble(Double.NaN).isPositiveValue().validate());
+        Assertions.assertTrue(Validate.defineDouble(Double.NaN).testEquals(Double.NaN).validate());
+
+    }
+
+    @Test
+    public void testBoxedValue() {
+
+        Double max = Double.valueOf(10d);
+        Assertions.assertTrue(Validate.defineDouble(5d).testMaxValue(max).validate());
+        Assertions.assertEquals(Double.valueOf(5d), Validate.defineDouble(5d).getValue());
+
+    }
+
 }
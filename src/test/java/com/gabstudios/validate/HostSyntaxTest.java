@@ -0,0 +1,120 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the HostSyntax
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class HostSyntaxTest
+{
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testHostName()
+    {
+        final String label = "a".repeat(63);
+        Assertions.assertTrue(HostSyntax.isValid("localhost"));
+        Assertions.assertTrue(HostSyntax.isValid("my-host.Example.com"));
+        Assertions.assertTrue(HostSyntax.isValid("example.com."));
+        Assertions.assertTrue(HostSyntax.isValid("3com.com"));
+        Assertions.assertTrue(HostSyntax.isValid(label + ".com"));
+        Assertions.assertTrue(HostSyntax.isValid((label + ".").repeat(3) + "a".repeat(61)));
+
+        Assertions.assertFalse(HostSyntax.isValid(null));
+        Assertions.assertFalse(HostSyntax.isValid(""));
+        Assertions.assertFalse(HostSyntax.isValid("."));
+        Assertions.assertFalse(HostSyntax.isValid("-host.com"));
+        Assertions.assertFalse(HostSyntax.isValid("host-.com"));
+        Assertions.assertFalse(HostSyntax.isValid("my..host"));
+        Assertions.assertFalse(HostSyntax.isValid("my_host.com"));
+        Assertions.assertFalse(HostSyntax.isValid("hôst.com"));
+        Assertions.assertFalse(HostSyntax.isValid(label + "a.com"));
+        Assertions.assertFalse(HostSyntax.isValid((label + ".").repeat(3) + "a".repeat(62)));
+    }
+
+    @Test
+    public void testIPv4()
+    {
+        Assertions.assertTrue(HostSyntax.isValid("10.0.0.1"));
+        Assertions.assertTrue(HostSyntax.isValid("255.255.255.255"));
+        Assertions.assertArrayEquals(new byte[] { (byte) 192, (byte) 168, 0, 1 }, HostSyntax.parseAddress("192.168.0.1"));
+
+        Assertions.assertFalse(HostSyntax.isValid("256.0.0.1"));
+        Assertions.assertFalse(HostSyntax.isValid("1.2.3"));
+        Assertions.assertFalse(HostSyntax.isValid("1.2.3.4.5"));
+        Assertions.assertFalse(HostSyntax.isValid("01.2.3.4"));
+        Assertions.assertFalse(HostSyntax.isValid("1.2.3.4."));
+        Assertions.assertFalse(HostSyntax.isValid("1234.2.3.4"));
+    }
+
+    @Test
+    public void testIPv6() throws Exception
+    {
+        final String[] valid = { "::", "::1", "1::", "fe80::1:2", "2001:db8:85a3:0:0:8a2e:370:7334",
+                "2001:DB8::8A2E:370:7334", "::1.2.3.4", "1:2:3:4:5:6:1.2.3.4", "1:2:3:4:5:6:7::" };
+        for (final String host : valid)
+        {
+            Assertions.assertArrayEquals(InetAddress.getByName(host).getAddress(), HostSyntax.parseAddress(host), host);
+            Assertions.assertTrue(HostSyntax.isValid("[" + host + "]"), host);
+            // the host of a URI must put an IPv6 literal in brackets.
+            Assertions.assertFalse(HostSyntax.isValid(host), host);
+        }
+        // InetAddress turns a mapped address into an IPv4 address.
+        Assertions.assertArrayEquals(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff, (byte) 0xff, (byte) 192,
+                (byte) 168, 0, 1 }, HostSyntax.parseAddress("::ffff:192.168.0.1"));
+
+        final String[] invalid = { "[]", "[:]", "[1:2]", "[1:::2]", "[1::2::3]", "[12345::1]", "[1:2:3:4:5:6:7:8:9]",
+                "[1:2:3:4:5:6:7:8::]", "[::g]", "[1:]", "[::1.2.3]", "[1:2:3:4:5:6:7:1.2.3.4]", "[::1",
+                "[::\uFF11]", "[fe80::\u0661]", "[\uFF21::1]" };
+        for (final String host : invalid)
+        {
+            Assertions.assertFalse(HostSyntax.isValid(host), host);
+        }
+        // a fullwidth digit is not a hex digit.
+        Assertions.assertNull(HostSyntax.parseAddress("::\uFF11"));
+    }
+
+    @Test
+    public void testOfflineResolver() throws Exception
+    {
+        final HostResolver resolver = HostResolver.offline();
+        Assertions.assertEquals(InetAddress.getByName("10.0.0.1"), resolver.resolve("10.0.0.1"));
+        Assertions.assertEquals(InetAddress.getByName("::1"), resolver.resolve("[::1]"));
+        Assertions.assertThrows(java.net.UnknownHostException.class, () -> resolver.resolve("localhost"));
+        Assertions.assertThrows(java.net.UnknownHostException.class, () -> resolver.resolve("999.1.1.1"));
+        Assertions.assertThrows(java.net.UnknownHostException.class, () -> resolver.resolve(null));
+    }
+}
@@ -0,0 +1,103 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the HostTrie
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class HostTrieTest
+{
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testExact()
+    {
+        final HostTrie trie = new HostTrie();
+        Assertions.assertTrue(trie.isEmpty());
+        trie.add("api.example.com");
+        trie.add("Example.ORG");
+        Assertions.assertFalse(trie.isEmpty());
+
+        Assertions.assertTrue(trie.contains("api.example.com"));
+        Assertions.assertTrue(trie.contains("API.Example.Com"));
+        Assertions.assertTrue(trie.contains("api.example.com."));
+        Assertions.assertTrue(trie.contains("example.org"));
+        Assertions.assertFalse(trie.contains("example.com"));
+        Assertions.assertFalse(trie.contains("www.api.example.com"));
+        Assertions.assertFalse(trie.contains("xapi.example.com"));
+        Assertions.assertFalse(trie.contains("pi.example.com"));
+        Assertions.assertFalse(trie.contains(null));
+        Assertions.assertFalse(trie.contains(""));
+    }
+
+    @Test
+    public void testWildcard()
+    {
+        final HostTrie trie = new HostTrie();
+        trie.add("*.example.com");
+
+        Assertions.assertTrue(trie.contains("www.example.com"));
+        Assertions.assertTrue(trie.contains("a.b.c.example.com"));
+        Assertions.assertFalse(trie.contains("example.com"));
+        Assertions.assertFalse(trie.contains(".example.com"));
+        Assertions.assertFalse(trie.contains("badexample.com"));
+        Assertions.assertFalse(trie.contains("www.example.com.evil.net"));
+
+        trie.add("example.com");
+        Assertions.assertTrue(trie.contains("example.com"));
+        Assertions.assertEquals("[*.example.com, example.com]", trie.toString());
+    }
+
+    @Test
+    public void testNotHostChars()
+    {
+        final HostTrie trie = new HostTrie();
+        trie.add("*.example.com");
+        Assertions.assertTrue(trie.contains("my_host.example.com"));
+        Assertions.assertFalse(trie.contains("example.cöm"));
+        Assertions.assertFalse(trie.contains("10.0.0.1"));
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        final HostTrie trie = new HostTrie();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("*"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("*."));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("www.*.example.com"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("-bad.example.com"));
+    }
+}
@@ -0,0 +1,77 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the InMemoryHostResolver
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class InMemoryHostResolverTest {
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testRegister() throws UnknownHostException {
+        InMemoryHostResolver resolver = new InMemoryHostResolver().register("My.Domain.com", "10.0.0.1");
+        Assertions.assertEquals("10.0.0.1", resolver.resolve("my.domain.com").getHostAddress());
+        Assertions.assertEquals("10.0.0.1", resolver.resolve("MY.DOMAIN.COM").getHostAddress());
+    }
+
+    @Test
+    public void testUnregister() {
+        InMemoryHostResolver resolver = new InMemoryHostResolver().register("my.domain.com", "10.0.0.1")
+                .unregister("my.domain.com");
+        Assertions.assertThrows(UnknownHostException.class, () -> resolver.resolve("my.domain.com"));
+    }
+
+    @Test
+    public void testLiteral() throws UnknownHostException {
+        InMemoryHostResolver resolver = new InMemoryHostResolver();
+        Assertions.assertEquals("192.168.1.1", resolver.resolve("192.168.1.1").getHostAddress());
+        Assertions.assertTrue(resolver.resolve("[::1]").isLoopbackAddress());
+        Assertions.assertEquals(InetAddress.getLoopbackAddress(), resolver.resolve(null));
+    }
+
+    @Test
+    public void testUnknownHost() {
+        InMemoryHostResolver resolver = new InMemoryHostResolver();
+        Assertions.assertThrows(UnknownHostException.class, () -> resolver.resolve("localhost"));
+    }
+
+    @Test
+    public void testInvalidAddress() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new InMemoryHostResolver().register("my.domain.com", "my.other.com"));
+    }
+}
@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the IntArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class IntArrayValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        int[] values = { 1, 2, 3, 4 };
+        String desc = Validate.defineIntArray(values).testMaxLength(4).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testGetValue()
+    {
+        int[] values = { 1, 2, 3, 4 };
+        int[] retArray = Validate.defineIntArray(values).getValue();
+        Assertions.assertArrayEquals(values, retArray);
+        Assertions.assertNotSame(values, retArray);
+        Assertions.assertNull(Validate.defineIntArray(null).getValue());
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineIntArray(null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        int[] values = { 1, 2, 3, 4 };
+        Assertions.assertTrue(Validate.defineIntArray(values).testNotNullEmpty().testMinLength(2).testMaxLength(4).validate());
+        Assertions.assertFalse(Validate.defineIntArray(values).testMaxLength(3).validate());
+        Assertions.assertFalse(Validate.defineIntArray(values).testMinLength(5).validate());
+        Assertions.assertFalse(Validate.defineIntArray(new int[0]).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineIntArray(null).testNotNull().validate());
+        Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineIntArray(values).testMaxLength(3).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        int[] values = { 1, 2, 3, 4 };
+        int[] equalsValues = { 1, 2, 3, 4 };
+        IntArrayValidator validator = Validate.defineIntArray(values).testEquals(equalsValues);
+        equalsValues[0] = 9;
+        Assertions.assertTrue(validator.validate());
+        Assertions.assertFalse(Validate.defineIntArray(values).testEquals(equalsValues).validate());
+        Assertions.assertFalse(Validate.defineIntArray(null).testEquals(values).validate());
+    }
+
+    @Test
+    public void testElementValue()
+    {
+        int[] values = { 1, 2, 3, 4 };
+        Assertions.assertTrue(Validate.defineIntArray(values).testMinElementValue(1).testMaxElementValue(4).validate());
+        Assertions.assertFalse(Validate.defineIntArray(values).testMaxElementValue(3).validate());
+        Assertions.assertFalse(Validate.defineIntArray(values).testMinElementValue(2).validate());
+        Assertions.assertFalse(Validate.defineIntArray(null).testMaxElementValue(4).validate());
+        try
+        {
+            Validate.defineIntArray(values).testMaxElementValue(3).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.EACH_ELEMENT, e.getRuleId());
+        }
+    }
+
+    @Test
+    public void testElementValueLarge()
+    {
+        int[] values = new int[1000];
+        Arrays.fill(values, 1);
+        values[10] = 9;
+        values[700] = 9;
+        values[999] = 9;
+        Assertions.assertFalse(Validate.defineIntArray(values).testMaxElementValue(4).validate());
+        ValidationResult result = Validate.defineIntArray(values).testMaxElementValue(4).validateAll();
+        Assertions.assertEquals(3, result.getViolationCount());
+        Assertions.assertEquals(10, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals(700, result.getViolations().get(1).getExpectedValue());
+        Assertions.assertEquals(999, result.getViolations().get(2).getExpectedValue());
+        values[10] = 1;
+        values[700] = 1;
+        values[999] = 1;
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineIntArray(values).testMaxElementValue(4).validateAll());
+    }
+
+    @Test
+    public void testInvalidLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineIntArray(null).testMaxLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineIntArray(null).testMinLength(5).testMaxLength(4));
+    }
+
+    @Test
+    public void testInvalidElementValue()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntArray(null).testMinElementValue(5).testMaxElementValue(4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntArray(null).testMaxElementValue(4).testMinElementValue(5));
+        // a min value that equals the max value is allowed.
+        Assertions.assertTrue(Validate.defineIntArray(new int[] { 4 }).testMinElementValue(4).testMaxElementValue(4)
+                .validate());
+    }
+}
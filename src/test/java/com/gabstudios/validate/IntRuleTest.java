@@ -0,0 +1,159 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the IntRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class IntRuleTest {
+
+    private static final int[] VALUES = { Integer.MIN_VALUE, -100, -1, 0, 1, 5, 10, 11, 100, Integer.MAX_VALUE };
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testNoTest() {
+        IntRule rule = Validate.defineIntegerRule().build();
+        for (final int value : VALUES) {
+            Assertions.assertTrue(rule.validate(value));
+        }
+    }
+
+    @Test
+    public void testRange() {
+        IntRule rule = Validate.defineIntegerRule().testMinValue(1).testMaxValue(10).build();
+        Assertions.assertTrue(rule.validate(1));
+        Assertions.assertTrue(rule.validate(10));
+        Assertions.assertFalse(rule.validate(0));
+        Assertions.assertFalse(rule.validate(11));
+        Assertions.assertEquals(1, rule.getLowValue());
+        Assertions.assertEquals(10, rule.getHighValue());
+    }
+
+    @Test
+    public void testEmptyRange() {
+        IntRule rule = Validate.defineIntegerRule().isPositiveValue().isNegativeValue().build();
+        for (final int value : VALUES) {
+            Assertions.assertFalse(rule.validate(value));
+        }
+    }
+
+    @Test
+    public void testBoxed() {
+        IntRule rule = Validate.defineIntegerRule().isZeroValue().build();
+        Assertions.assertTrue(rule.validate(Integer.valueOf(0)));
+        Assertions.assertFalse(rule.validate((Integer) null));
+    }
+
+    @Test
+    public void testThrowOnFail() {
+        IntRule rule = Validate.defineIntegerRule().testMaxValue(4).throwValidationExceptionOnFail().build();
+        Assertions.assertTrue(rule.validate(4));
+        Assertions.assertThrows(ValidateException.class, () -> rule.validate(5));
+    }
+
+    @Test
+    public void testSameAsValidator() {
+        for (final int value : VALUES) {
+            Assertions.assertEquals(Validate.defineInteger(value).testMinValue(-1).testMaxValue(10).validate(),
+                    Validate.defineIntegerRule().testMinValue(-1).testMaxValue(10).build().validate(value));
+            Assertions.assertEquals(Validate.defineInteger(value).testEquals(5).validate(),
+                    Validate.defineIntegerRule().testEquals(5).build().validate(value));
+            Assertions.assertEquals(Validate.defineInteger(value).isZeroValue().validate(),
+                    Validate.defineIntegerRule().isZeroValue().build().validate(value));
+            Assertions.assertEquals(Validate.defineInteger(value).isPositiveValue().validate(),
+                    Validate.defineIntegerRule().isPositiveValue().build().validate(value));
+            Assertions.assertEquals(Validate.defineInteger(value).isNegativeValue().validate(),
+                    Validate.defineIntegerRule().isNegativeValue().build().validate(value));
+        }
+    }
+
+    @Test
+    public void testSameFailedRuleAsValidator() {
+        // 5 fails both the min value and the equals test.
+        ValidateException expected = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineInteger(5).testEquals(10).testMinValue(7).throwValidationExceptionOnFail().validate());
+        ValidateException actual = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineIntegerRule().testEquals(10).testMinValue(7).throwValidationExceptionOnFail().build()
+                        .validate(5));
+        Assertions.assertEquals(RuleId.MIN_VALUE, expected.getRuleId());
+        Assertions.assertEquals(expected.getRuleId(), actual.getRuleId());
+        Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineIntegerRule().build().toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testBulk() {
+        IntRule rule = Validate.defineIntegerRule().testMinValue(0).testMaxValue(100).build();
+        int[] values = new int[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 101;
+        }
+        Assertions.assertEquals(-1, rule.firstInvalidIndex(values));
+        Assertions.assertTrue(rule.invalidIndexes(values).isEmpty());
+
+        values[700] = -1;
+        values[9999] = 101;
+        Assertions.assertEquals(700, rule.firstInvalidIndex(values));
+        Assertions.assertEquals(9999, rule.firstInvalidIndex(values, 701, values.length));
+        Assertions.assertEquals(-1, rule.firstInvalidIndex(values, 0, 700));
+        BitSet expected = new BitSet();
+        expected.set(700);
+        expected.set(9999);
+        Assertions.assertEquals(expected, rule.invalidIndexes(values));
+        Assertions.assertEquals(1, rule.invalidIndexes(values, 800, values.length).cardinality());
+    }
+
+    @Test
+    public void testBulkThrow() {
+        IntRule rule = Validate.defineIntegerRule().isPositiveValue().throwValidationExceptionOnFail().build();
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> rule.firstInvalidIndex(new int[] { 1, 2, 0, 3 }));
+        Assertions.assertEquals(RuleId.POSITIVE_VALUE, e.getRuleId());
+    }
+
+    @Test
+    public void testBulkInvalidSlice() {
+        IntRule rule = Validate.defineIntegerRule().build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rule.firstInvalidIndex(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rule.firstInvalidIndex(new int[2], 1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rule.invalidIndexes(new int[2], 0, 3));
+        Assertions.assertEquals(-1, rule.firstInvalidIndex(new int[2], 1, 1));
+    }
+}
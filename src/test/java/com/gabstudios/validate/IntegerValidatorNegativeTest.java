@@ -92,4 +92,14 @@ public class IntegerValidatorNegativeTest {
 
     }
 
+    @Test
+    public void testNullMaxValue() {
+
+        int x = 5;
+        Integer max = null;
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineInteger(x).testMaxValue(max));
+
+    }
+
 }
@@ -173,4 +173,19 @@ public class IntegerValidatorTest {
 
     }
 
+    @Test
+    public void testProtectedRuleAccessors() {
+        NumberValidator<Integer> validator = Validate.defineInteger(5).testMinValue(1).testMaxValue(9).isPositiveValue();
+
+        Assertions.assertTrue(validator.isTestMinValue());
+        Assertions.assertTrue(validator.isTestMaxValue());
+        Assertions.assertTrue(validator.isTestPositiveValue());
+        Assertions.assertFalse(validator.isTestNegativeValue());
+        Assertions.assertFalse(validator.isTestZeroValue());
+        Assertions.assertFalse(validator.isTestEquals());
+        Assertions.assertEquals(Integer.valueOf(1), validator.getMinValue());
+        Assertions.assertEquals(Integer.valueOf(9), validator.getMaxValue());
+        Assertions.assertEquals(Integer.valueOf(0), validator.getZeroValue());
+    }
+
 }
@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the LongArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class LongArrayValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testToString()
+    {
+        long[] values = { 1L, 2L, 3L, 4L };
+        String desc = Validate.defineLongArray(values).testMaxLength(4).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testGetValue()
+    {
+        long[] values = { 1L, 2L, 3L, 4L };
+        long[] retArray = Validate.defineLongArray(values).getValue();
+        Assertions.assertArrayEquals(values, retArray);
+        Assertions.assertNotSame(values, retArray);
+        Assertions.assertNull(Validate.defineLongArray(null).getValue());
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineLongArray(null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        long[] values = { 1L, 2L, 3L, 4L };
+        Assertions.assertTrue(Validate.defineLongArray(values).testNotNullEmpty().testMinLength(2).testMaxLength(4).validate());
+        Assertions.assertFalse(Validate.defineLongArray(values).testMaxLength(3).validate());
+        Assertions.assertFalse(Validate.defineLongArray(values).testMinLength(5).validate());
+        Assertions.assertFalse(Validate.defineLongArray(new long[0]).testNotNullEmpty().validate());
+        Assertions.assertFalse(Validate.defineLongArray(null).testNotNull().validate());
+        Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineLongArray(values).testMaxLength(3).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        long[] values = { 1L, 2L, 3L, 4L };
+        long[] equalsValues = { 1L, 2L, 3L, 4L };
+        LongArrayValidator validator = Validate.defineLongArray(values).testEquals(equalsValues);
+        equalsValues[0] = 9L;
+        Assertions.assertTrue(validator.validate());
+        Assertions.assertFalse(Validate.defineLongArray(values).testEquals(equalsValues).validate());
+        Assertions.assertFalse(Validate.defineLongArray(null).testEquals(values).validate());
+    }
+
+    @Test
+    public void testElementValue()
+    {
+        long[] values = { 1L, 2L, 3L, 4L };
+        Assertions.assertTrue(Validate.defineLongArray(values).testMinElementValue(1L).testMaxElementValue(4L).validate());
+        Assertions.assertFalse(Validate.defineLongArray(values).testMaxElementValue(3L).validate());
+        Assertions.assertFalse(Validate.defineLongArray(values).testMinElementValue(2L).validate());
+        Assertions.assertFalse(Validate.defineLongArray(null).testMaxElementValue(4L).validate());
+        try
+        {
+            Validate.defineLongArray(values).testMaxElementValue(3L).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.EACH_ELEMENT, e.getRuleId());
+        }
+    }
+
+    @Test
+    public void testElementValueLarge()
+    {
+        long[] values = new long[1000];
+        Arrays.fill(values, 1L);
+        values[10] = 9L;
+        values[700] = 9L;
+        values[999] = 9L;
+        Assertions.assertFalse(Validate.defineLongArray(values).testMaxElementValue(4L).validate());
+        ValidationResult result = Validate.defineLongArray(values).testMaxElementValue(4L).validateAll();
+        Assertions.assertEquals(3, result.getViolationCount());
+        Assertions.assertEquals(10, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertEquals(700, result.getViolations().get(1).getExpectedValue());
+        Assertions.assertEquals(999, result.getViolations().get(2).getExpectedValue());
+        values[10] = 1L;
+        values[700] = 1L;
+        values[999] = 1L;
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineLongArray(values).testMaxElementValue(4L).validateAll());
+    }
+
+    @Test
+    public void testInvalidLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineLongArray(null).testMaxLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineLongArray(null).testMinLength(5).testMaxLength(4));
+    }
+
+    @Test
+    public void testInvalidElementValue()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongArray(null).testMinElementValue(5L).testMaxElementValue(4L));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongArray(null).testMaxElementValue(4L).testMinElementValue(5L));
+        // a min value that equals the max value is allowed.
+        Assertions.assertTrue(Validate.defineLongArray(new long[] { 4L }).testMinElementValue(4L).testMaxElementValue(4L)
+                .validate());
+    }
+}
@@ -0,0 +1,125 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the LongRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class LongRuleTest {
+
+    private static final long[] VALUES = { Long.MIN_VALUE, -100, -1, 0, 1, 5, 10, 11, 100, Long.MAX_VALUE };
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testNoTest() {
+        LongRule rule = Validate.defineLongRule().build();
+        for (final long value : VALUES) {
+            Assertions.assertTrue(rule.validate(value));
+        }
+    }
+
+    @Test
+    public void testRange() {
+        LongRule rule = Validate.defineLongRule().testMinValue(1).testMaxValue(10).build();
+        Assertions.assertTrue(rule.validate(1));
+        Assertions.assertTrue(rule.validate(10));
+        Assertions.assertFalse(rule.validate(0));
+        Assertions.assertFalse(rule.validate(11));
+        Assertions.assertEquals(1L, rule.getLowValue());
+        Assertions.assertEquals(10L, rule.getHighValue());
+    }
+
+    @Test
+    public void testEmptyRange() {
+        LongRule rule = Validate.defineLongRule().isPositiveValue().isNegativeValue().build();
+        for (final long value : VALUES) {
+            Assertions.assertFalse(rule.validate(value));
+        }
+    }
+
+    @Test
+    public void testBoxed() {
+        LongRule rule = Validate.defineLongRule().isZeroValue().build();
+        Assertions.assertTrue(rule.validate(Long.valueOf(0)));
+        Assertions.assertFalse(rule.validate((Long) null));
+    }
+
+    @Test
+    public void testThrowOnFail() {
+        LongRule rule = Validate.defineLongRule().testMaxValue(4).throwValidationExceptionOnFail().build();
+        Assertions.assertTrue(rule.validate(4));
+        Assertions.assertThrows(ValidateException.class, () -> rule.validate(5));
+    }
+
+    @Test
+    public void testSameAsValidator() {
+        for (final long value : VALUES) {
+            Assertions.assertEquals(Validate.defineLong(value).testMinValue(-1L).testMaxValue(10L).validate(),
+                    Validate.defineLongRule().testMinValue(-1).testMaxValue(10).build().validate(value));
+            Assertions.assertEquals(Validate.defineLong(value).testEquals(5L).validate(),
+                    Validate.defineLongRule().testEquals(5).build().validate(value));
+            Assertions.assertEquals(Validate.defineLong(value).isZeroValue().validate(),
+                    Validate.defineLongRule().isZeroValue().build().validate(value));
+            Assertions.assertEquals(Validate.defineLong(value).isPositiveValue().validate(),
+                    Validate.defineLongRule().isPositiveValue().build().validate(value));
+            Assertions.assertEquals(Validate.defineLong(value).isNegativeValue().validate(),
+                    Validate.defineLongRule().isNegativeValue().build().validate(value));
+        }
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineLongRule().build().toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testBulk() {
+        LongRule rule = Validate.defineLongRule().isNegativeValue().build();
+        long[] values = new long[1000];
+        Arrays.fill(values, -5L);
+        Assertions.assertEquals(-1, rule.firstInvalidIndex(values));
+
+        values[3] = 0L;
+        values[512] = Long.MAX_VALUE;
+        Assertions.assertEquals(3, rule.firstInvalidIndex(values));
+        BitSet expected = new BitSet();
+        expected.set(3);
+        expected.set(512);
+        Assertions.assertEquals(expected, rule.invalidIndexes(values));
+        Assertions.assertEquals(-1, rule.firstInvalidIndex(values, 4, 512));
+    }
+}
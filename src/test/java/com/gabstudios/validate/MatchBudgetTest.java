@@ -0,0 +1,147 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the MatchBudget
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class MatchBudgetTest
+{
+    /*
+     * Takes minutes for java.util.regex to reject.
+     */
+    private static final String SLOW_REGEX = "(.*,){11}P";
+
+    private static final String SLOW_VALUE = "a,".repeat(40);
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testWithinBudget()
+    {
+        final MatchBudget budget = MatchBudget.ofSteps(100);
+        Assertions.assertTrue(Validate.defineString("abc123").testMatch("[a-z]+\\d+").useMatchBudget(budget).validate());
+        Assertions.assertFalse(Validate.defineString("abc12x").testMatch("[a-z]+\\d+").useMatchBudget(budget).validate());
+        Assertions.assertEquals(0, budget.getExceededCount());
+    }
+
+    @Test
+    public void testStepsExceeded()
+    {
+        final MatchBudget budget = MatchBudget.ofSteps(1000);
+        final String value = "1".repeat(5000);
+        Assertions.assertFalse(Validate.defineString(value).testMatch("\\d+").useMatchBudget(budget).validate());
+        Assertions.assertFalse(Validate.defineString(value).testMatch("\\d+", RegexEngine.DFA).useMatchBudget(budget).validate());
+        Assertions.assertEquals(2, budget.getExceededCount());
+
+        try
+        {
+            Validate.defineString(value).testMatch("\\d+").useMatchBudget(budget).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.MATCH_BUDGET, e.getRuleId());
+            Assertions.assertSame(budget, e.getExpectedValue());
+        }
+        Assertions.assertEquals(3, budget.getExceededCount());
+    }
+
+    @Test
+    public void testTimeExceeded()
+    {
+        final MatchBudget budget = MatchBudget.ofTime(Duration.ofMillis(50));
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final ValidationResult result = Validate.defineString(SLOW_VALUE).testMatch(SLOW_REGEX)
+                    .useMatchBudget(budget).validateAll();
+            Assertions.assertFalse(result.isValid());
+            Assertions.assertEquals(RuleId.MATCH_BUDGET, result.getViolations().get(0).getRuleId());
+        });
+        Assertions.assertEquals(1, budget.getExceededCount());
+    }
+
+    @Test
+    public void testRegionAndRule()
+    {
+        final MatchBudget budget = MatchBudget.ofSteps(1000);
+        Assertions.assertTrue(Validate.defineCharSequence("id=123;", 3, 6).testMatch("\\d+").useMatchBudget(budget).validate());
+        Assertions.assertFalse(Validate.defineCharSequence(SLOW_VALUE, 0, SLOW_VALUE.length()).testMatch(SLOW_REGEX)
+                .useMatchBudget(budget).validate());
+
+        final StringRule rule = Validate.defineStringRule().testMatch(SLOW_REGEX).useMatchBudget(budget).build();
+        Assertions.assertEquals(RuleId.MATCH_BUDGET, rule.getFailedRule(SLOW_VALUE));
+        Assertions.assertSame(budget, rule.getExpectedValue(RuleId.MATCH_BUDGET));
+        Assertions.assertNull(Validate.defineStringRule().testMatch("\\d+").useMatchBudget(budget).build().getFailedRule("42"));
+        Assertions.assertEquals(2, budget.getExceededCount());
+    }
+
+    @Test
+    public void testWrapReused()
+    {
+        final MatchBudget budget = MatchBudget.ofSteps(10);
+        final CharSequence wrapped = budget.wrap("abc");
+        Assertions.assertEquals("abc", wrapped.toString());
+
+        // a wrapper that is in use is not reused.
+        final CharSequence other = budget.wrap("xyz");
+        Assertions.assertNotSame(wrapped, other);
+        Assertions.assertEquals("abc", wrapped.toString());
+
+        budget.release(wrapped);
+        Assertions.assertSame(wrapped, budget.wrap("def"));
+        Assertions.assertEquals("def", wrapped.toString());
+        budget.release(wrapped);
+
+        // the steps of the last match are not counted.
+        final CharSequence next = budget.wrap("0123456789");
+        for (int i = 0; i < next.length(); i++)
+        {
+            next.charAt(i);
+        }
+        budget.release(next);
+        Assertions.assertEquals('0', budget.wrap("0123456789").charAt(0));
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MatchBudget.ofSteps(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MatchBudget.ofTime(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MatchBudget.ofTime(Duration.ofMillis(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineString("x").useMatchBudget(null));
+        Assertions.assertEquals(Duration.ofMillis(5), new MatchBudget(10, Duration.ofMillis(5)).getMaxTime());
+        Assertions.assertNull(MatchBudget.ofSteps(10).getMaxTime());
+    }
+}
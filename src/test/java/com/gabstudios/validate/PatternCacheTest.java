@@ -0,0 +1,170 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the PatternCache
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class PatternCacheTest {
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        PatternCache cache = new PatternCache(10);
+        Pattern first = cache.getPattern("[0-9]+");
+        Pattern second = cache.getPattern("[0-9]+");
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        PatternCache cache = new PatternCache(10);
+        Pattern keep = cache.getPattern("keep");
+        for (int i = 0; i < 100; i++) {
+            // keep the first pattern recently used.
+            Assertions.assertSame(keep, cache.getPattern("keep"));
+            cache.getPattern("value" + i);
+        }
+
+        Assertions.assertTrue(cache.size() <= cache.getMaxSize());
+        Assertions.assertTrue(cache.getEvictionCount() > 0);
+        long misses = cache.getMissCount();
+        Assertions.assertSame(keep, cache.getPattern("keep"));
+        Assertions.assertEquals(misses, cache.getMissCount());
+    }
+
+    @Test
+    public void testConcurrentEviction() throws Exception {
+        // hits stamp entries while other threads evict.
+        PatternCache cache = new PatternCache(16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        cache.getPattern("p" + ((i * 7 + seed) % 64));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    public void testSmallCacheEvictsInBatches() {
+        PatternCache cache = new PatternCache(2);
+        for (int i = 0; i < 10; i++) {
+            cache.getPattern("value" + i);
+        }
+
+        Assertions.assertTrue(cache.size() <= cache.getMaxSize());
+    }
+
+    @Test
+    public void testDefaultCacheIsUsed() {
+        PatternCache cache = PatternCache.getDefault();
+        String regex = "[a-z]+-" + System.nanoTime();
+        Validate.defineString("abc-").testMatch(regex).validate();
+        long hits = cache.getHitCount();
+        Validate.defineString("abc-").testMatch(regex).validate();
+
+        Assertions.assertTrue(cache.getHitCount() > hits);
+    }
+
+    @Test
+    public void testSizeCountsBothKinds() {
+        PatternCache cache = new PatternCache(2);
+        cache.getPattern("a");
+        cache.getPattern("b");
+        cache.getDfaPattern("a");
+        cache.getDfaPattern("b");
+
+        Assertions.assertEquals(4, cache.size());
+        Assertions.assertEquals(4, cache.getMaxSize());
+    }
+
+    @Test
+    public void testDefaultMaxSizeProperty() {
+        String key = "com.gabstudios.validate.patternCacheSize";
+        String old = System.getProperty(key);
+        try {
+            System.setProperty(key, "32");
+            Assertions.assertEquals(32, PatternCache.getDefaultMaxSize());
+            System.setProperty(key, "0");
+            Assertions.assertEquals(PatternCache.DEFAULT_MAX_SIZE, PatternCache.getDefaultMaxSize());
+            System.setProperty(key, "-5");
+            Assertions.assertEquals(PatternCache.DEFAULT_MAX_SIZE, PatternCache.getDefaultMaxSize());
+        } finally {
+            if (old == null) {
+                System.clearProperty(key);
+            } else {
+                System.setProperty(key, old);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidMaxSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PatternCache(0));
+    }
+
+    @Test
+    public void testNullRegex() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PatternCache(1).getPattern(null));
+    }
+
+    @Test
+    public void testToString() {
+        String desc = new PatternCache(1).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+}
@@ -0,0 +1,140 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the StringRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class StringRuleTest {
+
+    private static final String[] VALUES = { null, "", "a", "abc", "HelloWorld", "hELLOwORLD", "Hello World!",
+            "12345" };
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testSameFailedRuleAsValidator() {
+        // "abc" fails both the min length and the equals test.
+        ValidateException expected = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineString("abc").testEquals("HelloWorld").testMinLength(5)
+                        .throwValidationExceptionOnFail().validate());
+        ValidateException actual = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineStringRule().testEquals("HelloWorld").testMinLength(5)
+                        .throwValidationExceptionOnFail().build().validate("abc"));
+        Assertions.assertEquals(RuleId.MIN_LENGTH, expected.getRuleId());
+        Assertions.assertEquals(expected.getRuleId(), actual.getRuleId());
+        Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+
+        // "" fails both the not empty and the equals test.
+        Assertions.assertEquals(RuleId.NOT_EMPTY,
+                Validate.defineStringRule().testEqualsNoCase("x").testNotNullEmpty().build().getFailedRule(""));
+        Assertions.assertEquals(RuleId.NOT_EMPTY, Validate.defineString("").testEqualsNoCase("x").testNotNullEmpty()
+                .validateAll().getViolations().get(0).getRuleId());
+    }
+
+    @Test
+    public void testNoTest() {
+        StringRule rule = Validate.defineStringRule().build();
+        Assertions.assertTrue(rule.validate("HelloWorld"));
+        Assertions.assertTrue(rule.validate(null));
+    }
+
+    @Test
+    public void testNotNull() {
+        StringRule rule = Validate.defineStringRule().testNotNull().build();
+        Assertions.assertTrue(rule.validate(""));
+        Assertions.assertFalse(rule.validate(null));
+    }
+
+    @Test
+    public void testLength() {
+        StringRule rule = Validate.defineStringRule().testMinLength(3).testMaxLength(10).build();
+        Assertions.assertTrue(rule.validate("abc"));
+        Assertions.assertTrue(rule.validate("HelloWorld"));
+        Assertions.assertFalse(rule.validate("ab"));
+        Assertions.assertFalse(rule.validate("Hello World!"));
+        Assertions.assertFalse(rule.validate(null));
+    }
+
+    @Test
+    public void testMatch() {
+        StringRule rule = Validate.defineStringRule().testMatch("[0-9]+").build();
+        Assertions.assertTrue(rule.validate("12345"));
+        Assertions.assertFalse(rule.validate("123a5"));
+        Assertions.assertTrue(rule.validate("987"));
+    }
+
+    @Test
+    public void testThrowOnFail() {
+        StringRule rule = Validate.defineStringRule().testEqualsNoCase("helloworld").throwValidationExceptionOnFail()
+                .build();
+        Assertions.assertTrue(rule.validate("HelloWorld"));
+        Assertions.assertThrows(ValidateException.class, () -> rule.validate("Hello World"));
+    }
+
+    @Test
+    public void testMaxLengthArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineStringRule().testMinLength(5).testMaxLength(4));
+    }
+
+    @Test
+    public void testSameAsValidator() {
+        StringRule equalsRule = Validate.defineStringRule().testEquals("HelloWorld").build();
+        StringRule noCaseRule = Validate.defineStringRule().testEqualsNoCase("HelloWorld").build();
+        StringRule emptyRule = Validate.defineStringRule().testNotNullEmpty().build();
+        StringRule lengthRule = Validate.defineStringRule().testMinLength(1).testMaxLength(5).build();
+        StringRule matchRule = Validate.defineStringRule().testMatch("[a-zA-Z]+").build();
+        StringRule charClassRule = Validate.defineStringRule().testCharClass(CharClass.ALPHA).build();
+
+        for (final String value : VALUES) {
+            Assertions.assertEquals(Validate.defineString(value).testEquals("HelloWorld").validate(),
+                    equalsRule.validate(value), value);
+            Assertions.assertEquals(Validate.defineString(value).testEqualsNoCase("HelloWorld").validate(),
+                    noCaseRule.validate(value), value);
+            Assertions.assertEquals(Validate.defineString(value).testNotNullEmpty().validate(),
+                    emptyRule.validate(value), value);
+            Assertions.assertEquals(Validate.defineString(value).testMinLength(1).testMaxLength(5).validate(),
+                    lengthRule.validate(value), value);
+            Assertions.assertEquals(Validate.defineString(value).testMatch("[a-zA-Z]+").validate(),
+                    matchRule.validate(value), value);
+            Assertions.assertEquals(Validate.defineString(value).testCharClass(CharClass.ALPHA).validate(),
+                    charClassRule.validate(value), value);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineStringRule().testMatch("[0-9]+").build().toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+}
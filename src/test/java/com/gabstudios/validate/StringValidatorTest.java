@@ -19,6 +19,8 @@
 
 package com.gabstudios.validate;
 
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.*;
 
 
@@ -252,4 +254,58 @@ public class StringValidatorTest
 
     }
         
+    @Test
+    public void testMatchPattern()
+    {
+
+        try
+        {
+            Pattern pattern = Pattern.compile("[A-Za-z]*");
+            boolean retVal = Validate.defineString("HelloWorld").testMatch(pattern)
+                    .throwValidationExceptionOnFail().validate();
+
+            Assertions.assertTrue(retVal);
+            Assertions.assertFalse(Validate.defineString("Hello World").testMatch(pattern).validate());
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.fail(e.toString());
+        }
+
+    }
+
+    @Test
+    public void testRuleReplaced()
+    {
+        Assertions.assertTrue(Validate.defineString("HELLO").testEquals("hello").testEqualsNoCase("hello").validate());
+        Assertions.assertFalse(Validate.defineString("HELLO").testEqualsNoCase("hello").testEquals("hello").validate());
+    }
+
+    @Test
+    public void testNoRules()
+    {
+        Assertions.assertTrue(Validate.defineString(null).validate());
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineString(null).validateAll());
+    }
+
+    @Test
+    public void testCharClass()
+    {
+        Assertions.assertTrue(Validate.defineString("0123456789abcdefABCDEF").testCharClass(CharClass.HEX).validate());
+        Assertions.assertFalse(Validate.defineString("0123456789abcdefg").testCharClass(CharClass.HEX).validate());
+        Assertions.assertTrue(Validate.defineString("").testCharClass(CharClass.DIGITS).validate());
+        Assertions.assertFalse(Validate.defineString(null).testCharClass(CharClass.DIGITS).validate());
+
+        try
+        {
+            Validate.defineString("12a4").testCharClass(CharClass.DIGITS).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.CHAR_CLASS, e.getRuleId());
+            Assertions.assertSame(CharClass.DIGITS, e.getExpectedValue());
+        }
+    }
+
 }
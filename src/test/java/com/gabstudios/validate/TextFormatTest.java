@@ -0,0 +1,114 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the TextFormat
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class TextFormatTest
+{
+    private static final String   LABEL   = "[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?";
+
+    private static final String   ATEXT   = "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]";
+
+    private static final String[] VALUES  = { "", "0", "-1", "+1.5", "1.", ".5", "1.2.3", "--1", "abc", "ABC_1",
+            "_x", "1abc", "deadbeef", "DEADBEEF0", "xyz", "123e4567-e89b-12d3-a456-426614174000",
+            "123E4567-E89B-12D3-A456-42661417400A", "123e4567e89b-12d3-a456-426614174000-",
+            "123e4567-e89b-12d3-a456-42661417400g", "user@example.com", "first.last+tag@sub.example.co",
+            "user@localhost", ".user@example.com", "user.@example.com", "us..er@example.com", "user@-example.com",
+            "user@example-.com", "user@ex-ample.com", "user@example..com", "user@.example.com", "user@example.com.",
+            "@example.com", "user@", "user", "a@b.c", "o'brien{}@x1.y2", "user@exa_mple.com", "us er@example.com",
+            "é@example.com", "١٢٣" };
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    private static void assertSameAs(final TextFormat format, final String regex)
+    {
+        final Pattern pattern = Pattern.compile(regex);
+        for (final String value : VALUES)
+        {
+            Assertions.assertEquals(pattern.matcher(value).matches(), format.matches(value), format + " " + value);
+        }
+    }
+
+    @Test
+    public void testSameAsRegex()
+    {
+        assertSameAs(TextFormat.UUID,
+                "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+        assertSameAs(TextFormat.HEX, "[0-9a-fA-F]+");
+        assertSameAs(TextFormat.DECIMAL, "[+-]?[0-9]+(\\.[0-9]+)?");
+        assertSameAs(TextFormat.IDENTIFIER, "[A-Za-z_][A-Za-z0-9_]*");
+        assertSameAs(TextFormat.EMAIL, ATEXT + "+(\\." + ATEXT + "+)*@" + LABEL + "(\\." + LABEL + ")+");
+    }
+
+    @Test
+    public void testEmailLengths()
+    {
+        final String local = "a".repeat(64);
+        final String label = "b".repeat(63);
+        Assertions.assertTrue(TextFormat.EMAIL.matches(local + "@" + label + ".com"));
+        Assertions.assertFalse(TextFormat.EMAIL.matches(local + "a@" + label + ".com"));
+        Assertions.assertFalse(TextFormat.EMAIL.matches("a@" + label + "b.com"));
+        Assertions.assertFalse(TextFormat.EMAIL.matches("a@" + (label + ".").repeat(4) + "com"));
+    }
+
+    @Test
+    public void testValidator()
+    {
+        Assertions.assertTrue(Validate.defineString("123e4567-e89b-12d3-a456-426614174000").testFormat(TextFormat.UUID).validate());
+        Assertions.assertFalse(Validate.defineString("not-a-uuid").testFormat(TextFormat.UUID).validate());
+        Assertions.assertFalse(Validate.defineString(null).testFormat(TextFormat.UUID).validate());
+        Assertions.assertTrue(Validate.defineCharSequence("id=user@example.com;", 3, 19).testFormat(TextFormat.EMAIL).validate());
+        Assertions.assertTrue(Validate.defineStringRule().testFormat(TextFormat.DECIMAL).build().validate("-12.50"));
+
+        try
+        {
+            Validate.defineString("12x").testFormat(TextFormat.DECIMAL).throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.FORMAT, e.getRuleId());
+            Assertions.assertEquals(TextFormat.DECIMAL, e.getExpectedValue());
+        }
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TextFormat.HEX.matches(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineString("x").testFormat(null));
+    }
+}
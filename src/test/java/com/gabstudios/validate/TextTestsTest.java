@@ -0,0 +1,95 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the TextTests
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class TextTestsTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testMatchRegion()
+    {
+        final TextTests tests = new TextTests();
+        tests.setMatch(Pattern.compile("\\d+"));
+        Assertions.assertNull(tests.getFailedMatchRule("id=123;", 3, 6, null));
+        Assertions.assertEquals(RuleId.MATCH, tests.getFailedMatchRule("id=123;", 2, 6, null));
+
+        tests.setMatch(DfaPattern.compile("\\d+"));
+        Assertions.assertNull(tests.getFailedMatchRule("id=123;", 3, 6, null));
+        Assertions.assertNull(tests.getMatchPattern());
+    }
+
+    @Test
+    public void testMatcherReset()
+    {
+        final Pattern pattern = Pattern.compile("[a-z]+");
+        final TextTests tests = new TextTests();
+        tests.setMatch(pattern);
+        tests.setMatchBudget(MatchBudget.ofSteps(5));
+
+        // the reused matcher does not hold the value after a match.
+        final Matcher matcher = pattern.matcher("");
+        Assertions.assertNull(tests.getFailedMatchRule("abc", 0, 3, matcher));
+        Assertions.assertEquals(0, matcher.regionEnd());
+        Assertions.assertEquals(RuleId.MATCH_BUDGET, tests.getFailedMatchRule("abcdefghij", 0, 10, matcher));
+        Assertions.assertEquals(0, matcher.regionEnd());
+        Assertions.assertEquals(RuleId.MATCH, tests.getFailedMatchRule("ab1", 0, 3, matcher));
+        Assertions.assertEquals(0, matcher.regionEnd());
+    }
+
+    @Test
+    public void testRegionEqual()
+    {
+        Assertions.assertTrue(TextTests.isRegionEqual("xxHelloxx", 2, 7, "Hello", false));
+        Assertions.assertTrue(TextTests.isRegionEqual(new StringBuilder("xxHelloxx"), 2, 7, "hELLO", true));
+        Assertions.assertFalse(TextTests.isRegionEqual(new StringBuilder("xxHelloxx"), 2, 7, "hELLO", false));
+        Assertions.assertFalse(TextTests.isRegionEqual("xxHelloxx", 2, 6, "Hello", false));
+        Assertions.assertFalse(TextTests.isRegionEqual("xxHelloxx", 2, 7, null, false));
+    }
+
+    @Test
+    public void testInvalidParams()
+    {
+        final TextTests tests = new TextTests();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tests.setCharClass(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tests.setFormat(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tests.setMatch((Pattern) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tests.setMatch((DfaPattern) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tests.setMatchBudget(null));
+    }
+}
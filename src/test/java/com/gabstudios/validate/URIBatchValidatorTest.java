@@ -0,0 +1,216 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the URIBatchValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class URIBatchValidatorTest
+{
+    private ExecutorService _executor;
+
+    @BeforeEach
+    public void setUp() {
+        this._executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this._executor.shutdownNow();
+    }
+
+    @Test
+    public void testDistinctHosts() throws Exception
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final HostResolver resolver = (host) -> {
+            count.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try
+            {
+                Thread.sleep(5);
+                if (host.startsWith("unknown"))
+                {
+                    throw (new UnknownHostException(host));
+                }
+                final int index = Integer.parseInt(host.substring(host.indexOf('-') + 1, host.indexOf('.')));
+                return (InetAddress.getByAddress(host, new byte[] { 10, 0, 0, (byte) index }));
+            }
+            catch (final InterruptedException e)
+            {
+                throw (new UnknownHostException(host));
+            }
+            finally
+            {
+                running.decrementAndGet();
+            }
+        };
+
+        final List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < 10000; i++)
+        {
+            uris.add(new URI("https://host-" + (i % 50) + ".domain.com/page/" + i));
+        }
+        uris.add(new URI("https://unknown.domain.com/"));
+
+        final URIBatchValidator batch = Validate.defineURIBatch(uris).useHostResolver(resolver).useExecutor(this._executor)
+                .maxConcurrentLookups(4)
+                .testEachURI(validator -> validator.allowProtocols("https").testMatchDenyCidr("10.0.0.7/32"));
+        final List<ValidationResult> results = batch.validate();
+
+        Assertions.assertEquals(51, count.get());
+        Assertions.assertEquals(51, batch.getLookupCount());
+        Assertions.assertTrue(maxRunning.get() <= 4, "max running " + maxRunning.get());
+        Assertions.assertEquals(uris.size(), results.size());
+        Assertions.assertTrue(results.get(0).isValid());
+        Assertions.assertTrue(results.get(7).isFailed(RuleId.DENY_LIST));
+        Assertions.assertTrue(results.get(57).isFailed(RuleId.DENY_LIST));
+        Assertions.assertTrue(results.get(8).isValid());
+        Assertions.assertTrue(results.get(10000).isFailed(RuleId.RESOLVE_ADDRESS));
+    }
+
+    @Test
+    public void testDomain() throws Exception
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final HostResolver resolver = (host) -> {
+            count.incrementAndGet();
+            final int index = Integer.parseInt(host.substring(host.indexOf('-') + 1, host.indexOf('.')));
+            return (InetAddress.getByAddress(host, new byte[] { 10, 0, 0, (byte) index }));
+        };
+
+        final List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            uris.add(new URI("https://host-" + (i % 5) + ".domain.com/" + (i < 999 ? "" : "a-very-long-page-name")));
+        }
+
+        final URI domain = new URI("https://host-1.domain.com/");
+        final AtomicInteger templates = new AtomicInteger();
+        final URIBatchValidator batch = Validate.defineURIBatch(uris).useHostResolver(resolver)
+                .useExecutor(this._executor).testEachURI(validator -> {
+                    templates.incrementAndGet();
+                    try
+                    {
+                        validator.testMatchAllowDomain(domain).testMaxLength(40);
+                        return (validator);
+                    }
+                    catch (final UnknownHostException e)
+                    {
+                        throw (new UncheckedIOException(e));
+                    }
+                });
+        final List<ValidationResult> results = batch.validate();
+
+        // the domain is resolved once by the batch resolver, then each
+        // distinct host once.
+        Assertions.assertEquals(1, templates.get());
+        Assertions.assertEquals(6, count.get());
+        Assertions.assertEquals(5, batch.getLookupCount());
+        Assertions.assertTrue(results.get(0).isFailed(RuleId.ALLOW_LIST));
+        Assertions.assertTrue(results.get(1).isValid());
+        Assertions.assertTrue(results.get(996).isValid());
+        Assertions.assertTrue(results.get(999).isFailed(RuleId.MAX_LENGTH));
+    }
+
+    @Test
+    public void testOfflineMode() throws Exception
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final HostResolver resolver = (host) -> {
+            count.incrementAndGet();
+            return (InetAddress.getByAddress(host, new byte[] { 10, 0, 0, 1 }));
+        };
+
+        // the offline mode of the tests is kept, so the batch resolver is
+        // never called.
+        final URIBatchValidator batch = Validate
+                .defineURIBatch(Stream.of(new URI("https://10.0.0.1/"), new URI("https://my.domain.com/"),
+                        new URI("https://[::1]/")))
+                .useHostResolver(resolver).useExecutor(this._executor)
+                .testEachURI(validator -> validator.useOfflineMode().testMatchAllowCidr("10.0.0.0/8"));
+        final List<ValidationResult> results = batch.validate();
+
+        Assertions.assertEquals(0, count.get());
+        Assertions.assertEquals(3, batch.getLookupCount());
+        Assertions.assertTrue(results.get(0).isValid());
+        Assertions.assertTrue(results.get(1).isFailed(RuleId.RESOLVE_ADDRESS));
+        Assertions.assertTrue(results.get(2).isFailed(RuleId.ALLOW_LIST));
+    }
+
+    @Test
+    public void testNoLookup() throws Exception
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final HostResolver resolver = (host) -> {
+            count.incrementAndGet();
+            throw (new UnknownHostException(host));
+        };
+
+        final URIBatchValidator batch = Validate
+                .defineURIBatch(Stream.of(new URI("https://a.domain.com/"), new URI("ftp://b.domain.com/")))
+                .useHostResolver(resolver).testEachURI(validator -> validator.allowProtocols("https")
+                        .testMatchAllowHost("*.domain.com"));
+        final List<ValidationResult> results = batch.validate();
+
+        Assertions.assertEquals(0, count.get());
+        Assertions.assertEquals(0, batch.getLookupCount());
+        Assertions.assertTrue(results.get(0).isValid());
+        Assertions.assertTrue(results.get(1).isFailed(RuleId.ALLOWED_PROTOCOLS));
+        Assertions.assertTrue(Validate.defineURIBatch(Collections.emptyList()).validate().isEmpty());
+    }
+
+    @Test
+    public void testInvalidParams() throws Exception
+    {
+        final List<URI> uris = Collections.singletonList(new URI("https://a.domain.com/"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURIBatch((List<URI>) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURIBatch((Stream<URI>) null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineURIBatch(Collections.singletonList((URI) null)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURIBatch(uris).testEachURI(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURIBatch(uris).useHostResolver(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURIBatch(uris).useExecutor(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURIBatch(uris).maxConcurrentLookups(0));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> Validate.defineURIBatch(uris).testEachURI(validator -> null).validate());
+    }
+}
@@ -19,10 +19,20 @@
 
 package com.gabstudios.validate;
 
+import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.*;
 /**
@@ -329,4 +339,302 @@ public class URIValidatorTest
 		}
 	}
 
+	@Test
+	public void testHostResolver() throws Exception
+	{
+		HostResolver resolver = new InMemoryHostResolver().register("my.domain.com", "10.0.0.1")
+				.register("other.domain.com", "10.0.0.2");
+		URI uri = new URI("https://my.domain.com/path");
+
+		Assertions.assertTrue(Validate.defineURI(uri).useHostResolver(resolver)
+				.testMatchAllowDomain("https://my.domain.com").validate());
+		Assertions.assertFalse(Validate.defineURI(uri).useHostResolver(resolver)
+				.testMatchAllowDomain("https://other.domain.com").validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://unknown.domain.com")).useHostResolver(resolver)
+				.testResolveAddress().validate());
+	}
+
+	@Test
+	public void testDefaultHostResolver()
+	{
+		HostResolver resolver = URIValidator.getDefaultHostResolver();
+		Assertions.assertTrue(resolver instanceof CachingHostResolver);
+		Assertions.assertThrows(IllegalArgumentException.class, () -> URIValidator.setDefaultHostResolver(null));
+	}
+
+	@Test
+	public void testFailFast() throws Exception
+	{
+		AtomicInteger count = new AtomicInteger();
+		HostResolver resolver = (host) -> {
+			count.incrementAndGet();
+			return (java.net.InetAddress.getByName("10.0.0.1"));
+		};
+		URI uri = new URI("ftp://my.domain.com/path");
+
+		Assertions.assertFalse(Validate.defineURI(uri).useHostResolver(resolver).allowProtocols("https").validate());
+		Assertions.assertEquals(0, count.get());
+
+		ValidationResult result = Validate.defineURI(uri).useHostResolver(resolver).allowProtocols("https")
+				.allowPorts(443).validateAll();
+		Assertions.assertTrue(result.isFailed(RuleId.ALLOWED_PROTOCOLS));
+		Assertions.assertTrue(result.isFailed(RuleId.ALLOWED_PORTS));
+		Assertions.assertEquals(0, count.get());
+	}
+
+	@Test
+	public void testUnknownSchemePort() throws Exception
+	{
+		// the scheme has no default port, so the port is reported once.
+		ValidationResult result = Validate.defineURI(new URI("foo://my.domain.com/path")).allowPorts(443).validateAll();
+		Assertions.assertTrue(result.isFailed(RuleId.ALLOWED_PORTS));
+		Assertions.assertEquals(1, result.getViolations().size());
+		Assertions.assertEquals(-1, result.getViolations().get(0).getValue());
+	}
+
+	@Test
+	public void testResolveOnlyForAddressRules() throws Exception
+	{
+		AtomicInteger count = new AtomicInteger();
+		HostResolver resolver = (host) -> {
+			count.incrementAndGet();
+			throw (new UnknownHostException(host));
+		};
+		URI uri = new URI("https://unknown.domain.com/path");
+
+		Assertions.assertTrue(Validate.defineURI(uri).useHostResolver(resolver).allowProtocols("https").allowPorts(443)
+				.validate());
+		Assertions.assertTrue(Validate.defineURI(uri).useHostResolver(resolver).validate());
+		Assertions.assertEquals(0, count.get());
+
+		Assertions.assertFalse(Validate.defineURI(uri).useHostResolver(resolver).testResolveAddress().validate());
+		Assertions.assertEquals(1, count.get());
+	}
+
+	@Test
+	public void testOfflineMode() throws Exception
+	{
+		Assertions.assertTrue(Validate.defineURI(new URI("https://my.domain.com:8443/path")).useOfflineMode()
+				.allowProtocols("https").validate());
+		Assertions.assertTrue(Validate.defineURI(new URI("https://[::1]/path")).useOfflineMode().validate());
+		// a URI puts an IPv6 host in brackets even if it was given without them.
+		Assertions.assertTrue(Validate.defineURI(new URI("https", "fe80::1", "/path", null)).testHostSyntax().validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://999.1.1.1/path")).useOfflineMode().validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://-bad.domain.com/path")).useOfflineMode().validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("mailto:user@domain.com")).useOfflineMode().validate());
+
+		// only address literals can be in the lists.
+		Assertions.assertTrue(Validate.defineURI(new URI("https://10.0.0.1/path")).useOfflineMode()
+				.testMatchAllowDomain("https://10.0.0.1").validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://my.domain.com/path")).useOfflineMode()
+				.testMatchDenyDomain("https://10.0.0.1").validate());
+		Assertions.assertThrows(UnknownHostException.class, () -> Validate.defineURI(new URI("https://10.0.0.1/path"))
+				.useOfflineMode().testMatchAllowDomain("https://my.domain.com"));
+
+		ValidationResult result = Validate.defineURI(new URI("https://-bad.domain.com/path")).useOfflineMode()
+				.validateAll();
+		Assertions.assertTrue(result.isFailed(RuleId.HOST_SYNTAX));
+	}
+
+	@Test
+	public void testCidrLists() throws Exception
+	{
+		HostResolver resolver = new InMemoryHostResolver().register("internal.domain.com", "10.1.2.3")
+				.register("metadata.domain.com", "169.254.169.254").register("public.domain.com", "203.0.113.7");
+
+		Assertions.assertTrue(Validate.defineURI(new URI("https://internal.domain.com")).useHostResolver(resolver)
+				.testMatchAllowCidr("10.0.0.0/8", "172.16.0.0/12").validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://public.domain.com")).useHostResolver(resolver)
+				.testMatchAllowCidr("10.0.0.0/8", "172.16.0.0/12").validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://metadata.domain.com")).useHostResolver(resolver)
+				.testMatchDenyCidr("169.254.0.0/16", "fe80::/10").validate());
+		Assertions.assertTrue(Validate.defineURI(new URI("https://public.domain.com")).useHostResolver(resolver)
+				.testMatchDenyCidr("169.254.0.0/16", "fe80::/10").validate());
+		Assertions.assertTrue(Validate.defineURI(new URI("https://[fe80::1]")).useOfflineMode()
+				.testMatchAllowCidr("fe80::/10").validate());
+
+		// a domain and a range in the same list.
+		Assertions.assertTrue(Validate.defineURI(new URI("https://public.domain.com")).useHostResolver(resolver)
+				.testMatchAllowCidr("10.0.0.0/8").testMatchAllowDomain("https://public.domain.com").validate());
+
+		ValidationResult result = Validate.defineURI(new URI("https://metadata.domain.com")).useHostResolver(resolver)
+				.testMatchDenyCidr("169.254.0.0/16").validateAll();
+		Assertions.assertTrue(result.isFailed(RuleId.DENY_LIST));
+
+		Assertions.assertThrows(IllegalStateException.class, () -> Validate.defineURI(new URI("https://public.domain.com"))
+				.testMatchAllowCidr("10.0.0.0/8").testMatchDenyCidr("169.254.0.0/16"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURI(new URI("https://public.domain.com"))
+				.testMatchDenyCidr("10.0.0.0/40"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURI(new URI("https://public.domain.com"))
+				.testMatchDenyCidr());
+	}
+
+	@Test
+	public void testHostLists() throws Exception
+	{
+		AtomicInteger count = new AtomicInteger();
+		HostResolver resolver = (host) -> {
+			count.incrementAndGet();
+			throw (new UnknownHostException(host));
+		};
+
+		Assertions.assertTrue(Validate.defineURI(new URI("https://cdn.example.com/a.js")).useHostResolver(resolver)
+				.testMatchAllowHost("example.com", "*.example.com").validate());
+		Assertions.assertTrue(Validate.defineURI(new URI("https://example.com/")).useHostResolver(resolver)
+				.testMatchAllowHost("example.com", "*.example.com").validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://example.com.evil.net/")).useHostResolver(resolver)
+				.testMatchAllowHost("example.com", "*.example.com").validate());
+		Assertions.assertFalse(Validate.defineURI(new URI("https://admin.internal.example.com/")).useHostResolver(resolver)
+				.testMatchDenyHost("*.internal.example.com").validate());
+		Assertions.assertTrue(Validate.defineURI(new URI("https://www.example.com/")).useHostResolver(resolver)
+				.testMatchDenyHost("*.internal.example.com").validate());
+		Assertions.assertEquals(0, count.get());
+
+		ValidationResult result = Validate.defineURI(new URI("https://other.net/")).testMatchAllowHost("*.example.com")
+				.validateAll();
+		Assertions.assertTrue(result.isFailed(RuleId.ALLOW_HOST));
+
+		Assertions.assertThrows(IllegalStateException.class, () -> Validate.defineURI(new URI("https://example.com"))
+				.testMatchAllowHost("example.com").testMatchDenyHost("*.example.com"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURI(new URI("https://example.com"))
+				.testMatchAllowHost("bad_host.com"));
+	}
+
+	@Test
+	public void testValidateAsync() throws Exception
+	{
+		HostResolver resolver = new InMemoryHostResolver().register("my.domain.com", "10.0.0.1");
+		URI uri = new URI("https://my.domain.com/path");
+
+		ValidationResult result = Validate.defineURI(uri).useHostResolver(resolver).testMatchAllowCidr("10.0.0.0/8")
+				.validateAsync().get(10, TimeUnit.SECONDS);
+		Assertions.assertTrue(result.isValid());
+
+		result = Validate.defineURI(uri).useHostResolver(resolver).testMatchDenyCidr("10.0.0.0/8")
+				.validateAsync(Duration.ofSeconds(10)).get(10, TimeUnit.SECONDS);
+		Assertions.assertTrue(result.isFailed(RuleId.DENY_LIST));
+
+		// no test resolves the host, so it runs on the calling thread.
+		CompletableFuture<ValidationResult> future = Validate.defineURI(uri)
+				.allowProtocols("http").validateAsync(command -> Assertions.fail("Must not use the executor."), null);
+		Assertions.assertTrue(future.isDone());
+		Assertions.assertTrue(future.get().isFailed(RuleId.ALLOWED_PROTOCOLS));
+	}
+
+	@Test
+	public void testValidateAsyncTimeout() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		HostResolver resolver = (host) -> {
+			try
+			{
+				release.await();
+			}
+			catch (final InterruptedException e)
+			{
+				interrupted.countDown();
+			}
+			throw (new UnknownHostException(host));
+		};
+		URI uri = new URI("https://slow.domain.com/path");
+
+		CompletableFuture<ValidationResult> future = Validate.defineURI(uri).useHostResolver(resolver)
+				.testResolveAddress().validateAsync(Duration.ofMillis(50));
+		ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+				() -> future.get(10, TimeUnit.SECONDS));
+		Assertions.assertTrue(e.getCause() instanceof TimeoutException);
+		Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+		CountDownLatch cancelled = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			CompletableFuture<ValidationResult> other = Validate.defineURI(uri)
+					.useHostResolver((host) -> {
+						try
+						{
+							release.await();
+						}
+						catch (final InterruptedException ie)
+						{
+							cancelled.countDown();
+						}
+						throw (new UnknownHostException(host));
+					}).testResolveAddress().validateAsync(executor, null);
+			Thread.sleep(50);
+			other.cancel(true);
+			Assertions.assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(other.isCancelled());
+		}
+		finally
+		{
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testValidateAsyncReuse() throws Exception
+	{
+		// the first lookup can not be interrupted, like a DNS lookup.
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger count = new AtomicInteger();
+		HostResolver resolver = (host) -> {
+			if (count.incrementAndGet() == 1)
+			{
+				while (release.getCount() > 0)
+				{
+					try
+					{
+						release.await();
+					}
+					catch (final InterruptedException e)
+					{
+						// ignore the interrupt.
+					}
+				}
+				return (InetAddress.getByAddress(host, new byte[] { 10, 0, 0, 99 }));
+			}
+			return (InetAddress.getByAddress(host, new byte[] { 10, 0, 0, 1 }));
+		};
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			URIValidator validator = Validate.defineURI(new URI("https://slow.domain.com/path")).useHostResolver(resolver)
+					.testMatchDenyCidr("10.0.0.99/32");
+			CompletableFuture<ValidationResult> future = validator.validateAsync(executor, Duration.ofMillis(50));
+			ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+					() -> future.get(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(e.getCause() instanceof TimeoutException);
+
+			// the validator is used again while the old lookup still runs.
+			Assertions.assertTrue(validator.validateAll().isValid());
+			release.countDown();
+			executor.shutdown();
+			Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+			Assertions.assertTrue(validator.toString().contains("10.0.0.1"), validator.toString());
+			Assertions.assertTrue(validator.validateAll().isValid());
+			Assertions.assertEquals(3, count.get());
+		}
+		finally
+		{
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDefaultExecutor() throws Exception
+	{
+		Assertions.assertNotNull(URIValidator.getDefaultExecutor());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> URIValidator.setDefaultExecutor(null));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURI(new URI("https://my.domain.com"))
+				.validateAsync(null, null));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineURI(new URI("https://my.domain.com"))
+				.validateAsync(Duration.ofSeconds(-1)));
+	}
+
 }
@@ -0,0 +1,184 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.*;
+
+
+/**
+ * A test class for the Utf8Validator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class Utf8ValidatorTest
+{
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    private static byte[] utf8(final String value)
+    {
+        return (value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteBuffer direct(final byte[] value)
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(value.length);
+        buffer.put(value).flip();
+        return (buffer);
+    }
+
+    @Test
+    public void testToString()
+    {
+        String desc = Validate.defineUtf8(utf8("HelloWorld")).testMaxLength(10).toString();
+        Assertions.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assertions.assertTrue(Validate.defineUtf8((byte[]) null).throwValidationExceptionOnFail().validate());
+    }
+
+    @Test
+    public void testNull()
+    {
+        Assertions.assertFalse(Validate.defineUtf8((ByteBuffer) null).testNotNull().validate());
+        Assertions.assertFalse(Validate.defineUtf8((byte[]) null).testWellFormed().validate());
+        Assertions.assertFalse(Validate.defineUtf8((byte[]) null).testMaxByteLength(10).validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        // 2 ASCII chars, a 2, 3 and 4 byte sequence. 11 bytes, 6 chars, 5 code points.
+        final byte[] value = utf8("abé€😀");
+        Assertions.assertEquals(11, value.length);
+        Assertions.assertTrue(Validate.defineUtf8(value).testNotNullEmpty().testMinByteLength(11).testMaxByteLength(11)
+                .testMinLength(6).testMaxLength(6).validate());
+        Assertions.assertFalse(Validate.defineUtf8(value).testMaxByteLength(10).validate());
+        Assertions.assertFalse(Validate.defineUtf8(value).testMaxLength(5).validate());
+        Assertions.assertTrue(Validate.defineUtf8(value).useCodePointLength().testMaxLength(5).testMinLength(5).validate());
+        Assertions.assertFalse(Validate.defineUtf8(new byte[0]).testNotNullEmpty().validate());
+    }
+
+    @Test
+    public void testLengthLarge()
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+        {
+            builder.append("abcdefghijké");
+        }
+        final String text = builder.toString();
+        final byte[] value = utf8(text);
+        Assertions.assertTrue(Validate.defineUtf8(value).testWellFormed().testMinLength(text.length())
+                .testMaxLength(text.length()).validate());
+        Assertions.assertTrue(Validate.defineUtf8(direct(value)).testWellFormed().testMinLength(text.length())
+                .testMaxLength(text.length()).validate());
+        Assertions.assertFalse(Validate.defineUtf8(value).testIsAscii().validate());
+        Assertions.assertTrue(Validate.defineUtf8(value).testIsLowerCase().validate());
+    }
+
+    @Test
+    public void testWellFormed()
+    {
+        Assertions.assertTrue(Validate.defineUtf8(utf8("Hello é€😀")).testWellFormed().validate());
+
+        final byte[][] malformed = {
+                { (byte) 0xC0, (byte) 0x80 },                           // overlong
+                { (byte) 0xE0, (byte) 0x80, (byte) 0x80 },              // overlong
+                { (byte) 0xED, (byte) 0xA0, (byte) 0x80 },              // surrogate
+                { (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80 }, // above U+10FFFF
+                { (byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80 }, // bad lead byte
+                { 'a', 'b', (byte) 0xE2, (byte) 0x82 },                 // truncated
+                { (byte) 0x80 },                                        // lone continuation
+                { (byte) 0xED, (byte) 0xA0 },                           // truncated surrogate
+                { (byte) 0xED, (byte) 0xAC, (byte) 0xFC },              // surrogate prefix, bad byte
+                { (byte) 0xED, (byte) 0xBF, 'A' },                      // surrogate prefix, ASCII
+                { (byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0x80 } }; // surrogate, lone continuation
+        for (final byte[] value : malformed)
+        {
+            Assertions.assertFalse(Validate.defineUtf8(value).testWellFormed().validate());
+            Assertions.assertFalse(Validate.defineUtf8(direct(value)).testWellFormed().validate());
+
+            // a malformed sequence has the same length as the String constructor.
+            final int length = new String(value, StandardCharsets.UTF_8).length();
+            Assertions.assertTrue(Validate.defineUtf8(value).testMinLength(length).testMaxLength(length).validate());
+            Assertions.assertTrue(Validate.defineUtf8(direct(value)).testMinLength(length).testMaxLength(length)
+                    .validate());
+        }
+
+        try
+        {
+            Validate.defineUtf8(malformed[5]).testWellFormed().throwValidationExceptionOnFail().validate();
+            Assertions.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assertions.assertEquals(RuleId.WELL_FORMED, e.getRuleId());
+            Assertions.assertEquals(2, e.getExpectedValue());
+        }
+    }
+
+    @Test
+    public void testClass()
+    {
+        Assertions.assertTrue(Validate.defineUtf8(utf8("0123456789٣")).testIsDigit().validate());
+        Assertions.assertFalse(Validate.defineUtf8(utf8("01234567x9")).testIsDigit().validate());
+        Assertions.assertTrue(Validate.defineUtf8(utf8("HELLOWORLDÉ")).testIsUpperCase().validate());
+        Assertions.assertFalse(Validate.defineUtf8(utf8("HELLOWORLd")).testIsUpperCase().validate());
+        Assertions.assertTrue(Validate.defineUtf8(utf8(" \t\n")).testIsWhitespace().validate());
+        Assertions.assertTrue(Validate.defineUtf8(utf8("HelloWorld!")).testIsAscii().validate());
+        Assertions.assertFalse(Validate.defineUtf8(utf8("HelloWorldé")).testIsAscii().validate());
+
+        ValidationResult result = Validate.defineUtf8(utf8("abc1")).testIsDigit().testIsLowerCase().validateAll();
+        Assertions.assertTrue(result.isFailed(RuleId.IS_DIGIT));
+        Assertions.assertTrue(result.isFailed(RuleId.IS_LOWER_CASE));
+    }
+
+    @Test
+    public void testBuffer()
+    {
+        final ByteBuffer buffer = ByteBuffer.wrap(utf8("xxHelloWorldxx"));
+        buffer.position(2).limit(12);
+        Assertions.assertTrue(Validate.defineUtf8(buffer.slice()).testMinByteLength(10).testMaxByteLength(10).validate());
+        Assertions.assertTrue(Validate.defineUtf8(buffer).testMinLength(10).testMaxLength(10).validate());
+        Assertions.assertEquals(2, buffer.position());
+        Assertions.assertTrue(Validate.defineUtf8(utf8("xxHelloWorldxx"), 2, 10).testMaxLength(10).testMinLength(10).validate());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineUtf8(new byte[4], 2, 3));
+    }
+
+    @Test
+    public void testInvalidLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineUtf8(new byte[0]).testMaxByteLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validate.defineUtf8(new byte[0]).testMinLength(5).testMaxLength(4));
+    }
+}
@@ -0,0 +1,108 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the ValidateException
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ValidateExceptionTest {
+
+    private boolean _isStackTraceEnabled;
+    private int _maxValueLength;
+
+    @BeforeEach
+    public void setUp() {
+        this._isStackTraceEnabled = ValidateException.isStackTraceEnabled();
+        this._maxValueLength = ValidateException.getMaxValueLength();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ValidateException.setStackTraceEnabled(this._isStackTraceEnabled);
+        ValidateException.setMaxValueLength(this._maxValueLength);
+    }
+
+    @Test
+    public void testRuleId() {
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineInteger(5).testMaxValue(4).throwValidationExceptionOnFail().validate());
+
+        Assertions.assertEquals(RuleId.MAX_VALUE, e.getRuleId());
+        Assertions.assertEquals(5, e.getValue());
+        Assertions.assertEquals(4, e.getExpectedValue());
+        Assertions.assertEquals("The value must be less than or equal to the max value (value = '5' max value = '4').",
+                e.getMessage());
+    }
+
+    @Test
+    public void testLengthMessage() {
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineString("HelloWorld").testMaxLength(5).throwValidationExceptionOnFail().validate());
+
+        Assertions.assertEquals(RuleId.MAX_LENGTH, e.getRuleId());
+        Assertions.assertEquals(
+                "The value must be less than or equal to the max value (value = 'HelloWorld' length = '10' max value = '5').",
+                e.getMessage());
+    }
+
+    @Test
+    public void testTruncatedValue() {
+        ValidateException.setMaxValueLength(8);
+        Object[] array = new Object[1000];
+        Arrays.fill(array, "abc");
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineArray(array).testMaxLength(5).throwValidationExceptionOnFail().validate());
+
+        Assertions.assertTrue(e.getMessage().contains("[abc, ab...(1000 elements)]"), e.getMessage());
+        Assertions.assertEquals("HelloWor...(10 chars)", ValidateException.render("HelloWorld", 8));
+    }
+
+    @Test
+    public void testStackless() {
+        ValidateException.setStackTraceEnabled(false);
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineBoolean(false).testTrue().throwValidationExceptionOnFail().validate());
+
+        Assertions.assertEquals(0, e.getStackTrace().length);
+        Assertions.assertEquals(RuleId.TRUE, e.getRuleId());
+    }
+
+    @Test
+    public void testStackTrace() {
+        ValidateException.setStackTraceEnabled(true);
+        ValidateException e = Assertions.assertThrows(ValidateException.class,
+                () -> Validate.defineBoolean(false).testTrue().throwValidationExceptionOnFail().validate());
+
+        Assertions.assertTrue(e.getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testInvalidMaxValueLength() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ValidateException.setMaxValueLength(0));
+    }
+}
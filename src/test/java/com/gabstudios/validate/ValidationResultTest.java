@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * A test class for the ValidationResult
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ValidationResultTest {
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    @Test
+    public void testValid() {
+        ValidationResult result = Validate.defineString("hello").testMinLength(2).testMaxLength(10).validateAll();
+        Assertions.assertSame(ValidationResult.VALID, result);
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertEquals(0L, result.getFailedRuleMask());
+        Assertions.assertTrue(result.getViolations().isEmpty());
+        Assertions.assertSame(result, result.throwIfInvalid());
+    }
+
+    @Test
+    public void testNoTests() {
+        Assertions.assertSame(ValidationResult.VALID, Validate.defineInteger(5).validateAll());
+    }
+
+    @Test
+    public void testAllViolations() {
+        ValidationResult result = Validate.defineString("HELLO").testMinLength(6).testMatch("[a-z]+").validateAll();
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertTrue(result.isFailed(RuleId.MIN_LENGTH));
+        Assertions.assertTrue(result.isFailed(RuleId.MATCH));
+        Assertions.assertFalse(result.isFailed(RuleId.MAX_LENGTH));
+        Assertions.assertEquals(2, result.getViolationCount());
+        Assertions.assertEquals(2, result.getViolations().size());
+        Assertions.assertEquals(RuleId.MIN_LENGTH, result.getViolations().get(0).getRuleId());
+        Assertions.assertEquals("HELLO", result.getViolations().get(0).getValue());
+        Assertions.assertEquals(6, result.getViolations().get(0).getExpectedValue());
+        Assertions.assertTrue(result.getViolations().get(1).getMessage().contains("HELLO"));
+        Assertions.assertFalse(result.isTruncated());
+    }
+
+    @Test
+    public void testNoExceptionThrown() {
+        StringValidator validator = Validate.defineString("").testNotNullEmpty().throwValidationExceptionOnFail();
+        ValidationResult result = validator.validateAll();
+        Assertions.assertTrue(result.isFailed(RuleId.NOT_EMPTY));
+        Assertions.assertThrows(ValidateException.class, () -> validator.validate());
+        Assertions.assertThrows(ValidateException.class, () -> result.throwIfInvalid());
+    }
+
+    @Test
+    public void testMaxViolations() {
+        ValidationResult result = Validate.defineChar('a').testMaxValue('0').testIsDigit().testIsUpperCase()
+                .testIsWhitespace().collectMaxViolations(2).validateAll();
+        Assertions.assertEquals(4, result.getViolationCount());
+        Assertions.assertEquals(2, result.getViolations().size());
+        Assertions.assertTrue(result.isTruncated());
+        Assertions.assertEquals(4, result.getFailedRules().size());
+    }
+
+    @Test
+    public void testZeroMaxViolations() {
+        ValidationResult result = Validate.defineLong(-5L).testMinValue(0L).isZeroValue().collectMaxViolations(0)
+                .validateAll();
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertTrue(result.getViolations().isEmpty());
+        Assertions.assertEquals(2, result.getViolationCount());
+        Assertions.assertTrue(result.isFailed(RuleId.MIN_VALUE));
+        Assertions.assertTrue(result.isFailed(RuleId.ZERO_VALUE));
+    }
+
+    @Test
+    public void testInvalidMaxViolations() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("a").collectMaxViolations(-1));
+    }
+
+    @Test
+    public void testThrowIfInvalidWithNoViolationKept() {
+        ValidationResult result = Validate.defineInteger(5).testMaxValue(1).collectMaxViolations(0).validateAll();
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertEquals(1, result.getViolationCount());
+        ValidateException e = Assertions.assertThrows(ValidateException.class, () -> result.throwIfInvalid());
+        Assertions.assertEquals(RuleId.MAX_VALUE, e.getRuleId());
+    }
+
+    @Test
+    public void testDefaultValidateAll() {
+        Assertions.assertSame(ValidationResult.VALID, new FixedValidator(true).validateAll());
+
+        ValidationResult result = new FixedValidator(false).validateAll();
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertTrue(result.isFailed(RuleId.VALIDATE));
+        Assertions.assertEquals(1, result.getViolationCount());
+        Assertions.assertThrows(ValidateException.class, () -> result.throwIfInvalid());
+    }
+
+    /*
+     * A validator that only implements the abstract methods of Validator.
+     */
+    private static final class FixedValidator implements Validator {
+
+        private final boolean _isValid;
+
+        private FixedValidator(final boolean isValid) {
+            this._isValid = isValid;
+        }
+
+        @Override
+        public boolean validate() {
+            return (this._isValid);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends Validator> T throwValidationExceptionOnFail() {
+            return ((T) this);
+        }
+    }
+}